@@ -0,0 +1,516 @@
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Controla o ritmo de execução dos passos da simulação.
+ * <p>
+ * A thread da simulação chama {@link #executar(BooleanSupplier)}, que roda
+ * os passos até {@link #encerrar()}. As demais operações podem ser chamadas
+ * de qualquer thread (por exemplo, pelos botões da interface):
+ * </p>
+ * <ul>
+ * <li>{@link #pausar()} e {@link #continuar()}: enquanto pausada, a thread
+ * da simulação fica parada em uma {@link Condition}, sem consumir
+ * processador, e acorda assim que a execução é retomada</li>
+ * <li>{@link #avancarUmPasso()}: executa um único passo com a simulação
+ * pausada</li>
+ * <li>{@link #setPassosPorSegundo(double)}: ritmo alvo, ou
+ * {@link #SEM_LIMITE} para executar o mais rápido possível</li>
+ * <li>{@link #setOrcamento(long)}: número de passos a executar antes de
+ * pausar sozinho</li>
+ * <li>{@link #setAoParar(Runnable)}: ação executada na thread da simulação
+ * sempre que ela para depois de executar passos, qualquer que seja o
+ * motivo</li>
+ * </ul>
+ *
+ * <p>
+ * <strong>Ritmo sem deriva:</strong>
+ * </p>
+ * <p>
+ * O instante de cada passo é calculado a partir do anterior previsto (e não
+ * de quando o anterior terminou), de modo que variações na duração dos
+ * passos não se acumulam. Se a simulação atrasar mais de um período (passos
+ * mais lentos que o ritmo pedido), o relógio é realinhado em vez de
+ * compensar o atraso com uma rajada de passos.
+ * </p>
+ *
+ * @author Grupo 10
+ * @version 1.0
+ * @see Simulador
+ */
+public class AgendadorPassos {
+
+    // ========== ATRIBUTOS ESTÁTICOS ==========
+
+    /**
+     * Ritmo que executa os passos sem espera entre eles.
+     */
+    public static final double SEM_LIMITE = 0;
+
+    /**
+     * Orçamento que nunca se esgota.
+     */
+    public static final long SEM_ORCAMENTO = -1;
+
+    // ========== ATRIBUTOS ==========
+
+    /**
+     * Protege todo o estado do agendador.
+     */
+    private final ReentrantLock trava;
+
+    /**
+     * Sinalizada a cada mudança de estado (pausa, ritmo, passo concluído).
+     */
+    private final Condition mudou;
+
+    /**
+     * Se a execução está pausada.
+     */
+    private boolean pausado;
+
+    /**
+     * Se {@link #encerrar()} foi chamado.
+     */
+    private boolean encerrado;
+
+    /**
+     * Se a thread da simulação está dentro de {@link #executar}.
+     */
+    private boolean emExecucao;
+
+    /**
+     * Se um passo está sendo executado neste momento.
+     */
+    private boolean emPasso;
+
+    /**
+     * Passos avulsos pedidos por {@link #avancarUmPasso()} e ainda não
+     * executados.
+     */
+    private int passosAvulsos;
+
+    /**
+     * Passos restantes até a pausa automática, ou {@link #SEM_ORCAMENTO}.
+     */
+    private long restantes;
+
+    /**
+     * Intervalo entre passos em nanossegundos, ou 0 sem limite.
+     */
+    private long periodo;
+
+    /**
+     * Se o próximo passo deve realinhar o relógio em vez de esperar.
+     */
+    private boolean realinhar;
+
+    /**
+     * Ação executada quando o agendador pausa sozinho.
+     */
+    private Runnable aoPausar;
+
+    /**
+     * Ação executada quando a thread da simulação fica parada.
+     */
+    private Runnable aoParar;
+
+    /**
+     * Se algum passo terminou desde a última execução de {@link #aoParar}.
+     */
+    private boolean passouDesdeParada;
+
+    // ========== CONSTRUTOR ==========
+
+    /**
+     * Cria um agendador sem limite de ritmo nem orçamento, não pausado.
+     */
+    public AgendadorPassos() {
+        this.trava = new ReentrantLock();
+        this.mudou = trava.newCondition();
+        this.restantes = SEM_ORCAMENTO;
+        this.realinhar = true;
+    }
+
+    // ========== MÉTODOS DE CONFIGURAÇÃO ==========
+
+    /**
+     * Define o ritmo alvo de execução.
+     *
+     * @param passosPorSegundo Passos por segundo, ou {@link #SEM_LIMITE}
+     * @throws IllegalArgumentException se o ritmo for negativo
+     */
+    public void setPassosPorSegundo(double passosPorSegundo) {
+        if (passosPorSegundo < 0 || Double.isNaN(passosPorSegundo)) {
+            throw new IllegalArgumentException("Ritmo inválido: " + passosPorSegundo);
+        }
+        trava.lock();
+        try {
+            periodo = passosPorSegundo == SEM_LIMITE ? 0 : (long) (TimeUnit.SECONDS.toNanos(1) / passosPorSegundo);
+            realinhar = true;
+            mudou.signalAll();
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /**
+     * Define quantos passos executar antes de pausar sozinho.
+     *
+     * @param passos Número de passos, ou {@link #SEM_ORCAMENTO}
+     */
+    public void setOrcamento(long passos) {
+        trava.lock();
+        try {
+            restantes = passos < 0 ? SEM_ORCAMENTO : passos;
+            mudou.signalAll();
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /**
+     * Define a ação executada quando o agendador pausa sozinho (orçamento
+     * esgotado ou passo que pediu parada).
+     * <p>
+     * A ação roda na thread da simulação, fora da trava do agendador.
+     * </p>
+     *
+     * @param acao Ação, ou null para nenhuma
+     */
+    public void setAoPausar(Runnable acao) {
+        trava.lock();
+        try {
+            aoPausar = acao;
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /**
+     * Define a ação executada quando a thread da simulação fica parada
+     * (pausada, sem passos avulsos, ou com o orçamento esgotado) depois de
+     * executar passos.
+     * <p>
+     * Vale para qualquer pausa, inclusive {@link #pausar()} chamado de
+     * outra thread. A ação roda na thread da simulação, fora da trava e
+     * contada como um passo: {@link #pausarEAguardar()} espera seu término,
+     * então ela pode ler o estado da simulação com segurança.
+     * </p>
+     *
+     * @param acao Ação, ou null para nenhuma
+     */
+    public void setAoParar(Runnable acao) {
+        trava.lock();
+        try {
+            aoParar = acao;
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    // ========== MÉTODOS DE CONTROLE ==========
+
+    /**
+     * Pausa a execução depois do passo em andamento.
+     */
+    public void pausar() {
+        trava.lock();
+        try {
+            pausado = true;
+            mudou.signalAll();
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /**
+     * Pausa a execução e espera o passo em andamento terminar.
+     * <p>
+     * Ao retornar, nenhum passo está em execução e nenhum começa até
+     * {@link #continuar()} ou {@link #avancarUmPasso()}; o estado da
+     * simulação pode ser alterado com segurança por outra thread. Passos
+     * avulsos pendentes são descartados.
+     * </p>
+     */
+    public void pausarEAguardar() {
+        trava.lock();
+        try {
+            pausado = true;
+            passosAvulsos = 0;
+            mudou.signalAll();
+            while (emPasso) {
+                mudou.awaitUninterruptibly();
+            }
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /**
+     * Retoma a execução pausada.
+     * <p>
+     * Se o orçamento estava esgotado, a execução segue sem orçamento.
+     * </p>
+     */
+    public void continuar() {
+        trava.lock();
+        try {
+            pausado = false;
+            if (restantes == 0) {
+                restantes = SEM_ORCAMENTO;
+            }
+            realinhar = true;
+            mudou.signalAll();
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /**
+     * Pede a execução de um único passo enquanto pausado.
+     * <p>
+     * Sem efeito se a execução não estiver pausada.
+     * </p>
+     */
+    public void avancarUmPasso() {
+        trava.lock();
+        try {
+            if (pausado) {
+                passosAvulsos++;
+                mudou.signalAll();
+            }
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /**
+     * Encerra a execução; {@link #executar} retorna após o passo em
+     * andamento.
+     */
+    public void encerrar() {
+        trava.lock();
+        try {
+            encerrado = true;
+            mudou.signalAll();
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    // ========== MÉTODOS DE CONSULTA ==========
+
+    /**
+     * Verifica se a execução está pausada.
+     *
+     * @return true se pausada
+     */
+    public boolean estaPausado() {
+        trava.lock();
+        try {
+            return pausado;
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /**
+     * Verifica se alguma thread está executando os passos.
+     *
+     * @return true entre o início e o fim de {@link #executar}
+     */
+    public boolean estaEmExecucao() {
+        trava.lock();
+        try {
+            return emExecucao;
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    // ========== EXECUÇÃO ==========
+
+    /**
+     * Executa passos na thread atual até {@link #encerrar()}.
+     * <p>
+     * Cada passo roda fora da trava, de modo que pausar, continuar e mudar o
+     * ritmo nunca esperam um passo inteiro (exceto
+     * {@link #pausarEAguardar()}). Se o passo retornar false, ou se o
+     * orçamento se esgotar, o agendador pausa sozinho.
+     * </p>
+     *
+     * @param passo Executa um passo; retorna false para pausar em seguida
+     * @return Número de passos executados
+     * @throws IllegalStateException se outra thread já estiver executando
+     */
+    public long executar(BooleanSupplier passo) {
+        trava.lock();
+        try {
+            if (emExecucao) {
+                throw new IllegalStateException("O agendador já está em execução");
+            }
+            emExecucao = true;
+            encerrado = false;
+        } finally {
+            trava.unlock();
+        }
+
+        long executados = 0;
+        long proximo = 0;
+        try {
+            while (true) {
+                trava.lock();
+                try {
+                    if (!aguardarVez(proximo)) {
+                        return executados;
+                    }
+                    if (pausado) {
+                        passosAvulsos--;
+                    } else {
+                        long agora = System.nanoTime();
+                        if (realinhar || agora - proximo > periodo) {
+                            proximo = agora;
+                            realinhar = false;
+                        }
+                        proximo += periodo;
+                    }
+                    if (restantes > 0) {
+                        restantes--;
+                    }
+                    emPasso = true;
+                } finally {
+                    trava.unlock();
+                }
+
+                boolean continuar = false;
+                try {
+                    continuar = passo.getAsBoolean();
+                    executados++;
+                } finally {
+                    if (terminarPasso(continuar)) {
+                        notificarPausa();
+                    }
+                }
+            }
+        } finally {
+            trava.lock();
+            try {
+                emExecucao = false;
+                mudou.signalAll();
+            } finally {
+                trava.unlock();
+            }
+        }
+    }
+
+    /**
+     * Espera, com a trava obtida, até que um passo possa ser executado.
+     * <p>
+     * Fica parado enquanto pausado sem passos avulsos ou com o orçamento
+     * esgotado, e espera o instante {@code proximo} quando há ritmo alvo.
+     * Qualquer mudança de estado acorda a espera, que é reavaliada.
+     * </p>
+     *
+     * @param proximo Instante previsto do próximo passo
+     *                ({@link System#nanoTime()})
+     * @return true se um passo deve ser executado, false se encerrado
+     */
+    private boolean aguardarVez(long proximo) {
+        while (!encerrado) {
+            if (pausado) {
+                if (passosAvulsos > 0) {
+                    return true;
+                }
+                if (!avisarParada()) {
+                    mudou.awaitUninterruptibly();
+                }
+            } else if (restantes == 0) {
+                if (!avisarParada()) {
+                    mudou.awaitUninterruptibly();
+                }
+            } else {
+                long espera = realinhar || periodo == 0 ? 0 : proximo - System.nanoTime();
+                if (espera <= 0) {
+                    return true;
+                }
+                try {
+                    mudou.awaitNanos(espera);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    encerrado = true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Registra o fim de um passo e decide se o agendador pausa sozinho.
+     *
+     * @param continuar Resultado do passo
+     * @return true se o agendador acabou de pausar sozinho
+     */
+    private boolean terminarPasso(boolean continuar) {
+        trava.lock();
+        try {
+            emPasso = false;
+            passouDesdeParada = true;
+            boolean pausou = false;
+            if (!pausado && (!continuar || restantes == 0)) {
+                pausado = true;
+                pausou = true;
+            }
+            mudou.signalAll();
+            return pausou;
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /**
+     * Executa {@link #aoParar}, com a trava obtida, se algum passo terminou
+     * desde a última vez.
+     * <p>
+     * A trava é liberada durante a ação, que conta como um passo em
+     * andamento ({@link #emPasso}).
+     * </p>
+     *
+     * @return true se a ação foi executada e o estado deve ser reavaliado
+     */
+    private boolean avisarParada() {
+        if (!passouDesdeParada || aoParar == null) {
+            return false;
+        }
+        passouDesdeParada = false;
+        Runnable acao = aoParar;
+        emPasso = true;
+        trava.unlock();
+        try {
+            acao.run();
+        } finally {
+            trava.lock();
+            emPasso = false;
+            mudou.signalAll();
+        }
+        return true;
+    }
+
+    /**
+     * Executa a ação de pausa automática, se definida.
+     */
+    private void notificarPausa() {
+        Runnable acao;
+        trava.lock();
+        try {
+            acao = aoPausar;
+        } finally {
+            trava.unlock();
+        }
+        if (acao != null) {
+            acao.run();
+        }
+    }
+}
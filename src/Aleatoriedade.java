@@ -0,0 +1,137 @@
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Serviço de sorteios da simulação, baseado em fluxos
+ * {@link SplittableRandom} independentes.
+ * <p>
+ * Cada execução parte de um fluxo raiz, semeado com
+ * {@link Configuracao#SEMENTE}. Dele são divididos ({@link #dividir()}) os
+ * fluxos do clima, do populador e de cada animal da população inicial; cada
+ * filhote recebe um fluxo dividido do fluxo do pai. Como uma divisão só
+ * depende do estado do fluxo de origem, a execução é reproduzível bit a bit
+ * para uma semente, qualquer que seja o número de threads, e nenhum sorteio
+ * passa por um gerador compartilhado.
+ * </p>
+ *
+ * <p>
+ * <strong>Fluxo atual:</strong>
+ * </p>
+ * <p>
+ * Enquanto um animal age, o {@link MotorParalelo} instala o fluxo dele na
+ * thread com {@link #usarNestaThread(SplittableRandom)}; os campos, que
+ * não recebem o animal, sorteiam vizinhas com {@link #gerador()}. Fora
+ * disso, {@link #gerador()} devolve o fluxo raiz.
+ * Raiz e fluxo instalado são guardados por thread, de modo que simulações
+ * em threads diferentes não compartilham fluxos.
+ * </p>
+ *
+ * @author Grupo 10
+ * @version 1.0
+ * @see Animal
+ * @see MotorParalelo
+ */
+public final class Aleatoriedade {
+
+    // ========== ATRIBUTOS ESTÁTICOS ==========
+
+    /**
+     * Fluxos de cada thread.
+     */
+    private static final ThreadLocal<Fluxos> fluxos = ThreadLocal.withInitial(Fluxos::new);
+
+    /**
+     * Classe utilitária, não instanciável.
+     */
+    private Aleatoriedade() {
+    }
+
+    // ========== MÉTODOS ==========
+
+    /**
+     * Retorna o fluxo a ser usado pela thread atual.
+     *
+     * @return Fluxo instalado na thread, se houver, ou o fluxo raiz
+     */
+    public static SplittableRandom gerador() {
+        Fluxos daThread = fluxos.get();
+        return daThread.instalado != null ? daThread.instalado : daThread.raiz;
+    }
+
+    /**
+     * Divide um novo fluxo independente a partir do fluxo atual.
+     *
+     * @return Novo fluxo
+     */
+    public static SplittableRandom dividir() {
+        return gerador().split();
+    }
+
+    /**
+     * Recomeça o fluxo raiz da thread atual a partir de uma semente.
+     * <p>
+     * Chamado no início de cada execução para que ela seja reproduzível.
+     * </p>
+     *
+     * @param semente Semente da execução
+     */
+    public static void semear(long semente) {
+        fluxos.get().raiz = new SplittableRandom(semente);
+    }
+
+    /**
+     * Recomeça o fluxo raiz da thread atual com uma semente arbitrária.
+     */
+    public static void semearAoAcaso() {
+        fluxos.get().raiz = new SplittableRandom();
+    }
+
+    /**
+     * Instala um fluxo na thread atual.
+     *
+     * @param fluxo Fluxo usado pela thread até a próxima instalação, ou null
+     *              para voltar à raiz
+     */
+    public static void usarNestaThread(SplittableRandom fluxo) {
+        fluxos.get().instalado = fluxo;
+    }
+
+    /**
+     * Remove o fluxo instalado na thread atual, que volta a usar a raiz.
+     */
+    public static void liberarNestaThread() {
+        fluxos.get().instalado = null;
+    }
+
+    /**
+     * Embaralha uma lista (Fisher-Yates) com um fluxo.
+     *
+     * @param <T>   Tipo dos elementos
+     * @param lista Lista a embaralhar
+     * @param fluxo Fluxo usado nos sorteios
+     */
+    public static <T> void embaralhar(List<T> lista, SplittableRandom fluxo) {
+        for (int i = lista.size() - 1; i > 0; i--) {
+            int j = fluxo.nextInt(i + 1);
+            lista.set(j, lista.set(i, lista.get(j)));
+        }
+    }
+
+    // ========== CLASSES INTERNAS ==========
+
+    /**
+     * Fluxos guardados para uma thread.
+     */
+    private static class Fluxos {
+
+        /**
+         * Fluxo raiz da execução conduzida pela thread.
+         */
+        private SplittableRandom raiz = new SplittableRandom();
+
+        /**
+         * Fluxo do animal que está agindo, ou null para usar a raiz.
+         */
+        private SplittableRandom instalado;
+    }
+}
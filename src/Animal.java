@@ -1,5 +1,5 @@
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * Classe abstrata base para todos os animais na simulação.
@@ -29,8 +29,8 @@ import java.util.Random;
  * <strong>Características Comuns:</strong>
  * </p>
  * <ul>
- * <li><strong>Idade:</strong> Incrementa a cada turno, causa morte ao atingir
- * máximo</li>
+ * <li><strong>Idade:</strong> Incrementa a cada turno; morte por velhice e
+ * maturidade são agendadas no nascimento ({@link RodaTemporal})</li>
  * <li><strong>Fome:</strong> Diminui a cada turno, causa morte ao chegar a
  * zero</li>
  * <li><strong>Localização:</strong> Posição atual no campo</li>
@@ -58,8 +58,9 @@ import java.util.Random;
  * </p>
  * <p>
  * Esta classe define o esqueleto do comportamento animal, delegando
- * detalhes específicos (idade máxima, dieta, etc.) para subclasses
- * através de métodos abstratos.
+ * detalhes específicos (criação de filhotes, alimentação) para subclasses
+ * através de métodos abstratos. Idades, reprodução e ninhada vêm de
+ * {@link ParametrosSimulacao}, indexados pelo ordinal da espécie.
  * </p>
  * 
  * @author David J. Barnes e Michael Kolling
@@ -71,16 +72,6 @@ import java.util.Random;
  */
 public abstract class Animal implements Ator {
 
-    // ========== ATRIBUTOS ESTÁTICOS ==========
-
-    /**
-     * Gerador de números aleatórios compartilhado por todos os animais.
-     * <p>
-     * Usado para decisões estocásticas (reprodução, movimento, etc.).
-     * </p>
-     */
-    private static final Random aleatorio = new Random();
-
     // ========== ATRIBUTOS DE ESTADO ==========
 
     /**
@@ -96,12 +87,22 @@ public abstract class Animal implements Ator {
     /**
      * Idade atual do animal em passos de simulação.
      * <p>
-     * Incrementada a cada turno. Ao atingir {@link #idadeMaxima()},
-     * o animal morre de velhice.
+     * Incrementada a cada turno. A morte ao ultrapassar
+     * {@link #idadeMaxima()} é agendada pelo motor
+     * ({@link #passosAteMorrerDeVelhice()}), sem comparação a cada turno.
      * </p>
      */
     private int idade;
 
+    /**
+     * Se o animal já atingiu a idade reprodutiva.
+     * <p>
+     * Calculado no nascimento e ligado depois pelo motor, no passo agendado
+     * ({@link #amadurecer()}).
+     * </p>
+     */
+    private boolean maduro;
+
     /**
      * Nível atual de energia/alimento do animal.
      * <p>
@@ -111,6 +112,29 @@ public abstract class Animal implements Ator {
      */
     private int nivelAlimento;
 
+    /**
+     * Fluxo de números aleatórios próprio do animal.
+     * <p>
+     * Dividido do fluxo atual de {@link Aleatoriedade} no nascimento: do
+     * fluxo do pai, para filhotes, ou do fluxo raiz da execução, para a
+     * população inicial.
+     * </p>
+     */
+    private final SplittableRandom aleatorio;
+
+    // ========== ATRIBUTOS DA ESPÉCIE ==========
+
+    /**
+     * Parâmetros do mundo em que o animal vive, repassados aos filhotes.
+     */
+    private final ParametrosSimulacao parametros;
+
+    /**
+     * Ordinal da espécie ({@link RegistroEspecies}), índice dos parâmetros
+     * da espécie.
+     */
+    private final int especie;
+
     // ========== CONSTRUTOR ==========
 
     /**
@@ -126,41 +150,71 @@ public abstract class Animal implements Ator {
      * <p>
      * <strong>Inicialização de alimento:</strong>
      * <ul>
-     * <li>Filhotes: nível padrão ({@link Configuracao#VALOR_ALIMENTAR})</li>
+     * <li>Filhotes: nível padrão
+     * ({@link ParametrosSimulacao#getValorAlimentar()})</li>
      * <li>População inicial: valor aleatório (simula estados variados)</li>
      * </ul>
      * </p>
      * 
+     * @param parametros     Parâmetros do mundo
      * @param idadeAleatoria Se true, simula animal já existente; se false, simula
      *                       nascimento
      */
-    public Animal(boolean idadeAleatoria) {
+    public Animal(ParametrosSimulacao parametros, boolean idadeAleatoria) {
+        this.parametros = parametros;
+        especie = RegistroEspecies.ordinalDe(getClass());
+        aleatorio = Aleatoriedade.dividir();
         vivo = true;
         idade = 0;
         if (idadeAleatoria) {
-            idade = aleatorio.nextInt(idadeMaxima());
+            idade = getAleatorio().nextInt(idadeMaxima());
         }
+        maduro = idade >= getIdadeReprodutiva();
         localizacao = null;
 
-        setNivelAlimento(Configuracao.VALOR_ALIMENTAR);
+        setNivelAlimento(parametros.getValorAlimentar());
         if (idadeAleatoria)
-            setNivelAlimento(getAleatorio().nextInt(Configuracao.VALOR_ALIMENTAR));
+            setNivelAlimento(getAleatorio().nextInt(parametros.getValorAlimentar()));
     }
 
     // ========== MÉTODOS DE ACESSO A RECURSOS ==========
 
     /**
-     * Retorna o gerador de números aleatórios compartilhado.
+     * Retorna o fluxo de números aleatórios próprio do animal.
      * <p>
-     * Acessível a subclasses para decisões estocásticas.
+     * Usado pelas subclasses em decisões estocásticas e instalado pelo
+     * simulador com {@link Aleatoriedade#usarNestaThread} enquanto o animal
+     * age, para que os sorteios feitos pelo campo também saiam dele.
      * </p>
      * 
-     * @return Gerador Random compartilhado
+     * @return Fluxo do animal
      */
-    protected Random getAleatorio() {
+    public SplittableRandom getAleatorio() {
         return aleatorio;
     }
 
+    /**
+     * Retorna os parâmetros do mundo em que o animal vive.
+     * <p>
+     * Usado pelas subclasses (teia alimentar, pesca) e passado aos filhotes em
+     * {@link #criarFilho()}.
+     * </p>
+     * 
+     * @return Parâmetros da simulação
+     */
+    protected ParametrosSimulacao getParametros() {
+        return parametros;
+    }
+
+    /**
+     * Retorna o ordinal da espécie do animal.
+     *
+     * @return Ordinal em {@link RegistroEspecies}
+     */
+    public final int getEspecie() {
+        return especie;
+    }
+
     // ========== MÉTODOS DE ESTADO DE VIDA ==========
 
     /**
@@ -203,6 +257,11 @@ public abstract class Animal implements Ator {
 
     /**
      * Define a localização do animal usando coordenadas diretas.
+     * <p>
+     * Cria uma localização nova; quando o campo está disponível, prefira
+     * {@link #definirLocalizacao(Localizacao)} com a instância canônica de
+     * {@link Campo#getLocalizacao(int, int)}.
+     * </p>
      * 
      * @param linha  Coordenada Y no campo
      * @param coluna Coordenada X no campo
@@ -234,15 +293,51 @@ public abstract class Animal implements Ator {
     /**
      * Incrementa a idade do animal em um passo.
      * <p>
-     * Se a idade ultrapassar {@link #idadeMaxima()}, o animal
-     * morre de velhice automaticamente.
+     * Não verifica a idade máxima: a morte por velhice é processada em bloco
+     * pelo motor, no passo calculado por
+     * {@link #passosAteMorrerDeVelhice()}.
      * </p>
      */
     protected void incrementarIdade() {
         idade++;
-        if (idade > idadeMaxima()) {
-            morrer();
-        }
+    }
+
+    /**
+     * Calcula em quantos passos o animal morre de velhice, contando o
+     * próximo passo como 1.
+     * <p>
+     * O animal morre no turno em que a idade passaria de
+     * {@link #idadeMaxima()}. A conta é feita em {@code long}, pois a idade
+     * máxima pode chegar a {@link Integer#MAX_VALUE}.
+     * </p>
+     *
+     * @return Passos até a morte por velhice (pelo menos 1, no máximo
+     *         {@link Integer#MAX_VALUE})
+     */
+    public int passosAteMorrerDeVelhice() {
+        long passos = (long) idadeMaxima() - idade + 1;
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1, passos));
+    }
+
+    /**
+     * Calcula em quantos passos o animal atinge a idade reprodutiva,
+     * contando o próximo passo como 1.
+     *
+     * @return Passos até a maturidade, ou 0 se já está maduro
+     */
+    public int passosAteMaturidade() {
+        return maduro ? 0 : getIdadeReprodutiva() - idade;
+    }
+
+    /**
+     * Marca o animal como apto a reproduzir.
+     * <p>
+     * Chamado pelo motor no início do passo agendado, antes do turno do
+     * animal.
+     * </p>
+     */
+    public void amadurecer() {
+        maduro = true;
     }
 
     // ========== MÉTODOS DE ALIMENTAÇÃO ==========
@@ -285,11 +380,14 @@ public abstract class Animal implements Ator {
 
     /**
      * Verifica se o animal atingiu a idade reprodutiva.
+     * <p>
+     * Lê a marca de maturidade agendada, sem consultar os parâmetros.
+     * </p>
      * 
      * @return true se pode reproduzir, false caso contrário
      */
     public boolean podeReproduzir() {
-        return idade >= getIdadeReprodutiva();
+        return maduro;
     }
 
     /**
@@ -325,7 +423,8 @@ public abstract class Animal implements Ator {
      * <li>Busca localização adjacente livre</li>
      * <li>Se encontrou: cria filhote via {@link #criarFilho()}</li>
      * <li>Posiciona no campo e adiciona à lista</li>
-     * <li>Se não encontrou: filhote não nasce (falta de espaço)</li>
+     * <li>Se não encontrou: nem este nem os filhotes seguintes nascem
+     * (falta de espaço)</li>
      * </ul>
      * </li>
      * </ol>
@@ -340,12 +439,13 @@ public abstract class Animal implements Ator {
         for (int i = 0; i < nascimentos; i++) {
             Localizacao loc = campoAtualizado.localizacaoAdjacenteLivre(getLocalizacao());
 
-            if (loc != null) {
-                Animal filhote = criarFilho();
-                novosAnimais.add(filhote);
-                filhote.definirLocalizacao(loc);
-                campoAtualizado.colocar(filhote, loc);
+            if (loc == null) {
+                break;
             }
+            Animal filhote = criarFilho();
+            novosAnimais.add(filhote);
+            filhote.definirLocalizacao(loc);
+            campoAtualizado.colocar(filhote, loc);
         }
     }
 
@@ -356,11 +456,16 @@ public abstract class Animal implements Ator {
      * <p>
      * <strong>Comportamento:</strong>
      * <ul>
-     * <li>Se encontrou célula livre: move-se para lá</li>
+     * <li>Se encontrou célula vizinha livre: move-se para lá</li>
+     * <li>Se nenhuma vizinha está livre mas a própria célula está: permanece</li>
      * <li>Se não encontrou: morre por superpopulação (sem espaço)</li>
      * </ul>
      * </p>
      * <p>
+     * A busca usa {@link CampoInterativo#localizacaoAdjacenteLivre(Localizacao)},
+     * que sorteia uma vizinha livre a partir do mapa de ocupação.
+     * </p>
+     * <p>
      * Usado principalmente quando não há objetivo específico de movimento
      * (ex: predador não encontrou presa, herbívoro apenas explorando).
      * </p>
@@ -368,10 +473,10 @@ public abstract class Animal implements Ator {
      * @param campoAtualizado Campo de destino para o movimento
      */
     protected void tentarMoverLivremente(CampoInterativo campoAtualizado) {
-        Localizacao novaLocalizacao = campoAtualizado.localizacaoAdjacenteLivre(getLocalizacao());
+        Localizacao destino = campoAtualizado.localizacaoAdjacenteLivre(getLocalizacao());
 
-        if (novaLocalizacao != null) {
-            moverPara(novaLocalizacao, campoAtualizado);
+        if (destino != null) {
+            moverPara(destino, campoAtualizado);
         } else {
             morrer();
         }
@@ -398,38 +503,49 @@ public abstract class Animal implements Ator {
      * Cria um novo filhote da mesma espécie.
      * <p>
      * Cada subclasse deve implementar retornando uma nova
-     * instância de si mesma com idade zero.
+     * instância de si mesma com idade zero e os mesmos parâmetros
+     * ({@link #getParametros()}).
      * </p>
      * 
      * @return Novo animal filhote
      */
     protected abstract Animal criarFilho();
 
+    // ========== PARÂMETROS DA ESPÉCIE ==========
+
     /**
      * Retorna a idade mínima para reprodução.
      * 
      * @return Idade reprodutiva em passos de simulação
      */
-    protected abstract int getIdadeReprodutiva();
+    protected final int getIdadeReprodutiva() {
+        return parametros.getIdadeReprodutiva(especie);
+    }
 
     /**
      * Retorna a probabilidade de reprodução por turno.
      * 
      * @return Probabilidade entre 0.0 e 1.0
      */
-    protected abstract double probabilidadeReproducao();
+    protected final double probabilidadeReproducao() {
+        return parametros.getProbabilidadeReproducao(especie);
+    }
 
     /**
      * Retorna o número máximo de filhotes por ninhada.
      * 
      * @return Tamanho máximo da ninhada
      */
-    protected abstract int tamanhoMaximoNinhada();
+    protected final int tamanhoMaximoNinhada() {
+        return parametros.getTamanhoMaximoNinhada(especie);
+    }
 
     /**
      * Retorna a idade máxima que o animal pode atingir.
      * 
      * @return Idade máxima em passos de simulação
      */
-    protected abstract int idadeMaxima();
+    protected final int idadeMaxima() {
+        return parametros.getIdadeMaxima(especie);
+    }
 }
\ No newline at end of file
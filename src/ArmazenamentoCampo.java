@@ -0,0 +1,233 @@
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Escolha do armazenamento dos campos de um {@link MotorSimulacao}.
+ * <p>
+ * Substitui, para cada motor, as constantes {@link Configuracao#CAMPO_EM_BLOCOS}
+ * e {@link Configuracao#ARQUIVO_CAMPO_MAPEADO}, que continuam valendo como
+ * padrão ({@link #padrao()}). Assim os armazenamentos podem ser escolhidos
+ * na linha de comando ({@code --campo}) sem recompilar.
+ * </p>
+ *
+ * <ul>
+ * <li>{@link Tipo#PLANO}: {@link Campo} - grade plana no heap</li>
+ * <li>{@link Tipo#BLOCOS}: {@link CampoEmBlocos} - blocos alocados sob
+ * demanda, para mapas muito grandes e pouco povoados</li>
+ * <li>{@link Tipo#MAPEADO}: {@link CampoMapeado} - camadas fora do heap, em
+ * um arquivo mapeado</li>
+ * </ul>
+ *
+ * <p>
+ * <strong>Imagens do Mundo:</strong>
+ * </p>
+ * <p>
+ * {@link #mapeado(Path)} sempre cria (ou trunca) o arquivo, de modo que uma
+ * execução com semente fixa se repete. Continuar a vegetação de uma imagem
+ * gravada é uma escolha explícita, com {@link #retomado(Path)}.
+ * </p>
+ *
+ * <p>
+ * Instâncias são imutáveis e podem ser compartilhadas entre motores.
+ * </p>
+ *
+ * @author Grupo 10
+ * @version 1.0
+ * @see MotorSimulacao
+ * @see CampoSimulacao
+ */
+public final class ArmazenamentoCampo {
+
+    /**
+     * Formas de armazenamento dos campos.
+     */
+    public enum Tipo {
+        /**
+         * Grade plana no heap ({@link Campo}).
+         */
+        PLANO,
+
+        /**
+         * Blocos esparsos no heap ({@link CampoEmBlocos}).
+         */
+        BLOCOS,
+
+        /**
+         * Arquivo mapeado em memória ({@link CampoMapeado}).
+         */
+        MAPEADO
+    }
+
+    // ========== ATRIBUTOS ==========
+
+    /**
+     * Forma de armazenamento.
+     */
+    private final Tipo tipo;
+
+    /**
+     * Arquivo do mundo mapeado, ou null nos armazenamentos em memória.
+     */
+    private final Path arquivo;
+
+    /**
+     * Se uma imagem gravada no arquivo deve ser reaberta em vez de recriada.
+     */
+    private final boolean retomar;
+
+    // ========== CONSTRUTORES ==========
+
+    /**
+     * Construtor interno; use os métodos de fábrica.
+     *
+     * @param tipo    Forma de armazenamento
+     * @param arquivo Arquivo do mundo mapeado, ou null
+     * @param retomar Se uma imagem gravada deve ser reaberta
+     */
+    private ArmazenamentoCampo(Tipo tipo, Path arquivo, boolean retomar) {
+        this.tipo = tipo;
+        this.arquivo = arquivo;
+        this.retomar = retomar;
+    }
+
+    /**
+     * Campos em grade plana no heap.
+     *
+     * @return Armazenamento plano
+     */
+    public static ArmazenamentoCampo plano() {
+        return new ArmazenamentoCampo(Tipo.PLANO, null, false);
+    }
+
+    /**
+     * Campos em blocos esparsos no heap.
+     *
+     * @return Armazenamento em blocos
+     */
+    public static ArmazenamentoCampo emBlocos() {
+        return new ArmazenamentoCampo(Tipo.BLOCOS, null, false);
+    }
+
+    /**
+     * Campos fora do heap, em um arquivo mapeado criado do zero (um arquivo
+     * existente é truncado).
+     *
+     * @param arquivo Caminho do arquivo do mundo
+     * @return Armazenamento mapeado
+     * @throws IllegalArgumentException se o arquivo for null
+     */
+    public static ArmazenamentoCampo mapeado(Path arquivo) {
+        if (arquivo == null) {
+            throw new IllegalArgumentException("Arquivo do mundo mapeado ausente");
+        }
+        return new ArmazenamentoCampo(Tipo.MAPEADO, arquivo, false);
+    }
+
+    /**
+     * Campos fora do heap, em um arquivo mapeado que é reaberto
+     * ({@link CampoMapeado#abrir}) quando já guarda a imagem de um mundo do
+     * mesmo tamanho; caso contrário, é criado como em {@link #mapeado(Path)}.
+     * <p>
+     * A vegetação continua de onde a execução anterior parou, então o
+     * resultado depende do que está no arquivo, e não só da semente.
+     * </p>
+     *
+     * @param arquivo Caminho do arquivo do mundo
+     * @return Armazenamento mapeado que retoma a imagem
+     * @throws IllegalArgumentException se o arquivo for null
+     */
+    public static ArmazenamentoCampo retomado(Path arquivo) {
+        if (arquivo == null) {
+            throw new IllegalArgumentException("Arquivo do mundo mapeado ausente");
+        }
+        return new ArmazenamentoCampo(Tipo.MAPEADO, arquivo, true);
+    }
+
+    /**
+     * Armazenamento definido em {@link Configuracao}:
+     * {@link Configuracao#ARQUIVO_CAMPO_MAPEADO} tem precedência sobre
+     * {@link Configuracao#CAMPO_EM_BLOCOS}.
+     *
+     * @return Armazenamento padrão
+     */
+    public static ArmazenamentoCampo padrao() {
+        if (Configuracao.ARQUIVO_CAMPO_MAPEADO != null) {
+            return mapeado(Paths.get(Configuracao.ARQUIVO_CAMPO_MAPEADO));
+        }
+        return Configuracao.CAMPO_EM_BLOCOS ? emBlocos() : plano();
+    }
+
+    /**
+     * Interpreta a opção {@code --campo} da linha de comando:
+     * {@code plano}, {@code blocos}, {@code mapeado:ARQUIVO} ou
+     * {@code retomar:ARQUIVO}.
+     *
+     * @param valor Texto da opção
+     * @return Armazenamento correspondente
+     * @throws IllegalArgumentException se o texto não for reconhecido
+     */
+    public static ArmazenamentoCampo ler(String valor) {
+        if (valor.equals("plano")) {
+            return plano();
+        }
+        if (valor.equals("blocos")) {
+            return emBlocos();
+        }
+        if (valor.startsWith("mapeado:") && valor.length() > "mapeado:".length()) {
+            return mapeado(Paths.get(valor.substring("mapeado:".length())));
+        }
+        if (valor.startsWith("retomar:") && valor.length() > "retomar:".length()) {
+            return retomado(Paths.get(valor.substring("retomar:".length())));
+        }
+        throw new IllegalArgumentException("Campo inválido: " + valor);
+    }
+
+    /**
+     * Armazenamento de um dos mundos de um conjunto ({@link ExecutorConjunto}).
+     * <p>
+     * Os armazenamentos em memória valem para todos os mundos. O mapeado usa
+     * um arquivo por mundo, com o número do mundo como sufixo
+     * ({@code mundo.map.3}), já que dois motores não podem mapear o mesmo
+     * arquivo.
+     * </p>
+     *
+     * @param mundo Número do mundo no conjunto
+     * @return Armazenamento do mundo
+     */
+    public ArmazenamentoCampo paraMundo(int mundo) {
+        if (tipo != Tipo.MAPEADO) {
+            return this;
+        }
+        Path proprio = arquivo.resolveSibling(arquivo.getFileName() + "." + mundo);
+        return new ArmazenamentoCampo(tipo, proprio, retomar);
+    }
+
+    // ========== GETTERS ==========
+
+    /**
+     * Retorna a forma de armazenamento.
+     *
+     * @return Tipo do armazenamento
+     */
+    public Tipo getTipo() {
+        return tipo;
+    }
+
+    /**
+     * Retorna o arquivo do mundo mapeado.
+     *
+     * @return Caminho do arquivo, ou null nos armazenamentos em memória
+     */
+    public Path getArquivo() {
+        return arquivo;
+    }
+
+    /**
+     * Indica se uma imagem gravada no arquivo deve ser reaberta.
+     *
+     * @return true para {@link #retomado(Path)}
+     */
+    public boolean retomaImagem() {
+        return retomar;
+    }
+}
@@ -0,0 +1,142 @@
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Troca de quadros entre uma thread produtora e uma consumidora, sem travas.
+ * <p>
+ * Guarda três objetos: um em escrita pela produtora, um em leitura pela
+ * consumidora e um intermediário com o último quadro publicado. Publicar
+ * troca o quadro em escrita pelo intermediário; consumir troca o
+ * intermediário pelo quadro em leitura, se houver um quadro novo. Assim a
+ * produtora nunca espera a consumidora, e a consumidora sempre recebe o
+ * quadro mais recente: os publicados entre duas leituras são descartados.
+ * </p>
+ *
+ * <p>
+ * <strong>Regras de uso:</strong>
+ * </p>
+ * <ul>
+ * <li>Só uma thread produz ({@link #paraEscrita()} e {@link #publicar()}) e
+ * só uma consome ({@link #consumir()}) em cada momento</li>
+ * <li>A produtora não mexe no quadro depois de publicá-lo; a consumidora não
+ * mexe no quadro recebido depois de consumir de novo</li>
+ * </ul>
+ * <p>
+ * A troca pelo {@link AtomicInteger} garante que tudo o que a produtora
+ * escreveu antes de publicar é visto pela consumidora que recebe o quadro.
+ * </p>
+ *
+ * @param <T> Tipo dos quadros
+ * @author Grupo 10
+ * @version 1.0
+ * @see QuadroCampo
+ * @see VisualizacaoSimulador
+ */
+public class BufferTriplo<T> {
+
+    // ========== ATRIBUTOS ESTÁTICOS ==========
+
+    /**
+     * Máscara do índice do quadro no estado intermediário.
+     */
+    private static final int INDICE = 3;
+
+    /**
+     * Bit que marca o quadro intermediário como ainda não consumido.
+     */
+    private static final int NOVO = 4;
+
+    // ========== ATRIBUTOS ==========
+
+    /**
+     * Os três quadros.
+     */
+    private final Object[] quadros;
+
+    /**
+     * Índice do quadro em escrita (só a produtora acessa).
+     */
+    private int escrita;
+
+    /**
+     * Índice do quadro em leitura (só a consumidora acessa).
+     */
+    private int leitura;
+
+    /**
+     * Índice do quadro intermediário, com o bit {@link #NOVO}.
+     */
+    private final AtomicInteger intermediario;
+
+    // ========== CONSTRUTOR ==========
+
+    /**
+     * Cria o buffer com três quadros novos.
+     *
+     * @param fabrica Cria cada um dos quadros
+     */
+    public BufferTriplo(Supplier<T> fabrica) {
+        this.quadros = new Object[] { fabrica.get(), fabrica.get(), fabrica.get() };
+        this.escrita = 0;
+        this.intermediario = new AtomicInteger(1);
+        this.leitura = 2;
+    }
+
+    // ========== MÉTODOS DA PRODUTORA ==========
+
+    /**
+     * Retorna o quadro a ser preenchido pela produtora.
+     * <p>
+     * O quadro pode conter dados de uma publicação antiga e deve ser
+     * totalmente reescrito.
+     * </p>
+     *
+     * @return Quadro em escrita
+     */
+    @SuppressWarnings("unchecked")
+    public T paraEscrita() {
+        return (T) quadros[escrita];
+    }
+
+    /**
+     * Publica o quadro em escrita como o mais recente.
+     * <p>
+     * Se o quadro publicado anteriormente ainda não foi consumido, ele é
+     * descartado e volta a ser usado para escrita.
+     * </p>
+     */
+    public void publicar() {
+        escrita = intermediario.getAndSet(escrita | NOVO) & INDICE;
+    }
+
+    /**
+     * Verifica se o último quadro publicado já foi recebido pela
+     * consumidora.
+     * <p>
+     * Permite à produtora deixar de preencher quadros que seriam
+     * descartados antes de chegar à consumidora.
+     * </p>
+     *
+     * @return true se não há quadro publicado à espera de consumo
+     */
+    public boolean ultimoFoiConsumido() {
+        return (intermediario.get() & NOVO) == 0;
+    }
+
+    // ========== MÉTODOS DA CONSUMIDORA ==========
+
+    /**
+     * Recebe o quadro publicado mais recente, se houver um novo.
+     *
+     * @return Quadro mais recente, ou null se nada foi publicado desde a
+     *         última chamada
+     */
+    @SuppressWarnings("unchecked")
+    public T consumir() {
+        if ((intermediario.get() & NOVO) == 0) {
+            return null;
+        }
+        leitura = intermediario.getAndSet(leitura) & INDICE;
+        return (T) quadros[leitura];
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ * Interface que define a camada de vegetação (grama) de um mundo.
+ * <p>
+ * Cada {@link Campo} delega a ela todo o estado de crescimento da grama,
+ * acessado pelo índice plano da célula ({@code linha * largura + coluna}).
+ * Separar a camada do campo permite escolher o modelo de crescimento sem
+ * alterar atores nem visualização.
+ * </p>
+ *
+ * <p>
+ * <strong>Implementações:</strong>
+ * </p>
+ * <ul>
+ * <li>{@link VegetacaoPreguicosa} - Níveis calculados sob demanda;
+ * crescimento O(1) por turno. Padrão do simulador.</li>
+ * <li>{@link VegetacaoCompacta} - Um {@code byte} por célula com
+ * crescimento imediato em massa, para regras que precisam do nível de
+ * todas as células a cada turno (ex: propagação para vizinhas).</li>
+ * </ul>
+ *
+ * @author Grupo 10
+ * @version 1.0
+ * @see Campo
+ * @see Configuracao#VEGETACAO_COMPACTA
+ */
+public interface CamadaVegetacao {
+
+    // ========== MÉTODOS DE CRESCIMENTO ==========
+
+    /**
+     * Avança um nível de crescimento em todas as células que podem crescer.
+     * <p>
+     * Chamado uma vez por turno em clima normal e duas vezes em clima
+     * chuvoso.
+     * </p>
+     */
+    void crescer();
+
+    /**
+     * Impede que a grama de uma célula cresça (célula sob obstáculo).
+     *
+     * @param indice Índice plano da célula
+     */
+    void bloquearCrescimento(int indice);
+
+    // ========== MÉTODOS DE CONSULTA ==========
+
+    /**
+     * Retorna o nível de crescimento atual de uma célula.
+     *
+     * @param indice Índice plano da célula
+     * @return Nível entre 0 e {@link ParametrosSimulacao#getMaxCrescimento()}
+     */
+    int getNivelCrescimento(int indice);
+
+    /**
+     * Verifica se a grama de uma célula está madura.
+     *
+     * @param indice Índice plano da célula
+     * @return true se a célula atingiu o nível máximo de crescimento
+     */
+    boolean estaMadura(int indice);
+
+    // ========== MÉTODOS DE INTERAÇÃO ==========
+
+    /**
+     * Tenta consumir a grama de uma célula; grama madura volta ao nível 0.
+     *
+     * @param indice Índice plano da célula
+     * @return {@link ParametrosSimulacao#getValorNutricionalGrama()} se havia grama madura, 0
+     *         caso contrário
+     */
+    int comer(int indice);
+
+    /**
+     * Copia o estado de outra camada de mesmo tamanho para esta.
+     * <p>
+     * Não faz nada quando a outra camada é esta mesma instância.
+     * </p>
+     *
+     * @param outra Camada fonte
+     */
+    void copiarDe(CamadaVegetacao outra);
+}
@@ -1,7 +1,9 @@
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Classe que representa o campo de simulação onde o ecossistema se desenvolve.
@@ -18,10 +20,23 @@ import java.util.Random;
  * <strong>Estrutura de Dados:</strong>
  * </p>
  * <ul>
- * <li><strong>Matriz de Atores:</strong> Armazena animais e obstáculos (um por
- * célula)</li>
- * <li><strong>Matriz de Vegetação:</strong> Armazena estado de crescimento da
- * grama (independente)</li>
+ * <li><strong>Grade de Ocupação:</strong> Array plano ({@code int[]}) em ordem
+ * de linhas com o carimbo (época + identificador) da entidade de cada
+ * célula; carimbos de épocas anteriores contam como célula vazia</li>
+ * <li><strong>Tabela de Entidades:</strong> Mapeia identificador para ator e
+ * para o ordinal da espécie ({@link RegistroEspecies})</li>
+ * <li><strong>Mapa de Ocupação:</strong> Um bit por célula ocupada por ator
+ * ({@link MapaBits}), de onde saem as máscaras de vizinhas livres</li>
+ * <li><strong>Camadas por Espécie:</strong> Um {@link MapaBits} por ordinal
+ * de espécie, usados para achar presas vizinhas com poucas operações de
+ * bits</li>
+ * <li><strong>Índice Espacial:</strong> Células de cada espécie agrupadas em
+ * baldes ({@link IndiceEspacial}), para achar a presa mais próxima dentro de
+ * um raio. Só existe quando o motor o fornece</li>
+ * <li><strong>Terreno:</strong> Obstáculos fixos em bits ({@link Terreno}),
+ * compartilhados somente para leitura pelos campos do mesmo mundo</li>
+ * <li><strong>Camada de Vegetação:</strong> Armazena estado de crescimento da
+ * grama (independente, ver {@link CamadaVegetacao})</li>
  * </ul>
  * 
  * <p>
@@ -38,9 +53,12 @@ import java.util.Random;
  * <strong>Sistema de Vegetação:</strong>
  * </p>
  * <p>
- * Cada célula possui uma instância de {@link Vegetacao} que:
+ * A grama é mantida por uma {@link CamadaVegetacao} (por padrão a
+ * {@link VegetacaoPreguicosa}, que calcula o nível de cada célula sob
+ * demanda):
  * <ul>
- * <li>Cresce gradualmente a cada turno (exceto sob obstáculos)</li>
+ * <li>Cresce gradualmente a cada turno (obstáculos nunca são comidos e
+ * permanecem maduros)</li>
  * <li>Pode ser consumida por herbívoros quando madura</li>
  * <li>Regenera após ser consumida</li>
  * </ul>
@@ -54,25 +72,59 @@ import java.util.Random;
  * <ol>
  * <li>Campo atual: leitura do estado presente</li>
  * <li>Campo atualizado: escrita do próximo estado</li>
- * <li>Vegetação é copiada entre campos via {@link #copiarGramaDe(Campo)}</li>
+ * <li>Vegetação é compartilhada pelos dois campos (ou copiada via
+ * {@link #copiarGramaDe(CampoSimulacao)} quando cada um tem a sua)</li>
  * </ol>
  * </p>
  * 
+ * <p>
+ * <strong>Escrita Concorrente:</strong>
+ * </p>
+ * <p>
+ * Entre {@link #iniciarEscritaConcorrente(long)} e
+ * {@link #encerrarEscritaConcorrente()} várias threads podem colocar atores
+ * ao mesmo tempo, desde que em regiões que não compartilhem células nem
+ * palavras dos mapas de bits (garantido pelas faixas do
+ * {@link MotorParalelo}).
+ * </p>
+ * 
  * @author David J. Barnes e Michael Kolling
  * @author Grupo 10 - PPOO
  * @version 2025-11
+ * @see CampoSimulacao
  * @see GradeVisualizavel
  * @see CampoInterativo
- * @see Vegetacao
+ * @see CamadaVegetacao
  * @see Localizacao
  */
-public class Campo implements GradeVisualizavel, CampoInterativo {
+public class Campo implements CampoSimulacao {
     // ========== ATRIBUTOS ESTÁTICOS ==========
 
     /**
-     * Gerador de números aleatórios compartilhado para embaralhar adjacências.
+     * Deslocamento de linha de cada uma das 8 direções da vizinhança de
+     * Moore. O código da direção (0 a 7) indexa esta tabela e
+     * {@link #DESLOC_COLUNA}.
+     */
+    private static final int[] DESLOC_LINHA = { -1, -1, -1, 0, 0, 1, 1, 1 };
+
+    /**
+     * Deslocamento de coluna de cada uma das 8 direções da vizinhança de
+     * Moore.
+     */
+    private static final int[] DESLOC_COLUNA = { -1, 0, 1, -1, 1, -1, 0, 1 };
+
+    /**
+     * Conjunto das 8 direções codificado com 3 bits por direção
+     * (direção {@code d} na posição {@code d}), usado por células que não
+     * estão na borda.
      */
-    private static final Random aleatorio = new Random();
+    private static final int TODAS_DIRECOES = 0xFAC688;
+
+    /**
+     * Maior tamanho das tabelas indexadas pelo identificador (limite
+     * prático de um array Java).
+     */
+    private static final int MAXIMO_IDENTIFICADORES = Integer.MAX_VALUE - 8;
 
     // ========== ATRIBUTOS DE DIMENSÃO ==========
 
@@ -89,26 +141,164 @@ public class Campo implements GradeVisualizavel, CampoInterativo {
     // ========== MATRIZES DE DADOS ==========
 
     /**
-     * Matriz que armazena atores (animais e obstáculos) no campo.
+     * Capacidade inicial da tabela de entidades.
+     */
+    private static final int CAPACIDADE_INICIAL = 64;
+
+    /**
+     * Ordinal de {@link Obstaculo}, devolvido por
+     * {@link #getEspecieEm(int, int)} para células do terreno com obstáculo.
+     */
+    private static final int ESPECIE_OBSTACULO = RegistroEspecies.ordinalDe(Obstaculo.class);
+
+    /**
+     * Bit da célula central em uma máscara de vizinhança 3x3.
      * <p>
-     * Cada célula pode conter:
-     * <ul>
-     * <li>{@link Animal} - Predadores ou herbívoros</li>
-     * <li>{@link Obstaculo} - Rios ou pedras</li>
-     * <li>{@code null} - Célula vazia</li>
-     * </ul>
+     * As máscaras têm 9 bits: bits 0-2 para a linha de cima, 3-5 para a
+     * linha central e 6-8 para a de baixo, da esquerda para a direita.
+     * </p>
+     */
+    private static final int BIT_CENTRO = 1 << 4;
+
+    /**
+     * Bits da coluna da esquerda em uma máscara de vizinhança 3x3.
+     */
+    private static final int COLUNA_ESQUERDA = 0b001_001_001;
+
+    /**
+     * Bits da coluna da direita em uma máscara de vizinhança 3x3.
+     */
+    private static final int COLUNA_DIREITA = 0b100_100_100;
+
+    /**
+     * Limite de {@link #epocaBase} a partir do qual a grade é zerada por
+     * completo, evitando estouro dos carimbos.
+     */
+    private static final int LIMITE_EPOCA = Integer.MAX_VALUE / 2;
+
+    /**
+     * Grade de ocupação em ordem de linhas ({@code linha * largura + coluna}).
+     * <p>
+     * Cada posição guarda o carimbo da entidade na célula:
+     * {@code epocaBase + identificador}. Uma célula só está ocupada se seu
+     * carimbo for maior que {@link #epocaBase}; carimbos de épocas anteriores
+     * (e o valor inicial 0) contam como célula vazia. O identificador indexa
+     * {@link #entidades} e {@link #especies}.
+     * </p>
+     */
+    private int[] celulas;
+
+    /**
+     * Carimbo base da época atual.
+     * <p>
+     * Avança a cada {@link #limpar()} para além de todos os carimbos já
+     * gravados, o que esvazia a grade inteira sem percorrê-la.
+     * </p>
+     */
+    private int epocaBase;
+
+    /**
+     * Tabela de entidades indexada pelo identificador.
+     * <p>
+     * A posição 0 é sempre {@code null}, de modo que uma célula vazia
+     * resolve diretamente para {@code null} sem desvio condicional.
      * </p>
      */
-    private Object[][] campo;
+    private Object[] entidades;
+
+    /**
+     * Ordinal da espécie de cada entidade, indexado pelo identificador.
+     * <p>
+     * A posição 0 é sempre {@link RegistroEspecies#NENHUMA}.
+     * </p>
+     */
+    private int[] especies;
+
+    /**
+     * Próximo identificador livre da época atual. Reiniciado a cada
+     * {@link #limpar()}.
+     */
+    private int proximoId;
+
+    /**
+     * Próximo identificador livre durante uma escrita concorrente, ou null
+     * fora dela. Único estado do campo disputado pelas threads.
+     */
+    private AtomicInteger proximoIdConcorrente;
+
+    /**
+     * Índice plano da célula em que cada entidade foi gravada, indexado pelo
+     * identificador. Permite que {@link #limpar()} desligue apenas os bits
+     * de ocupação usados na época.
+     */
+    private int[] indiceDaEntidade;
+
+    /**
+     * Um bit ligado por célula com ator na época atual.
+     */
+    private MapaBits ocupadas;
+
+    /**
+     * Células ocupadas por cada espécie na época atual, indexadas pelo
+     * ordinal de {@link RegistroEspecies}. Cada camada é criada quando a
+     * espécie aparece pela primeira vez no campo.
+     */
+    private MapaBits[] ocupadasPorEspecie;
 
     /**
-     * Matriz que armazena o estado de vegetação em cada célula.
+     * Células de cada espécie na época atual, em baldes, para as buscas por
+     * raio; null se nenhuma espécie percebe além das vizinhas. Durante a
+     * escrita concorrente as inserções ficam para
+     * {@link #encerrarEscritaConcorrente()}.
+     */
+    private IndiceEspacial indiceEspacial;
+
+    /**
+     * Primeiro identificador distribuído na escrita concorrente em curso.
+     */
+    private int inicioConcorrente;
+
+    /**
+     * Deslocamento de índice plano de cada direção
+     * ({@code DESLOC_LINHA[d] * largura + DESLOC_COLUNA[d]}), pré-calculado
+     * para a largura deste campo.
+     */
+    private int[] deslocIndice;
+
+    /**
+     * Deslocamento de índice plano de cada bit de uma máscara de vizinhança
+     * 3x3 em relação à célula central, pré-calculado para a largura deste
+     * campo.
+     */
+    private int[] deslocBit;
+
+    /**
+     * Localizações canônicas do mundo, compartilhadas entre os campos de
+     * mesmo tamanho. Toda localização devolvida por este campo vem daqui.
+     */
+    private TabelaLocalizacoes localizacoes;
+
+    /**
+     * Camada de vegetação do mundo, indexada pelo índice plano da célula.
      * <p>
-     * Cada posição contém uma instância de {@link Vegetacao} com
-     * seu próprio nível de crescimento, independente de atores.
+     * Com {@link VegetacaoPreguicosa} é compartilhada pelos dois campos do
+     * double buffering, de modo que crescer e copiar a grama custam O(1) por
+     * turno. Com {@link VegetacaoCompacta} cada campo tem a sua camada.
      * </p>
      */
-    private Vegetacao[][] vegetacao;
+    private CamadaVegetacao vegetacao;
+
+    /**
+     * Terreno do mundo (obstáculos fixos), consultado separadamente da
+     * ocupação por atores e nunca modificado pelo campo.
+     */
+    private Terreno terreno;
+
+    /**
+     * Distâncias até a grama madura, compartilhadas pelos campos do mundo;
+     * null se não há forragem.
+     */
+    private GradienteAlimento gradienteAlimento;
 
     // ========== CONSTRUTOR ==========
 
@@ -117,9 +307,8 @@ public class Campo implements GradeVisualizavel, CampoInterativo {
      * <p>
      * <strong>Inicialização:</strong>
      * <ol>
-     * <li>Cria matriz de atores (todas vazias)</li>
-     * <li>Cria matriz de vegetação (todas maduras)</li>
-     * <li>Inicializa cada célula com vegetação no nível máximo</li>
+     * <li>Cria grade de ocupação (todas vazias) e tabela de entidades</li>
+     * <li>Cria camada de vegetação própria (todas maduras)</li>
      * </ol>
      * </p>
      * 
@@ -127,16 +316,74 @@ public class Campo implements GradeVisualizavel, CampoInterativo {
      * @param largura      Número de colunas do campo (largura)
      */
     public Campo(int profundidade, int largura) {
-        this.profundidade = profundidade;
-        this.largura = largura;
-        campo = new Object[profundidade][largura];
-        vegetacao = new Vegetacao[profundidade][largura];
-
-        for (int i = 0; i < profundidade; i++) {
-            for (int j = 0; j < largura; j++) {
-                vegetacao[i][j] = new Vegetacao();
-            }
+        this(new TabelaLocalizacoes(profundidade, largura));
+    }
+
+    /**
+     * Cria um novo campo que compartilha a tabela de localizações canônicas
+     * de um mundo.
+     * <p>
+     * As dimensões do campo são as da tabela. Campos criados com a mesma
+     * tabela devolvem exatamente as mesmas instâncias de {@link Localizacao}.
+     * </p>
+     * 
+     * @param localizacoes Tabela de localizações do mundo
+     */
+    public Campo(TabelaLocalizacoes localizacoes) {
+        this(localizacoes, new VegetacaoPreguicosa(localizacoes.getProfundidade(), localizacoes.getLargura()));
+    }
+
+    /**
+     * Cria um novo campo que compartilha a tabela de localizações de um
+     * mundo e usa a camada de vegetação informada.
+     * <p>
+     * Quando os dois campos recebem a mesma camada,
+     * {@link #copiarGramaDe(CampoSimulacao)} entre eles não tem trabalho a fazer.
+     * </p>
+     * 
+     * @param localizacoes Tabela de localizações do mundo
+     * @param vegetacao    Camada de vegetação (mesmas dimensões)
+     */
+    public Campo(TabelaLocalizacoes localizacoes, CamadaVegetacao vegetacao) {
+        this(localizacoes, vegetacao, new Terreno(localizacoes.getProfundidade(), localizacoes.getLargura()));
+    }
+
+    /**
+     * Cria um novo campo com tabela de localizações, vegetação e terreno de
+     * um mundo.
+     * <p>
+     * O terreno é compartilhado somente para leitura: os obstáculos aparecem
+     * em {@link #getObjetoEm(int, int)} e bloqueiam movimento sem nunca serem
+     * gravados na grade de ocupação.
+     * </p>
+     * 
+     * @param localizacoes Tabela de localizações do mundo
+     * @param vegetacao    Camada de vegetação (mesmas dimensões)
+     * @param terreno      Terreno do mundo (mesmas dimensões)
+     */
+    public Campo(TabelaLocalizacoes localizacoes, CamadaVegetacao vegetacao, Terreno terreno) {
+        this.localizacoes = localizacoes;
+        this.profundidade = localizacoes.getProfundidade();
+        this.largura = localizacoes.getLargura();
+        celulas = new int[profundidade * largura];
+        entidades = new Object[CAPACIDADE_INICIAL];
+        especies = new int[CAPACIDADE_INICIAL];
+        especies[0] = RegistroEspecies.NENHUMA;
+        indiceDaEntidade = new int[CAPACIDADE_INICIAL];
+        ocupadas = new MapaBits(profundidade * largura);
+        ocupadasPorEspecie = new MapaBits[RegistroEspecies.quantidade()];
+        proximoId = 1;
+        epocaBase = 0;
+        deslocIndice = new int[8];
+        for (int d = 0; d < 8; d++) {
+            deslocIndice[d] = DESLOC_LINHA[d] * largura + DESLOC_COLUNA[d];
+        }
+        deslocBit = new int[9];
+        for (int b = 0; b < 9; b++) {
+            deslocBit[b] = (b / 3 - 1) * largura + (b % 3 - 1);
         }
+        this.vegetacao = vegetacao;
+        this.terreno = terreno;
     }
 
     // ========== MÉTODOS DE VEGETAÇÃO ==========
@@ -147,26 +394,37 @@ public class Campo implements GradeVisualizavel, CampoInterativo {
      * <strong>Regras de crescimento:</strong>
      * <ul>
      * <li>Vegetação cresce em células vazias ou com animais</li>
-     * <li>Vegetação NÃO cresce sob obstáculos (rios, pedras)</li>
+     * <li>Vegetação sob obstáculos nunca é comida e permanece madura</li>
      * <li>Cada célula avança um nível de crescimento por chamada</li>
      * </ul>
      * </p>
      * <p>
+     * Com {@link VegetacaoPreguicosa} o avanço é registrado como crédito
+     * global (custo O(1)); com {@link VegetacaoCompacta} é um laço de soma
+     * com saturação sobre o {@code byte[]} da camada.
+     * </p>
+     * <p>
      * Este método é chamado uma vez por turno em clima normal,
      * ou duas vezes em clima chuvoso (crescimento acelerado).
      * </p>
      */
     public void crescerGrama() {
-        for (int i = 0; i < profundidade; i++) {
-            for (int j = 0; j < largura; j++) {
-                Object obj = getObjetoEm(i, j);
-                boolean ehObstaculo = (obj instanceof Obstaculo);
+        vegetacao.crescer();
+    }
 
-                if (!ehObstaculo) {
-                    vegetacao[i][j].crescer();
-                }
-            }
-        }
+    /**
+     * Impede o crescimento da grama em uma célula (sob obstáculo).
+     * <p>
+     * Só altera camadas com crescimento imediato; na
+     * {@link VegetacaoPreguicosa} células nunca comidas já permanecem
+     * maduras.
+     * </p>
+     * 
+     * @param linha  Coordenada Y da célula
+     * @param coluna Coordenada X da célula
+     */
+    public void bloquearCrescimentoGrama(int linha, int coluna) {
+        vegetacao.bloquearCrescimento(linha * largura + coluna);
     }
 
     /**
@@ -180,17 +438,19 @@ public class Campo implements GradeVisualizavel, CampoInterativo {
      * </ul>
      * </p>
      * <p>
-     * Usado exclusivamente por herbívoros durante alimentação.
+     * Usado exclusivamente por herbívoros durante alimentação. A grama
+     * comida é registrada no {@link GradienteAlimento}, se houver.
      * </p>
      * 
      * @param localizacao Posição onde tentar consumir vegetação
      * @return Valor nutricional obtido, ou 0 se não havia grama madura
      */
     public int comerGrama(Localizacao localizacao) {
-        int lin = localizacao.getLinha();
-        int col = localizacao.getColuna();
-
-        return vegetacao[lin][col].vegetacaoEhComida();
+        int indice = localizacao.getLinha() * largura + localizacao.getColuna();
+        if (gradienteAlimento != null && vegetacao.estaMadura(indice)) {
+            gradienteAlimento.registrarComida(indice);
+        }
+        return vegetacao.comer(indice);
     }
 
     /**
@@ -205,7 +465,7 @@ public class Campo implements GradeVisualizavel, CampoInterativo {
      * @return true se a grama está madura (comestível), false caso contrário
      */
     public boolean temGramaMadura(int linha, int coluna) {
-        return vegetacao[linha][coluna].estaMadura();
+        return vegetacao.estaMadura(linha * largura + coluna);
     }
 
     /**
@@ -216,18 +476,52 @@ public class Campo implements GradeVisualizavel, CampoInterativo {
      * precisa ser preservada copiando seu estado do campo anterior.
      * </p>
      * <p>
-     * Apenas o nível de crescimento é copiado, não as instâncias.
+     * Quando os dois campos compartilham a mesma camada, não há nada a
+     * copiar e o custo é O(1). Entre camadas compactas distintas a cópia é um
+     * único {@link System#arraycopy}.
      * </p>
      * 
      * @param outroCampo Campo fonte de onde copiar o estado da vegetação
      */
-    public void copiarGramaDe(Campo outroCampo) {
-        for (int i = 0; i < profundidade; i++) {
-            for (int j = 0; j < largura; j++) {
-                int nivelOutro = outroCampo.vegetacao[i][j].getNivelCrescimento();
-                this.vegetacao[i][j].setNivelCrescimento(nivelOutro);
-            }
-        }
+    public void copiarGramaDe(CampoSimulacao outroCampo) {
+        vegetacao.copiarDe(outroCampo.getVegetacao());
+    }
+
+    /**
+     * Retorna a camada de vegetação usada por este campo.
+     * 
+     * @return Camada de vegetação (possivelmente compartilhada)
+     */
+    public CamadaVegetacao getVegetacao() {
+        return vegetacao;
+    }
+
+    /**
+     * Associa o gradiente de alimento do mundo a este campo.
+     *
+     * @param gradiente Gradiente compartilhado, ou null
+     */
+    public void usarGradienteAlimento(GradienteAlimento gradiente) {
+        this.gradienteAlimento = gradiente;
+    }
+
+    /**
+     * Associa a este campo um índice espacial próprio. Deve ser chamado com
+     * o campo vazio.
+     *
+     * @param indice Índice com as dimensões do campo, ou null
+     */
+    public void usarIndiceEspacial(IndiceEspacial indice) {
+        this.indiceEspacial = indice;
+    }
+
+    /**
+     * Retorna o gradiente de alimento do mundo.
+     *
+     * @return Gradiente compartilhado, ou null se não há forragem
+     */
+    public GradienteAlimento getGradienteAlimento() {
+        return gradienteAlimento;
     }
 
     // ========== MÉTODOS DE GERENCIAMENTO DO CAMPO ==========
@@ -237,20 +531,34 @@ public class Campo implements GradeVisualizavel, CampoInterativo {
      * <p>
      * <strong>Operações:</strong>
      * <ul>
-     * <li>Define todas as células da matriz de atores como null</li>
+     * <li>Inicia uma nova época: todos os carimbos gravados passam a contar
+     * como célula vazia</li>
+     * <li>Descarta a tabela de entidades da época anterior</li>
      * <li>Mantém a vegetação intacta</li>
      * <li>Mantém as dimensões do campo</li>
      * </ul>
      * </p>
      * <p>
-     * Usado para preparar o campo de destino no double buffering.
+     * Usado para preparar o campo de destino no double buffering. O custo é
+     * proporcional ao número de atores colocados na época anterior, e não ao
+     * tamanho da grade; a grade só é zerada de fato quando os carimbos se
+     * aproximam do limite de um {@code int}.
      * </p>
      */
     public void limpar() {
-        for (int linha = 0; linha < profundidade; linha++) {
-            for (int coluna = 0; coluna < largura; coluna++) {
-                campo[linha][coluna] = null;
-            }
+        for (int id = 1; id < proximoId; id++) {
+            ocupadas.desligar(indiceDaEntidade[id]);
+            ocupadasPorEspecie[especies[id]].desligar(indiceDaEntidade[id]);
+        }
+        if (indiceEspacial != null) {
+            indiceEspacial.limpar();
+        }
+        Arrays.fill(entidades, 1, proximoId, null);
+        epocaBase += proximoId - 1;
+        proximoId = 1;
+        if (epocaBase >= LIMITE_EPOCA) {
+            Arrays.fill(celulas, 0);
+            epocaBase = 0;
         }
     }
 
@@ -267,7 +575,7 @@ public class Campo implements GradeVisualizavel, CampoInterativo {
      * @param coluna Coordenada X (índice da coluna)
      */
     public void colocar(Object animal, int linha, int coluna) {
-        colocar(animal, new Localizacao(linha, coluna));
+        colocarNoIndice(animal, linha * largura + coluna);
     }
 
     /**
@@ -281,7 +589,159 @@ public class Campo implements GradeVisualizavel, CampoInterativo {
      * @param localizacao Posição onde colocar o ator
      */
     public void colocar(Object animal, Localizacao localizacao) {
-        campo[localizacao.getLinha()][localizacao.getColuna()] = animal;
+        colocarNoIndice(animal, localizacao.getLinha() * largura + localizacao.getColuna());
+    }
+
+    /**
+     * Registra o ator na tabela de entidades e grava seu identificador na
+     * célula indicada.
+     * <p>
+     * Colocar {@code null} esvazia a célula.
+     * </p>
+     * 
+     * @param animal Ator a ser posicionado, ou null para esvaziar a célula
+     * @param indice Índice plano da célula ({@code linha * largura + coluna})
+     */
+    private void colocarNoIndice(Object animal, int indice) {
+        int anterior = idNaCelula(indice);
+        if (anterior != 0) {
+            ocupadasPorEspecie[especies[anterior]].desligar(indice);
+            if (indiceEspacial != null && proximoIdConcorrente == null) {
+                indiceEspacial.remover(especies[anterior], indice);
+            }
+        }
+        if (animal == null) {
+            celulas[indice] = epocaBase;
+            ocupadas.desligar(indice);
+            return;
+        }
+        int id;
+        if (proximoIdConcorrente == null) {
+            if (proximoId == entidades.length) {
+                reservarIdentificadores(proximoId);
+            }
+            id = proximoId++;
+        } else {
+            id = proximoIdConcorrente.getAndIncrement();
+            if (id >= entidades.length) {
+                throw new IllegalStateException("Reserva da escrita concorrente esgotada");
+            }
+        }
+        entidades[id] = animal;
+        int especie = RegistroEspecies.ordinalDoObjeto(animal);
+        especies[id] = especie;
+        indiceDaEntidade[id] = indice;
+        celulas[indice] = epocaBase + id;
+        ocupadas.ligar(indice);
+        camadaDaEspecie(especie).ligar(indice);
+        if (indiceEspacial != null && proximoIdConcorrente == null) {
+            indiceEspacial.inserir(especie, indice);
+        }
+    }
+
+    /**
+     * Retorna a camada de ocupação de uma espécie, criando-a se a espécie
+     * ainda não apareceu neste campo.
+     * 
+     * @param especie Ordinal da espécie
+     * @return Camada de bits da espécie
+     */
+    private MapaBits camadaDaEspecie(int especie) {
+        if (proximoIdConcorrente != null) {
+            if (especie >= ocupadasPorEspecie.length) {
+                throw new IllegalStateException("Espécie registrada durante a escrita concorrente");
+            }
+            return ocupadasPorEspecie[especie];
+        }
+        if (especie >= ocupadasPorEspecie.length) {
+            ocupadasPorEspecie = Arrays.copyOf(ocupadasPorEspecie, Math.max(especie + 1, RegistroEspecies.quantidade()));
+        }
+        MapaBits camada = ocupadasPorEspecie[especie];
+        if (camada == null) {
+            camada = new MapaBits(profundidade * largura);
+            ocupadasPorEspecie[especie] = camada;
+        }
+        return camada;
+    }
+
+    /**
+     * Aumenta as tabelas indexadas pelo identificador.
+     * 
+     * @param quantidade Número de identificadores a acrescentar
+     */
+    private void reservarIdentificadores(int quantidade) {
+        int capacidade = entidades.length + quantidade;
+        entidades = Arrays.copyOf(entidades, capacidade);
+        especies = Arrays.copyOf(especies, capacidade);
+        indiceDaEntidade = Arrays.copyOf(indiceDaEntidade, capacidade);
+    }
+
+    /**
+     * Retorna o identificador da entidade em uma célula na época atual.
+     * 
+     * @param indice Índice plano da célula
+     * @return Identificador, ou 0 se a célula está vazia nesta época
+     */
+    private int idNaCelula(int indice) {
+        int id = celulas[indice] - epocaBase;
+        return id > 0 ? id : 0;
+    }
+
+    // ========== MÉTODOS DE ESCRITA CONCORRENTE ==========
+
+    /**
+     * Prepara o campo para receber colocações de várias threads.
+     * <p>
+     * Reserva identificadores para até {@code colocacoes} atores e cria as
+     * camadas de ocupação de todas as espécies registradas, para que nenhuma
+     * colocação precise aumentar tabelas compartilhadas. A partir daqui os
+     * identificadores são distribuídos por um contador atômico.
+     * </p>
+     * <p>
+     * Cada thread deve escrever em uma região própria: células diferentes e
+     * afastadas o bastante para não dividirem uma palavra dos mapas de bits.
+     * </p>
+     * 
+     * @param colocacoes Limite de colocações até
+     *                   {@link #encerrarEscritaConcorrente()}
+     * @throws IllegalStateException se os identificadores não comportarem
+     *                               tantas colocações
+     */
+    public void iniciarEscritaConcorrente(long colocacoes) {
+        long necessarios = proximoId + colocacoes;
+        if (necessarios > MAXIMO_IDENTIFICADORES) {
+            throw new IllegalStateException("Colocações demais para um passo: " + colocacoes);
+        }
+        if (necessarios > entidades.length) {
+            long capacidade = Math.min(Math.max(necessarios, 2L * entidades.length), MAXIMO_IDENTIFICADORES);
+            reservarIdentificadores((int) (capacidade - entidades.length));
+        }
+        for (int especie = 0; especie < RegistroEspecies.quantidade(); especie++) {
+            camadaDaEspecie(especie);
+        }
+        inicioConcorrente = proximoId;
+        proximoIdConcorrente = new AtomicInteger(proximoId);
+    }
+
+    /**
+     * Encerra a escrita concorrente, voltando à numeração sequencial.
+     * <p>
+     * Deve ser chamado depois que todas as threads terminaram de escrever.
+     * Os atores colocados pelas threads (e não sobrescritos) entram aqui no
+     * {@link IndiceEspacial}, cujos baldes não acompanham as faixas.
+     * </p>
+     */
+    public void encerrarEscritaConcorrente() {
+        proximoId = proximoIdConcorrente.get();
+        proximoIdConcorrente = null;
+        if (indiceEspacial == null) {
+            return;
+        }
+        for (int id = inicioConcorrente; id < proximoId; id++) {
+            if (idNaCelula(indiceDaEntidade[id]) == id) {
+                indiceEspacial.inserir(especies[id], indiceDaEntidade[id]);
+            }
+        }
     }
 
     // ========== MÉTODOS DE CONSULTA ==========
@@ -301,13 +761,77 @@ public class Campo implements GradeVisualizavel, CampoInterativo {
 
     /**
      * Retorna o ator presente em coordenadas específicas.
+     * <p>
+     * Se não há ator na célula, devolve o obstáculo do terreno, se houver.
+     * </p>
      * 
      * @param linha  Coordenada Y (índice da linha)
      * @param coluna Coordenada X (índice da coluna)
-     * @return Ator na posição, ou null se vazia
+     * @return Ator ou obstáculo na posição, ou null se vazia
      */
     public Object getObjetoEm(int linha, int coluna) {
-        return campo[linha][coluna];
+        return getObjetoNoIndice(linha * largura + coluna);
+    }
+
+    /**
+     * Retorna o ator presente em uma célula dada pelo índice plano.
+     * <p>
+     * Se não há ator na célula, devolve o obstáculo do terreno, se houver.
+     * </p>
+     * 
+     * @param indice Índice plano ({@code linha * largura + coluna})
+     * @return Ator ou obstáculo na posição, ou null se vazia
+     */
+    public Object getObjetoNoIndice(long indice) {
+        int celula = (int) indice;
+        int id = idNaCelula(celula);
+        if (id != 0) {
+            return entidades[id];
+        }
+        return terreno.getObstaculo(celula);
+    }
+
+    /**
+     * Verifica se uma célula pode receber um animal: sem ator nesta época e
+     * sem obstáculo no terreno.
+     * 
+     * @param indice Índice plano da célula
+     * @return true se a célula está livre
+     */
+    public boolean estaLivre(long indice) {
+        int celula = (int) indice;
+        return celulas[celula] <= epocaBase && terreno.ehPassavel(celula);
+    }
+
+    /**
+     * Verifica se há um obstáculo pescável (rio) na célula.
+     * 
+     * @param indice Índice plano da célula
+     * @return true se é possível pescar na célula
+     */
+    public boolean ehPescavel(long indice) {
+        return terreno.ehPescavel((int) indice);
+    }
+
+    /**
+     * Retorna o ordinal da espécie presente em coordenadas específicas.
+     * <p>
+     * Evita o acesso ao objeto e a chamada a {@code getClass()} quando só
+     * o tipo do ocupante interessa (contagens, renderização, obstáculos).
+     * </p>
+     * 
+     * @param linha  Coordenada Y (índice da linha)
+     * @param coluna Coordenada X (índice da coluna)
+     * @return Ordinal em {@link RegistroEspecies}, ou
+     *         {@link RegistroEspecies#NENHUMA} se vazia
+     */
+    public int getEspecieEm(int linha, int coluna) {
+        int indice = linha * largura + coluna;
+        int id = idNaCelula(indice);
+        if (id == 0 && !terreno.ehPassavel(indice)) {
+            return ESPECIE_OBSTACULO;
+        }
+        return especies[id];
     }
 
     // ========== MÉTODOS DE NAVEGAÇÃO ==========
@@ -317,31 +841,183 @@ public class Campo implements GradeVisualizavel, CampoInterativo {
      * <p>
      * <strong>Estratégia de busca:</strong>
      * <ol>
-     * <li>Obtém lista de adjacentes em ordem aleatória</li>
-     * <li>Retorna a primeira célula vazia encontrada</li>
+     * <li>Monta a máscara de vizinhas livres
+     * ({@link #mascaraAdjacentesLivres(Localizacao)})</li>
+     * <li>Sorteia um dos bits ligados, com a mesma probabilidade para cada
+     * vizinha livre</li>
      * <li>Se nenhuma adjacente está livre, tenta a própria posição</li>
      * <li>Se tudo está ocupado, retorna null</li>
      * </ol>
      * </p>
+     * <p>
+     * O resultado tem a mesma distribuição de tomar a primeira vizinha livre
+     * de uma lista embaralhada, sem criar a lista.
+     * </p>
      * 
      * @param localizacao Posição central a partir da qual buscar
      * @return Localização adjacente livre, ou null se todas ocupadas
      */
     public Localizacao localizacaoAdjacenteLivre(Localizacao localizacao) {
-        Iterator<Localizacao> adjacentes = localizacoesAdjacentes(localizacao);
-        while (adjacentes.hasNext()) {
-            Localizacao proxima = adjacentes.next();
-            if (campo[proxima.getLinha()][proxima.getColuna()] == null) {
-                return proxima;
-            }
+        int centro = localizacao.getLinha() * largura + localizacao.getColuna();
+        int livres = mascaraAdjacentesLivres(localizacao);
+        if (livres != 0) {
+            return localizacoes.obter(centro + deslocBit[bitAleatorio(livres)]);
         }
-        if (campo[localizacao.getLinha()][localizacao.getColuna()] == null) {
+        if (estaLivre(centro)) {
             return localizacao;
         } else {
             return null;
         }
     }
 
+    /**
+     * Retorna a máscara das células adjacentes livres (sem ator e sem
+     * obstáculo).
+     * <p>
+     * A máscara tem 9 bits, um por célula da janela 3x3 centrada na
+     * posição, em ordem de linhas (bit 0 = noroeste, bit 8 = sudeste). O bit
+     * central e as células fora do campo ficam sempre desligados. É montada
+     * a partir de três leituras de 3 bits nos mapas de ocupação e de terreno.
+     * </p>
+     * 
+     * @param localizacao Posição central
+     * @return Máscara de 9 bits das vizinhas livres
+     */
+    public int mascaraAdjacentesLivres(Localizacao localizacao) {
+        int linha = localizacao.getLinha();
+        int coluna = localizacao.getColuna();
+        int bloqueadas = mascaraVizinhanca(ocupadas, linha, coluna)
+                | mascaraVizinhanca(terreno.getIntransitaveis(), linha, coluna);
+        return ~bloqueadas & mascaraDentro(linha, coluna);
+    }
+
+    /**
+     * Sorteia uma célula adjacente ocupada por uma das espécies informadas.
+     * <p>
+     * Os candidatos são a união das camadas das espécies na janela 3x3 (três
+     * leituras de 3 bits por espécie). Um candidato é sorteado com a mesma
+     * probabilidade entre os restantes e confirmado pelo visitante; se
+     * recusado, sai da máscara e o sorteio se repete. O custo não depende do
+     * tamanho da dieta além dessas leituras.
+     * </p>
+     * 
+     * @param localizacao Posição central
+     * @param especies    Ordinais das espécies procuradas
+     * @param aceitar     Confirmação de cada candidato (ex: presa viva)
+     * @return Índice plano da vizinha escolhida, ou -1 se nenhuma foi aceita
+     */
+    public long sortearAdjacenteDeEspecies(Localizacao localizacao, int[] especies, VisitanteVizinhanca aceitar) {
+        int linha = localizacao.getLinha();
+        int coluna = localizacao.getColuna();
+        int candidatos = 0;
+        for (int especie : especies) {
+            if (especie < ocupadasPorEspecie.length && ocupadasPorEspecie[especie] != null) {
+                candidatos |= mascaraVizinhanca(ocupadasPorEspecie[especie], linha, coluna);
+            }
+        }
+        candidatos &= mascaraDentro(linha, coluna);
+
+        int centro = linha * largura + coluna;
+        while (candidatos != 0) {
+            int bit = bitAleatorio(candidatos);
+            int vizinha = centro + deslocBit[bit];
+            if (aceitar.visitar(this, vizinha)) {
+                return vizinha;
+            }
+            candidatos &= ~(1 << bit);
+        }
+        return -1;
+    }
+
+    /**
+     * Procura a célula mais próxima, dentro de um raio, ocupada por uma das
+     * espécies.
+     * <p>
+     * Consulta o {@link IndiceEspacial}; cada candidata é conferida na grade
+     * (a espécie ainda é a do índice) e depois pelo visitante. Sem índice
+     * ({@link #usarIndiceEspacial}) não há busca por raio.
+     * </p>
+     * 
+     * @param localizacao Posição central
+     * @param raio        Distância máxima, em células
+     * @param procuradas  Ordinais das espécies procuradas
+     * @param aceitar     Confirmação de cada candidata (ex: presa viva)
+     * @return Índice plano da célula encontrada, ou -1 se nenhuma foi aceita
+     */
+    public long buscarMaisProximaDeEspecies(Localizacao localizacao, int raio, int[] procuradas,
+            VisitanteVizinhanca aceitar) {
+        if (indiceEspacial == null) {
+            return -1;
+        }
+        return indiceEspacial.maisProxima(localizacao.getLinha(), localizacao.getColuna(), raio, procuradas,
+                (especie, indice) -> especies[idNaCelula(indice)] == especie && aceitar.visitar(this, indice));
+    }
+
+    /**
+     * Lê a janela 3x3 de um mapa de bits ao redor de uma célula.
+     * <p>
+     * Cada linha da janela é uma única leitura de 3 bits consecutivos. Bits
+     * de linhas fora do campo ficam desligados; bits de colunas fora do campo
+     * podem vir da linha vizinha e devem ser descartados com
+     * {@link #mascaraDentro(int, int)}.
+     * </p>
+     * 
+     * @param bits   Mapa de bits do mundo
+     * @param linha  Linha da célula central
+     * @param coluna Coluna da célula central
+     * @return Máscara de 9 bits da janela
+     */
+    private int mascaraVizinhanca(MapaBits bits, int linha, int coluna) {
+        int mascara = 0;
+        int primeira = Math.max(linha - 1, 0);
+        int ultima = Math.min(linha + 1, profundidade - 1);
+        for (int l = primeira; l <= ultima; l++) {
+            int inicio = l * largura + coluna;
+            long trio = coluna > 0 ? bits.ler(inicio - 1, 3) : bits.ler(inicio, 2) << 1;
+            mascara |= (int) trio << (3 * (l - linha + 1));
+        }
+        return mascara;
+    }
+
+    /**
+     * Retorna a máscara das vizinhas de uma célula que estão dentro do campo.
+     * 
+     * @param linha  Linha da célula central
+     * @param coluna Coluna da célula central
+     * @return Máscara de 9 bits, sem o bit central
+     */
+    private int mascaraDentro(int linha, int coluna) {
+        int mascara = 0b111_111_111 & ~BIT_CENTRO;
+        if (linha == 0) {
+            mascara &= ~0b000_000_111;
+        }
+        if (linha == profundidade - 1) {
+            mascara &= ~0b111_000_000;
+        }
+        if (coluna == 0) {
+            mascara &= ~COLUNA_ESQUERDA;
+        }
+        if (coluna == largura - 1) {
+            mascara &= ~COLUNA_DIREITA;
+        }
+        return mascara;
+    }
+
+    /**
+     * Sorteia um dos bits ligados de uma máscara, todos com a mesma
+     * probabilidade.
+     * 
+     * @param mascara Máscara com pelo menos um bit ligado
+     * @return Posição do bit sorteado
+     */
+    private int bitAleatorio(int mascara) {
+        int pular = Aleatoriedade.gerador().nextInt(Integer.bitCount(mascara));
+        for (int i = 0; i < pular; i++) {
+            mascara &= mascara - 1;
+        }
+        return Integer.numberOfTrailingZeros(mascara);
+    }
+
     /**
      * Retorna iterator sobre localizações adjacentes em ordem aleatória.
      * <p>
@@ -371,21 +1047,118 @@ public class Campo implements GradeVisualizavel, CampoInterativo {
         int linha = localizacao.getLinha();
         int coluna = localizacao.getColuna();
         LinkedList<Localizacao> locais = new LinkedList<Localizacao>();
-        for (int deslocLinha = -1; deslocLinha <= 1; deslocLinha++) {
-            int proxLinha = linha + deslocLinha;
-            if (proxLinha >= 0 && proxLinha < profundidade) {
-                for (int deslocCol = -1; deslocCol <= 1; deslocCol++) {
-                    int proxColuna = coluna + deslocCol;
-                    if (proxColuna >= 0 && proxColuna < largura && (deslocLinha != 0 || deslocCol != 0)) {
-                        locais.add(new Localizacao(proxLinha, proxColuna));
-                    }
-                }
+        for (int d = 0; d < 8; d++) {
+            int proxLinha = linha + DESLOC_LINHA[d];
+            int proxColuna = coluna + DESLOC_COLUNA[d];
+            if (proxLinha >= 0 && proxLinha < profundidade && proxColuna >= 0 && proxColuna < largura) {
+                locais.add(localizacoes.obter(proxLinha, proxColuna));
             }
         }
-        Collections.shuffle(locais, aleatorio);
+        Aleatoriedade.embaralhar(locais, Aleatoriedade.gerador());
         return locais.iterator();
     }
 
+    /**
+     * Percorre as células adjacentes em ordem aleatória sem criar objetos.
+     * <p>
+     * <strong>Algoritmo:</strong>
+     * <ol>
+     * <li>Monta as direções válidas (dentro dos limites) em um único
+     * {@code int}, com 3 bits por direção</li>
+     * <li>Sorteia uma direção entre as restantes e a remove trocando-a pela
+     * última (Fisher-Yates incremental)</li>
+     * <li>Converte a direção em índice plano pela tabela
+     * {@link #deslocIndice} e consulta o visitante</li>
+     * </ol>
+     * </p>
+     * <p>
+     * A ordem produzida é uniforme sobre todas as permutações, igual a
+     * {@link Collections#shuffle}, mas só sorteia as direções realmente
+     * visitadas e não aloca listas nem localizações.
+     * </p>
+     * 
+     * @param localizacao Posição central
+     * @param visitante   Critério de aceitação de uma célula vizinha
+     * @return Índice plano da primeira vizinha aceita, ou -1 se nenhuma
+     */
+    public long visitarAdjacentes(Localizacao localizacao, VisitanteVizinhanca visitante) {
+        int linha = localizacao.getLinha();
+        int coluna = localizacao.getColuna();
+        int centro = linha * largura + coluna;
+
+        int pendentes;
+        int restantes;
+        if (linha > 0 && linha < profundidade - 1 && coluna > 0 && coluna < largura - 1) {
+            pendentes = TODAS_DIRECOES;
+            restantes = 8;
+        } else {
+            pendentes = 0;
+            restantes = 0;
+            for (int d = 0; d < 8; d++) {
+                int proxLinha = linha + DESLOC_LINHA[d];
+                int proxColuna = coluna + DESLOC_COLUNA[d];
+                if (proxLinha >= 0 && proxLinha < profundidade && proxColuna >= 0 && proxColuna < largura) {
+                    pendentes |= d << (3 * restantes);
+                    restantes++;
+                }
+            }
+        }
+
+        SplittableRandom sorteio = Aleatoriedade.gerador();
+        while (restantes > 0) {
+            int sorteada = 3 * sorteio.nextInt(restantes);
+            int ultima = 3 * (restantes - 1);
+            int direcao = (pendentes >>> sorteada) & 7;
+            int direcaoUltima = (pendentes >>> ultima) & 7;
+            pendentes = (pendentes & ~(7 << sorteada)) | (direcaoUltima << sorteada);
+            restantes--;
+
+            int vizinha = centro + deslocIndice[direcao];
+            if (visitante.visitar(this, vizinha)) {
+                return vizinha;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Converte uma localização no índice plano da célula.
+     * 
+     * @param localizacao Posição a converter
+     * @return {@code linha * largura + coluna}
+     */
+    public long indiceDe(Localizacao localizacao) {
+        return localizacao.getLinha() * largura + localizacao.getColuna();
+    }
+
+    /**
+     * Converte um índice plano de célula em localização.
+     * <p>
+     * Devolve a instância canônica da tabela, sem alocação.
+     * </p>
+     * 
+     * @param indice Índice plano ({@code linha * largura + coluna})
+     * @return Localização correspondente
+     */
+    public Localizacao localizacaoDoIndice(long indice) {
+        return localizacoes.obter((int) indice);
+    }
+
+    /**
+     * Retorna a localização canônica de uma célula.
+     * <p>
+     * Equivalente a {@code new Localizacao(linha, coluna)}, mas sem alocação
+     * e devolvendo sempre a mesma instância para a mesma posição.
+     * </p>
+     * 
+     * @param linha  Coordenada Y (índice da linha)
+     * @param coluna Coordenada X (índice da coluna)
+     * @return Localização canônica
+     */
+    public Localizacao getLocalizacao(int linha, int coluna) {
+        return localizacoes.obter(linha, coluna);
+    }
+
     // ========== GETTERS ==========
 
     /**
@@ -405,4 +1178,22 @@ public class Campo implements GradeVisualizavel, CampoInterativo {
     public int getLargura() {
         return largura;
     }
+
+    /**
+     * Retorna a tabela de localizações canônicas usada por este campo.
+     * 
+     * @return Tabela compartilhada pelos campos do mesmo mundo
+     */
+    public TabelaLocalizacoes getLocalizacoes() {
+        return localizacoes;
+    }
+
+    /**
+     * Retorna o terreno (obstáculos fixos) usado por este campo.
+     * 
+     * @return Terreno compartilhado pelos campos do mesmo mundo
+     */
+    public Terreno getTerreno() {
+        return terreno;
+    }
 }
\ No newline at end of file
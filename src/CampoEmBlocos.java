@@ -0,0 +1,594 @@
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * Campo de simulação esparso, dividido em blocos quadrados alocados sob
+ * demanda, para mapas grandes demais para a grade plana de {@link Campo}.
+ * <p>
+ * O mundo é repartido em blocos de {@value #LADO_BLOCO}x{@value #LADO_BLOCO}
+ * células. Cada camada guarda um bloco inteiro apenas quando ele deixa de ser
+ * uniforme, de modo que a memória acompanha a área povoada e não a área do
+ * mapa.
+ * </p>
+ *
+ * <p>
+ * <strong>Estrutura de Dados:</strong>
+ * </p>
+ * <ul>
+ * <li><strong>Atores:</strong> Um {@code Object[]} por bloco com pelo menos
+ * um ator no passo atual; blocos vazios não têm array. Os arrays liberados
+ * por {@link #limpar()} são reaproveitados</li>
+ * <li><strong>Terreno:</strong> Por bloco, um único valor quando o bloco é
+ * todo livre ou todo do mesmo obstáculo, ou um {@code Obstaculo[]} quando é
+ * misto. Compartilhado pelos dois campos do mundo</li>
+ * <li><strong>Vegetação:</strong> {@link VegetacaoEmBlocos}, que só guarda
+ * blocos com grama recém-comida</li>
+ * <li><strong>Localizações:</strong> Criadas sob demanda, sem tabela
+ * canônica (uma por célula não caberia na memória em mapas grandes)</li>
+ * <li><strong>Índice Espacial:</strong> {@link IndiceEspacial} fornecido pelo
+ * motor quando há buscas por raio dos predadores</li>
+ * </ul>
+ *
+ * <p>
+ * <strong>Limites:</strong>
+ * </p>
+ * <p>
+ * O índice plano das interfaces ({@code linha * largura + coluna}) é um
+ * {@code int}, portanto o mundo pode ter no máximo
+ * {@link Integer#MAX_VALUE} células (cerca de 46000x46000).
+ * </p>
+ *
+ * @author Grupo 10
+ * @version 1.0
+ * @see CampoSimulacao
+ * @see Campo
+ * @see VegetacaoEmBlocos
+ */
+public class CampoEmBlocos implements CampoSimulacao {
+
+    // ========== ATRIBUTOS ESTÁTICOS ==========
+
+    /**
+     * Log na base 2 do lado de um bloco.
+     */
+    public static final int BITS_LADO_BLOCO = 6;
+
+    /**
+     * Lado de um bloco, em células.
+     */
+    public static final int LADO_BLOCO = 1 << BITS_LADO_BLOCO;
+
+    /**
+     * Número de células de um bloco.
+     */
+    public static final int CELULAS_POR_BLOCO = LADO_BLOCO * LADO_BLOCO;
+
+    /**
+     * Ordinal de {@link Obstaculo}, devolvido por
+     * {@link #getEspecieEm(int, int)} para células com obstáculo.
+     */
+    private static final int ESPECIE_OBSTACULO = RegistroEspecies.ordinalDe(Obstaculo.class);
+
+    // ========== ATRIBUTOS DE DIMENSÃO ==========
+
+    /**
+     * Número de linhas do campo (altura).
+     */
+    private final int profundidade;
+
+    /**
+     * Número de colunas do campo (largura).
+     */
+    private final int largura;
+
+    /**
+     * Número de blocos em cada linha de blocos.
+     */
+    private final int blocosPorLinha;
+
+    // ========== CAMADAS ==========
+
+    /**
+     * Atores de cada bloco, indexados pela célula dentro do bloco. Null para
+     * blocos sem atores neste passo.
+     */
+    private final Object[][] atores;
+
+    /**
+     * Números dos blocos com array de atores, para que {@link #limpar()}
+     * percorra apenas eles.
+     */
+    private int[] blocosOcupados;
+
+    /**
+     * Quantidade de entradas válidas em {@link #blocosOcupados}.
+     */
+    private int quantidadeOcupados;
+
+    /**
+     * Arrays de atores liberados, reaproveitados por novos blocos ocupados.
+     */
+    private final ArrayDeque<Object[]> blocosLivres;
+
+    /**
+     * Obstáculo que ocupa todo o bloco, ou null se o bloco é livre ou misto.
+     */
+    private final Obstaculo[] obstaculoUniforme;
+
+    /**
+     * Obstáculos célula a célula dos blocos mistos; null para blocos
+     * uniformes.
+     */
+    private final Obstaculo[][] obstaculos;
+
+    /**
+     * Camada de vegetação do mundo, compartilhada pelos dois campos.
+     */
+    private final CamadaVegetacao vegetacao;
+
+    /**
+     * Células de cada espécie, em baldes; null se nenhuma espécie percebe
+     * além das vizinhas.
+     */
+    private IndiceEspacial indiceEspacial;
+
+    /**
+     * Distâncias até a grama madura, compartilhadas pelos campos do mundo;
+     * null se não há forragem.
+     */
+    private GradienteAlimento gradienteAlimento;
+
+    // ========== CONSTRUTORES ==========
+
+    /**
+     * Cria o primeiro campo de um mundo a partir do terreno carregado.
+     * <p>
+     * O terreno é convertido para blocos uma única vez; o segundo campo do
+     * double buffering deve ser criado com
+     * {@link #CampoEmBlocos(CampoEmBlocos)} para compartilhá-lo.
+     * </p>
+     *
+     * @param terreno   Terreno do mundo
+     * @param vegetacao Camada de vegetação (mesmas dimensões)
+     * @throws IllegalArgumentException se o mundo tiver mais células do que
+     *                                  cabem em um índice {@code int}
+     */
+    public CampoEmBlocos(Terreno terreno, CamadaVegetacao vegetacao) {
+        this.profundidade = terreno.getProfundidade();
+        this.largura = terreno.getLargura();
+        if ((long) profundidade * largura > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Mundo grande demais: " + profundidade + "x" + largura);
+        }
+        this.blocosPorLinha = blocosPara(largura);
+        int blocos = blocosPara(profundidade) * blocosPorLinha;
+
+        this.obstaculoUniforme = new Obstaculo[blocos];
+        this.obstaculos = new Obstaculo[blocos][];
+        converterTerreno(terreno);
+
+        this.vegetacao = vegetacao;
+        this.atores = new Object[blocos][];
+        this.blocosOcupados = new int[16];
+        this.blocosLivres = new ArrayDeque<Object[]>();
+    }
+
+    /**
+     * Cria o segundo campo de um mundo, compartilhando terreno e vegetação
+     * com outro campo e começando sem atores.
+     *
+     * @param outro Campo do mesmo mundo
+     */
+    public CampoEmBlocos(CampoEmBlocos outro) {
+        this.profundidade = outro.profundidade;
+        this.largura = outro.largura;
+        this.blocosPorLinha = outro.blocosPorLinha;
+        this.obstaculoUniforme = outro.obstaculoUniforme;
+        this.obstaculos = outro.obstaculos;
+        this.vegetacao = outro.vegetacao;
+        this.atores = new Object[outro.atores.length][];
+        this.blocosOcupados = new int[16];
+        this.blocosLivres = new ArrayDeque<Object[]>();
+    }
+
+    /**
+     * Copia os obstáculos do terreno para os blocos, guardando como valor
+     * único os blocos uniformes.
+     *
+     * @param terreno Terreno do mundo
+     */
+    private void converterTerreno(Terreno terreno) {
+        MapaBits intransitaveis = terreno.getIntransitaveis();
+        int[] contagem = new int[obstaculos.length];
+        for (int i = intransitaveis.proximoLigado(0); i >= 0; i = intransitaveis.proximoLigado(i + 1)) {
+            int linha = i / largura;
+            int coluna = i - linha * largura;
+            int bloco = blocoDe(linha, coluna, blocosPorLinha);
+            if (obstaculos[bloco] == null) {
+                obstaculos[bloco] = new Obstaculo[CELULAS_POR_BLOCO];
+            }
+            obstaculos[bloco][celulaDe(linha, coluna)] = terreno.getObstaculo(i);
+            contagem[bloco]++;
+        }
+
+        for (int bloco = 0; bloco < obstaculos.length; bloco++) {
+            if (obstaculos[bloco] != null && contagem[bloco] == celulasDentro(bloco)) {
+                Obstaculo primeiro = null;
+                boolean uniforme = true;
+                for (Obstaculo obstaculo : obstaculos[bloco]) {
+                    if (obstaculo != null) {
+                        if (primeiro == null) {
+                            primeiro = obstaculo;
+                        } else if (obstaculo != primeiro) {
+                            uniforme = false;
+                            break;
+                        }
+                    }
+                }
+                if (uniforme) {
+                    obstaculoUniforme[bloco] = primeiro;
+                    obstaculos[bloco] = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Conta as células de um bloco que estão dentro do mundo (blocos da
+     * última linha ou coluna podem ser parciais).
+     *
+     * @param bloco Número do bloco
+     * @return Número de células válidas do bloco
+     */
+    private int celulasDentro(int bloco) {
+        int linhaInicial = (bloco / blocosPorLinha) << BITS_LADO_BLOCO;
+        int colunaInicial = (bloco % blocosPorLinha) << BITS_LADO_BLOCO;
+        return Math.min(LADO_BLOCO, profundidade - linhaInicial) * Math.min(LADO_BLOCO, largura - colunaInicial);
+    }
+
+    // ========== GEOMETRIA DOS BLOCOS ==========
+
+    /**
+     * Calcula quantos blocos cobrem uma dimensão do mundo.
+     *
+     * @param celulas Tamanho da dimensão, em células
+     * @return Número de blocos necessários
+     */
+    public static int blocosPara(int celulas) {
+        return (celulas + LADO_BLOCO - 1) >>> BITS_LADO_BLOCO;
+    }
+
+    /**
+     * Retorna o número do bloco que contém uma célula.
+     *
+     * @param linha          Linha da célula
+     * @param coluna         Coluna da célula
+     * @param blocosPorLinha Número de blocos em cada linha de blocos
+     * @return Número do bloco, em ordem de linhas
+     */
+    public static int blocoDe(int linha, int coluna, int blocosPorLinha) {
+        return (linha >>> BITS_LADO_BLOCO) * blocosPorLinha + (coluna >>> BITS_LADO_BLOCO);
+    }
+
+    /**
+     * Retorna a posição de uma célula dentro do seu bloco.
+     *
+     * @param linha  Linha da célula
+     * @param coluna Coluna da célula
+     * @return Índice da célula no bloco, em ordem de linhas
+     */
+    public static int celulaDe(int linha, int coluna) {
+        return ((linha & (LADO_BLOCO - 1)) << BITS_LADO_BLOCO) | (coluna & (LADO_BLOCO - 1));
+    }
+
+    // ========== MÉTODOS DE VEGETAÇÃO ==========
+
+    @Override
+    public void crescerGrama() {
+        vegetacao.crescer();
+    }
+
+    @Override
+    public int comerGrama(Localizacao localizacao) {
+        int indice = localizacao.getLinha() * largura + localizacao.getColuna();
+        if (gradienteAlimento != null && vegetacao.estaMadura(indice)) {
+            gradienteAlimento.registrarComida(indice);
+        }
+        return vegetacao.comer(indice);
+    }
+
+    @Override
+    public boolean temGramaMadura(int linha, int coluna) {
+        return vegetacao.estaMadura(linha * largura + coluna);
+    }
+
+    @Override
+    public void copiarGramaDe(CampoSimulacao outroCampo) {
+        vegetacao.copiarDe(outroCampo.getVegetacao());
+    }
+
+    @Override
+    public CamadaVegetacao getVegetacao() {
+        return vegetacao;
+    }
+
+    @Override
+    public void usarGradienteAlimento(GradienteAlimento gradiente) {
+        this.gradienteAlimento = gradiente;
+    }
+
+    @Override
+    public void usarIndiceEspacial(IndiceEspacial indice) {
+        this.indiceEspacial = indice;
+    }
+
+    @Override
+    public GradienteAlimento getGradienteAlimento() {
+        return gradienteAlimento;
+    }
+
+    // ========== MÉTODOS DE GERENCIAMENTO DO CAMPO ==========
+
+    /**
+     * Remove todos os atores do campo.
+     * <p>
+     * Percorre apenas os blocos que receberam atores, devolvendo seus arrays
+     * para reaproveitamento. Terreno e vegetação não são afetados.
+     * </p>
+     */
+    @Override
+    public void limpar() {
+        for (int i = 0; i < quantidadeOcupados; i++) {
+            int bloco = blocosOcupados[i];
+            Object[] celulas = atores[bloco];
+            Arrays.fill(celulas, null);
+            blocosLivres.push(celulas);
+            atores[bloco] = null;
+        }
+        quantidadeOcupados = 0;
+        if (indiceEspacial != null) {
+            indiceEspacial.limpar();
+        }
+    }
+
+    // ========== MÉTODOS DE POSICIONAMENTO ==========
+
+    @Override
+    public void colocar(Object ator, Localizacao localizacao) {
+        colocar(ator, localizacao.getLinha(), localizacao.getColuna());
+    }
+
+    /**
+     * Coloca um ator em uma célula, alocando o bloco se necessário.
+     * <p>
+     * Colocar {@code null} esvazia a célula.
+     * </p>
+     *
+     * @param ator   Ator a ser posicionado, ou null
+     * @param linha  Coordenada Y (índice da linha)
+     * @param coluna Coordenada X (índice da coluna)
+     */
+    public void colocar(Object ator, int linha, int coluna) {
+        int bloco = blocoDe(linha, coluna, blocosPorLinha);
+        Object[] celulas = atores[bloco];
+        if (celulas == null) {
+            if (ator == null) {
+                return;
+            }
+            celulas = blocosLivres.isEmpty() ? new Object[CELULAS_POR_BLOCO] : blocosLivres.pop();
+            atores[bloco] = celulas;
+            if (quantidadeOcupados == blocosOcupados.length) {
+                blocosOcupados = Arrays.copyOf(blocosOcupados, quantidadeOcupados * 2);
+            }
+            blocosOcupados[quantidadeOcupados++] = bloco;
+        }
+        int celula = celulaDe(linha, coluna);
+        if (indiceEspacial != null) {
+            int indice = linha * largura + coluna;
+            if (celulas[celula] != null) {
+                indiceEspacial.remover(RegistroEspecies.ordinalDoObjeto(celulas[celula]), indice);
+            }
+            if (ator != null) {
+                indiceEspacial.inserir(RegistroEspecies.ordinalDoObjeto(ator), indice);
+            }
+        }
+        celulas[celula] = ator;
+    }
+
+    // ========== MÉTODOS DE CONSULTA ==========
+
+    @Override
+    public Object getObjetoEm(Localizacao localizacao) {
+        return getObjetoEm(localizacao.getLinha(), localizacao.getColuna());
+    }
+
+    /**
+     * Retorna o ator de uma célula ou, se não houver, o obstáculo do
+     * terreno.
+     *
+     * @param linha  Coordenada Y (índice da linha)
+     * @param coluna Coordenada X (índice da coluna)
+     * @return Ator ou obstáculo na posição, ou null se vazia
+     */
+    @Override
+    public Object getObjetoEm(int linha, int coluna) {
+        int bloco = blocoDe(linha, coluna, blocosPorLinha);
+        Object[] celulas = atores[bloco];
+        if (celulas != null) {
+            Object ator = celulas[celulaDe(linha, coluna)];
+            if (ator != null) {
+                return ator;
+            }
+        }
+        return obstaculoEm(bloco, linha, coluna);
+    }
+
+    @Override
+    public Object getObjetoNoIndice(long indice) {
+        int celula = (int) indice;
+        int linha = celula / largura;
+        return getObjetoEm(linha, celula - linha * largura);
+    }
+
+    @Override
+    public int getEspecieEm(int linha, int coluna) {
+        int bloco = blocoDe(linha, coluna, blocosPorLinha);
+        Object[] celulas = atores[bloco];
+        if (celulas != null) {
+            Object ator = celulas[celulaDe(linha, coluna)];
+            if (ator != null) {
+                return RegistroEspecies.ordinalDoObjeto(ator);
+            }
+        }
+        return obstaculoEm(bloco, linha, coluna) != null ? ESPECIE_OBSTACULO : RegistroEspecies.NENHUMA;
+    }
+
+    @Override
+    public boolean estaLivre(long indice) {
+        int celula = (int) indice;
+        int linha = celula / largura;
+        return estaLivre(linha, celula - linha * largura);
+    }
+
+    @Override
+    public boolean ehPescavel(long indice) {
+        int celula = (int) indice;
+        int linha = celula / largura;
+        int coluna = celula - linha * largura;
+        Obstaculo obstaculo = obstaculoEm(blocoDe(linha, coluna, blocosPorLinha), linha, coluna);
+        return obstaculo != null && obstaculo.podePescar();
+    }
+
+    /**
+     * Verifica se uma célula não tem ator nem obstáculo.
+     *
+     * @param linha  Coordenada Y (índice da linha)
+     * @param coluna Coordenada X (índice da coluna)
+     * @return true se a célula está livre
+     */
+    private boolean estaLivre(int linha, int coluna) {
+        int bloco = blocoDe(linha, coluna, blocosPorLinha);
+        Object[] celulas = atores[bloco];
+        if (celulas != null && celulas[celulaDe(linha, coluna)] != null) {
+            return false;
+        }
+        return obstaculoEm(bloco, linha, coluna) == null;
+    }
+
+    /**
+     * Retorna o obstáculo de uma célula do terreno.
+     *
+     * @param bloco  Número do bloco da célula
+     * @param linha  Coordenada Y (índice da linha)
+     * @param coluna Coordenada X (índice da coluna)
+     * @return Obstáculo, ou null se o terreno é livre
+     */
+    private Obstaculo obstaculoEm(int bloco, int linha, int coluna) {
+        Obstaculo[] misto = obstaculos[bloco];
+        if (misto != null) {
+            return misto[celulaDe(linha, coluna)];
+        }
+        return obstaculoUniforme[bloco];
+    }
+
+    // ========== MÉTODOS DE NAVEGAÇÃO ==========
+
+    /**
+     * Busca uma localização adjacente livre, sorteada com a mesma
+     * probabilidade entre as vizinhas livres; se não houver, tenta a própria
+     * posição.
+     *
+     * @param localizacao Posição central
+     * @return Localização livre, ou null se todas ocupadas
+     */
+    @Override
+    public Localizacao localizacaoAdjacenteLivre(Localizacao localizacao) {
+        int linha = localizacao.getLinha();
+        int coluna = localizacao.getColuna();
+        long livre = Vizinhanca.sortearLivre(this, linha, coluna, profundidade, largura, Aleatoriedade.gerador());
+        if (livre >= 0) {
+            return localizacaoDoIndice(livre);
+        }
+        return estaLivre(linha, coluna) ? localizacao : null;
+    }
+
+    @Override
+    public Iterator<Localizacao> localizacoesAdjacentes(Localizacao localizacao) {
+        return Vizinhanca.embaralhadas(localizacao.getLinha(), localizacao.getColuna(), profundidade, largura,
+                Aleatoriedade.gerador());
+    }
+
+    @Override
+    public long visitarAdjacentes(Localizacao localizacao, VisitanteVizinhanca visitante) {
+        return Vizinhanca.visitar(this, localizacao.getLinha(), localizacao.getColuna(), profundidade, largura,
+                Aleatoriedade.gerador(), visitante);
+    }
+
+    @Override
+    public long sortearAdjacenteDeEspecies(Localizacao localizacao, int[] especies, VisitanteVizinhanca aceitar) {
+        return Vizinhanca.sortearDeEspecies(this, localizacao.getLinha(), localizacao.getColuna(), profundidade,
+                largura, Aleatoriedade.gerador(), especies, aceitar);
+    }
+
+    @Override
+    public long buscarMaisProximaDeEspecies(Localizacao localizacao, int raio, int[] especies,
+            VisitanteVizinhanca aceitar) {
+        if (indiceEspacial == null) {
+            return -1;
+        }
+        return indiceEspacial.maisProxima(localizacao.getLinha(), localizacao.getColuna(), raio, especies,
+                (especie, indice) -> getEspecieEm(indice / largura, indice % largura) == especie
+                        && aceitar.visitar(this, indice));
+    }
+
+    @Override
+    public long indiceDe(Localizacao localizacao) {
+        return (long) localizacao.getLinha() * largura + localizacao.getColuna();
+    }
+
+    /**
+     * Converte um índice plano em localização, criando uma nova instância.
+     *
+     * @param indice Índice plano ({@code linha * largura + coluna})
+     * @return Localização correspondente
+     */
+    @Override
+    public Localizacao localizacaoDoIndice(long indice) {
+        int celula = (int) indice;
+        return new Localizacao(celula / largura, celula % largura);
+    }
+
+    /**
+     * Retorna a localização de uma célula, criando uma nova instância.
+     *
+     * @param linha  Coordenada Y (índice da linha)
+     * @param coluna Coordenada X (índice da coluna)
+     * @return Localização da célula
+     */
+    @Override
+    public Localizacao getLocalizacao(int linha, int coluna) {
+        return new Localizacao(linha, coluna);
+    }
+
+    // ========== GETTERS ==========
+
+    @Override
+    public int getProfundidade() {
+        return profundidade;
+    }
+
+    @Override
+    public int getLargura() {
+        return largura;
+    }
+
+    /**
+     * Retorna quantos blocos têm atores neste passo (para diagnóstico de
+     * memória).
+     *
+     * @return Número de blocos com array de atores
+     */
+    public int getBlocosOcupados() {
+        return quantidadeOcupados;
+    }
+}
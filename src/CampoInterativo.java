@@ -55,7 +55,20 @@ import java.util.Iterator;
  * </p>
  * <ul>
  * <li>{@link Campo} - Implementação principal do campo de simulação</li>
+ * <li>{@link CampoEmBlocos} - Campo esparso em blocos, para mapas muito
+ * grandes</li>
+ * <li>{@link CampoMapeado} - Camadas fora do heap, em arquivo mapeado</li>
  * </ul>
+ *
+ * <p>
+ * <strong>Índice Plano:</strong>
+ * </p>
+ * <p>
+ * As operações por índice usam {@code linha * largura + coluna} como
+ * {@code long}, para que um {@link CampoMapeado} possa ter mais de
+ * {@link Integer#MAX_VALUE} células. Os campos no heap continuam limitados
+ * a índices {@code int} e convertem o valor na entrada.
+ * </p>
  * 
  * @author Grupo 10
  * @version 1.0
@@ -112,8 +125,121 @@ public interface CampoInterativo {
      */
     Iterator<Localizacao> localizacoesAdjacentes(Localizacao localizacao);
 
+    /**
+     * Percorre as células adjacentes em ordem aleatória sem criar objetos.
+     * <p>
+     * Alternativa a {@link #localizacoesAdjacentes(Localizacao)} para os
+     * caminhos quentes da simulação (movimento, caça, pesca). Cada vizinha
+     * válida é entregue ao visitante como índice plano; a ordem é uma
+     * permutação aleatória uniforme, como no iterador embaralhado.
+     * </p>
+     *
+     * @param localizacao Posição central
+     * @param visitante   Critério de aceitação de uma célula vizinha
+     * @return Índice plano da primeira vizinha aceita, ou -1 se nenhuma foi
+     *         aceita
+     */
+    long visitarAdjacentes(Localizacao localizacao, VisitanteVizinhanca visitante);
+
+    /**
+     * Sorteia uma célula adjacente ocupada por uma das espécies informadas,
+     * confirmada pelo visitante.
+     * <p>
+     * Cada vizinha ocupada por uma espécie procurada tem a mesma chance de
+     * ser escolhida; as recusadas pelo visitante são descartadas e o sorteio
+     * continua entre as demais. Usado pelos predadores para achar presas.
+     * </p>
+     *
+     * @param localizacao Posição central
+     * @param especies    Ordinais ({@link RegistroEspecies}) das espécies
+     *                    procuradas
+     * @param aceitar     Confirmação de cada candidata
+     * @return Índice plano da vizinha escolhida, ou -1 se nenhuma foi aceita
+     */
+    long sortearAdjacenteDeEspecies(Localizacao localizacao, int[] especies, VisitanteVizinhanca aceitar);
+
+    /**
+     * Procura a célula mais próxima, dentro de um raio, ocupada por uma das
+     * espécies informadas e confirmada pelo visitante.
+     * <p>
+     * A distância é a de Chebyshev (vizinhança de Moore de raio
+     * {@code raio}); empates ficam com a célula de menor índice plano. A
+     * busca usa o {@link IndiceEspacial} do campo, com custo proporcional à
+     * ocupação dos baldes próximos. Usado pelos predadores para perseguir
+     * presas além das vizinhas; um campo sem índice (nenhuma espécie percebe
+     * além das vizinhas) não encontra nada.
+     * </p>
+     *
+     * @param localizacao Posição central (não é candidata)
+     * @param raio        Distância máxima, em células
+     * @param especies    Ordinais ({@link RegistroEspecies}) das espécies
+     *                    procuradas
+     * @param aceitar     Confirmação de cada candidata
+     * @return Índice plano da célula encontrada, ou -1 se nenhuma foi aceita
+     */
+    long buscarMaisProximaDeEspecies(Localizacao localizacao, int raio, int[] especies, VisitanteVizinhanca aceitar);
+
+    /**
+     * Converte uma localização no índice plano da célula
+     * ({@code linha * largura + coluna}).
+     *
+     * @param localizacao Posição a converter
+     * @return Índice plano correspondente
+     */
+    long indiceDe(Localizacao localizacao);
+
+    /**
+     * Converte um índice plano de célula em localização.
+     *
+     * @param indice Índice plano ({@code linha * largura + coluna})
+     * @return Localização correspondente
+     */
+    Localizacao localizacaoDoIndice(long indice);
+
+    /**
+     * Retorna o número de colunas, para andar entre índices planos sem
+     * passar por {@link Localizacao}.
+     *
+     * @return Largura do campo
+     */
+    int getLargura();
+
     // ========== MÉTODOS DE CONSULTA ==========
 
+    /**
+     * Retorna o objeto (ator ou obstáculo) em uma célula dada pelo índice
+     * plano.
+     * <p>
+     * Usado junto com {@link #visitarAdjacentes(Localizacao,
+     * VisitanteVizinhanca)}.
+     * </p>
+     *
+     * @param indice Índice plano da célula
+     * @return Objeto na célula, ou null se vazia
+     */
+    Object getObjetoNoIndice(long indice);
+
+    /**
+     * Verifica se uma célula pode receber um animal (sem ator e sem
+     * obstáculo).
+     * <p>
+     * Consulta ocupação e terreno separadamente, sem materializar o objeto
+     * da célula.
+     * </p>
+     *
+     * @param indice Índice plano da célula
+     * @return true se a célula está livre
+     */
+    boolean estaLivre(long indice);
+
+    /**
+     * Verifica se há um obstáculo pescável (rio) em uma célula.
+     *
+     * @param indice Índice plano da célula
+     * @return true se é possível pescar na célula
+     */
+    boolean ehPescavel(long indice);
+
     /**
      * Retorna o objeto (ator ou obstáculo) em uma célula específica.
      * <p>
@@ -206,4 +332,13 @@ public interface CampoInterativo {
      * @return Valor nutricional obtido (0 se não havia vegetação madura)
      */
     int comerGrama(Localizacao localizacao);
+
+    /**
+     * Retorna o campo de distâncias até a grama madura do mundo, seguido
+     * pelos herbívoros ao se mover.
+     *
+     * @return Gradiente compartilhado pelos campos do mundo, ou null se não
+     *         há forragem ({@link ParametrosSimulacao#getRaioForragem()} 0)
+     */
+    GradienteAlimento getGradienteAlimento();
 }
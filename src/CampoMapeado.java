@@ -0,0 +1,770 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * Campo de simulação cujas camadas de grade ficam fora do heap, em um arquivo
+ * mapeado em memória.
+ * <p>
+ * Ocupação, vegetação e terreno são gravados em uma {@link MemoriaMapeada},
+ * de modo que mundos com bilhões de células rodam com heap pequeno e o
+ * coletor de lixo não percorre arrays de células. No heap ficam apenas os
+ * atores vivos do passo (tabela de entidades, como em {@link Campo}).
+ * </p>
+ *
+ * <p>
+ * <strong>Formato do Arquivo:</strong>
+ * </p>
+ * <ol>
+ * <li>Cabeçalho de {@value #TAMANHO_CABECALHO} bytes: identificador,
+ * versão, profundidade, largura e crédito de crescimento da vegetação</li>
+ * <li>Terreno: um byte por célula (0 = livre, senão ordinal do
+ * {@link Obstaculo} + 1)</li>
+ * <li>Vegetação: um {@code int} por célula ({@link VegetacaoMapeada})</li>
+ * <li>Ocupação: dois blocos de um {@code int} por célula, um para cada campo
+ * do double buffering, com carimbos de época como em {@link Campo}</li>
+ * </ol>
+ *
+ * <p>
+ * <strong>Imagem do Mundo:</strong>
+ * </p>
+ * <p>
+ * Terreno e vegetação no arquivo sempre formam um estado completo; após
+ * {@link #sincronizar()} ele está no disco e pode ser reaberto com
+ * {@link #abrir(Path)}. O identificador do cabeçalho só é gravado quando o
+ * arquivo novo está pronto, de modo que uma criação interrompida não passa
+ * por imagem ({@link #ehImagem(Path, int, int)}). Os atores são objetos Java
+ * e não fazem parte da imagem: ao reabrir, o mundo começa sem animais. O
+ * mesmo vale para o {@link IndiceEspacial} das buscas por raio, mantido no
+ * heap quando o motor o fornece.
+ * </p>
+ *
+ * <p>
+ * O arquivo fica travado enquanto o mundo está aberto
+ * ({@link MemoriaMapeada}): dois mundos não podem usar o mesmo caminho ao
+ * mesmo tempo, e a tentativa falha com {@link IOException}.
+ * </p>
+ *
+ * <p>
+ * <strong>Tamanho do Mundo:</strong>
+ * </p>
+ * <p>
+ * Posições no arquivo e índices planos são {@code long}, então o mundo pode
+ * passar de {@link Integer#MAX_VALUE} células (50000x50000 ocupa cerca de
+ * 32 GB de arquivo esparso). {@link IndiceEspacial},
+ * {@link GradienteAlimento} e {@link Terreno} continuam indexados por
+ * {@code int} e só podem ser usados em mundos até esse limite.
+ * </p>
+ *
+ * @author Grupo 10
+ * @version 1.0
+ * @see CampoSimulacao
+ * @see MemoriaMapeada
+ * @see VegetacaoMapeada
+ */
+public class CampoMapeado implements CampoSimulacao {
+
+    // ========== ATRIBUTOS ESTÁTICOS ==========
+
+    /**
+     * Identificador gravado no início do arquivo ("PPOO").
+     */
+    private static final int IDENTIFICADOR = 0x4F4F5050;
+
+    /**
+     * Versão do formato do arquivo.
+     */
+    private static final int VERSAO = 1;
+
+    /**
+     * Tamanho do cabeçalho, em bytes.
+     */
+    public static final int TAMANHO_CABECALHO = 64;
+
+    /**
+     * Posição do crédito de crescimento da vegetação no cabeçalho.
+     */
+    private static final long POSICAO_CREDITO = 16;
+
+    /**
+     * Tipos de obstáculo, indexados pelo ordinal.
+     */
+    private static final Obstaculo[] TIPOS = Obstaculo.values();
+
+    /**
+     * Ordinal de {@link Obstaculo}, devolvido por
+     * {@link #getEspecieEm(int, int)} para células com obstáculo.
+     */
+    private static final int ESPECIE_OBSTACULO = RegistroEspecies.ordinalDe(Obstaculo.class);
+
+    /**
+     * Capacidade inicial da tabela de entidades.
+     */
+    private static final int CAPACIDADE_INICIAL = 64;
+
+    /**
+     * Época a partir da qual {@link #limpar()} zera a ocupação.
+     */
+    private static final int LIMITE_EPOCA = Integer.MAX_VALUE / 2;
+
+    // ========== ATRIBUTOS ==========
+
+    /**
+     * Número de linhas do campo (altura).
+     */
+    private final int profundidade;
+
+    /**
+     * Número de colunas do campo (largura).
+     */
+    private final int largura;
+
+    /**
+     * Memória mapeada do mundo, compartilhada pelos dois campos.
+     */
+    private final MemoriaMapeada memoria;
+
+    /**
+     * Posição do byte de terreno da célula 0.
+     */
+    private final long inicioTerreno;
+
+    /**
+     * Posição do carimbo de ocupação da célula 0 neste campo.
+     */
+    private final long inicioOcupacao;
+
+    /**
+     * Camada de vegetação, compartilhada pelos dois campos.
+     */
+    private final VegetacaoMapeada vegetacao;
+
+    /**
+     * Época atual: carimbos até este valor contam como célula vazia.
+     */
+    private int epocaBase;
+
+    /**
+     * Atores do passo, indexados pelo identificador (0 é sempre null).
+     */
+    private Object[] entidades;
+
+    /**
+     * Ordinal da espécie de cada entidade.
+     */
+    private int[] especies;
+
+    /**
+     * Próximo identificador livre.
+     */
+    private int proximoId;
+
+    /**
+     * Células de cada espécie no passo, em baldes; null se nenhuma espécie
+     * percebe além das vizinhas.
+     */
+    private IndiceEspacial indiceEspacial;
+
+    /**
+     * Distâncias até a grama madura, compartilhadas pelos campos do mundo;
+     * null se não há forragem.
+     */
+    private GradienteAlimento gradienteAlimento;
+
+    // ========== CONSTRUTORES ==========
+
+    /**
+     * Cria um novo arquivo de mundo a partir do terreno carregado e retorna
+     * o primeiro campo dele.
+     * <p>
+     * Um arquivo existente no mesmo caminho é sobrescrito; para continuar
+     * uma imagem gravada use {@link #abrir(Path, ParametrosSimulacao)}. O
+     * segundo campo do double buffering deve ser criado com
+     * {@link #CampoMapeado(CampoMapeado)}.
+     * </p>
+     *
+     * @param arquivo    Caminho do arquivo do mundo
+     * @param terreno    Terreno do mundo
+     * @param parametros Parâmetros de crescimento da vegetação
+     * @throws IOException se o arquivo estiver em uso ou não puder ser
+     *                     criado ou mapeado
+     */
+    public CampoMapeado(Path arquivo, Terreno terreno, ParametrosSimulacao parametros) throws IOException {
+        this(criarArquivo(arquivo, terreno.getProfundidade(), terreno.getLargura()), terreno.getProfundidade(),
+                terreno.getLargura(), parametros);
+        MapaBits intransitaveis = terreno.getIntransitaveis();
+        for (int i = intransitaveis.proximoLigado(0); i >= 0; i = intransitaveis.proximoLigado(i + 1)) {
+            memoria.gravarByte(inicioTerreno + i, (byte) (terreno.getObstaculo(i).ordinal() + 1));
+        }
+        concluirArquivo();
+    }
+
+    /**
+     * Cria um novo arquivo de mundo com terreno livre e retorna o primeiro
+     * campo dele.
+     * <p>
+     * Não precisa de um {@link Terreno}, portanto serve a mundos com mais de
+     * {@link Integer#MAX_VALUE} células. Um arquivo existente no mesmo
+     * caminho é sobrescrito.
+     * </p>
+     *
+     * @param arquivo      Caminho do arquivo do mundo
+     * @param profundidade Número de linhas
+     * @param largura      Número de colunas
+     * @param parametros   Parâmetros de crescimento da vegetação
+     * @throws IOException se o arquivo estiver em uso ou não puder ser
+     *                     criado ou mapeado
+     */
+    public CampoMapeado(Path arquivo, int profundidade, int largura, ParametrosSimulacao parametros)
+            throws IOException {
+        this(criarArquivo(arquivo, profundidade, largura), profundidade, largura, parametros);
+        concluirArquivo();
+    }
+
+    /**
+     * Cria um novo arquivo de mundo com os parâmetros padrão
+     * ({@link ParametrosSimulacao#padrao()}).
+     *
+     * @param arquivo Caminho do arquivo do mundo
+     * @param terreno Terreno do mundo
+     * @throws IOException se o arquivo estiver em uso ou não puder ser
+     *                     criado ou mapeado
+     * @see #CampoMapeado(Path, Terreno, ParametrosSimulacao)
+     */
+    public CampoMapeado(Path arquivo, Terreno terreno) throws IOException {
+        this(arquivo, terreno, ParametrosSimulacao.padrao());
+    }
+
+    /**
+     * Cria o segundo campo de um mundo, sobre o segundo bloco de ocupação do
+     * mesmo arquivo e compartilhando terreno e vegetação.
+     *
+     * @param outro Primeiro campo do mundo
+     */
+    public CampoMapeado(CampoMapeado outro) {
+        this(outro.memoria, outro.profundidade, outro.largura, 1, outro.vegetacao);
+    }
+
+    /**
+     * Construtor interno do primeiro campo, com vegetação nova sobre a
+     * memória.
+     *
+     * @param memoria      Memória mapeada do mundo
+     * @param profundidade Número de linhas
+     * @param largura      Número de colunas
+     * @param parametros   Parâmetros de crescimento da vegetação
+     */
+    private CampoMapeado(MemoriaMapeada memoria, int profundidade, int largura, ParametrosSimulacao parametros) {
+        this(memoria, profundidade, largura, 0, new VegetacaoMapeada(memoria, POSICAO_CREDITO,
+                inicioVegetacao(profundidade, largura), (long) profundidade * largura, parametros));
+    }
+
+    /**
+     * Construtor interno comum.
+     *
+     * @param memoria      Memória mapeada do mundo
+     * @param profundidade Número de linhas
+     * @param largura      Número de colunas
+     * @param buffer       Bloco de ocupação usado (0 ou 1)
+     * @param vegetacao    Camada de vegetação do mundo
+     */
+    private CampoMapeado(MemoriaMapeada memoria, int profundidade, int largura, int buffer,
+            VegetacaoMapeada vegetacao) {
+        this.memoria = memoria;
+        this.profundidade = profundidade;
+        this.largura = largura;
+        this.inicioTerreno = TAMANHO_CABECALHO;
+        this.inicioOcupacao = inicioVegetacao(profundidade, largura) + (1L + buffer) * 4L * profundidade * largura;
+        this.vegetacao = vegetacao;
+        this.epocaBase = 0;
+        this.entidades = new Object[CAPACIDADE_INICIAL];
+        this.especies = new int[CAPACIDADE_INICIAL];
+        this.especies[0] = RegistroEspecies.NENHUMA;
+        this.proximoId = 1;
+    }
+
+    /**
+     * Reabre a imagem de um mundo gravada por este campo.
+     * <p>
+     * Terreno e vegetação continuam de onde estavam; a ocupação é zerada,
+     * pois os atores não são persistidos. Como ela fica no fim do arquivo,
+     * basta truncá-lo e estendê-lo de novo, sem gravar os zeros.
+     * </p>
+     *
+     * @param arquivo    Caminho do arquivo do mundo
+     * @param parametros Parâmetros de crescimento da vegetação
+     * @return Primeiro campo do mundo reaberto
+     * @throws IOException se o arquivo não existir, estiver em uso, não
+     *                     puder ser mapeado ou não for um arquivo de mundo
+     */
+    public static CampoMapeado abrir(Path arquivo, ParametrosSimulacao parametros) throws IOException {
+        if (!Files.exists(arquivo)) {
+            throw new NoSuchFileException(arquivo.toString());
+        }
+        int[] dimensoes = lerDimensoes(arquivo);
+        if (dimensoes == null) {
+            throw new IOException("Arquivo de mundo inválido ou incompleto: " + arquivo);
+        }
+        int profundidade = dimensoes[0];
+        int largura = dimensoes[1];
+
+        long ocupacao = inicioVegetacao(profundidade, largura) + 4L * profundidade * largura;
+        MemoriaMapeada memoria = new MemoriaMapeada(arquivo, tamanhoArquivo(profundidade, largura), ocupacao);
+        return new CampoMapeado(memoria, profundidade, largura, parametros);
+    }
+
+    /**
+     * Reabre a imagem de um mundo com os parâmetros padrão
+     * ({@link ParametrosSimulacao#padrao()}).
+     *
+     * @param arquivo Caminho do arquivo do mundo
+     * @return Primeiro campo do mundo reaberto
+     * @throws IOException se o arquivo não existir, estiver em uso, não
+     *                     puder ser mapeado ou não for um arquivo de mundo
+     * @see #abrir(Path, ParametrosSimulacao)
+     */
+    public static CampoMapeado abrir(Path arquivo) throws IOException {
+        return abrir(arquivo, ParametrosSimulacao.padrao());
+    }
+
+    /**
+     * Verifica se um caminho guarda uma imagem completa de um mundo com as
+     * dimensões dadas, que pode ser reaberta com
+     * {@link #abrir(Path, ParametrosSimulacao)}.
+     *
+     * @param arquivo      Caminho do arquivo do mundo
+     * @param profundidade Número de linhas esperado
+     * @param largura      Número de colunas esperado
+     * @return true se o arquivo existe, foi concluído e tem essas dimensões
+     * @throws IOException se o arquivo existir mas não puder ser lido
+     */
+    public static boolean ehImagem(Path arquivo, int profundidade, int largura) throws IOException {
+        if (!Files.exists(arquivo)) {
+            return false;
+        }
+        int[] dimensoes = lerDimensoes(arquivo);
+        return dimensoes != null && dimensoes[0] == profundidade && dimensoes[1] == largura;
+    }
+
+    // ========== LAYOUT DO ARQUIVO ==========
+
+    /**
+     * Cria um arquivo de mundo vazio (zerado) e grava o cabeçalho, ainda
+     * sem o identificador ({@link #concluirArquivo()}).
+     *
+     * @param arquivo      Caminho do arquivo
+     * @param profundidade Número de linhas
+     * @param largura      Número de colunas
+     * @return Memória mapeada do arquivo
+     * @throws IOException se o arquivo estiver em uso ou não puder ser
+     *                     criado ou mapeado
+     */
+    private static MemoriaMapeada criarArquivo(Path arquivo, int profundidade, int largura) throws IOException {
+        if (profundidade <= 0 || largura <= 0) {
+            throw new IllegalArgumentException("Dimensões inválidas: " + profundidade + "x" + largura);
+        }
+        MemoriaMapeada memoria = new MemoriaMapeada(arquivo, tamanhoArquivo(profundidade, largura), 0);
+        memoria.gravarInt(4, VERSAO);
+        memoria.gravarInt(8, profundidade);
+        memoria.gravarInt(12, largura);
+        return memoria;
+    }
+
+    /**
+     * Marca o arquivo novo como imagem completa, gravando o identificador,
+     * e o sincroniza com o disco.
+     */
+    private void concluirArquivo() {
+        memoria.gravarInt(0, IDENTIFICADOR);
+        memoria.sincronizar();
+    }
+
+    /**
+     * Lê as dimensões de um arquivo de mundo, conferindo o cabeçalho e o
+     * tamanho do arquivo.
+     *
+     * @param arquivo Caminho de um arquivo existente
+     * @return Profundidade e largura, ou null se o arquivo não é uma imagem
+     *         completa de mundo
+     * @throws IOException se o arquivo não puder ser lido
+     */
+    private static int[] lerDimensoes(Path arquivo) throws IOException {
+        long tamanho = Files.size(arquivo);
+        if (tamanho < TAMANHO_CABECALHO) {
+            return null;
+        }
+        ByteBuffer cabecalho = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            while (cabecalho.hasRemaining()) {
+                canal.read(cabecalho, cabecalho.position());
+            }
+        }
+        int profundidade = cabecalho.getInt(8);
+        int largura = cabecalho.getInt(12);
+        if (cabecalho.getInt(0) != IDENTIFICADOR || cabecalho.getInt(4) != VERSAO || profundidade <= 0
+                || largura <= 0 || tamanho != tamanhoArquivo(profundidade, largura)) {
+            return null;
+        }
+        return new int[] { profundidade, largura };
+    }
+
+    /**
+     * Posição da camada de vegetação: logo após o terreno, alinhada em 8
+     * bytes.
+     *
+     * @param profundidade Número de linhas
+     * @param largura      Número de colunas
+     * @return Posição em bytes
+     */
+    private static long inicioVegetacao(int profundidade, int largura) {
+        return (TAMANHO_CABECALHO + (long) profundidade * largura + 7) & ~7L;
+    }
+
+    /**
+     * Tamanho total do arquivo de um mundo.
+     *
+     * @param profundidade Número de linhas
+     * @param largura      Número de colunas
+     * @return Tamanho em bytes
+     */
+    private static long tamanhoArquivo(int profundidade, int largura) {
+        return inicioVegetacao(profundidade, largura) + 3L * 4L * profundidade * largura;
+    }
+
+    // ========== MÉTODOS DE VEGETAÇÃO ==========
+
+    @Override
+    public void crescerGrama() {
+        vegetacao.crescer();
+    }
+
+    @Override
+    public int comerGrama(Localizacao localizacao) {
+        long indice = indiceDe(localizacao);
+        if (gradienteAlimento != null && vegetacao.estaMadura(indice)) {
+            gradienteAlimento.registrarComida((int) indice);
+        }
+        return vegetacao.comer(indice);
+    }
+
+    @Override
+    public boolean temGramaMadura(int linha, int coluna) {
+        return vegetacao.estaMadura((long) linha * largura + coluna);
+    }
+
+    @Override
+    public void copiarGramaDe(CampoSimulacao outroCampo) {
+        vegetacao.copiarDe(outroCampo.getVegetacao());
+    }
+
+    @Override
+    public CamadaVegetacao getVegetacao() {
+        return vegetacao;
+    }
+
+    /**
+     * Associa ao campo o gradiente de alimento do mundo, que é indexado por
+     * {@code int}.
+     *
+     * @param gradiente Gradiente compartilhado pelos campos do mundo, ou
+     *                  null para desligar a forragem
+     * @throws IllegalArgumentException se o mundo tiver mais de
+     *                                  {@link Integer#MAX_VALUE} células
+     */
+    @Override
+    public void usarGradienteAlimento(GradienteAlimento gradiente) {
+        if (gradiente != null) {
+            exigirIndiceInt("gradiente de alimento");
+        }
+        this.gradienteAlimento = gradiente;
+    }
+
+    /**
+     * Associa ao campo um índice espacial próprio, que é indexado por
+     * {@code int}.
+     *
+     * @param indice Índice com as dimensões do campo, ou null para não
+     *               manter índice
+     * @throws IllegalArgumentException se o mundo tiver mais de
+     *                                  {@link Integer#MAX_VALUE} células
+     */
+    @Override
+    public void usarIndiceEspacial(IndiceEspacial indice) {
+        if (indice != null) {
+            exigirIndiceInt("índice espacial");
+        }
+        this.indiceEspacial = indice;
+    }
+
+    /**
+     * Recusa estruturas indexadas por {@code int} em mundos maiores que esse
+     * índice.
+     *
+     * @param estrutura Nome da estrutura, para a mensagem de erro
+     * @throws IllegalArgumentException se o mundo tiver mais de
+     *                                  {@link Integer#MAX_VALUE} células
+     */
+    private void exigirIndiceInt(String estrutura) {
+        if ((long) profundidade * largura > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Mundo grande demais para " + estrutura + ": " + profundidade + "x"
+                    + largura);
+        }
+    }
+
+    @Override
+    public GradienteAlimento getGradienteAlimento() {
+        return gradienteAlimento;
+    }
+
+    // ========== MÉTODOS DE GERENCIAMENTO DO CAMPO ==========
+
+    /**
+     * Remove todos os atores do campo iniciando uma nova época de ocupação,
+     * sem tocar no arquivo (a não ser quando a época precisa recomeçar).
+     */
+    @Override
+    public void limpar() {
+        if (indiceEspacial != null) {
+            indiceEspacial.limpar();
+        }
+        Arrays.fill(entidades, 1, proximoId, null);
+        epocaBase += proximoId - 1;
+        proximoId = 1;
+        if (epocaBase >= LIMITE_EPOCA) {
+            memoria.preencherInt(inicioOcupacao, (long) profundidade * largura, 0);
+            epocaBase = 0;
+        }
+    }
+
+    /**
+     * Força a gravação no disco do estado atual do arquivo do mundo.
+     */
+    public void sincronizar() {
+        memoria.sincronizar();
+    }
+
+    /**
+     * Sincroniza e fecha o arquivo do mundo. Afeta os dois campos.
+     *
+     * @throws IOException se o arquivo não puder ser fechado
+     */
+    public void fechar() throws IOException {
+        memoria.close();
+    }
+
+    /**
+     * Regrava a camada de terreno do arquivo, célula a célula, com o terreno
+     * dado (por exemplo, o mapa carregado ao reabrir uma imagem). A
+     * vegetação é mantida.
+     *
+     * @param terreno Terreno com as dimensões deste mundo
+     * @throws IllegalArgumentException se as dimensões forem diferentes
+     */
+    public void gravarTerreno(Terreno terreno) {
+        if (terreno.getProfundidade() != profundidade || terreno.getLargura() != largura) {
+            throw new IllegalArgumentException("Terreno de outro tamanho: " + terreno.getProfundidade() + "x"
+                    + terreno.getLargura());
+        }
+        int celulas = profundidade * largura;
+        for (int i = 0; i < celulas; i++) {
+            Obstaculo obstaculo = terreno.getObstaculo(i);
+            memoria.gravarByte(inicioTerreno + i, obstaculo == null ? 0 : (byte) (obstaculo.ordinal() + 1));
+        }
+    }
+
+    /**
+     * Monta um {@link Terreno} com os obstáculos gravados no arquivo, para
+     * as estruturas que precisam dele (como o {@link GradienteAlimento} de
+     * uma imagem reaberta).
+     *
+     * @return Terreno do mundo
+     * @throws IllegalArgumentException se o mundo tiver mais de
+     *                                  {@link Integer#MAX_VALUE} células
+     */
+    public Terreno lerTerreno() {
+        exigirIndiceInt("terreno");
+        Obstaculo[][] mapa = new Obstaculo[profundidade][largura];
+        for (int linha = 0; linha < profundidade; linha++) {
+            for (int coluna = 0; coluna < largura; coluna++) {
+                mapa[linha][coluna] = obstaculoNoIndice((long) linha * largura + coluna);
+            }
+        }
+        return new Terreno(mapa);
+    }
+
+    // ========== MÉTODOS DE POSICIONAMENTO ==========
+
+    @Override
+    public void colocar(Object ator, Localizacao localizacao) {
+        colocarNoIndice(ator, indiceDe(localizacao));
+    }
+
+    /**
+     * Registra o ator na tabela de entidades e grava seu carimbo na célula.
+     * Colocar {@code null} esvazia a célula.
+     *
+     * @param ator   Ator a ser posicionado, ou null
+     * @param indice Índice plano da célula
+     */
+    private void colocarNoIndice(Object ator, long indice) {
+        long posicao = inicioOcupacao + 4L * indice;
+        int anterior = idNaCelula(indice);
+        if (anterior != 0 && indiceEspacial != null) {
+            indiceEspacial.remover(especies[anterior], (int) indice);
+        }
+        if (ator == null) {
+            memoria.gravarInt(posicao, epocaBase);
+            return;
+        }
+        if (proximoId == entidades.length) {
+            entidades = Arrays.copyOf(entidades, proximoId * 2);
+            especies = Arrays.copyOf(especies, proximoId * 2);
+        }
+        int id = proximoId++;
+        entidades[id] = ator;
+        especies[id] = RegistroEspecies.ordinalDoObjeto(ator);
+        memoria.gravarInt(posicao, epocaBase + id);
+        if (indiceEspacial != null) {
+            indiceEspacial.inserir(especies[id], (int) indice);
+        }
+    }
+
+    /**
+     * Retorna o identificador da entidade em uma célula na época atual.
+     *
+     * @param indice Índice plano da célula
+     * @return Identificador, ou 0 se a célula está vazia nesta época
+     */
+    private int idNaCelula(long indice) {
+        int id = memoria.lerInt(inicioOcupacao + 4L * indice) - epocaBase;
+        return id > 0 ? id : 0;
+    }
+
+    /**
+     * Retorna o obstáculo do terreno em uma célula.
+     *
+     * @param indice Índice plano da célula
+     * @return Obstáculo, ou null se o terreno é livre
+     */
+    private Obstaculo obstaculoNoIndice(long indice) {
+        int tipo = memoria.lerByte(inicioTerreno + indice);
+        return tipo == 0 ? null : TIPOS[tipo - 1];
+    }
+
+    // ========== MÉTODOS DE CONSULTA ==========
+
+    @Override
+    public Object getObjetoEm(Localizacao localizacao) {
+        return getObjetoNoIndice(indiceDe(localizacao));
+    }
+
+    @Override
+    public Object getObjetoEm(int linha, int coluna) {
+        return getObjetoNoIndice((long) linha * largura + coluna);
+    }
+
+    @Override
+    public Object getObjetoNoIndice(long indice) {
+        int id = idNaCelula(indice);
+        if (id != 0) {
+            return entidades[id];
+        }
+        return obstaculoNoIndice(indice);
+    }
+
+    @Override
+    public int getEspecieEm(int linha, int coluna) {
+        long indice = (long) linha * largura + coluna;
+        int id = idNaCelula(indice);
+        if (id == 0 && memoria.lerByte(inicioTerreno + indice) != 0) {
+            return ESPECIE_OBSTACULO;
+        }
+        return especies[id];
+    }
+
+    @Override
+    public boolean estaLivre(long indice) {
+        return idNaCelula(indice) == 0 && memoria.lerByte(inicioTerreno + indice) == 0;
+    }
+
+    @Override
+    public boolean ehPescavel(long indice) {
+        Obstaculo obstaculo = obstaculoNoIndice(indice);
+        return obstaculo != null && obstaculo.podePescar();
+    }
+
+    // ========== MÉTODOS DE NAVEGAÇÃO ==========
+
+    @Override
+    public Localizacao localizacaoAdjacenteLivre(Localizacao localizacao) {
+        int linha = localizacao.getLinha();
+        int coluna = localizacao.getColuna();
+        long livre = Vizinhanca.sortearLivre(this, linha, coluna, profundidade, largura, Aleatoriedade.gerador());
+        if (livre >= 0) {
+            return localizacaoDoIndice(livre);
+        }
+        return estaLivre((long) linha * largura + coluna) ? localizacao : null;
+    }
+
+    @Override
+    public Iterator<Localizacao> localizacoesAdjacentes(Localizacao localizacao) {
+        return Vizinhanca.embaralhadas(localizacao.getLinha(), localizacao.getColuna(), profundidade, largura,
+                Aleatoriedade.gerador());
+    }
+
+    @Override
+    public long visitarAdjacentes(Localizacao localizacao, VisitanteVizinhanca visitante) {
+        return Vizinhanca.visitar(this, localizacao.getLinha(), localizacao.getColuna(), profundidade, largura,
+                Aleatoriedade.gerador(), visitante);
+    }
+
+    @Override
+    public long sortearAdjacenteDeEspecies(Localizacao localizacao, int[] especies, VisitanteVizinhanca aceitar) {
+        return Vizinhanca.sortearDeEspecies(this, localizacao.getLinha(), localizacao.getColuna(), profundidade,
+                largura, Aleatoriedade.gerador(), especies, aceitar);
+    }
+
+    @Override
+    public long buscarMaisProximaDeEspecies(Localizacao localizacao, int raio, int[] procuradas,
+            VisitanteVizinhanca aceitar) {
+        if (indiceEspacial == null) {
+            return -1;
+        }
+        return indiceEspacial.maisProxima(localizacao.getLinha(), localizacao.getColuna(), raio, procuradas,
+                (especie, indice) -> especies[idNaCelula(indice)] == especie && aceitar.visitar(this, indice));
+    }
+
+    @Override
+    public long indiceDe(Localizacao localizacao) {
+        return (long) localizacao.getLinha() * largura + localizacao.getColuna();
+    }
+
+    @Override
+    public Localizacao localizacaoDoIndice(long indice) {
+        return new Localizacao((int) (indice / largura), (int) (indice % largura));
+    }
+
+    @Override
+    public Localizacao getLocalizacao(int linha, int coluna) {
+        return new Localizacao(linha, coluna);
+    }
+
+    // ========== GETTERS ==========
+
+    @Override
+    public int getProfundidade() {
+        return profundidade;
+    }
+
+    @Override
+    public int getLargura() {
+        return largura;
+    }
+}
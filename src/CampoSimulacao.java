@@ -0,0 +1,96 @@
+/**
+ * Interface que reúne tudo o que o {@link Simulador} precisa de um campo.
+ * <p>
+ * Combina a leitura usada pela visualização ({@link GradeVisualizavel}) e a
+ * interação usada pelos atores ({@link CampoInterativo}) com as operações de
+ * turno que só o simulador executa (crescimento e cópia da vegetação no
+ * double buffering). Permite trocar a forma de armazenamento do mundo sem
+ * alterar simulador, atores ou visualização.
+ * </p>
+ *
+ * <p>
+ * <strong>Implementações:</strong>
+ * </p>
+ * <ul>
+ * <li>{@link Campo} - Grade plana em memória, indicada para mapas comuns</li>
+ * <li>{@link CampoEmBlocos} - Blocos alocados sob demanda, para mapas muito
+ * grandes com população esparsa</li>
+ * <li>{@link CampoMapeado} - Camadas fora do heap em um arquivo mapeado,
+ * para mundos maiores que o heap</li>
+ * </ul>
+ *
+ * @author Grupo 10
+ * @version 1.0
+ * @see Simulador
+ * @see GradeVisualizavel
+ * @see CampoInterativo
+ */
+public interface CampoSimulacao extends GradeVisualizavel, CampoInterativo {
+
+    // ========== MÉTODOS DE VEGETAÇÃO ==========
+
+    /**
+     * Avança um nível de crescimento da vegetação em todo o campo.
+     * <p>
+     * Chamado uma vez por turno em clima normal e duas em clima chuvoso.
+     * </p>
+     */
+    void crescerGrama();
+
+    /**
+     * Copia o estado de vegetação de outro campo do mesmo mundo.
+     * <p>
+     * Sem custo quando os dois campos compartilham a mesma camada.
+     * </p>
+     *
+     * @param outroCampo Campo fonte (mesmas dimensões)
+     */
+    void copiarGramaDe(CampoSimulacao outroCampo);
+
+    /**
+     * Retorna a camada de vegetação usada por este campo.
+     *
+     * @return Camada de vegetação
+     */
+    CamadaVegetacao getVegetacao();
+
+    /**
+     * Associa ao campo o gradiente de alimento do mundo, que passa a
+     * receber as células de grama comidas neste campo.
+     *
+     * @param gradiente Gradiente compartilhado pelos campos do mundo, ou
+     *                  null para desligar a forragem
+     */
+    void usarGradienteAlimento(GradienteAlimento gradiente);
+
+    /**
+     * Associa ao campo um índice espacial próprio, que passa a acompanhar
+     * as células ocupadas e atende
+     * {@link CampoInterativo#buscarMaisProximaDeEspecies}.
+     * <p>
+     * Só é preciso quando alguma espécie percebe além das vizinhas; sem
+     * índice o campo não paga a manutenção dos baldes. Deve ser chamado com
+     * o campo vazio.
+     * </p>
+     *
+     * @param indice Índice com as dimensões do campo, ou null para não
+     *               manter índice
+     */
+    void usarIndiceEspacial(IndiceEspacial indice);
+
+    // ========== MÉTODOS DE CONSULTA ==========
+
+    /**
+     * Retorna a localização de uma célula.
+     * <p>
+     * Implementações podem devolver sempre a mesma instância para a mesma
+     * posição; quem compara localizações deve usar
+     * {@link Localizacao#equals(Object)}.
+     * </p>
+     *
+     * @param linha  Coordenada Y (índice da linha)
+     * @param coluna Coordenada X (índice da coluna)
+     * @return Localização da célula
+     */
+    Localizacao getLocalizacao(int linha, int coluna);
+}
@@ -1,4 +1,5 @@
-import java.util.Random;
+import java.util.SplittableRandom;
+
 
 /**
  * Classe que gerencia o sistema climático da simulação.
@@ -24,7 +25,7 @@ import java.util.Random;
  * <ol>
  * <li>Contador incrementa a cada turno de simulação</li>
  * <li>Ao atingir número configurável de ciclos, verifica mudança</li>
- * <li>50% de chance de alternar entre NORMAL ↔ CHUVOSO</li>
+ * <li>Probabilidade configurável (padrão 50%) de alternar entre NORMAL ↔ CHUVOSO</li>
  * <li>Contador é resetado após mudança</li>
  * </ol>
  * 
@@ -43,7 +44,7 @@ import java.util.Random;
  * 
  * @author Grupo 10
  * @version 1.0
- * @see Vegetacao
+ * @see VegetacaoPreguicosa
  * @see Campo
  * @see Simulador
  */
@@ -76,9 +77,10 @@ public class Clima {
     private EstadoClima estadoAtual;
 
     /**
-     * Gerador de números aleatórios para determinar mudanças climáticas.
+     * Fluxo de números aleatórios que decide as mudanças climáticas,
+     * dividido da raiz de {@link Aleatoriedade} a cada reinício.
      */
-    private Random aleatorio;
+    private SplittableRandom aleatorio;
 
     /**
      * Contador de ciclos desde a última mudança de clima.
@@ -92,40 +94,62 @@ public class Clima {
 
     /**
      * Probabilidade de mudança climática quando o contador atinge o limite.
-     * <p>
-     * Valor fixo de 50% cria equilíbrio entre estabilidade e variação.
-     * </p>
      */
-    private static final double PROBABILIDADE_MUDANCA = 0.5;
+    private final double probabilidadeMudanca;
 
     // ========== CONSTRUTORES ==========
 
     /**
-     * Cria um sistema de clima com período de verificação customizado.
+     * Cria um sistema de clima com período e probabilidade de mudança
+     * customizados.
      * <p>
      * O clima inicia sempre em estado NORMAL. Mudanças ocorrem apenas
-     * após o período especificado, com 50% de probabilidade.
+     * após o período especificado, com a probabilidade informada.
      * </p>
      * 
-     * @param ciclosParaMudanca Número de turnos entre verificações de mudança
-     *                          climática
+     * @param ciclosParaMudanca    Número de turnos entre verificações de
+     *                             mudança climática
+     * @param probabilidadeMudanca Probabilidade de mudança em cada verificação
      */
-    public Clima(int ciclosParaMudanca) {
-        this.aleatorio = new Random();
+    public Clima(int ciclosParaMudanca, double probabilidadeMudanca) {
+        this.aleatorio = Aleatoriedade.dividir();
         this.estadoAtual = EstadoClima.NORMAL;
         this.ciclosParaMudanca = ciclosParaMudanca;
+        this.probabilidadeMudanca = probabilidadeMudanca;
         this.ciclosDesdeUltimaMudanca = 0;
     }
 
     /**
-     * Cria um sistema de clima com período padrão de 50 ciclos.
+     * Cria um sistema de clima com os parâmetros de um mundo.
+     * 
+     * @param parametros Parâmetros da simulação
+     */
+    public Clima(ParametrosSimulacao parametros) {
+        this(parametros.getCiclosMudancaClima(), parametros.getProbabilidadeMudancaClima());
+    }
+
+    /**
+     * Cria um sistema de clima com período de verificação customizado e
+     * probabilidade padrão de mudança
+     * ({@link Configuracao#PROBABILIDADE_MUDANCA_CLIMA}).
+     * 
+     * @param ciclosParaMudanca Número de turnos entre verificações de mudança
+     *                          climática
+     */
+    public Clima(int ciclosParaMudanca) {
+        this(ciclosParaMudanca, Configuracao.PROBABILIDADE_MUDANCA_CLIMA);
+    }
+
+    /**
+     * Cria um sistema de clima com período padrão
+     * ({@link Configuracao#CICLOS_MUDANCA_CLIMA}).
      * <p>
      * Construtor de conveniência que usa valor padrão balanceado
      * para frequência de mudanças climáticas.
      * </p>
      */
     public Clima() {
-        this(50);
+        this(Configuracao.CICLOS_MUDANCA_CLIMA);
     }
 
     // ========== MÉTODOS DE ATUALIZAÇÃO ==========
@@ -138,7 +162,7 @@ public class Clima {
      * <li>Incrementa contador de ciclos</li>
      * <li>Se atingiu limite configurado:
      * <ul>
-     * <li>Testa probabilidade de 50%</li>
+     * <li>Testa a probabilidade de mudança</li>
      * <li>Se sucesso: alterna estado (NORMAL ↔ CHUVOSO)</li>
      * <li>Reseta contador</li>
      * </ul>
@@ -154,7 +178,7 @@ public class Clima {
         ciclosDesdeUltimaMudanca++;
 
         if (ciclosDesdeUltimaMudanca >= ciclosParaMudanca) {
-            if (aleatorio.nextDouble() <= PROBABILIDADE_MUDANCA) {
+            if (aleatorio.nextDouble() <= probabilidadeMudanca) {
                 mudarClima();
                 ciclosDesdeUltimaMudanca = 0;
             }
@@ -223,11 +247,13 @@ public class Clima {
     /**
      * Reinicia o sistema climático para o estado inicial.
      * <p>
-     * Restaura clima para NORMAL e reseta contador de ciclos.
+     * Restaura clima para NORMAL, reseta contador de ciclos e divide um
+     * novo fluxo de sorteios da raiz (já semeada para a nova execução).
      * Usado ao reiniciar a simulação.
      * </p>
      */
     public void reiniciar() {
+        this.aleatorio = Aleatoriedade.dividir();
         this.estadoAtual = EstadoClima.NORMAL;
         this.ciclosDesdeUltimaMudanca = 0;
     }
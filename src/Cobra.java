@@ -10,7 +10,7 @@
  * <strong>Características da Cobra:</strong>
  * </p>
  * <ul>
- * <li><strong>Dieta:</strong> Ratos e Coelhos</li>
+ * <li><strong>Dieta padrão:</strong> Ratos e Coelhos ({@code cobra.dieta})</li>
  * <li><strong>Predadores Naturais:</strong> Ursos</li>
  * <li><strong>Comportamento:</strong> Caça oportunista, reprodução
  * moderada</li>
@@ -51,20 +51,17 @@
  * @see Predador
  * @see Rato
  * @see Coelho
- * @see Configuracao
+ * @see ParametrosSimulacao
  */
 public class Cobra extends Predador {
 
     // ========== CONSTRUTOR ==========
 
     /**
-     * Cria uma nova instância de cobra com dieta generalista.
+     * Cria uma nova instância de cobra.
      * <p>
-     * A dieta é configurada automaticamente no construtor, incluindo:
-     * <ul>
-     * <li>Ratos - presa pequena de fácil captura</li>
-     * <li>Coelhos - presa maior com mais valor nutricional</li>
-     * </ul>
+     * As presas (por padrão ratos e coelhos) vêm da teia alimentar dos
+     * parâmetros, compartilhada por todas as cobras.
      * </p>
      * <p>
      * A idade inicial pode ser:
@@ -74,13 +71,12 @@ public class Cobra extends Predador {
      * </ul>
      * </p>
      * 
+     * @param parametros     Parâmetros do mundo
      * @param idadeAleatoria Se true, a idade será aleatória entre 0 e idade máxima;
      *                       se false, a idade será zero (recém-nascido)
      */
-    public Cobra(boolean idadeAleatoria) {
-        super(idadeAleatoria);
-        dieta.put(Rato.class, Configuracao.VALOR_NUTRICIONAL_RATO);
-        dieta.put(Coelho.class, Configuracao.VALOR_NUTRICIONAL_COELHO);
+    public Cobra(ParametrosSimulacao parametros, boolean idadeAleatoria) {
+        super(parametros, idadeAleatoria);
     }
 
     // ========== MÉTODOS DE REPRODUÇÃO ==========
@@ -91,7 +87,6 @@ public class Cobra extends Predador {
      * O filhote nasce com:
      * <ul>
      * <li>Idade zero (recém-nascido)</li>
-     * <li>Dieta generalista já configurada</li>
      * <li>Nível de alimento inicial padrão</li>
      * </ul>
      * </p>
@@ -100,69 +95,6 @@ public class Cobra extends Predador {
      */
     @Override
     public Predador criarFilho() {
-        return new Cobra(false);
-    }
-
-    // ========== MÉTODOS DE CONFIGURAÇÃO (da superclasse) ==========
-
-    /**
-     * Retorna a idade máxima que uma cobra pode atingir.
-     * <p>
-     * Cobras têm expectativa de vida moderada (80 passos), permitindo
-     * múltiplos ciclos reprodutivos durante a vida.
-     * </p>
-     * 
-     * @return Idade máxima em passos de simulação
-     * @see Configuracao#IDADE_MAX_COBRA
-     */
-    @Override
-    protected int idadeMaxima() {
-        return Configuracao.IDADE_MAX_COBRA;
-    }
-
-    /**
-     * Retorna a idade em que a cobra atinge maturidade sexual.
-     * <p>
-     * Cobras amadurecem relativamente rápido (8 passos), começando
-     * a reproduzir antes que predadores maiores.
-     * </p>
-     * 
-     * @return Idade reprodutiva em passos de simulação
-     * @see Configuracao#IDADE_REPROD_COBRA
-     */
-    @Override
-    protected int getIdadeReprodutiva() {
-        return Configuracao.IDADE_REPROD_COBRA;
-    }
-
-    /**
-     * Retorna a probabilidade de reprodução por passo.
-     * <p>
-     * Cobras têm probabilidade de reprodução moderada-alta (10%),
-     * compensando predação por ursos e competição com raposas.
-     * </p>
-     * 
-     * @return Probabilidade entre 0.0 e 1.0
-     * @see Configuracao#PROB_REPROD_COBRA
-     */
-    @Override
-    protected double probabilidadeReproducao() {
-        return Configuracao.PROB_REPROD_COBRA;
-    }
-
-    /**
-     * Retorna o número máximo de filhotes em um único nascimento.
-     * <p>
-     * Cobras podem ter ninhadas relativamente grandes (até 4 filhotes),
-     * estratégia que favorece rápida recuperação populacional.
-     * O número real pode ser menor dependendo do espaço disponível.
-     * </p>
-     * 
-     * @return Tamanho máximo da ninhada
-     * @see Configuracao#MAX_NINHADA_COBRA
-     */
-    @Override
-    protected int tamanhoMaximoNinhada() {
-        return Configuracao.MAX_NINHADA_COBRA;
+        return new Cobra(getParametros(), false);
     }
 }
\ No newline at end of file
@@ -51,7 +51,7 @@
  * @author Grupo 10
  * @version 2002-04-11 (traduzido e expandido)
  * @see Herbivoro
- * @see Configuracao
+ * @see ParametrosSimulacao
  */
 public class Coelho extends Herbivoro {
 
@@ -72,11 +72,12 @@ public class Coelho extends Herbivoro {
      * </ul>
      * </p>
      * 
+     * @param parametros     Parâmetros do mundo
      * @param idadeAleatoria Se true, a idade será aleatória entre 0 e idade máxima;
      *                       se false, a idade será zero (recém-nascido)
      */
-    public Coelho(boolean idadeAleatoria) {
-        super(idadeAleatoria);
+    public Coelho(ParametrosSimulacao parametros, boolean idadeAleatoria) {
+        super(parametros, idadeAleatoria);
     }
 
     // ========== MÉTODOS DE REPRODUÇÃO ==========
@@ -96,69 +97,6 @@ public class Coelho extends Herbivoro {
      */
     @Override
     public Herbivoro criarFilho() {
-        return new Coelho(false);
-    }
-
-    // ========== MÉTODOS DE CONFIGURAÇÃO (da superclasse) ==========
-
-    /**
-     * Retorna a idade máxima que um coelho pode atingir.
-     * <p>
-     * Coelhos têm expectativa de vida moderada, equilibrando tempo
-     * suficiente para reprodução com renovação populacional.
-     * </p>
-     * 
-     * @return Idade máxima em passos de simulação
-     * @see Configuracao#IDADE_MAX_COELHO
-     */
-    @Override
-    protected int idadeMaxima() {
-        return Configuracao.IDADE_MAX_COELHO;
-    }
-
-    /**
-     * Retorna a idade em que o coelho atinge maturidade sexual.
-     * <p>
-     * Coelhos amadurecem relativamente rápido, permitindo
-     * rápido crescimento populacional quando há recursos disponíveis.
-     * </p>
-     * 
-     * @return Idade reprodutiva em passos de simulação
-     * @see Configuracao#IDADE_REPROD_COELHO
-     */
-    @Override
-    protected int getIdadeReprodutiva() {
-        return Configuracao.IDADE_REPROD_COELHO;
-    }
-
-    /**
-     * Retorna a probabilidade de reprodução por passo.
-     * <p>
-     * Coelhos têm probabilidade de reprodução alta (15%), característica
-     * de espécies que compensam alta taxa de predação com reprodução rápida.
-     * </p>
-     * 
-     * @return Probabilidade entre 0.0 e 1.0
-     * @see Configuracao#PROB_REPROD_COELHO
-     */
-    @Override
-    protected double probabilidadeReproducao() {
-        return Configuracao.PROB_REPROD_COELHO;
-    }
-
-    /**
-     * Retorna o número máximo de filhotes em um único nascimento.
-     * <p>
-     * Coelhos podem ter ninhadas grandes (até 5 filhotes), estratégia
-     * típica de presas que precisam manter população apesar da predação intensa.
-     * O número real pode ser menor dependendo do espaço disponível.
-     * </p>
-     * 
-     * @return Tamanho máximo da ninhada
-     * @see Configuracao#MAX_NINHADA_COELHO
-     */
-    @Override
-    protected int tamanhoMaximoNinhada() {
-        return Configuracao.MAX_NINHADA_COELHO;
+        return new Coelho(getParametros(), false);
     }
 }
\ No newline at end of file
@@ -12,9 +12,12 @@
  * </p>
  * <ul>
  * <li><strong>Dimensões do Campo:</strong> Tamanho da grade de simulação</li>
+ * <li><strong>Execução:</strong> Paralelismo do passo e semente dos
+ * sorteios</li>
  * <li><strong>População Inicial:</strong> Probabilidades de spawn para cada
  * espécie</li>
  * <li><strong>Vegetação:</strong> Crescimento e valor nutricional</li>
+ * <li><strong>Clima:</strong> Frequência das mudanças climáticas</li>
  * <li><strong>Espécies:</strong> Parâmetros de vida, reprodução e
  * alimentação</li>
  * </ul>
@@ -31,6 +34,12 @@
  * <li>Documentação clara de valores padrão</li>
  * </ul>
  * </p>
+ * <p>
+ * Os parâmetros ecológicos (população inicial, vegetação, clima e espécies)
+ * são os valores padrão de {@link ParametrosSimulacao}, que a simulação lê
+ * em tempo de execução e que podem ser sobrescritos por um arquivo. As
+ * demais constantes valem para toda a JVM.
+ * </p>
  * 
  * <p>
  * <strong>Guia de Balanceamento:</strong>
@@ -94,6 +103,98 @@ public abstract class Configuracao {
      */
     public static final int PROFUNDIDADE_PADRAO = 75;
 
+    /**
+     * Seleciona o armazenamento padrão do mundo
+     * ({@link ArmazenamentoCampo#padrao()}); cada motor pode receber outro
+     * no construtor, e a linha de comando o escolhe com {@code --campo}.
+     * <p>
+     * <ul>
+     * <li>false: {@link Campo} - grade plana, indicada para mapas comuns</li>
+     * <li>true: {@link CampoEmBlocos} - blocos alocados sob demanda, com
+     * {@link VegetacaoEmBlocos}; a memória acompanha a área povoada, para
+     * mapas muito grandes</li>
+     * </ul>
+     * </p>
+     */
+    public static final boolean CAMPO_EM_BLOCOS = false;
+
+    /**
+     * Arquivo padrão do mundo mapeado em memória, ou null para manter o
+     * mundo no heap ({@link ArmazenamentoCampo#padrao()}).
+     * <p>
+     * Quando definido, o simulador usa {@link CampoMapeado}: ocupação,
+     * vegetação e terreno ficam fora do heap nesse arquivo, criado do zero a
+     * cada motor ({@link ArmazenamentoCampo#mapeado}; retomar uma imagem é
+     * uma escolha explícita, {@link ArmazenamentoCampo#retomado}). Tem
+     * precedência sobre {@link #CAMPO_EM_BLOCOS}.
+     * </p>
+     */
+    public static final String ARQUIVO_CAMPO_MAPEADO = null;
+
+    // ========== EXECUÇÃO ==========
+
+    /**
+     * Número de threads usadas para processar os animais em cada passo.
+     * <p>
+     * O {@link MotorParalelo} sempre divide o campo em faixas de linhas,
+     * processadas em duas fases. Com 1 as faixas rodam em sequência; com
+     * mais de 1, as de cada fase rodam em paralelo, o que vale apenas para
+     * {@link Campo} (nos demais armazenamentos as faixas continuam em
+     * sequência). O resultado é o mesmo em todos os casos.
+     * </p>
+     * <p>
+     * É o padrão dos motores criados sem número de threads; cada
+     * {@link MotorSimulacao} pode receber o seu na construção, e a linha de
+     * comando o escolhe com {@code --threads}.
+     * </p>
+     */
+    public static final int THREADS_PASSO = 1;
+
+    /**
+     * Seleciona o armazenamento dos animais na execução em lote
+     * ({@link PrincipalLinhaDeComando}, alterável por {@code --populacao}).
+     * <p>
+     * <ul>
+     * <li>false: {@link MotorSimulacao} - um objeto por animal, com o
+     * comportamento nas subclasses de {@link Animal}</li>
+     * <li>true: {@link MotorCompacto} - animais em vetores primitivos
+     * ({@link PopulacaoCompacta}), com o comportamento lido de tabelas por
+     * espécie; para mundos com milhões de animais</li>
+     * </ul>
+     * </p>
+     */
+    public static final boolean POPULACAO_COMPACTA = false;
+
+    /**
+     * Semente dos sorteios da simulação, ou null para uma execução diferente
+     * a cada reinício.
+     * <p>
+     * Com semente fixa, população inicial, clima e comportamento dos animais
+     * se repetem bit a bit em cada execução (ver {@link Aleatoriedade}),
+     * para qualquer {@link #THREADS_PASSO} e qualquer armazenamento do campo:
+     * o passo sequencial percorre as mesmas faixas, na mesma ordem de fases,
+     * que o paralelo.
+     * </p>
+     */
+    public static final Long SEMENTE = null;
+
+    /**
+     * Quadros por segundo desenhados pela {@link VisualizacaoSimulador}.
+     * <p>
+     * A simulação publica um quadro por passo, mas a janela só desenha o
+     * mais recente a cada intervalo; os intermediários são descartados, de
+     * modo que o custo de desenho não limita a velocidade dos passos.
+     * </p>
+     */
+    public static final int QUADROS_POR_SEGUNDO = 30;
+
+    /**
+     * Ritmo inicial da simulação com interface gráfica, em passos por
+     * segundo ({@link AgendadorPassos#SEM_LIMITE} para o mais rápido
+     * possível).
+     */
+    public static final double PASSOS_POR_SEGUNDO = 20;
+
     // ========== PROBABILIDADES DE POPULAÇÃO INICIAL ==========
 
     /**
@@ -163,6 +264,64 @@ public abstract class Configuracao {
      */
     public static final int VALOR_NUTRICIONAL = 5;
 
+    /**
+     * Seleciona o modelo de armazenamento da vegetação.
+     * <p>
+     * <ul>
+     * <li>false: {@link VegetacaoPreguicosa} - crescimento calculado sob
+     * demanda, uma camada compartilhada pelos dois campos</li>
+     * <li>true: {@link VegetacaoCompacta} - um byte por célula com
+     * crescimento imediato, uma camada por campo</li>
+     * </ul>
+     * </p>
+     */
+    public static final boolean VEGETACAO_COMPACTA = false;
+
+    // ========== CLIMA ==========
+
+    /**
+     * Número de passos entre as verificações de mudança do clima.
+     */
+    public static final int CICLOS_MUDANCA_CLIMA = 50;
+
+    /**
+     * Probabilidade de o clima mudar em cada verificação.
+     * <p>
+     * Valor: 50% - Equilíbrio entre estabilidade e variação.
+     * </p>
+     */
+    public static final double PROBABILIDADE_MUDANCA_CLIMA = 0.5;
+
+    // ========== PERCEPÇÃO ==========
+
+    /**
+     * Raio de percepção padrão dos predadores, em células
+     * ({@link ParametrosSimulacao}, chave {@code <predador>.raioPercepcao}).
+     * <p>
+     * Com 1, o predador só vê as 8 vizinhas. Com raio maior, sem presa
+     * vizinha ele dá um passo em direção à presa mais próxima dentro do raio.
+     * </p>
+     */
+    public static final int RAIO_PERCEPCAO = 1;
+
+    /**
+     * Log na base 2 do lado dos baldes do {@link IndiceEspacial}, em todos
+     * os armazenamentos de campo e no {@link MotorCompacto} (3: baldes de 8x8
+     * células). O índice só existe quando algum raio de percepção passa de 1.
+     */
+    public static final int BITS_LADO_BALDE_ESPACIAL = 3;
+
+    /**
+     * Raio de forragem padrão dos herbívoros, em células
+     * ({@link ParametrosSimulacao}, chave {@code vegetacao.raioForragem}).
+     * <p>
+     * Com 0 os herbívoros se movem ao acaso. Com raio maior, o mundo mantém
+     * um {@link GradienteAlimento} e o herbívoro anda para a vizinha mais
+     * próxima da grama madura, se houver grama dentro do raio.
+     * </p>
+     */
+    public static final int RAIO_FORRAGEM = 0;
+
     // ========== RAPOSA ==========
 
     /**
@@ -196,6 +355,12 @@ public abstract class Configuracao {
      */
     public static final int VALOR_NUTRICIONAL_RAPOSA = 8;
 
+    /**
+     * Presas da raposa ({@link ParametrosSimulacao}, chave
+     * {@code raposa.dieta}).
+     */
+    public static final String DIETA_RAPOSA = "coelho, rato";
+
     // ========== URSO ==========
 
     /**
@@ -237,6 +402,11 @@ public abstract class Configuracao {
      */
     public static final double PROB_PESCA_URSO = 0.3;
 
+    /**
+     * Presas do urso ({@link ParametrosSimulacao}, chave {@code urso.dieta}).
+     */
+    public static final String DIETA_URSO = "raposa, cobra, coelho";
+
     // ========== COBRA ==========
 
     /**
@@ -267,6 +437,12 @@ public abstract class Configuracao {
      */
     public static final int VALOR_NUTRICIONAL_COBRA = 6;
 
+    /**
+     * Presas da cobra ({@link ParametrosSimulacao}, chave
+     * {@code cobra.dieta}).
+     */
+    public static final String DIETA_COBRA = "rato, coelho";
+
     // ========== GAVIÃO ==========
 
     /**
@@ -297,6 +473,12 @@ public abstract class Configuracao {
      */
     public static final int VALOR_NUTRICIONAL_GAVIAO = 8;
 
+    /**
+     * Presas do gavião ({@link ParametrosSimulacao}, chave
+     * {@code gaviao.dieta}).
+     */
+    public static final String DIETA_GAVIAO = "rato";
+
     // ========== COELHO ==========
 
     /**
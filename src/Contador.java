@@ -119,6 +119,19 @@ public class Contador {
         contagem++;
     }
 
+    /**
+     * Soma uma quantidade ao contador de uma só vez.
+     * <p>
+     * Usado quando a contagem já foi acumulada em outra estrutura
+     * (por exemplo, um histograma por ordinal de espécie).
+     * </p>
+     * 
+     * @param quantidade Valor a ser somado
+     */
+    public void adicionar(int quantidade) {
+        contagem += quantidade;
+    }
+
     /**
      * Reseta o contador para zero.
      * <p>
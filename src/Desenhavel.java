@@ -46,7 +46,8 @@ import java.awt.event.ActionListener;
  * </p>
  * <ol>
  * <li>Simulador cria a visualização e configura cores</li>
- * <li>A cada passo: {@link #mostrarStatus(int, GradeVisualizavel)}</li>
+ * <li>A cada passo:
+ * {@link #mostrarStatus(int, GradeVisualizavel, int[], boolean)}</li>
  * <li>Usuário interage via botões (callbacks configurados)</li>
  * <li>Simulador consulta {@link #ehViavel(GradeVisualizavel)}</li>
  * <li>Ao fim: {@link #fechar()} libera recursos</li>
@@ -98,13 +99,21 @@ public interface Desenhavel {
      * </p>
      * <p>
      * <strong>Performance:</strong> Este método é chamado frequentemente,
-     * então deve ser otimizado (ex: usar double buffering).
+     * pela thread da simulação, então deve ser otimizado. Implementações
+     * gráficas devem apenas capturar o estado e desenhar na thread de
+     * eventos (ver {@link VisualizacaoSimulador} e {@link QuadroCampo}), e
+     * podem deixar de capturar enquanto o desenho anterior não foi feito, a
+     * não ser que {@code obrigatorio} seja true. As populações vêm do motor
+     * ({@link MundoSimulado#contarPopulacao}), sem varrer o campo.
      * </p>
      * 
-     * @param passo Número do passo atual da simulação
-     * @param campo Interface de acesso ao estado do campo
+     * @param passo       Número do passo atual da simulação
+     * @param campo       Interface de acesso ao estado do campo
+     * @param populacao   População de cada espécie, indexada pelo ordinal
+     * @param obrigatorio true quando a simulação para neste estado, que
+     *                    precisa ser desenhado
      */
-    void mostrarStatus(int passo, GradeVisualizavel campo);
+    void mostrarStatus(int passo, GradeVisualizavel campo, int[] populacao, boolean obrigatorio);
 
     /**
      * Atualiza as informações climáticas na interface.
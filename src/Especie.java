@@ -0,0 +1,258 @@
+import java.awt.Color;
+import java.util.Locale;
+
+/**
+ * Descrição de uma espécie de animal: classe, cor, como criar indivíduos e
+ * os parâmetros ecológicos padrão.
+ * <p>
+ * As espécies são reunidas pelo {@link RegistroEspecies}, que dá a cada uma
+ * um ordinal. Tudo o que antes ficava espalhado por espécie (o teste de
+ * criação no {@link Populador}, as cores do {@link Simulador}, os padrões
+ * dos {@link ParametrosSimulacao}) é lido daqui e guardado em vetores
+ * indexados pelo ordinal.
+ * </p>
+ *
+ * <p>
+ * <strong>Nome:</strong>
+ * </p>
+ * <p>
+ * O nome da classe em minúsculas ({@code raposa}) é o prefixo das chaves no
+ * arquivo de parâmetros e o nome da espécie nas dietas.
+ * </p>
+ *
+ * @author Grupo 10
+ * @version 1.0
+ * @see RegistroEspecies
+ * @see FornecedorEspecies
+ */
+public final class Especie {
+
+    // ========== TIPOS ==========
+
+    /**
+     * Cria indivíduos de uma espécie (em geral, o construtor da classe:
+     * {@code Raposa::new}).
+     */
+    public interface Fabrica {
+
+        /**
+         * Cria um indivíduo.
+         *
+         * @param parametros     Parâmetros do mundo
+         * @param idadeAleatoria true para sortear a idade (população
+         *                       inicial), false para um recém-nascido
+         * @return Novo animal, ainda sem localização
+         */
+        Animal criar(ParametrosSimulacao parametros, boolean idadeAleatoria);
+    }
+
+    // ========== ATRIBUTOS ==========
+
+    /**
+     * Classe dos indivíduos.
+     */
+    private final Class<? extends Animal> classe;
+
+    /**
+     * Nome da espécie (prefixo dos parâmetros).
+     */
+    private final String nome;
+
+    /**
+     * Cor dos indivíduos na visualização.
+     */
+    private final Color cor;
+
+    /**
+     * Criação de indivíduos.
+     */
+    private final Fabrica fabrica;
+
+    /**
+     * Idade máxima padrão.
+     */
+    private final int idadeMaxima;
+
+    /**
+     * Idade reprodutiva padrão.
+     */
+    private final int idadeReprodutiva;
+
+    /**
+     * Probabilidade de reprodução padrão.
+     */
+    private final double probabilidadeReproducao;
+
+    /**
+     * Tamanho máximo da ninhada padrão.
+     */
+    private final int tamanhoMaximoNinhada;
+
+    /**
+     * Valor nutricional padrão para quem a come.
+     */
+    private final int valorNutricional;
+
+    /**
+     * Probabilidade padrão de ocupar uma célula na população inicial.
+     */
+    private final double probabilidadeCriacao;
+
+    /**
+     * Dieta padrão, no formato da chave {@code <nome>.dieta}; vazia para
+     * herbívoros.
+     */
+    private final String dieta;
+
+    // ========== CONSTRUTOR ==========
+
+    /**
+     * Descreve uma espécie.
+     *
+     * @param classe                  Classe dos indivíduos
+     * @param cor                     Cor na visualização
+     * @param fabrica                 Criação de indivíduos
+     * @param idadeMaxima             Idade máxima padrão
+     * @param idadeReprodutiva        Idade reprodutiva padrão
+     * @param probabilidadeReproducao Probabilidade de reprodução padrão
+     * @param tamanhoMaximoNinhada    Tamanho máximo da ninhada padrão
+     * @param valorNutricional        Valor nutricional padrão
+     * @param probabilidadeCriacao    Probabilidade de criação padrão
+     * @param dieta                   Presas padrão ({@code "coelho, rato"}),
+     *                                vazia se não for {@link Predador}
+     */
+    public Especie(Class<? extends Animal> classe, Color cor, Fabrica fabrica, int idadeMaxima,
+            int idadeReprodutiva, double probabilidadeReproducao, int tamanhoMaximoNinhada, int valorNutricional,
+            double probabilidadeCriacao, String dieta) {
+        this.classe = classe;
+        this.nome = classe.getSimpleName().toLowerCase(Locale.ROOT);
+        this.cor = cor;
+        this.fabrica = fabrica;
+        this.idadeMaxima = idadeMaxima;
+        this.idadeReprodutiva = idadeReprodutiva;
+        this.probabilidadeReproducao = probabilidadeReproducao;
+        this.tamanhoMaximoNinhada = tamanhoMaximoNinhada;
+        this.valorNutricional = valorNutricional;
+        this.probabilidadeCriacao = probabilidadeCriacao;
+        this.dieta = dieta;
+    }
+
+    // ========== MÉTODOS ==========
+
+    /**
+     * Cria um indivíduo da espécie.
+     *
+     * @param parametros     Parâmetros do mundo
+     * @param idadeAleatoria true para sortear a idade
+     * @return Novo animal, ainda sem localização
+     */
+    public Animal criar(ParametrosSimulacao parametros, boolean idadeAleatoria) {
+        return fabrica.criar(parametros, idadeAleatoria);
+    }
+
+    /**
+     * Verifica se os indivíduos caçam (têm a chave {@code <nome>.dieta}).
+     *
+     * @return true se a classe é um {@link Predador}
+     */
+    public boolean ehPredador() {
+        return Predador.class.isAssignableFrom(classe);
+    }
+
+    // ========== GETTERS ==========
+
+    /**
+     * Retorna a classe dos indivíduos.
+     *
+     * @return Classe dos indivíduos
+     */
+    public Class<? extends Animal> getClasse() {
+        return classe;
+    }
+
+    /**
+     * Retorna o nome da espécie, usado nos parâmetros e nas dietas.
+     *
+     * @return Nome da espécie, em minúsculas
+     */
+    public String getNome() {
+        return nome;
+    }
+
+    /**
+     * Retorna a cor dos indivíduos na visualização.
+     *
+     * @return Cor na visualização
+     */
+    public Color getCor() {
+        return cor;
+    }
+
+    /**
+     * Retorna a idade máxima padrão.
+     *
+     * @return Idade máxima padrão
+     */
+    public int getIdadeMaxima() {
+        return idadeMaxima;
+    }
+
+    /**
+     * Retorna a idade reprodutiva padrão.
+     *
+     * @return Idade reprodutiva padrão
+     */
+    public int getIdadeReprodutiva() {
+        return idadeReprodutiva;
+    }
+
+    /**
+     * Retorna a probabilidade de reprodução padrão.
+     *
+     * @return Probabilidade de reprodução padrão
+     */
+    public double getProbabilidadeReproducao() {
+        return probabilidadeReproducao;
+    }
+
+    /**
+     * Retorna o tamanho máximo da ninhada padrão.
+     *
+     * @return Tamanho máximo da ninhada padrão
+     */
+    public int getTamanhoMaximoNinhada() {
+        return tamanhoMaximoNinhada;
+    }
+
+    /**
+     * Retorna o valor nutricional padrão.
+     *
+     * @return Valor nutricional padrão
+     */
+    public int getValorNutricional() {
+        return valorNutricional;
+    }
+
+    /**
+     * Retorna a probabilidade de criação padrão.
+     *
+     * @return Probabilidade de criação padrão
+     */
+    public double getProbabilidadeCriacao() {
+        return probabilidadeCriacao;
+    }
+
+    /**
+     * Retorna a dieta padrão.
+     *
+     * @return Dieta padrão
+     */
+    public String getDieta() {
+        return dieta;
+    }
+
+    @Override
+    public String toString() {
+        return nome;
+    }
+}
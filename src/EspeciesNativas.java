@@ -0,0 +1,49 @@
+import java.awt.Color;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Espécies que acompanham a simulação, com os padrões de
+ * {@link Configuracao}.
+ * <p>
+ * A ordem da lista é a ordem de teste na população inicial (raposa, coelho,
+ * rato, cobra, gavião, urso) e, por virem antes das espécies descobertas,
+ * também a dos seus ordinais.
+ * </p>
+ *
+ * @author Grupo 10
+ * @version 1.0
+ * @see FornecedorEspecies
+ * @see RegistroEspecies
+ */
+public class EspeciesNativas implements FornecedorEspecies {
+
+    @Override
+    public List<Especie> getEspecies() {
+        return Arrays.asList(
+                new Especie(Raposa.class, Color.blue, Raposa::new, Configuracao.IDADE_MAX_RAPOSA,
+                        Configuracao.IDADE_REPROD_RAPOSA, Configuracao.PROB_REPROD_RAPOSA,
+                        Configuracao.MAX_NINHADA_RAPOSA, Configuracao.VALOR_NUTRICIONAL_RAPOSA,
+                        Configuracao.PROBABILIDADE_CRIACAO_RAPOSA, Configuracao.DIETA_RAPOSA),
+                new Especie(Coelho.class, Color.orange, Coelho::new, Configuracao.IDADE_MAX_COELHO,
+                        Configuracao.IDADE_REPROD_COELHO, Configuracao.PROB_REPROD_COELHO,
+                        Configuracao.MAX_NINHADA_COELHO, Configuracao.VALOR_NUTRICIONAL_COELHO,
+                        Configuracao.PROBABILIDADE_CRIACAO_COELHO, ""),
+                new Especie(Rato.class, Color.MAGENTA, Rato::new, Configuracao.IDADE_MAX_RATO,
+                        Configuracao.IDADE_REPROD_RATO, Configuracao.PROB_REPROD_RATO,
+                        Configuracao.MAX_NINHADA_RATO, Configuracao.VALOR_NUTRICIONAL_RATO,
+                        Configuracao.PROBABILIDADE_CRIACAO_RATO, ""),
+                new Especie(Cobra.class, Color.GREEN, Cobra::new, Configuracao.IDADE_MAX_COBRA,
+                        Configuracao.IDADE_REPROD_COBRA, Configuracao.PROB_REPROD_COBRA,
+                        Configuracao.MAX_NINHADA_COBRA, Configuracao.VALOR_NUTRICIONAL_COBRA,
+                        Configuracao.PROBABILIDADE_CRIACAO_COBRA, Configuracao.DIETA_COBRA),
+                new Especie(Gaviao.class, Color.RED, Gaviao::new, Configuracao.IDADE_MAX_GAVIAO,
+                        Configuracao.IDADE_REPROD_GAVIAO, Configuracao.PROB_REPROD_GAVIAO,
+                        Configuracao.MAX_NINHADA_GAVIAO, Configuracao.VALOR_NUTRICIONAL_GAVIAO,
+                        Configuracao.PROBABILIDADE_CRIACAO_GAVIAO, Configuracao.DIETA_GAVIAO),
+                new Especie(Urso.class, Color.BLACK, Urso::new, Configuracao.IDADE_MAX_URSO,
+                        Configuracao.IDADE_REPROD_URSO, Configuracao.PROB_REPROD_URSO,
+                        Configuracao.MAX_NINHADA_URSO, Configuracao.VALOR_NUTRICIONAL_URSO,
+                        Configuracao.PROBABILIDADE_CRIACAO_URSO, Configuracao.DIETA_URSO));
+    }
+}
@@ -1,5 +1,6 @@
-import java.util.HashMap;
-import java.util.Iterator;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
 
 /**
  * Classe responsável por coletar e fornecer estatísticas sobre o estado
@@ -47,7 +48,9 @@ import java.util.Iterator;
  * </p>
  * <p>
  * Novas espécies são automaticamente rastreadas sem modificação de código.
- * O sistema usa reflexão para obter nomes de classes dinamicamente.
+ * Os contadores ficam em um vetor indexado pelo ordinal da espécie
+ * ({@link RegistroEspecies}), sem mapas por classe; o nome de cada contador
+ * é o nome simples da classe.
  * </p>
  * 
  * @author David J. Barnes e Michael Kolling
@@ -61,15 +64,14 @@ public class EstatisticasCampo {
     // ========== ATRIBUTOS ==========
 
     /**
-     * Mapa que associa cada classe de entidade ao seu contador.
+     * Contador de cada entidade, indexado pelo ordinal da espécie
+     * ({@link RegistroEspecies}); null para espécies ainda não vistas.
      * <p>
-     * Estrutura: Class&lt;?&gt; → Contador
-     * <br>
-     * Permite rastreamento dinâmico de qualquer tipo de entidade
-     * sem necessidade de declaração prévia.
+     * Cresce conforme novas classes recebem ordinal, permitindo rastrear
+     * qualquer tipo de entidade sem declaração prévia.
      * </p>
      */
-    private HashMap<Class<?>, Contador> contadores;
+    private Contador[] contadores;
 
     /**
      * Flag indicando se as contagens atuais são válidas (sincronizadas com o
@@ -84,6 +86,12 @@ public class EstatisticasCampo {
      */
     private boolean contagensValidas;
 
+    /**
+     * Histograma reutilizável indexado pelo ordinal da espécie
+     * ({@link RegistroEspecies}), preenchido durante a varredura da grade.
+     */
+    private int[] contagemPorEspecie;
+
     // ========== CONSTRUTOR ==========
 
     /**
@@ -94,8 +102,9 @@ public class EstatisticasCampo {
      * </p>
      */
     public EstatisticasCampo() {
-        contadores = new HashMap<Class<?>, Contador>();
+        contadores = new Contador[RegistroEspecies.quantidade()];
         contagensValidas = true;
+        contagemPorEspecie = new int[0];
     }
 
     // ========== MÉTODOS DE CONSULTA ==========
@@ -118,9 +127,10 @@ public class EstatisticasCampo {
         if (!contagensValidas) {
             gerarContagens(grade);
         }
-        Iterator<Class<?>> chaves = contadores.keySet().iterator();
-        while (chaves.hasNext()) {
-            Contador info = contadores.get(chaves.next());
+        for (Contador info : contadores) {
+            if (info == null) {
+                continue;
+            }
             buffer.append(info.getNome());
             buffer.append(": ");
             buffer.append(info.getContagem());
@@ -144,7 +154,8 @@ public class EstatisticasCampo {
      * @return Número de entidades dessa classe, ou 0 se não encontrada
      */
     public int getContagem(Class<?> classeAnimal) {
-        Contador cnt = contadores.get(classeAnimal);
+        int especie = RegistroEspecies.ordinalDe(classeAnimal);
+        Contador cnt = especie < contadores.length ? contadores[especie] : null;
         if (cnt != null) {
             return cnt.getContagem();
         } else {
@@ -176,10 +187,8 @@ public class EstatisticasCampo {
         if (!contagensValidas) {
             gerarContagens(grade);
         }
-        Iterator<Class<?>> chaves = contadores.keySet().iterator();
-        while (chaves.hasNext()) {
-            Contador info = contadores.get(chaves.next());
-            if (info.getContagem() > 0) {
+        for (Contador info : contadores) {
+            if (info != null && info.getContagem() > 0) {
                 naoZero++;
             }
         }
@@ -197,10 +206,10 @@ public class EstatisticasCampo {
      */
     public void reiniciar() {
         contagensValidas = false;
-        Iterator<Class<?>> chaves = contadores.keySet().iterator();
-        while (chaves.hasNext()) {
-            Contador cnt = contadores.get(chaves.next());
-            cnt.reiniciar();
+        for (Contador cnt : contadores) {
+            if (cnt != null) {
+                cnt.reiniciar();
+            }
         }
     }
 
@@ -223,12 +232,7 @@ public class EstatisticasCampo {
      * @param classeAnimal Classe da entidade a ter sua contagem incrementada
      */
     public void incrementarContagem(Class<?> classeAnimal) {
-        Contador cnt = contadores.get(classeAnimal);
-        if (cnt == null) {
-            cnt = new Contador(classeAnimal.getSimpleName());
-            contadores.put(classeAnimal, cnt);
-        }
-        cnt.incrementar();
+        contadorDe(RegistroEspecies.ordinalDe(classeAnimal)).incrementar();
     }
 
     /**
@@ -243,8 +247,77 @@ public class EstatisticasCampo {
         contagensValidas = true;
     }
 
+    /**
+     * Conta todas as entidades da grade e acumula o resultado nos contadores.
+     * <p>
+     * A varredura usa apenas o ordinal de espécie de cada célula
+     * ({@link GradeVisualizavel#getEspecieEm(int, int)}), somando em um
+     * histograma de inteiros. Os contadores por classe são atualizados uma
+     * única vez por espécie ao final, evitando buscas em mapa por célula.
+     * </p>
+     * 
+     * @param grade             Interface de acesso aos dados do campo
+     * @param classesIgnoradas  Classes que não devem ser contadas
+     */
+    public void contarGrade(GradeVisualizavel grade, Set<Class<?>> classesIgnoradas) {
+        int[] histograma = contagemPorEspecie;
+        Arrays.fill(histograma, 0);
+        for (int linha = 0; linha < grade.getProfundidade(); linha++) {
+            for (int coluna = 0; coluna < grade.getLargura(); coluna++) {
+                int especie = grade.getEspecieEm(linha, coluna);
+                if (especie != RegistroEspecies.NENHUMA) {
+                    if (especie >= histograma.length) {
+                        histograma = Arrays.copyOf(histograma, RegistroEspecies.quantidade());
+                    }
+                    histograma[especie]++;
+                }
+            }
+        }
+        contagemPorEspecie = histograma;
+        contarHistograma(histograma, classesIgnoradas);
+    }
+
+    /**
+     * Acumula nos contadores um histograma já calculado.
+     * <p>
+     * Usado quando a grade já foi varrida por outro motivo (por exemplo, ao
+     * capturar um {@link QuadroCampo}), evitando uma segunda varredura.
+     * </p>
+     * 
+     * @param histograma       Número de entidades por ordinal de espécie
+     * @param classesIgnoradas Classes que não devem ser contadas
+     */
+    public void contarHistograma(int[] histograma, Set<Class<?>> classesIgnoradas) {
+        for (int especie = 0; especie < histograma.length; especie++) {
+            if (histograma[especie] > 0) {
+                if (!classesIgnoradas.contains(RegistroEspecies.classeDe(especie))) {
+                    contadorDe(especie).adicionar(histograma[especie]);
+                }
+            }
+        }
+    }
+
     // ========== MÉTODOS PRIVADOS ==========
 
+    /**
+     * Retorna o contador de uma espécie, criando-o (e aumentando o vetor)
+     * se necessário.
+     * 
+     * @param especie Ordinal da espécie
+     * @return Contador da espécie
+     */
+    private Contador contadorDe(int especie) {
+        if (especie >= contadores.length) {
+            contadores = Arrays.copyOf(contadores, Math.max(especie + 1, RegistroEspecies.quantidade()));
+        }
+        Contador cnt = contadores[especie];
+        if (cnt == null) {
+            cnt = new Contador(RegistroEspecies.classeDe(especie).getSimpleName());
+            contadores[especie] = cnt;
+        }
+        return cnt;
+    }
+
     /**
      * Gera contagens percorrendo todo o campo e contando cada entidade.
      * <p>
@@ -268,14 +341,7 @@ public class EstatisticasCampo {
      */
     private void gerarContagens(GradeVisualizavel grade) {
         reiniciar();
-        for (int linha = 0; linha < grade.getProfundidade(); linha++) {
-            for (int coluna = 0; coluna < grade.getLargura(); coluna++) {
-                Object animal = grade.getObjetoEm(linha, coluna);
-                if (animal != null) {
-                    incrementarContagem(animal.getClass());
-                }
-            }
-        }
+        contarGrade(grade, Collections.<Class<?>>emptySet());
         contagensValidas = true;
     }
 }
\ No newline at end of file
@@ -0,0 +1,221 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executa um conjunto de simulações independentes (Monte Carlo) em paralelo.
+ * <p>
+ * Cada mundo é um {@link MotorSimulacao} sem interface, com os mesmos
+ * {@link ParametrosSimulacao} e semente
+ * {@code sementeBase + i} para o mundo {@code i}. Os mundos são distribuídos
+ * entre um número fixo de threads: cada thread pega o próximo mundo ainda
+ * não simulado, executa-o do início ao fim guardando a população de cada
+ * passo e, ao terminar, soma a série do mundo em um único
+ * {@link ResultadoConjunto}. A memória do resultado não cresce com o número
+ * de threads.
+ * </p>
+ *
+ * <p>
+ * <strong>Independência entre mundos:</strong>
+ * </p>
+ * <p>
+ * Os fluxos de sorteio ({@link Aleatoriedade}) são guardados por thread e
+ * semeados pelo motor de cada mundo, e nenhum estado da simulação é
+ * compartilhado entre motores. Como cada mundo roda inteiro em uma thread,
+ * o mundo {@code i} tem sempre a mesma série, e o resultado do conjunto não
+ * depende do número de threads.
+ * </p>
+ *
+ * <p>
+ * Os mundos já ocupam todos os núcleos, então cada motor processa seu passo
+ * com uma única thread; como o resultado de um mundo não depende das
+ * threads do passo, isso não muda as séries.
+ * </p>
+ *
+ * <p>
+ * Cada mundo recebe seu próprio armazenamento
+ * ({@link ArmazenamentoCampo#paraMundo(int)}): com campos mapeados, um
+ * arquivo por mundo.
+ * </p>
+ *
+ * @author Grupo 10
+ * @version 1.0
+ * @see ResultadoConjunto
+ * @see MotorSimulacao
+ */
+public class ExecutorConjunto {
+
+    // ========== ATRIBUTOS ==========
+
+    /**
+     * Altura do campo de cada mundo.
+     */
+    private final int profundidade;
+
+    /**
+     * Largura do campo de cada mundo.
+     */
+    private final int largura;
+
+    /**
+     * Mapa de obstáculos de cada mundo, ou null para terreno livre.
+     */
+    private final String arquivoMapa;
+
+    /**
+     * Número de threads que executam os mundos.
+     */
+    private final int threads;
+
+    /**
+     * Parâmetros ecológicos de cada mundo.
+     */
+    private final ParametrosSimulacao parametros;
+
+    /**
+     * Armazenamento dos campos, do qual sai o de cada mundo.
+     */
+    private final ArmazenamentoCampo armazenamento;
+
+    // ========== CONSTRUTORES ==========
+
+    /**
+     * Cria um executor para mundos de mesmas dimensões e mapa, com os
+     * parâmetros padrão ({@link ParametrosSimulacao#padrao()}).
+     *
+     * @param profundidade Altura do campo
+     * @param largura      Largura do campo
+     * @param arquivoMapa  Mapa de obstáculos, ou null para terreno livre
+     * @param threads      Número de threads (maior que zero)
+     * @throws IllegalArgumentException se o número de threads não for
+     *                                  positivo
+     */
+    public ExecutorConjunto(int profundidade, int largura, String arquivoMapa, int threads) {
+        this(profundidade, largura, arquivoMapa, threads, ParametrosSimulacao.padrao());
+    }
+
+    /**
+     * Cria um executor para mundos de mesmas dimensões, mapa e parâmetros.
+     * <p>
+     * Executores com parâmetros diferentes podem rodar ao mesmo tempo, por
+     * exemplo para os pontos de uma varredura.
+     * </p>
+     *
+     * @param profundidade Altura do campo
+     * @param largura      Largura do campo
+     * @param arquivoMapa  Mapa de obstáculos, ou null para terreno livre
+     * @param threads      Número de threads (maior que zero), normalmente o
+     *                     número de núcleos
+     * @param parametros   Parâmetros ecológicos dos mundos
+     * @throws IllegalArgumentException se o número de threads não for
+     *                                  positivo
+     */
+    public ExecutorConjunto(int profundidade, int largura, String arquivoMapa, int threads,
+            ParametrosSimulacao parametros) {
+        this(profundidade, largura, arquivoMapa, threads, parametros, ArmazenamentoCampo.padrao());
+    }
+
+    /**
+     * Cria um executor para mundos de mesmas dimensões, mapa, parâmetros e
+     * armazenamento dos campos.
+     *
+     * @param profundidade  Altura do campo
+     * @param largura       Largura do campo
+     * @param arquivoMapa   Mapa de obstáculos, ou null para terreno livre
+     * @param threads       Número de threads (maior que zero)
+     * @param parametros    Parâmetros ecológicos dos mundos
+     * @param armazenamento Armazenamento dos campos; o mapeado ganha um
+     *                      arquivo por mundo
+     * @throws IllegalArgumentException se o número de threads não for
+     *                                  positivo
+     */
+    public ExecutorConjunto(int profundidade, int largura, String arquivoMapa, int threads,
+            ParametrosSimulacao parametros, ArmazenamentoCampo armazenamento) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Número de threads inválido: " + threads);
+        }
+        this.profundidade = profundidade;
+        this.largura = largura;
+        this.arquivoMapa = arquivoMapa;
+        this.threads = threads;
+        this.parametros = parametros;
+        this.armazenamento = armazenamento;
+    }
+
+    // ========== MÉTODOS DE EXECUÇÃO ==========
+
+    /**
+     * Simula os mundos do conjunto e agrega as populações.
+     * <p>
+     * Um mundo em que todos os animais morrem para de ser simulado; os
+     * passos restantes contam com população zero.
+     * </p>
+     *
+     * @param mundos      Número de mundos
+     * @param passos      Passos simulados em cada mundo
+     * @param sementeBase Semente do primeiro mundo
+     * @return Estatísticas das populações por espécie e passo
+     * @throws IllegalStateException se algum mundo falhar ou a execução for
+     *                               interrompida
+     */
+    public ResultadoConjunto executar(int mundos, int passos, long sementeBase) {
+        AtomicInteger proximo = new AtomicInteger();
+        ResultadoConjunto total = new ResultadoConjunto(passos);
+        int trabalhadores = Math.max(1, Math.min(threads, mundos));
+        ExecutorService pool = Executors.newFixedThreadPool(trabalhadores);
+        try {
+            List<Future<?>> tarefas = new ArrayList<Future<?>>();
+            for (int i = 0; i < trabalhadores; i++) {
+                tarefas.add(pool.submit(() -> simularMundos(proximo, mundos, passos, sementeBase, total)));
+            }
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+            return total;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Execução do conjunto interrompida", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falha em um mundo do conjunto", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Simula mundos até que todos tenham sido distribuídos.
+     * <p>
+     * Executado por cada thread do pool.
+     * </p>
+     *
+     * @param proximo     Índice do próximo mundo a simular, compartilhado
+     * @param mundos      Número de mundos
+     * @param passos      Passos de cada mundo
+     * @param sementeBase Semente do primeiro mundo
+     * @param total       Resultado compartilhado que recebe cada mundo
+     */
+    private void simularMundos(AtomicInteger proximo, int mundos, int passos, long sementeBase,
+            ResultadoConjunto total) {
+        int[][] serie = new int[passos + 1][];
+        for (int mundo = proximo.getAndIncrement(); mundo < mundos; mundo = proximo.getAndIncrement()) {
+            MotorSimulacao motor = new MotorSimulacao(profundidade, largura, arquivoMapa, sementeBase + mundo,
+                    parametros, 1, armazenamento.paraMundo(mundo));
+            try {
+                serie[0] = motor.contarPopulacao(serie[0]);
+                int pontos = 1;
+                for (int passo = 1; passo <= passos && !motor.getAnimais().isEmpty(); passo++) {
+                    motor.simularUmPasso();
+                    serie[passo] = motor.contarPopulacao(serie[passo]);
+                    pontos++;
+                }
+                total.registrarMundo(serie, pontos);
+            } finally {
+                motor.fechar();
+            }
+        }
+    }
+}
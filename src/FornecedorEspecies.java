@@ -0,0 +1,34 @@
+import java.util.List;
+
+/**
+ * Fornece espécies ao {@link RegistroEspecies}; ponto de extensão para novas
+ * espécies sem alterar as classes da simulação.
+ * <p>
+ * As espécies nativas vêm de {@link EspeciesNativas}. Outras são
+ * descobertas com {@link java.util.ServiceLoader}: um jar no classpath com a
+ * subclasse de {@link Animal}, uma implementação desta interface (com
+ * construtor público sem argumentos) e o arquivo
+ * {@code META-INF/services/FornecedorEspecies} contendo o nome dessa
+ * implementação. As espécies descobertas passam a ser criadas na população
+ * inicial, têm chaves no arquivo de parâmetros, podem entrar nas dietas e
+ * aparecem na visualização e nas estatísticas.
+ * </p>
+ *
+ * @author Grupo 10
+ * @version 1.0
+ * @see Especie
+ * @see RegistroEspecies
+ */
+public interface FornecedorEspecies {
+
+    /**
+     * Retorna as espécies fornecidas.
+     * <p>
+     * A ordem é a ordem de teste na população inicial: em uma célula, a
+     * primeira espécie sorteada é a criada.
+     * </p>
+     *
+     * @return Espécies, cada classe uma única vez
+     */
+    List<Especie> getEspecies();
+}
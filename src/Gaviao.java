@@ -10,7 +10,7 @@
  * <strong>Características do Gavião:</strong>
  * </p>
  * <ul>
- * <li><strong>Dieta:</strong> Ratos (presa exclusiva)</li>
+ * <li><strong>Dieta padrão:</strong> Ratos (presa exclusiva, {@code gaviao.dieta})</li>
  * <li><strong>Predadores Naturais:</strong> Nenhum (topo da cadeia em seu
  * nicho)</li>
  * <li><strong>Comportamento:</strong> Caça especializada, reprodução
@@ -53,18 +53,18 @@
  * @version 1.0
  * @see Predador
  * @see Rato
- * @see Configuracao
+ * @see ParametrosSimulacao
  */
 public class Gaviao extends Predador {
 
     // ========== CONSTRUTOR ==========
 
     /**
-     * Cria uma nova instância de gavião com dieta especializada.
+     * Cria uma nova instância de gavião.
      * <p>
-     * O gavião é configurado como predador especialista, caçando
-     * exclusivamente ratos. Esta especialização reflete o comportamento
-     * de aves de rapina que focam em tipos específicos de presas.
+     * Por padrão o gavião é um predador especialista, caçando
+     * exclusivamente ratos, como as aves de rapina que focam em tipos
+     * específicos de presas. A dieta vem da teia alimentar dos parâmetros.
      * </p>
      * <p>
      * A idade inicial pode ser:
@@ -74,12 +74,12 @@ public class Gaviao extends Predador {
      * </ul>
      * </p>
      * 
+     * @param parametros     Parâmetros do mundo
      * @param idadeAleatoria Se true, a idade será aleatória entre 0 e idade máxima;
      *                       se false, a idade será zero (recém-nascido)
      */
-    public Gaviao(boolean idadeAleatoria) {
-        super(idadeAleatoria);
-        dieta.put(Rato.class, Configuracao.VALOR_NUTRICIONAL_RATO);
+    public Gaviao(ParametrosSimulacao parametros, boolean idadeAleatoria) {
+        super(parametros, idadeAleatoria);
     }
 
     // ========== MÉTODOS DE REPRODUÇÃO ==========
@@ -90,7 +90,6 @@ public class Gaviao extends Predador {
      * O filhote nasce com:
      * <ul>
      * <li>Idade zero (recém-nascido)</li>
-     * <li>Dieta especializada já configurada</li>
      * <li>Nível de alimento inicial padrão</li>
      * </ul>
      * </p>
@@ -99,68 +98,6 @@ public class Gaviao extends Predador {
      */
     @Override
     public Predador criarFilho() {
-        return new Gaviao(false);
-    }
-
-    // ========== MÉTODOS DE CONFIGURAÇÃO (da superclasse) ==========
-
-    /**
-     * Retorna a idade máxima que um gavião pode atingir.
-     * <p>
-     * Gaviões têm expectativa de vida relativamente longa para
-     * predadores, refletindo a longevidade de aves de rapina.
-     * </p>
-     * 
-     * @return Idade máxima em passos de simulação
-     * @see Configuracao#IDADE_MAX_GAVIAO
-     */
-    @Override
-    protected int idadeMaxima() {
-        return Configuracao.IDADE_MAX_GAVIAO;
-    }
-
-    /**
-     * Retorna a idade em que o gavião atinge maturidade sexual.
-     * <p>
-     * Aves de rapina geralmente levam mais tempo para amadurecer,
-     * representado por uma idade reprodutiva mais elevada.
-     * </p>
-     * 
-     * @return Idade reprodutiva em passos de simulação
-     * @see Configuracao#IDADE_REPROD_GAVIAO
-     */
-    @Override
-    protected int getIdadeReprodutiva() {
-        return Configuracao.IDADE_REPROD_GAVIAO;
-    }
-
-    /**
-     * Retorna a probabilidade de reprodução por passo.
-     * <p>
-     * Gaviões têm taxa reprodutiva moderada, típica de predadores
-     * especialistas que investem mais em cada filhote (estratégia K).
-     * </p>
-     * 
-     * @return Probabilidade entre 0.0 e 1.0
-     * @see Configuracao#PROB_REPROD_GAVIAO
-     */
-    @Override
-    protected double probabilidadeReproducao() {
-        return Configuracao.PROB_REPROD_GAVIAO;
-    }
-
-    /**
-     * Retorna o número máximo de filhotes em um único nascimento.
-     * <p>
-     * Ninhadas pequenas são típicas de aves de rapina, que investem
-     * mais energia no cuidado parental de poucos filhotes.
-     * </p>
-     * 
-     * @return Tamanho máximo da ninhada
-     * @see Configuracao#MAX_NINHADA_GAVIAO
-     */
-    @Override
-    protected int tamanhoMaximoNinhada() {
-        return Configuracao.MAX_NINHADA_GAVIAO;
+        return new Gaviao(getParametros(), false);
     }
 }
\ No newline at end of file
@@ -34,6 +34,8 @@
  * </p>
  * <ul>
  * <li>{@link Campo} - Implementação principal do campo de simulação</li>
+ * <li>{@link CampoEmBlocos} - Campo esparso em blocos, para mapas muito
+ * grandes</li>
  * </ul>
  * 
  * <p>
@@ -106,6 +108,20 @@ public interface GradeVisualizavel {
      */
     Object getObjetoEm(int linha, int coluna);
 
+    /**
+     * Retorna o ordinal da espécie presente em uma célula específica.
+     * <p>
+     * Permite contagens e renderização por tipo de ocupante sem acessar o
+     * objeto nem chamar {@code getClass()}. A classe correspondente pode ser
+     * obtida por {@link RegistroEspecies#classeDe(int)}.
+     * </p>
+     *
+     * @param linha  Coordenada Y (índice da linha, 0-based)
+     * @param coluna Coordenada X (índice da coluna, 0-based)
+     * @return Ordinal da espécie, ou {@link RegistroEspecies#NENHUMA} se vazia
+     */
+    int getEspecieEm(int linha, int coluna);
+
     /**
      * Verifica se há grama madura (totalmente crescida) na célula especificada.
      * <p>
@@ -0,0 +1,565 @@
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Campo de distâncias de cada célula até a grama madura mais próxima, usado
+ * pelos herbívoros para forragear.
+ * <p>
+ * A distância é a de Chebyshev (passos na vizinhança de Moore) por células
+ * passáveis do {@link Terreno}, limitada ao raio de forragem
+ * ({@link ParametrosSimulacao#getRaioForragem()}): células mais distantes
+ * que o raio ficam todas com {@code raio + 1}. Com o campo pronto, escolher o
+ * passo de um herbívoro é olhar as 8 vizinhas ({@link #sortearPasso}).
+ * </p>
+ *
+ * <p>
+ * <strong>Atualização incremental:</strong>
+ * </p>
+ * <p>
+ * O campo não é recalculado a cada passo. Durante o passo os campos
+ * registram as células comidas ({@link #registrarComida(int)}); depois do
+ * crescimento da grama, {@link #atualizar(CamadaVegetacao)} repara só a
+ * vizinhança dessas células e das que amadureceram:
+ * </p>
+ * <ol>
+ * <li>Células comidas deixam de ser fonte; as que dependiam só delas (em
+ * ordem de distância, até o raio) são invalidadas</li>
+ * <li>As células que amadureceram viram fonte</li>
+ * <li>As invalidadas recebem o menor valor das vizinhas mais um, e uma busca
+ * em largura por camadas espalha as reduções a partir delas e das novas
+ * fontes</li>
+ * </ol>
+ * <p>
+ * Como toda célula comida amadurece depois do mesmo número de crescimentos,
+ * as células comidas amadurecem na ordem em que foram comidas: uma fila
+ * basta para achar as que amadureceram, sem percorrer o mapa. O resultado é
+ * sempre a distância exata, por isso não depende da ordem dos registros.
+ * </p>
+ *
+ * <p>
+ * Durante o passo o campo mostra o estado do início do passo, como o campo
+ * atual do double buffering: um herbívoro pode andar para uma grama que
+ * outro acabou de comer.
+ * </p>
+ *
+ * @author Grupo 10
+ * @version 1.0
+ * @see Herbivoro
+ * @see CamadaVegetacao
+ * @see ParametrosSimulacao#getRaioForragem()
+ */
+public class GradienteAlimento {
+
+    // ========== ATRIBUTOS ESTÁTICOS ==========
+
+    /**
+     * Deslocamento de linha de cada uma das 8 direções.
+     */
+    private static final int[] DESLOC_LINHA = { -1, -1, -1, 0, 0, 1, 1, 1 };
+
+    /**
+     * Deslocamento de coluna de cada uma das 8 direções.
+     */
+    private static final int[] DESLOC_COLUNA = { -1, 0, 1, -1, 1, -1, 0, 1 };
+
+    /**
+     * Capacidade inicial das filas de trabalho.
+     */
+    private static final int CAPACIDADE_INICIAL = 64;
+
+    // ========== ATRIBUTOS ==========
+
+    /**
+     * Número de linhas do mundo.
+     */
+    private final int profundidade;
+
+    /**
+     * Número de colunas do mundo.
+     */
+    private final int largura;
+
+    /**
+     * Distância máxima representada.
+     */
+    private final int raio;
+
+    /**
+     * Valor das células sem grama madura dentro do raio ({@code raio + 1}).
+     */
+    private final byte longe;
+
+    /**
+     * Nível em que a grama fica madura.
+     */
+    private final int maxCrescimento;
+
+    /**
+     * Obstáculos do mundo: células intransitáveis não são fonte nem caminho.
+     */
+    private final Terreno terreno;
+
+    /**
+     * Distância de cada célula, pelo índice plano.
+     */
+    private final byte[] distancia;
+
+    /**
+     * Células comidas à espera de amadurecer, em fila circular na ordem em
+     * que foram comidas.
+     */
+    private int[] aguardando;
+
+    /**
+     * Posição do início da fila {@link #aguardando}.
+     */
+    private int inicioAguardando;
+
+    /**
+     * Número de células em {@link #aguardando}.
+     */
+    private int quantidadeAguardando;
+
+    /**
+     * Células comidas no passo atual.
+     */
+    private int[] comidas;
+
+    /**
+     * Número de posições válidas em {@link #comidas}.
+     */
+    private int quantidadeComidas;
+
+    /**
+     * Próxima posição de {@link #comidas} durante o registro concorrente;
+     * null fora dele.
+     */
+    private AtomicInteger proximaComidaConcorrente;
+
+    /**
+     * Fila da busca em largura (também guarda as células invalidadas).
+     */
+    private int[] fila;
+
+    /**
+     * Células de partida da propagação, agrupadas por distância.
+     */
+    private int[] sementes;
+
+    /**
+     * Início do grupo de cada distância em {@link #sementes}; a posição
+     * {@code raio + 1} é o total.
+     */
+    private final int[] inicioGrupo;
+
+    // ========== CONSTRUTOR ==========
+
+    /**
+     * Cria o campo de um mundo, ainda vazio (todas as células longe); deve
+     * ser montado com {@link #reconstruir(CamadaVegetacao)}.
+     *
+     * @param terreno    Obstáculos do mundo
+     * @param parametros Parâmetros do mundo (raio de forragem e crescimento)
+     */
+    public GradienteAlimento(Terreno terreno, ParametrosSimulacao parametros) {
+        this.profundidade = terreno.getProfundidade();
+        this.largura = terreno.getLargura();
+        this.raio = parametros.getRaioForragem();
+        this.longe = (byte) (raio + 1);
+        this.maxCrescimento = parametros.getMaxCrescimento();
+        this.terreno = terreno;
+        this.distancia = new byte[profundidade * largura];
+        Arrays.fill(distancia, longe);
+        this.aguardando = new int[CAPACIDADE_INICIAL];
+        this.comidas = new int[CAPACIDADE_INICIAL];
+        this.fila = new int[CAPACIDADE_INICIAL];
+        this.sementes = new int[CAPACIDADE_INICIAL];
+        this.inicioGrupo = new int[raio + 2];
+    }
+
+    // ========== MÉTODOS DE REGISTRO ==========
+
+    /**
+     * Registra que a grama madura de uma célula foi comida neste passo.
+     *
+     * @param indice Índice plano da célula
+     */
+    public void registrarComida(int indice) {
+        if (proximaComidaConcorrente != null) {
+            comidas[proximaComidaConcorrente.getAndIncrement()] = indice;
+            return;
+        }
+        if (quantidadeComidas == comidas.length) {
+            comidas = Arrays.copyOf(comidas, quantidadeComidas * 2);
+        }
+        comidas[quantidadeComidas++] = indice;
+    }
+
+    /**
+     * Prepara o registro de células comidas por várias threads.
+     * <p>
+     * Reserva espaço para até {@code limite} registros; a partir daqui as
+     * posições são distribuídas por um contador atômico.
+     * </p>
+     *
+     * @param limite Limite de registros até
+     *               {@link #encerrarRegistroConcorrente()} (um por animal)
+     */
+    public void iniciarRegistroConcorrente(int limite) {
+        if (comidas.length < quantidadeComidas + limite) {
+            comidas = Arrays.copyOf(comidas, quantidadeComidas + limite);
+        }
+        proximaComidaConcorrente = new AtomicInteger(quantidadeComidas);
+    }
+
+    /**
+     * Encerra o registro concorrente, depois que todas as threads
+     * terminaram.
+     */
+    public void encerrarRegistroConcorrente() {
+        quantidadeComidas = proximaComidaConcorrente.get();
+        proximaComidaConcorrente = null;
+    }
+
+    // ========== MÉTODOS DE ATUALIZAÇÃO ==========
+
+    /**
+     * Recalcula o campo inteiro a partir da vegetação, descartando os
+     * registros pendentes.
+     * <p>
+     * As células imaturas entram na fila de maturação do nível mais alto
+     * para o mais baixo, que é a ordem em que vão amadurecer.
+     * </p>
+     *
+     * @param vegetacao Camada de vegetação do mundo
+     */
+    public void reconstruir(CamadaVegetacao vegetacao) {
+        Arrays.fill(distancia, longe);
+        quantidadeComidas = 0;
+        inicioAguardando = 0;
+        quantidadeAguardando = 0;
+
+        int[] porNivel = new int[maxCrescimento + 1];
+        int fontes = 0;
+        for (int indice = 0; indice < distancia.length; indice++) {
+            if (!terreno.ehPassavel(indice)) {
+                continue;
+            }
+            if (vegetacao.estaMadura(indice)) {
+                fontes++;
+            } else {
+                porNivel[vegetacao.getNivelCrescimento(indice)]++;
+            }
+        }
+
+        // Contagem por nível, do mais alto para o mais baixo
+        int imaturas = 0;
+        for (int nivel = maxCrescimento; nivel >= 0; nivel--) {
+            int quantidade = porNivel[nivel];
+            porNivel[nivel] = imaturas;
+            imaturas += quantidade;
+        }
+        if (aguardando.length < imaturas) {
+            aguardando = new int[imaturas];
+        }
+        sementes = garantir(sementes, fontes);
+        int quantidadeSementes = 0;
+        for (int indice = 0; indice < distancia.length; indice++) {
+            if (!terreno.ehPassavel(indice)) {
+                continue;
+            }
+            if (vegetacao.estaMadura(indice)) {
+                distancia[indice] = 0;
+                sementes[quantidadeSementes++] = indice;
+            } else {
+                aguardando[porNivel[vegetacao.getNivelCrescimento(indice)]++] = indice;
+            }
+        }
+        quantidadeAguardando = imaturas;
+
+        Arrays.fill(inicioGrupo, 1, inicioGrupo.length, quantidadeSementes);
+        inicioGrupo[0] = 0;
+        propagar();
+    }
+
+    /**
+     * Repara o campo com as células comidas desde a última atualização e as
+     * que amadureceram desde então.
+     * <p>
+     * Deve ser chamado depois do crescimento da grama, com a camada que já
+     * tem o estado do próximo passo.
+     * </p>
+     *
+     * @param vegetacao Camada de vegetação do mundo
+     */
+    public void atualizar(CamadaVegetacao vegetacao) {
+        int invalidadas = invalidarComidas();
+
+        // Novas fontes, na ordem em que foram comidas
+        int novasFontes = 0;
+        while (quantidadeAguardando > 0 && vegetacao.estaMadura(aguardando[inicioAguardando])) {
+            int indice = aguardando[inicioAguardando];
+            inicioAguardando = (inicioAguardando + 1) % aguardando.length;
+            quantidadeAguardando--;
+            distancia[indice] = 0;
+            fila = garantir(fila, invalidadas + novasFontes + 1);
+            fila[invalidadas + novasFontes++] = indice;
+        }
+        if (invalidadas == 0 && novasFontes == 0) {
+            return;
+        }
+
+        // Estimativa de cada invalidada pelas vizinhas que continuam válidas
+        // (as que acabaram de amadurecer já são fonte)
+        Arrays.fill(inicioGrupo, 0);
+        for (int i = 0; i < invalidadas; i++) {
+            int indice = fila[i];
+            if (distancia[indice] == 0) {
+                continue;
+            }
+            int melhor = menorVizinha(indice) + 1;
+            if (melhor <= raio) {
+                distancia[indice] = (byte) melhor;
+                inicioGrupo[melhor]++;
+            }
+        }
+        inicioGrupo[0] = novasFontes;
+
+        // Agrupa as sementes por distância (contagem)
+        int total = 0;
+        for (int d = 0; d <= raio + 1; d++) {
+            int quantidade = d <= raio ? inicioGrupo[d] : 0;
+            inicioGrupo[d] = total;
+            total += quantidade;
+        }
+        sementes = garantir(sementes, total);
+        int[] posicao = Arrays.copyOf(inicioGrupo, raio + 1);
+        for (int i = invalidadas; i < invalidadas + novasFontes; i++) {
+            sementes[posicao[0]++] = fila[i];
+        }
+        for (int i = 0; i < invalidadas; i++) {
+            int d = distancia[fila[i]];
+            if (d > 0 && d <= raio) {
+                sementes[posicao[d]++] = fila[i];
+            }
+        }
+        propagar();
+    }
+
+    /**
+     * Retira as células comidas das fontes, coloca-as na fila de maturação
+     * e invalida as células cuja distância só se apoiava nelas.
+     * <p>
+     * A invalidação anda por camadas de distância crescente: uma célula da
+     * camada {@code d + 1} vizinha de uma invalidada só é invalidada se não
+     * tem outra vizinha válida na camada {@code d}. Como a camada {@code d}
+     * inteira é decidida antes, a verificação é exata.
+     * </p>
+     *
+     * @return Número de células invalidadas, guardadas no início de
+     *         {@link #fila}
+     */
+    private int invalidarComidas() {
+        int fim = 0;
+        for (int i = 0; i < quantidadeComidas; i++) {
+            int indice = comidas[i];
+            aguardar(indice);
+            if (distancia[indice] == 0) {
+                distancia[indice] = longe;
+                fila = garantir(fila, fim + 1);
+                fila[fim++] = indice;
+            }
+        }
+        quantidadeComidas = 0;
+
+        int camada = 0;
+        int fimCamada = fim;
+        for (int inicio = 0; inicio < fim; inicio++) {
+            if (inicio == fimCamada) {
+                camada++;
+                fimCamada = fim;
+            }
+            if (camada >= raio) {
+                break;
+            }
+            int centro = fila[inicio];
+            int linha = centro / largura;
+            int coluna = centro - linha * largura;
+            for (int d = 0; d < 8; d++) {
+                int proxLinha = linha + DESLOC_LINHA[d];
+                int proxColuna = coluna + DESLOC_COLUNA[d];
+                if (proxLinha < 0 || proxLinha >= profundidade || proxColuna < 0 || proxColuna >= largura) {
+                    continue;
+                }
+                int vizinha = proxLinha * largura + proxColuna;
+                if (distancia[vizinha] == camada + 1 && menorVizinha(vizinha) != camada) {
+                    distancia[vizinha] = longe;
+                    fila = garantir(fila, fim + 1);
+                    fila[fim++] = vizinha;
+                }
+            }
+        }
+        return fim;
+    }
+
+    /**
+     * Espalha as distâncias a partir de {@link #sementes}, agrupadas por
+     * {@link #inicioGrupo}, em uma busca em largura por camadas.
+     * <p>
+     * Cada camada recebe as sementes da sua distância que não foram
+     * alcançadas antes por um caminho menor; uma célula só é visitada quando
+     * sua distância diminui.
+     * </p>
+     */
+    private void propagar() {
+        int cabeca = 0;
+        int cauda = 0;
+        int lida = 0;
+        for (int camada = 0; camada <= raio; camada++) {
+            int fimGrupo = inicioGrupo[camada + 1];
+            for (; lida < fimGrupo; lida++) {
+                int semente = sementes[lida];
+                if (distancia[semente] == camada) {
+                    fila = garantir(fila, cauda + 1);
+                    fila[cauda++] = semente;
+                }
+            }
+            if (camada == raio) {
+                break;
+            }
+            int fimCamada = cauda;
+            byte proxima = (byte) (camada + 1);
+            for (; cabeca < fimCamada; cabeca++) {
+                int centro = fila[cabeca];
+                int linha = centro / largura;
+                int coluna = centro - linha * largura;
+                for (int d = 0; d < 8; d++) {
+                    int proxLinha = linha + DESLOC_LINHA[d];
+                    int proxColuna = coluna + DESLOC_COLUNA[d];
+                    if (proxLinha < 0 || proxLinha >= profundidade || proxColuna < 0 || proxColuna >= largura) {
+                        continue;
+                    }
+                    int vizinha = proxLinha * largura + proxColuna;
+                    if (distancia[vizinha] > proxima && terreno.ehPassavel(vizinha)) {
+                        distancia[vizinha] = proxima;
+                        fila = garantir(fila, cauda + 1);
+                        fila[cauda++] = vizinha;
+                    }
+                }
+            }
+        }
+    }
+
+    // ========== MÉTODOS DE CONSULTA ==========
+
+    /**
+     * Retorna a distância de uma célula até a grama madura mais próxima.
+     *
+     * @param indice Índice plano da célula
+     * @return Distância em passos, ou {@code raio + 1} se não há grama
+     *         madura dentro do raio
+     */
+    public int getDistancia(int indice) {
+        return distancia[indice];
+    }
+
+    /**
+     * Sorteia, entre as vizinhas livres de um campo, uma das mais próximas
+     * da grama madura, com a mesma probabilidade para cada empatada.
+     *
+     * @param campo     Campo onde a vizinha deve estar livre
+     * @param linha     Linha da célula central
+     * @param coluna    Coluna da célula central
+     * @param aleatorio Gerador usado no sorteio
+     * @return Índice plano da vizinha, ou -1 se nenhuma vizinha livre tem
+     *         grama madura dentro do raio
+     */
+    public int sortearPasso(CampoInterativo campo, int linha, int coluna, SplittableRandom aleatorio) {
+        int melhor = longe;
+        int candidatas = 0;
+        for (int d = 0; d < 8; d++) {
+            int proxLinha = linha + DESLOC_LINHA[d];
+            int proxColuna = coluna + DESLOC_COLUNA[d];
+            if (proxLinha < 0 || proxLinha >= profundidade || proxColuna < 0 || proxColuna >= largura) {
+                continue;
+            }
+            int vizinha = proxLinha * largura + proxColuna;
+            int valor = distancia[vizinha];
+            if (valor > melhor || !campo.estaLivre(vizinha)) {
+                continue;
+            }
+            if (valor < melhor) {
+                melhor = valor;
+                candidatas = 0;
+            }
+            if (valor < longe) {
+                candidatas |= 1 << d;
+            }
+        }
+        if (candidatas == 0) {
+            return -1;
+        }
+        int pular = aleatorio.nextInt(Integer.bitCount(candidatas));
+        for (int i = 0; i < pular; i++) {
+            candidatas &= candidatas - 1;
+        }
+        int d = Integer.numberOfTrailingZeros(candidatas);
+        return (linha + DESLOC_LINHA[d]) * largura + coluna + DESLOC_COLUNA[d];
+    }
+
+    // ========== MÉTODOS AUXILIARES ==========
+
+    /**
+     * Menor distância entre as vizinhas de uma célula.
+     *
+     * @param indice Índice plano da célula
+     * @return Menor distância, ou {@code raio + 1} se nenhuma está no raio
+     */
+    private int menorVizinha(int indice) {
+        int linha = indice / largura;
+        int coluna = indice - linha * largura;
+        int menor = longe;
+        for (int d = 0; d < 8; d++) {
+            int proxLinha = linha + DESLOC_LINHA[d];
+            int proxColuna = coluna + DESLOC_COLUNA[d];
+            if (proxLinha >= 0 && proxLinha < profundidade && proxColuna >= 0 && proxColuna < largura) {
+                menor = Math.min(menor, distancia[proxLinha * largura + proxColuna]);
+            }
+        }
+        return menor;
+    }
+
+    /**
+     * Coloca uma célula comida no fim da fila de maturação.
+     *
+     * @param indice Índice plano da célula
+     */
+    private void aguardar(int indice) {
+        if (quantidadeAguardando == aguardando.length) {
+            int[] maior = new int[Math.max(CAPACIDADE_INICIAL, aguardando.length * 2)];
+            for (int i = 0; i < quantidadeAguardando; i++) {
+                maior[i] = aguardando[(inicioAguardando + i) % aguardando.length];
+            }
+            aguardando = maior;
+            inicioAguardando = 0;
+        }
+        aguardando[(inicioAguardando + quantidadeAguardando) % aguardando.length] = indice;
+        quantidadeAguardando++;
+    }
+
+    /**
+     * Garante que um vetor de trabalho tenha ao menos uma capacidade,
+     * dobrando-o se preciso.
+     *
+     * @param vetor      Vetor atual
+     * @param capacidade Capacidade necessária
+     * @return O próprio vetor ou uma cópia maior
+     */
+    private static int[] garantir(int[] vetor, int capacidade) {
+        if (vetor.length >= capacidade) {
+            return vetor;
+        }
+        return Arrays.copyOf(vetor, Math.max(capacidade, vetor.length * 2));
+    }
+}
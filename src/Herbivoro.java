@@ -14,7 +14,8 @@ import java.util.List;
  * </p>
  * <ul>
  * <li>Alimentam-se exclusivamente de vegetação (grama madura)</li>
- * <li>Movem-se aleatoriamente pelo campo em busca de alimento</li>
+ * <li>Movem-se aleatoriamente pelo campo em busca de alimento ou, com
+ * raio de forragem, em direção à grama madura mais próxima</li>
  * <li>Morrem de fome se não conseguirem se alimentar</li>
  * <li>São presas naturais de predadores</li>
  * <li>Reproduzem-se mais rapidamente que predadores</li>
@@ -36,7 +37,7 @@ import java.util.List;
  * <p>
  * A cada turno, o herbívoro:
  * <ol>
- * <li>Envelhece (pode morrer de velhice)</li>
+ * <li>Envelhece (a morte por velhice é agendada pelo motor)</li>
  * <li>Sente fome (perde energia, pode morrer de inanição)</li>
  * <li>Tenta se alimentar na posição atual</li>
  * <li>Tenta se reproduzir se houver parceiro próximo</li>
@@ -45,6 +46,17 @@ import java.util.List;
  * </p>
  * 
  * <p>
+ * <strong>Forragem:</strong>
+ * </p>
+ * <p>
+ * Com {@link ParametrosSimulacao#getRaioForragem()} maior que zero, o
+ * mundo mantém um {@link GradienteAlimento} com a distância de cada célula
+ * até a grama madura mais próxima. O herbívoro anda para uma das vizinhas
+ * livres mais próximas da grama, com custo constante por turno; sem grama
+ * dentro do raio, move-se ao acaso.
+ * </p>
+ * 
+ * <p>
  * <strong>Papel Ecológico:</strong>
  * </p>
  * <p>
@@ -56,7 +68,7 @@ import java.util.List;
  * @author Grupo 10
  * @version 1.0
  * @see Animal
- * @see Vegetacao
+ * @see VegetacaoPreguicosa
  * @see Coelho
  * @see Rato
  */
@@ -71,11 +83,12 @@ public abstract class Herbivoro extends Animal {
      * incluindo idade, localização e nível de alimento inicial.
      * </p>
      * 
+     * @param parametros     Parâmetros do mundo
      * @param idadeAleatoria Se true, a idade será aleatória entre 0 e idade máxima;
      *                       se false, a idade será zero (recém-nascido)
      */
-    public Herbivoro(boolean idadeAleatoria) {
-        super(idadeAleatoria);
+    public Herbivoro(ParametrosSimulacao parametros, boolean idadeAleatoria) {
+        super(parametros, idadeAleatoria);
     }
 
     // ========== MÉTODOS DE AÇÃO ==========
@@ -89,12 +102,14 @@ public abstract class Herbivoro extends Animal {
      * <li>Incrementa fome (gasto de energia)</li>
      * <li>Se ainda vivo: tenta se alimentar de grama</li>
      * <li>Se ainda vivo: tenta se reproduzir</li>
-     * <li>Se ainda vivo: move-se para célula adjacente</li>
+     * <li>Se ainda vivo: move-se para célula adjacente, seguindo o
+     * gradiente de alimento se houver</li>
      * </ol>
      * </p>
      * <p>
-     * O herbívoro pode morrer de fome ou velhice durante este processo,
-     * caso em que as etapas seguintes não são executadas.
+     * O herbívoro pode morrer de fome durante este processo, caso em que as
+     * etapas seguintes não são executadas. A morte por velhice acontece
+     * antes, no início do passo ({@link MotorSimulacao}).
      * </p>
      * 
      * @param campoAtual      Campo no estado atual (leitura)
@@ -109,8 +124,31 @@ public abstract class Herbivoro extends Animal {
         if (estaVivo()) {
             tentarComerGrama(campoAtual);
             processarReproducao(campoAtualizado, novosHerbivoros);
-            tentarMoverLivremente(campoAtualizado);
+            forragear(campoAtualizado);
+        }
+    }
+
+    /**
+     * Move o herbívoro em direção à grama madura mais próxima.
+     * <p>
+     * Sorteia entre as vizinhas livres de menor distância no
+     * {@link GradienteAlimento} do campo. Sem gradiente, ou sem vizinha
+     * livre com grama dentro do raio, move-se livremente.
+     * </p>
+     *
+     * @param campoAtualizado Campo de destino do movimento
+     */
+    private void forragear(CampoInterativo campoAtualizado) {
+        GradienteAlimento gradiente = campoAtualizado.getGradienteAlimento();
+        if (gradiente != null) {
+            Localizacao aqui = getLocalizacao();
+            int passo = gradiente.sortearPasso(campoAtualizado, aqui.getLinha(), aqui.getColuna(), getAleatorio());
+            if (passo >= 0) {
+                moverPara(campoAtualizado.localizacaoDoIndice(passo), campoAtualizado);
+                return;
+            }
         }
+        tentarMoverLivremente(campoAtualizado);
     }
 
     // ========== MÉTODOS DE ALIMENTAÇÃO ==========
@@ -129,7 +167,7 @@ public abstract class Herbivoro extends Animal {
      * <p>
      * <strong>Limite de Saciedade:</strong><br>
      * O nível de alimento é limitado a
-     * {@link Configuracao#VALOR_ALIMENTAR_MAX_HERBIVORO}
+     * {@link ParametrosSimulacao#getValorAlimentarMaxHerbivoro()}
      * para evitar que herbívoros acumulem energia infinita, mantendo o
      * equilíbrio ecológico da simulação.
      * </p>
@@ -140,8 +178,9 @@ public abstract class Herbivoro extends Animal {
         int comida = campo.comerGrama(getLocalizacao());
         if (comida > 0) {
             setNivelAlimento(getNivelAlimento() + comida);
-            if (getNivelAlimento() > Configuracao.VALOR_ALIMENTAR_MAX_HERBIVORO)
-                setNivelAlimento(Configuracao.VALOR_ALIMENTAR_MAX_HERBIVORO);
+            int maximo = getParametros().getValorAlimentarMaxHerbivoro();
+            if (getNivelAlimento() > maximo)
+                setNivelAlimento(maximo);
         }
     }
 
@@ -160,7 +199,7 @@ public abstract class Herbivoro extends Animal {
      * {@code
      * @Override
      * protected Herbivoro criarFilho() {
-     *     return new Coelho(false);
+     *     return new Coelho(getParametros(), false);
      * }
      * }
      * </pre>
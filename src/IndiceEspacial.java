@@ -0,0 +1,300 @@
+import java.util.Arrays;
+
+/**
+ * Índice espacial por espécie: as células ocupadas por cada espécie,
+ * agrupadas em baldes quadrados de lado fixo.
+ * <p>
+ * O mundo é repartido em baldes de {@code 2^bitsLado} células de lado. Para
+ * cada espécie, cada balde guarda a lista das células ocupadas por ela. O
+ * índice acompanha as escritas de um campo ({@link #inserir} ao colocar um
+ * animal, {@link #remover} ao sobrescrever ou esvaziar uma célula,
+ * {@link #limpar} ao limpar o campo) e responde à busca da célula mais
+ * próxima de algumas espécies dentro de um raio
+ * ({@link #maisProxima}). A busca percorre apenas as listas dos baldes que
+ * cruzam o quadrado do raio: o custo acompanha a ocupação desses baldes, e
+ * não as {@code (2R+1)^2} células do quadrado.
+ * </p>
+ *
+ * <p>
+ * <strong>Entradas antigas:</strong>
+ * </p>
+ * <p>
+ * Um animal que morre continua no índice até a célula ser limpa ou
+ * sobrescrita, como continua no campo. Por isso toda candidata passa por um
+ * {@link Filtro}, que confere o ocupante atual da célula (espécie e se
+ * ainda está vivo) antes de ser aceita.
+ * </p>
+ *
+ * <p>
+ * <strong>Desempate:</strong>
+ * </p>
+ * <p>
+ * Entre candidatas à mesma distância vence a de menor índice plano. O
+ * resultado não depende da ordem das listas, que muda com a ordem das
+ * colocações (por exemplo, entre as threads do {@link MotorParalelo}).
+ * </p>
+ *
+ * @author Grupo 10
+ * @version 1.0
+ * @see Campo
+ * @see Predador
+ */
+public class IndiceEspacial {
+
+    // ========== TIPOS ==========
+
+    /**
+     * Confirmação de uma célula candidata encontrada no índice.
+     */
+    public interface Filtro {
+
+        /**
+         * Confere se a célula ainda vale para a busca.
+         *
+         * @param especie Espécie sob a qual a célula está no índice
+         * @param indice  Índice plano da célula
+         * @return true para aceitar a célula
+         */
+        boolean aceitar(int especie, int indice);
+    }
+
+    // ========== ATRIBUTOS ESTÁTICOS ==========
+
+    /**
+     * Capacidade inicial da lista de um balde.
+     */
+    private static final int CAPACIDADE_INICIAL = 4;
+
+    // ========== ATRIBUTOS ==========
+
+    /**
+     * Número de linhas do mundo.
+     */
+    private final int profundidade;
+
+    /**
+     * Número de colunas do mundo.
+     */
+    private final int largura;
+
+    /**
+     * Log na base 2 do lado de um balde.
+     */
+    private final int bitsLado;
+
+    /**
+     * Número de baldes em cada linha de baldes.
+     */
+    private final int baldesPorLinha;
+
+    /**
+     * Número total de baldes.
+     */
+    private final int baldes;
+
+    /**
+     * Células de cada balde, por espécie ({@code [especie][balde]});
+     * espécies e baldes nunca usados são null.
+     */
+    private int[][][] celulas;
+
+    /**
+     * Tamanho da lista de cada balde, por espécie.
+     */
+    private int[][] tamanhos;
+
+    /**
+     * Pares (espécie, balde) com lista não vazia, codificados como
+     * {@code especie * baldes + balde}; percorridos por {@link #limpar()}.
+     */
+    private long[] usados;
+
+    /**
+     * Número de posições válidas em {@link #usados}.
+     */
+    private int quantidadeUsados;
+
+    // ========== CONSTRUTOR ==========
+
+    /**
+     * Cria um índice vazio para um mundo.
+     *
+     * @param profundidade Número de linhas do mundo
+     * @param largura      Número de colunas do mundo
+     * @param bitsLado     Log na base 2 do lado dos baldes
+     */
+    public IndiceEspacial(int profundidade, int largura, int bitsLado) {
+        this.profundidade = profundidade;
+        this.largura = largura;
+        this.bitsLado = bitsLado;
+        this.baldesPorLinha = ((largura - 1) >> bitsLado) + 1;
+        this.baldes = baldesPorLinha * (((profundidade - 1) >> bitsLado) + 1);
+        this.celulas = new int[RegistroEspecies.quantidade()][][];
+        this.tamanhos = new int[RegistroEspecies.quantidade()][];
+        this.usados = new long[64];
+    }
+
+    // ========== MÉTODOS DE ALTERAÇÃO ==========
+
+    /**
+     * Registra uma célula ocupada por uma espécie.
+     *
+     * @param especie Ordinal da espécie
+     * @param indice  Índice plano da célula
+     */
+    public void inserir(int especie, int indice) {
+        if (especie >= celulas.length) {
+            int quantidade = Math.max(especie + 1, RegistroEspecies.quantidade());
+            celulas = Arrays.copyOf(celulas, quantidade);
+            tamanhos = Arrays.copyOf(tamanhos, quantidade);
+        }
+        if (celulas[especie] == null) {
+            celulas[especie] = new int[baldes][];
+            tamanhos[especie] = new int[baldes];
+        }
+        int balde = baldeDe(indice);
+        int[] lista = celulas[especie][balde];
+        int tamanho = tamanhos[especie][balde];
+        if (lista == null) {
+            lista = new int[CAPACIDADE_INICIAL];
+            celulas[especie][balde] = lista;
+        } else if (tamanho == lista.length) {
+            lista = Arrays.copyOf(lista, tamanho * 2);
+            celulas[especie][balde] = lista;
+        }
+        if (tamanho == 0) {
+            if (quantidadeUsados == usados.length) {
+                usados = Arrays.copyOf(usados, quantidadeUsados * 2);
+            }
+            usados[quantidadeUsados++] = (long) especie * baldes + balde;
+        }
+        lista[tamanho] = indice;
+        tamanhos[especie][balde] = tamanho + 1;
+    }
+
+    /**
+     * Retira uma célula da lista de uma espécie, se estiver lá.
+     * <p>
+     * Procura na lista do balde e troca a célula pela última, em tempo
+     * proporcional à ocupação do balde.
+     * </p>
+     *
+     * @param especie Ordinal da espécie
+     * @param indice  Índice plano da célula
+     */
+    public void remover(int especie, int indice) {
+        if (especie < 0 || especie >= celulas.length || celulas[especie] == null) {
+            return;
+        }
+        int balde = baldeDe(indice);
+        int[] lista = celulas[especie][balde];
+        int tamanho = tamanhos[especie][balde];
+        for (int i = 0; i < tamanho; i++) {
+            if (lista[i] == indice) {
+                lista[i] = lista[tamanho - 1];
+                tamanhos[especie][balde] = tamanho - 1;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Esvazia o índice, percorrendo apenas os baldes usados desde a última
+     * limpeza. As listas são mantidas para reaproveitamento.
+     */
+    public void limpar() {
+        for (int i = 0; i < quantidadeUsados; i++) {
+            long usado = usados[i];
+            tamanhos[(int) (usado / baldes)][(int) (usado % baldes)] = 0;
+        }
+        quantidadeUsados = 0;
+    }
+
+    // ========== MÉTODOS DE CONSULTA ==========
+
+    /**
+     * Procura a célula mais próxima (distância de Chebyshev, como na
+     * vizinhança de Moore) ocupada por uma das espécies, sem contar a
+     * própria célula central.
+     * <p>
+     * Visita os baldes que cruzam o quadrado de lado {@code 2 * raio + 1};
+     * baldes inteiros mais distantes que a melhor candidata já aceita são
+     * pulados.
+     * </p>
+     *
+     * @param linha    Linha da célula central
+     * @param coluna   Coluna da célula central
+     * @param raio     Distância máxima, em células
+     * @param especies Ordinais das espécies procuradas
+     * @param filtro   Confirmação de cada candidata
+     * @return Índice plano da célula mais próxima, ou -1 se nenhuma foi
+     *         aceita
+     */
+    public int maisProxima(int linha, int coluna, int raio, int[] especies, Filtro filtro) {
+        int primeiraLinha = Math.max(linha - raio, 0) >> bitsLado;
+        int ultimaLinha = Math.min(linha + raio, profundidade - 1) >> bitsLado;
+        int primeiraColuna = Math.max(coluna - raio, 0) >> bitsLado;
+        int ultimaColuna = Math.min(coluna + raio, largura - 1) >> bitsLado;
+        int melhor = -1;
+        int melhorDistancia = raio + 1;
+        for (int especie : especies) {
+            if (especie >= celulas.length || celulas[especie] == null) {
+                continue;
+            }
+            int[][] listas = celulas[especie];
+            int[] tamanhosEspecie = tamanhos[especie];
+            for (int bl = primeiraLinha; bl <= ultimaLinha; bl++) {
+                int distanciaLinhas = distanciaAoIntervalo(linha, bl << bitsLado, ((bl + 1) << bitsLado) - 1);
+                for (int bc = primeiraColuna; bc <= ultimaColuna; bc++) {
+                    int balde = bl * baldesPorLinha + bc;
+                    int tamanho = tamanhosEspecie[balde];
+                    if (tamanho == 0 || Math.max(distanciaLinhas, distanciaAoIntervalo(coluna, bc << bitsLado,
+                            ((bc + 1) << bitsLado) - 1)) > melhorDistancia) {
+                        continue;
+                    }
+                    int[] lista = listas[balde];
+                    for (int i = 0; i < tamanho; i++) {
+                        int indice = lista[i];
+                        int l = indice / largura;
+                        int distancia = Math.max(Math.abs(l - linha), Math.abs(indice - l * largura - coluna));
+                        if (distancia == 0 || distancia > melhorDistancia
+                                || (distancia == melhorDistancia && indice > melhor)) {
+                            continue;
+                        }
+                        if (filtro.aceitar(especie, indice)) {
+                            melhor = indice;
+                            melhorDistancia = distancia;
+                        }
+                    }
+                }
+            }
+        }
+        return melhor;
+    }
+
+    // ========== MÉTODOS AUXILIARES ==========
+
+    /**
+     * Retorna o balde de uma célula.
+     *
+     * @param indice Índice plano da célula
+     * @return Índice do balde
+     */
+    private int baldeDe(int indice) {
+        int linha = indice / largura;
+        int coluna = indice - linha * largura;
+        return (linha >> bitsLado) * baldesPorLinha + (coluna >> bitsLado);
+    }
+
+    /**
+     * Distância de uma coordenada a um intervalo fechado.
+     *
+     * @param valor  Coordenada
+     * @param inicio Início do intervalo
+     * @param fim    Fim do intervalo
+     * @return 0 se dentro, senão a distância à ponta mais próxima
+     */
+    private static int distanciaAoIntervalo(int valor, int inicio, int fim) {
+        return valor < inicio ? inicio - valor : valor > fim ? valor - fim : 0;
+    }
+}
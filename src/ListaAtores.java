@@ -0,0 +1,188 @@
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * Lista dos atores de um mundo, com remoção dos mortos em uma única
+ * passada.
+ * <p>
+ * Atores mortos não são retirados um a um (cada remoção no meio de um
+ * {@link java.util.ArrayList} desloca todo o restante, e uma mortandade de
+ * {@code k} animais custaria O(n·k)). Eles continuam na lista, marcados por
+ * {@link Ator#estaVivo()}, até {@link #removerMortos()}, que compacta a
+ * lista em O(n) no fim de cada passo, incluindo as presas comidas depois
+ * de sua vez no mesmo passo.
+ * </p>
+ *
+ * <p>
+ * <strong>Ordem:</strong>
+ * </p>
+ * <p>
+ * A compactação é estável: os sobreviventes mantêm a ordem relativa. A
+ * ordem aleatória sorteada pelo {@link Populador} (e, portanto, o
+ * resultado de uma execução com semente fixa) não depende de quando os
+ * mortos são retirados.
+ * </p>
+ *
+ * <p>
+ * Implementa {@link java.util.List} para os usos gerais (percorrer,
+ * embaralhar, contar); as remoções por índice da interface mantêm a
+ * semântica usual, em O(n).
+ * </p>
+ *
+ * @author Grupo 10
+ * @version 1.0
+ * @see MotorSimulacao
+ */
+public class ListaAtores extends AbstractList<Ator> implements RandomAccess {
+
+    // ========== ATRIBUTOS ESTÁTICOS ==========
+
+    /**
+     * Capacidade inicial do vetor de atores.
+     */
+    private static final int CAPACIDADE_INICIAL = 64;
+
+    // ========== ATRIBUTOS ==========
+
+    /**
+     * Atores da lista; posições a partir de {@link #tamanho} são null.
+     */
+    private Ator[] atores;
+
+    /**
+     * Número de atores na lista.
+     */
+    private int tamanho;
+
+    // ========== CONSTRUTOR ==========
+
+    /**
+     * Cria uma lista vazia.
+     */
+    public ListaAtores() {
+        atores = new Ator[CAPACIDADE_INICIAL];
+    }
+
+    // ========== MÉTODOS DE CONSULTA ==========
+
+    @Override
+    public Ator get(int indice) {
+        verificarIndice(indice);
+        return atores[indice];
+    }
+
+    @Override
+    public int size() {
+        return tamanho;
+    }
+
+    // ========== MÉTODOS DE ALTERAÇÃO ==========
+
+    @Override
+    public Ator set(int indice, Ator ator) {
+        verificarIndice(indice);
+        Ator anterior = atores[indice];
+        atores[indice] = ator;
+        return anterior;
+    }
+
+    @Override
+    public boolean add(Ator ator) {
+        garantirCapacidade(tamanho + 1);
+        atores[tamanho++] = ator;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void add(int indice, Ator ator) {
+        if (indice < 0 || indice > tamanho) {
+            throw new IndexOutOfBoundsException("Índice " + indice + ", tamanho " + tamanho);
+        }
+        garantirCapacidade(tamanho + 1);
+        System.arraycopy(atores, indice, atores, indice + 1, tamanho - indice);
+        atores[indice] = ator;
+        tamanho++;
+        modCount++;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Ator> outros) {
+        if (outros.isEmpty()) {
+            return false;
+        }
+        garantirCapacidade(tamanho + outros.size());
+        for (Ator ator : outros) {
+            atores[tamanho++] = ator;
+        }
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public Ator remove(int indice) {
+        verificarIndice(indice);
+        Ator removido = atores[indice];
+        System.arraycopy(atores, indice + 1, atores, indice, tamanho - indice - 1);
+        atores[--tamanho] = null;
+        modCount++;
+        return removido;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(atores, 0, tamanho, null);
+        tamanho = 0;
+        modCount++;
+    }
+
+    /**
+     * Retira todos os atores mortos em uma única passada, mantendo a ordem
+     * dos vivos.
+     *
+     * @return Número de atores retirados
+     */
+    public int removerMortos() {
+        int mantidos = 0;
+        for (int i = 0; i < tamanho; i++) {
+            Ator ator = atores[i];
+            if (ator.estaVivo()) {
+                atores[mantidos++] = ator;
+            }
+        }
+        int removidos = tamanho - mantidos;
+        if (removidos > 0) {
+            Arrays.fill(atores, mantidos, tamanho, null);
+            tamanho = mantidos;
+            modCount++;
+        }
+        return removidos;
+    }
+
+    // ========== MÉTODOS AUXILIARES ==========
+
+    /**
+     * Aumenta o vetor, se preciso, para caber uma quantidade de atores.
+     *
+     * @param capacidade Número de atores a caber
+     */
+    private void garantirCapacidade(int capacidade) {
+        if (capacidade > atores.length) {
+            atores = Arrays.copyOf(atores, Math.max(capacidade, atores.length * 2));
+        }
+    }
+
+    /**
+     * Confere se um índice aponta para um ator da lista.
+     *
+     * @param indice Índice a conferir
+     * @throws IndexOutOfBoundsException se o índice estiver fora da lista
+     */
+    private void verificarIndice(int indice) {
+        if (indice < 0 || indice >= tamanho) {
+            throw new IndexOutOfBoundsException("Índice " + indice + ", tamanho " + tamanho);
+        }
+    }
+}
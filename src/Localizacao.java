@@ -61,7 +61,7 @@ public class Localizacao {
      * Convenção: linha 0 é o topo, valores aumentam para baixo.
      * </p>
      */
-    private int linha;
+    private final int linha;
 
     /**
      * Coordenada horizontal (índice da coluna na grade).
@@ -69,7 +69,7 @@ public class Localizacao {
      * Convenção: coluna 0 é a esquerda, valores aumentam para direita.
      * </p>
      */
-    private int coluna;
+    private final int coluna;
 
     // ========== CONSTRUTOR ==========
 
@@ -97,6 +97,13 @@ public class Localizacao {
      * suas linhas e colunas forem idênticas.
      * </p>
      * <p>
+     * Dentro da simulação as localizações vêm de uma
+     * {@link TabelaLocalizacoes}, em que cada posição tem uma única
+     * instância; nesse caso a comparação se resolve pela identidade, sem
+     * ler as coordenadas. A comparação por conteúdo só é usada para
+     * localizações criadas diretamente pelo construtor.
+     * </p>
+     * <p>
      * <strong>Exemplo:</strong>
      * 
      * <pre>
@@ -112,6 +119,9 @@ public class Localizacao {
      */
     @Override
     public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (obj instanceof Localizacao) {
             Localizacao outra = (Localizacao) obj;
             return linha == outra.getLinha() && coluna == outra.getColuna();
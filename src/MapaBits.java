@@ -0,0 +1,150 @@
+import java.util.Arrays;
+
+/**
+ * Conjunto de bits com um bit por célula de um mundo, em ordem de linhas.
+ * <p>
+ * O bit da célula de índice plano {@code i} ({@code linha * largura + coluna})
+ * fica no bit {@code i % 64} da palavra {@code i / 64}. Diferente de
+ * {@link java.util.BitSet}, permite ler vários bits consecutivos de uma vez
+ * sem criar objetos, o que é usado para montar máscaras de vizinhança.
+ * </p>
+ *
+ * <p>
+ * <strong>Uso no simulador:</strong>
+ * </p>
+ * <ul>
+ * <li>{@link Terreno}: células intransitáveis e rios pescáveis</li>
+ * <li>{@link Campo}: células ocupadas por atores na época atual</li>
+ * </ul>
+ *
+ * @author Grupo 10
+ * @version 1.0
+ * @see Terreno
+ */
+public class MapaBits {
+
+    // ========== ATRIBUTOS ==========
+
+    /**
+     * Palavras de 64 bits. Há sempre uma palavra extra no final para que
+     * leituras que cruzam o limite da última palavra não precisem de teste.
+     */
+    private final long[] palavras;
+
+    /**
+     * Número de bits válidos (células do mundo).
+     */
+    private final int tamanho;
+
+    // ========== CONSTRUTOR ==========
+
+    /**
+     * Cria um conjunto com todos os bits desligados.
+     *
+     * @param tamanho Número de células representadas
+     */
+    public MapaBits(int tamanho) {
+        this.tamanho = tamanho;
+        palavras = new long[(tamanho >>> 6) + 2];
+    }
+
+    // ========== MÉTODOS DE CONSULTA ==========
+
+    /**
+     * Verifica se o bit de uma célula está ligado.
+     *
+     * @param indice Índice plano da célula
+     * @return true se o bit está ligado
+     */
+    public boolean contem(int indice) {
+        return (palavras[indice >>> 6] & (1L << indice)) != 0;
+    }
+
+    /**
+     * Lê {@code quantidade} bits consecutivos (até 58) a partir de uma
+     * posição, devolvidos nos bits menos significativos do resultado.
+     *
+     * @param inicio     Índice plano do primeiro bit (não negativo)
+     * @param quantidade Número de bits a ler
+     * @return Bits lidos, o de {@code inicio} no bit 0
+     */
+    public long ler(int inicio, int quantidade) {
+        int palavra = inicio >>> 6;
+        int deslocamento = inicio & 63;
+        long bits = palavras[palavra] >>> deslocamento;
+        if (deslocamento + quantidade > 64) {
+            bits |= palavras[palavra + 1] << (64 - deslocamento);
+        }
+        return bits & ((1L << quantidade) - 1);
+    }
+
+    /**
+     * Retorna o índice do próximo bit ligado a partir de uma posição.
+     *
+     * @param aPartirDe Primeiro índice a considerar
+     * @return Índice do próximo bit ligado, ou -1 se não houver
+     */
+    public int proximoLigado(int aPartirDe) {
+        if (aPartirDe >= tamanho) {
+            return -1;
+        }
+        int palavra = aPartirDe >>> 6;
+        long bits = palavras[palavra] & (-1L << aPartirDe);
+        while (bits == 0) {
+            palavra++;
+            if (palavra >= palavras.length) {
+                return -1;
+            }
+            bits = palavras[palavra];
+        }
+        int indice = (palavra << 6) + Long.numberOfTrailingZeros(bits);
+        return indice < tamanho ? indice : -1;
+    }
+
+    /**
+     * Retorna o número de células representadas.
+     *
+     * @return Tamanho do conjunto em bits
+     */
+    public int getTamanho() {
+        return tamanho;
+    }
+
+    // ========== MÉTODOS DE MODIFICAÇÃO ==========
+
+    /**
+     * Liga o bit de uma célula.
+     *
+     * @param indice Índice plano da célula
+     */
+    public void ligar(int indice) {
+        palavras[indice >>> 6] |= 1L << indice;
+    }
+
+    /**
+     * Desliga o bit de uma célula.
+     *
+     * @param indice Índice plano da célula
+     */
+    public void desligar(int indice) {
+        palavras[indice >>> 6] &= ~(1L << indice);
+    }
+
+    /**
+     * Liga neste conjunto todos os bits ligados em outro de mesmo tamanho.
+     *
+     * @param outro Conjunto a unir
+     */
+    public void unir(MapaBits outro) {
+        for (int i = 0; i < palavras.length; i++) {
+            palavras[i] |= outro.palavras[i];
+        }
+    }
+
+    /**
+     * Desliga todos os bits.
+     */
+    public void limpar() {
+        Arrays.fill(palavras, 0L);
+    }
+}
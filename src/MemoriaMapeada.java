@@ -0,0 +1,232 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Região de memória fora do heap, mapeada de um arquivo.
+ * <p>
+ * Um {@link MappedByteBuffer} só endereça até 2 GB, por isso o arquivo é
+ * mapeado em segmentos de {@value #TAMANHO_SEGMENTO} bytes e as posições são
+ * {@code long}. Inteiros são sempre lidos em posições múltiplas de 4, que
+ * nunca atravessam a fronteira entre segmentos.
+ * </p>
+ *
+ * <p>
+ * O conteúdo é gravado no arquivo pelo sistema operacional; {@link #sincronizar()}
+ * força a gravação, deixando no disco uma imagem consistente até aquele
+ * ponto.
+ * </p>
+ *
+ * <p>
+ * Enquanto aberto, o arquivo fica travado com um {@link FileLock}
+ * exclusivo: abri-lo de novo, nesta ou em outra JVM, é um erro, e não um
+ * acesso concorrente que corromperia as duas regiões.
+ * </p>
+ *
+ * @author Grupo 10
+ * @version 1.0
+ * @see CampoMapeado
+ * @see VegetacaoMapeada
+ */
+public class MemoriaMapeada implements Closeable {
+
+    // ========== ATRIBUTOS ESTÁTICOS ==========
+
+    /**
+     * Log na base 2 do tamanho de um segmento.
+     */
+    private static final int BITS_SEGMENTO = 30;
+
+    /**
+     * Tamanho de cada segmento mapeado, em bytes.
+     */
+    public static final int TAMANHO_SEGMENTO = 1 << BITS_SEGMENTO;
+
+    /**
+     * Máscara da posição dentro de um segmento.
+     */
+    private static final long MASCARA_SEGMENTO = TAMANHO_SEGMENTO - 1;
+
+    // ========== ATRIBUTOS ==========
+
+    /**
+     * Canal do arquivo mapeado.
+     */
+    private final FileChannel canal;
+
+    /**
+     * Segmentos mapeados, em ordem.
+     */
+    private final MappedByteBuffer[] segmentos;
+
+    /**
+     * Tamanho total da região, em bytes.
+     */
+    private final long tamanho;
+
+    // ========== CONSTRUTOR ==========
+
+    /**
+     * Abre (ou cria) um arquivo e mapeia seus primeiros {@code tamanho}
+     * bytes para leitura e escrita, aumentando o arquivo se necessário.
+     *
+     * @param arquivo Caminho do arquivo
+     * @param tamanho Tamanho da região, em bytes
+     * @throws IOException se o arquivo não puder ser aberto ou mapeado
+     */
+    public MemoriaMapeada(Path arquivo, long tamanho) throws IOException {
+        this(arquivo, tamanho, tamanho);
+    }
+
+    /**
+     * Abre (ou cria) um arquivo, descarta o conteúdo a partir de
+     * {@code preservados} bytes e mapeia seus primeiros {@code tamanho}
+     * bytes.
+     * <p>
+     * O arquivo é travado antes de ser truncado, de modo que nunca se
+     * descarta o conteúdo de um arquivo em uso. A parte descartada volta
+     * zerada, sem gravar os bytes (o arquivo fica esparso onde o sistema de
+     * arquivos permite).
+     * </p>
+     *
+     * @param arquivo     Caminho do arquivo
+     * @param tamanho     Tamanho da região, em bytes
+     * @param preservados Bytes iniciais mantidos (0 para um arquivo zerado)
+     * @throws IOException se o arquivo estiver em uso ou não puder ser
+     *                     aberto ou mapeado
+     */
+    public MemoriaMapeada(Path arquivo, long tamanho, long preservados) throws IOException {
+        this.tamanho = tamanho;
+        this.canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            travar(arquivo);
+            if (canal.size() > preservados) {
+                canal.truncate(preservados);
+            }
+        } catch (IOException e) {
+            canal.close();
+            throw e;
+        }
+        int quantidade = (int) ((tamanho + TAMANHO_SEGMENTO - 1) >>> BITS_SEGMENTO);
+        this.segmentos = new MappedByteBuffer[quantidade];
+        for (int s = 0; s < quantidade; s++) {
+            long inicio = (long) s << BITS_SEGMENTO;
+            long comprimento = Math.min(TAMANHO_SEGMENTO, tamanho - inicio);
+            segmentos[s] = canal.map(FileChannel.MapMode.READ_WRITE, inicio, comprimento);
+            segmentos[s].order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    /**
+     * Trava o arquivo de forma exclusiva até o canal ser fechado.
+     *
+     * @param arquivo Caminho do arquivo, para a mensagem de erro
+     * @throws IOException se o arquivo já estiver travado
+     */
+    private void travar(Path arquivo) throws IOException {
+        FileLock trava;
+        try {
+            trava = canal.tryLock();
+        } catch (OverlappingFileLockException e) {
+            trava = null;
+        }
+        if (trava == null) {
+            throw new IOException("Arquivo do mundo já está em uso: " + arquivo);
+        }
+    }
+
+    // ========== MÉTODOS DE ACESSO ==========
+
+    /**
+     * Lê um inteiro.
+     *
+     * @param posicao Posição em bytes (múltipla de 4)
+     * @return Valor lido
+     */
+    public int lerInt(long posicao) {
+        return segmentos[(int) (posicao >>> BITS_SEGMENTO)].getInt((int) (posicao & MASCARA_SEGMENTO));
+    }
+
+    /**
+     * Grava um inteiro.
+     *
+     * @param posicao Posição em bytes (múltipla de 4)
+     * @param valor   Valor a gravar
+     */
+    public void gravarInt(long posicao, int valor) {
+        segmentos[(int) (posicao >>> BITS_SEGMENTO)].putInt((int) (posicao & MASCARA_SEGMENTO), valor);
+    }
+
+    /**
+     * Lê um byte.
+     *
+     * @param posicao Posição em bytes
+     * @return Valor lido
+     */
+    public byte lerByte(long posicao) {
+        return segmentos[(int) (posicao >>> BITS_SEGMENTO)].get((int) (posicao & MASCARA_SEGMENTO));
+    }
+
+    /**
+     * Grava um byte.
+     *
+     * @param posicao Posição em bytes
+     * @param valor   Valor a gravar
+     */
+    public void gravarByte(long posicao, byte valor) {
+        segmentos[(int) (posicao >>> BITS_SEGMENTO)].put((int) (posicao & MASCARA_SEGMENTO), valor);
+    }
+
+    /**
+     * Preenche uma sequência de inteiros com o mesmo valor.
+     *
+     * @param posicao    Posição do primeiro inteiro (múltipla de 4)
+     * @param quantidade Número de inteiros
+     * @param valor      Valor a gravar
+     */
+    public void preencherInt(long posicao, long quantidade, int valor) {
+        long fim = posicao + 4 * quantidade;
+        for (long p = posicao; p < fim; p += 4) {
+            gravarInt(p, valor);
+        }
+    }
+
+    /**
+     * Retorna o tamanho da região mapeada.
+     *
+     * @return Tamanho em bytes
+     */
+    public long getTamanho() {
+        return tamanho;
+    }
+
+    // ========== MÉTODOS DE PERSISTÊNCIA ==========
+
+    /**
+     * Força a gravação no disco de todas as alterações feitas até agora.
+     */
+    public void sincronizar() {
+        for (MappedByteBuffer segmento : segmentos) {
+            segmento.force();
+        }
+    }
+
+    /**
+     * Sincroniza e fecha o arquivo. Os segmentos continuam válidos até serem
+     * coletados, mas não devem mais ser usados.
+     *
+     * @throws IOException se o canal não puder ser fechado
+     */
+    @Override
+    public void close() throws IOException {
+        sincronizar();
+        canal.close();
+    }
+}
@@ -0,0 +1,797 @@
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Núcleo alternativo da simulação, com os animais guardados em uma
+ * {@link PopulacaoCompacta} em vez de um objeto por animal.
+ * <p>
+ * Indicado para mundos com milhões de animais, em que o
+ * {@link MotorSimulacao} gasta a maior parte da memória e do tempo com os
+ * objetos. O comportamento de cada espécie não é executado pelas
+ * subclasses de {@link Animal}, mas lido de tabelas por ordinal
+ * ({@link RegistroEspecies}), montadas a partir dos
+ * {@link ParametrosSimulacao} (incluindo a teia alimentar) e de um
+ * protótipo de cada {@link Especie} do catálogo (herbívoros, pesca do
+ * {@link Urso}). As subclasses continuam sendo a implementação de
+ * referência: o passo aqui segue as mesmas regras de {@link Herbivoro#agir}
+ * e {@link Predador#agir}.
+ * </p>
+ *
+ * <p>
+ * <strong>Grades de ocupação:</strong>
+ * </p>
+ * <p>
+ * Como nos campos do motor com objetos, há uma grade de leitura (estado
+ * atual, onde se caça) e uma de escrita (próximo estado, onde se move e
+ * nasce), trocadas a cada passo. Cada célula guarda a vaga do ocupante
+ * somada à época da grade, como no {@link Campo}: limpar uma grade é
+ * apenas avançar a época. Grama ({@link VegetacaoPreguicosa}), clima e
+ * {@link Terreno} são os mesmos do motor com objetos.
+ * </p>
+ * <p>
+ * Se algum predador tem raio de percepção maior que 1, cada grade ganha um
+ * {@link IndiceEspacial}, preenchido junto com as escritas na grade e
+ * esvaziado quando ela é limpa, para a perseguição de {@link Predador}.
+ * Com raio de forragem, um {@link GradienteAlimento} sobre a grama guia os
+ * herbívoros, como em {@link Herbivoro}.
+ * </p>
+ *
+ * <p>
+ * <strong>Resultados:</strong>
+ * </p>
+ * <p>
+ * Com semente fixa, a execução é reproduzível, mas não repete a do
+ * {@link MotorSimulacao}: os sorteios usam outro fluxo por animal e a ordem
+ * de ação é a das vagas. As populações seguem a mesma dinâmica.
+ * </p>
+ *
+ * @author Grupo 10
+ * @version 1.0
+ * @see PopulacaoCompacta
+ * @see MotorSimulacao
+ */
+public class MotorCompacto implements MundoSimulado {
+
+    // ========== ATRIBUTOS ESTÁTICOS ==========
+
+    /**
+     * Deslocamento de linha de cada uma das 8 direções.
+     */
+    private static final int[] DESLOC_LINHA = { -1, -1, -1, 0, 0, 1, 1, 1 };
+
+    /**
+     * Deslocamento de coluna de cada uma das 8 direções.
+     */
+    private static final int[] DESLOC_COLUNA = { -1, 0, 1, -1, 1, -1, 0, 1 };
+
+    // ========== ATRIBUTOS DO MUNDO ==========
+
+    /**
+     * Número de linhas do mundo.
+     */
+    private int profundidade;
+
+    /**
+     * Número de colunas do mundo.
+     */
+    private int largura;
+
+    /**
+     * Obstáculos fixos do mundo.
+     */
+    private Terreno terreno;
+
+    /**
+     * Grama do mundo, compartilhada pelas duas grades.
+     */
+    private VegetacaoPreguicosa vegetacao;
+
+    /**
+     * Distâncias até a grama madura, ou null se não há forragem.
+     */
+    private GradienteAlimento gradienteAlimento;
+
+    /**
+     * Clima que acelera o crescimento da grama.
+     */
+    private final Clima clima;
+
+    /**
+     * Animais do mundo.
+     */
+    private final PopulacaoCompacta populacao;
+
+    /**
+     * Grade do estado atual (leitura): época + vaga + 1 por célula.
+     */
+    private int[] gradeAtual;
+
+    /**
+     * Época da grade atual; valores até ela são células vazias.
+     */
+    private int epocaAtual;
+
+    /**
+     * Grade do próximo estado (escrita).
+     */
+    private int[] gradeSeguinte;
+
+    /**
+     * Época da grade do próximo estado.
+     */
+    private int epocaSeguinte;
+
+    /**
+     * Células ocupadas por espécie na grade atual, ou null se nenhum
+     * predador persegue presas.
+     */
+    private IndiceEspacial indiceAtual;
+
+    /**
+     * Células ocupadas por espécie na grade do próximo estado, ou null se
+     * nenhum predador persegue presas.
+     */
+    private IndiceEspacial indiceSeguinte;
+
+    /**
+     * Confirma no índice da grade atual que a célula ainda tem um animal
+     * vivo da espécie indicada.
+     */
+    private final IndiceEspacial.Filtro presaViva;
+
+    /**
+     * Contador de passos desde o último reinício.
+     */
+    private int passo;
+
+    /**
+     * Semente dos sorteios de cada execução, ou null para sortear ao acaso.
+     */
+    private final Long semente;
+
+    /**
+     * Parâmetros ecológicos do mundo.
+     */
+    private final ParametrosSimulacao parametros;
+
+    // ========== TABELAS DAS ESPÉCIES ==========
+
+    /**
+     * Probabilidade de criação por ordinal; o povoamento sorteia as espécies
+     * nessa ordem, como o {@link Populador}.
+     */
+    private final double[] probabilidadeCriacao;
+
+    /**
+     * Idade máxima por ordinal.
+     */
+    private final int[] idadeMaxima;
+
+    /**
+     * Idade reprodutiva por ordinal.
+     */
+    private final int[] idadeReprodutiva;
+
+    /**
+     * Probabilidade de reprodução por ordinal.
+     */
+    private final double[] probabilidadeReproducao;
+
+    /**
+     * Tamanho máximo da ninhada por ordinal.
+     */
+    private final int[] tamanhoMaximoNinhada;
+
+    /**
+     * Se a espécie de cada ordinal come grama.
+     */
+    private final boolean[] herbivoro;
+
+    /**
+     * Se a espécie de cada ordinal pesca em rios adjacentes.
+     */
+    private final boolean[] pesca;
+
+    /**
+     * Linha da teia alimentar de cada ordinal ({@link ParametrosSimulacao}):
+     * alimento ganho ao comer cada presa; 0 se não é presa.
+     */
+    private final int[][] valorPresa;
+
+    /**
+     * Ordinais das presas de cada ordinal (vazio se não é predador).
+     */
+    private final int[][] presas;
+
+    /**
+     * Raio de percepção de cada ordinal ({@link ParametrosSimulacao}).
+     */
+    private final int[] raioPercepcao;
+
+    // ========== CONSTRUTOR ==========
+
+    /**
+     * Cria um mundo, carrega o mapa (se houver) e popula a grade inicial.
+     * <p>
+     * Dimensões inválidas são trocadas pelas padrão; um mapa de outro tamanho
+     * define as dimensões do mundo. Nada disso é avisado aqui: quem cria o
+     * motor compara {@link #getProfundidade()} e {@link #getLargura()} com
+     * as dimensões pedidas.
+     * </p>
+     *
+     * @param profundidade Altura do campo em células
+     * @param largura      Largura do campo em células
+     * @param arquivoMapa  Arquivo de mapa de obstáculos, ou null para terreno
+     *                     livre
+     * @param semente      Semente dos sorteios, ou null para sortear ao acaso
+     * @param parametros   Parâmetros ecológicos do mundo
+     */
+    public MotorCompacto(int profundidade, int largura, String arquivoMapa, Long semente,
+            ParametrosSimulacao parametros) {
+        if (largura <= 0 || profundidade <= 0) {
+            profundidade = Configuracao.PROFUNDIDADE_PADRAO;
+            largura = Configuracao.LARGURA_PADRAO;
+        }
+        this.semente = semente;
+        this.parametros = parametros;
+
+        // Um protótipo de cada espécie do catálogo, de onde saem os papéis
+        List<Especie> catalogo = RegistroEspecies.especies();
+        int especies = RegistroEspecies.quantidade();
+        probabilidadeCriacao = new double[catalogo.size()];
+        idadeMaxima = new int[especies];
+        idadeReprodutiva = new int[especies];
+        probabilidadeReproducao = new double[especies];
+        tamanhoMaximoNinhada = new int[especies];
+        herbivoro = new boolean[especies];
+        pesca = new boolean[especies];
+        valorPresa = new int[especies][especies];
+        presas = new int[especies][];
+        raioPercepcao = new int[especies];
+        for (int especie = 0; especie < catalogo.size(); especie++) {
+            Animal prototipo = catalogo.get(especie).criar(parametros, false);
+            probabilidadeCriacao[especie] = parametros.getProbabilidadeCriacao(especie);
+            idadeMaxima[especie] = parametros.getIdadeMaxima(especie);
+            idadeReprodutiva[especie] = parametros.getIdadeReprodutiva(especie);
+            probabilidadeReproducao[especie] = parametros.getProbabilidadeReproducao(especie);
+            tamanhoMaximoNinhada[especie] = parametros.getTamanhoMaximoNinhada(especie);
+            herbivoro[especie] = prototipo instanceof Herbivoro;
+            pesca[especie] = prototipo instanceof Urso;
+            valorPresa[especie] = parametros.dietaDe(especie);
+            presas[especie] = parametros.presasDe(especie);
+            raioPercepcao[especie] = parametros.getRaioPercepcao(especie);
+        }
+
+        populacao = new PopulacaoCompacta();
+        presaViva = (especie, indice) -> {
+            int ocupante = gradeAtual[indice] - epocaAtual - 1;
+            return ocupante >= 0 && populacao.estaAtiva(ocupante) && populacao.getEspecie(ocupante) == especie;
+        };
+        clima = new Clima(parametros);
+        criarGrades(profundidade, largura);
+        if (arquivoMapa != null) {
+            carregarMapa(arquivoMapa);
+        }
+
+        reiniciar();
+    }
+
+    // ========== MÉTODOS DE CONTROLE ==========
+
+    /**
+     * Reinicia a simulação: semeia os sorteios, limpa grades e animais,
+     * reinicia clima e grama e popula o mundo.
+     */
+    public void reiniciar() {
+        passo = 0;
+
+        if (semente != null) {
+            Aleatoriedade.semear(semente);
+        } else {
+            Aleatoriedade.semearAoAcaso();
+        }
+
+        populacao.limpar();
+        Arrays.fill(gradeAtual, 0);
+        Arrays.fill(gradeSeguinte, 0);
+        epocaAtual = 0;
+        epocaSeguinte = 0;
+        if (indiceAtual != null) {
+            indiceAtual.limpar();
+            indiceSeguinte.limpar();
+        }
+        vegetacao = new VegetacaoPreguicosa(profundidade, largura, parametros);
+        if (parametros.getRaioForragem() > 0) {
+            gradienteAlimento = new GradienteAlimento(terreno, parametros);
+            gradienteAlimento.reconstruir(vegetacao);
+        }
+        clima.reiniciar();
+
+        popular();
+    }
+
+    /**
+     * Nada a liberar: o mundo fica todo no heap.
+     */
+    @Override
+    public void fechar() {
+    }
+
+    // ========== MÉTODOS DE SIMULAÇÃO ==========
+
+    /**
+     * Simula um passo: cada animal vivo age uma vez, na ordem das vagas;
+     * depois as vagas dos mortos são liberadas, a grama cresce e as grades
+     * são trocadas.
+     */
+    @Override
+    public void simularUmPasso() {
+        passo++;
+        for (int vaga = populacao.proximaAtiva(0); vaga >= 0; vaga = populacao.proximaAtiva(vaga + 1)) {
+            agir(vaga);
+        }
+        populacao.liberarMortos();
+        populacao.concluirNascimentos();
+
+        clima.atualizar();
+        vegetacao.crescer();
+        if (clima.estaChuvoso()) {
+            vegetacao.crescer();
+        }
+        if (gradienteAlimento != null) {
+            gradienteAlimento.atualizar(vegetacao);
+        }
+
+        trocarGrades();
+    }
+
+    /**
+     * Executa o turno de um animal, com as regras de
+     * {@link Herbivoro#agir}, {@link Predador#agir} e {@link Urso#agir}.
+     *
+     * @param vaga Vaga do animal
+     */
+    private void agir(int vaga) {
+        int especie = populacao.getEspecie(vaga);
+        if (populacao.envelhecer(vaga) > idadeMaxima[especie]) {
+            populacao.morrer(vaga);
+        }
+        if (populacao.consumirAlimento(vaga) <= 0) {
+            populacao.morrer(vaga);
+        }
+        if (!populacao.estaVivo(vaga)) {
+            return;
+        }
+
+        if (herbivoro[especie]) {
+            comerGrama(vaga);
+            reproduzir(vaga, especie);
+            forragear(vaga);
+            return;
+        }
+
+        reproduzir(vaga, especie);
+        int presa = cacar(vaga, especie);
+        if (presa >= 0) {
+            moverPara(vaga, presa);
+        } else if (!perseguir(vaga, especie)) {
+            moverLivremente(vaga);
+        }
+        if (pesca[especie] && populacao.estaVivo(vaga)) {
+            pescar(vaga);
+        }
+    }
+
+    // ========== MÉTODOS DE COMPORTAMENTO ==========
+
+    /**
+     * Come a grama madura da célula do animal, até o limite dos herbívoros.
+     *
+     * @param vaga Vaga do herbívoro
+     */
+    private void comerGrama(int vaga) {
+        int celula = populacao.getCelula(vaga);
+        if (gradienteAlimento != null && vegetacao.estaMadura(celula)) {
+            gradienteAlimento.registrarComida(celula);
+        }
+        int comida = vegetacao.comer(celula);
+        if (comida > 0) {
+            int nivel = populacao.getNivelAlimento(vaga) + comida;
+            populacao.setNivelAlimento(vaga, Math.min(nivel, parametros.getValorAlimentarMaxHerbivoro()));
+        }
+    }
+
+    /**
+     * Sorteia a ninhada e coloca os filhotes em células livres vizinhas da
+     * grade do próximo estado.
+     *
+     * @param vaga    Vaga do animal
+     * @param especie Ordinal da espécie
+     */
+    private void reproduzir(int vaga, int especie) {
+        if (populacao.getIdade(vaga) < idadeReprodutiva[especie]
+                || populacao.sortearDouble(vaga) > probabilidadeReproducao[especie]) {
+            return;
+        }
+        int nascimentos = populacao.sortearInt(vaga, tamanhoMaximoNinhada[especie]) + 1;
+        for (int i = 0; i < nascimentos; i++) {
+            int destino = sortearLivre(vaga);
+            if (destino >= 0) {
+                int filhote = populacao.alocar(especie, 0, parametros.getValorAlimentar(), destino,
+                        populacao.sortearLong(vaga), true);
+                gradeSeguinte[destino] = epocaSeguinte + filhote + 1;
+                if (indiceSeguinte != null) {
+                    indiceSeguinte.inserir(especie, destino);
+                }
+            }
+        }
+    }
+
+    /**
+     * Procura presas vivas nas células vizinhas da grade atual e come uma
+     * delas, sorteada com a mesma probabilidade para cada candidata.
+     *
+     * @param vaga    Vaga do predador
+     * @param especie Ordinal da espécie do predador
+     * @return Célula da presa comida, ou -1 se não havia presa
+     */
+    private int cacar(int vaga, int especie) {
+        int[] dieta = valorPresa[especie];
+        int centro = populacao.getCelula(vaga);
+        int linha = centro / largura;
+        int coluna = centro - linha * largura;
+        int candidatas = 0;
+        for (int d = 0; d < 8; d++) {
+            int proxLinha = linha + DESLOC_LINHA[d];
+            int proxColuna = coluna + DESLOC_COLUNA[d];
+            if (proxLinha >= 0 && proxLinha < profundidade && proxColuna >= 0 && proxColuna < largura) {
+                int ocupante = gradeAtual[proxLinha * largura + proxColuna] - epocaAtual - 1;
+                if (ocupante >= 0 && populacao.estaAtiva(ocupante) && dieta[populacao.getEspecie(ocupante)] > 0) {
+                    candidatas |= 1 << d;
+                }
+            }
+        }
+        if (candidatas == 0) {
+            return -1;
+        }
+        int d = sortearDirecao(vaga, candidatas);
+        int celula = (linha + DESLOC_LINHA[d]) * largura + coluna + DESLOC_COLUNA[d];
+        int presa = gradeAtual[celula] - epocaAtual - 1;
+        populacao.morrer(presa);
+        populacao.setNivelAlimento(vaga, dieta[populacao.getEspecie(presa)]);
+        return celula;
+    }
+
+    /**
+     * Dá um passo em direção à presa viva mais próxima dentro do raio de
+     * percepção, como {@link Predador}: a presa é procurada no índice da
+     * grade atual e o passo só é dado se a vizinha na direção dela estiver
+     * livre e passável na grade do próximo estado.
+     *
+     * @param vaga    Vaga do predador
+     * @param especie Ordinal da espécie do predador
+     * @return true se o predador se moveu
+     */
+    private boolean perseguir(int vaga, int especie) {
+        int raio = raioPercepcao[especie];
+        if (raio <= 1) {
+            return false;
+        }
+        int centro = populacao.getCelula(vaga);
+        int linha = centro / largura;
+        int coluna = centro - linha * largura;
+        int alvo = indiceAtual.maisProxima(linha, coluna, raio, presas[especie], presaViva);
+        if (alvo < 0) {
+            return false;
+        }
+        int alvoLinha = alvo / largura;
+        int passo = (linha + Integer.signum(alvoLinha - linha)) * largura + coluna
+                + Integer.signum(alvo - alvoLinha * largura - coluna);
+        if (gradeSeguinte[passo] > epocaSeguinte || !terreno.ehPassavel(passo)) {
+            return false;
+        }
+        moverPara(vaga, passo);
+        return true;
+    }
+
+    /**
+     * Com rio pescável ao lado, tenta pescar e recuperar o alimento.
+     *
+     * @param vaga Vaga do animal
+     */
+    private void pescar(int vaga) {
+        int centro = populacao.getCelula(vaga);
+        int linha = centro / largura;
+        int coluna = centro - linha * largura;
+        for (int d = 0; d < 8; d++) {
+            int proxLinha = linha + DESLOC_LINHA[d];
+            int proxColuna = coluna + DESLOC_COLUNA[d];
+            if (proxLinha >= 0 && proxLinha < profundidade && proxColuna >= 0 && proxColuna < largura
+                    && terreno.ehPescavel(proxLinha * largura + proxColuna)) {
+                if (populacao.sortearDouble(vaga) < parametros.getProbabilidadePescaUrso()) {
+                    populacao.setNivelAlimento(vaga, parametros.getValorAlimentar());
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Move o herbívoro para uma das vizinhas livres mais próximas da grama
+     * madura; sem gradiente ou sem grama dentro do raio, move-se
+     * livremente.
+     *
+     * @param vaga Vaga do herbívoro
+     */
+    private void forragear(int vaga) {
+        if (gradienteAlimento != null) {
+            int destino = sortearRumoAoAlimento(vaga);
+            if (destino >= 0) {
+                moverPara(vaga, destino);
+                return;
+            }
+        }
+        moverLivremente(vaga);
+    }
+
+    /**
+     * Move o animal para uma célula vizinha livre; sem nenhuma, ele morre
+     * por superpopulação.
+     *
+     * @param vaga Vaga do animal
+     */
+    private void moverLivremente(int vaga) {
+        int destino = sortearLivre(vaga);
+        if (destino >= 0) {
+            moverPara(vaga, destino);
+        } else {
+            populacao.morrer(vaga);
+        }
+    }
+
+    /**
+     * Coloca o animal em uma célula da grade do próximo estado.
+     *
+     * @param vaga    Vaga do animal
+     * @param destino Índice plano da célula
+     */
+    private void moverPara(int vaga, int destino) {
+        populacao.setCelula(vaga, destino);
+        gradeSeguinte[destino] = epocaSeguinte + vaga + 1;
+        if (indiceSeguinte != null) {
+            indiceSeguinte.inserir(populacao.getEspecie(vaga), destino);
+        }
+    }
+
+    // ========== MÉTODOS DE VIZINHANÇA ==========
+
+    /**
+     * Sorteia uma célula vizinha do animal, passável e livre na grade do
+     * próximo estado.
+     *
+     * @param vaga Vaga do animal (cujo fluxo faz o sorteio)
+     * @return Índice plano da vizinha, ou -1 se nenhuma está livre
+     */
+    private int sortearLivre(int vaga) {
+        int centro = populacao.getCelula(vaga);
+        int linha = centro / largura;
+        int coluna = centro - linha * largura;
+        int livres = 0;
+        for (int d = 0; d < 8; d++) {
+            int proxLinha = linha + DESLOC_LINHA[d];
+            int proxColuna = coluna + DESLOC_COLUNA[d];
+            if (proxLinha >= 0 && proxLinha < profundidade && proxColuna >= 0 && proxColuna < largura) {
+                int vizinha = proxLinha * largura + proxColuna;
+                if (gradeSeguinte[vizinha] <= epocaSeguinte && terreno.ehPassavel(vizinha)) {
+                    livres |= 1 << d;
+                }
+            }
+        }
+        if (livres == 0) {
+            return -1;
+        }
+        int d = sortearDirecao(vaga, livres);
+        return (linha + DESLOC_LINHA[d]) * largura + coluna + DESLOC_COLUNA[d];
+    }
+
+    /**
+     * Sorteia, entre as vizinhas livres do animal na grade do próximo
+     * estado, uma das de menor distância no gradiente de alimento.
+     *
+     * @param vaga Vaga do animal (cujo fluxo faz o sorteio)
+     * @return Índice plano da vizinha, ou -1 se nenhuma vizinha livre tem
+     *         grama madura dentro do raio
+     */
+    private int sortearRumoAoAlimento(int vaga) {
+        int centro = populacao.getCelula(vaga);
+        int linha = centro / largura;
+        int coluna = centro - linha * largura;
+        int melhor = parametros.getRaioForragem() + 1;
+        int candidatas = 0;
+        for (int d = 0; d < 8; d++) {
+            int proxLinha = linha + DESLOC_LINHA[d];
+            int proxColuna = coluna + DESLOC_COLUNA[d];
+            if (proxLinha >= 0 && proxLinha < profundidade && proxColuna >= 0 && proxColuna < largura) {
+                int vizinha = proxLinha * largura + proxColuna;
+                int distancia = gradienteAlimento.getDistancia(vizinha);
+                if (distancia <= melhor && gradeSeguinte[vizinha] <= epocaSeguinte && terreno.ehPassavel(vizinha)) {
+                    if (distancia < melhor) {
+                        melhor = distancia;
+                        candidatas = 0;
+                    }
+                    candidatas |= 1 << d;
+                }
+            }
+        }
+        if (candidatas == 0 || melhor > parametros.getRaioForragem()) {
+            return -1;
+        }
+        int d = sortearDirecao(vaga, candidatas);
+        return (linha + DESLOC_LINHA[d]) * largura + coluna + DESLOC_COLUNA[d];
+    }
+
+    /**
+     * Sorteia uma das direções ligadas em uma máscara de 8 bits.
+     *
+     * @param vaga     Vaga cujo fluxo faz o sorteio
+     * @param direcoes Máscara das direções candidatas (não vazia)
+     * @return Direção sorteada (0 a 7)
+     */
+    private int sortearDirecao(int vaga, int direcoes) {
+        int pular = populacao.sortearInt(vaga, Integer.bitCount(direcoes));
+        for (int i = 0; i < pular; i++) {
+            direcoes &= direcoes - 1;
+        }
+        return Integer.numberOfTrailingZeros(direcoes);
+    }
+
+    // ========== MÉTODOS DE GRADE ==========
+
+    /**
+     * Povoa a grade atual como o {@link Populador}: em cada célula passável,
+     * as espécies são sorteadas em ordem até a primeira aceita. Ao final as
+     * vagas são embaralhadas, para que a ordem de ação não siga a posição.
+     */
+    private void popular() {
+        SplittableRandom aleatorio = Aleatoriedade.dividir();
+        int valorAlimentar = parametros.getValorAlimentar();
+        for (int indice = 0; indice < profundidade * largura; indice++) {
+            if (!terreno.ehPassavel(indice)) {
+                continue;
+            }
+            for (int especie = 0; especie < probabilidadeCriacao.length; especie++) {
+                if (aleatorio.nextDouble() <= probabilidadeCriacao[especie]) {
+                    populacao.alocar(especie, aleatorio.nextInt(idadeMaxima[especie]),
+                            aleatorio.nextInt(valorAlimentar), indice, aleatorio.nextLong(), false);
+                    break;
+                }
+            }
+        }
+
+        populacao.embaralhar(aleatorio);
+        for (int vaga = populacao.proximaAtiva(0); vaga >= 0; vaga = populacao.proximaAtiva(vaga + 1)) {
+            gradeAtual[populacao.getCelula(vaga)] = epocaAtual + vaga + 1;
+            if (indiceAtual != null) {
+                indiceAtual.inserir(populacao.getEspecie(vaga), populacao.getCelula(vaga));
+            }
+        }
+    }
+
+    /**
+     * Troca as grades e limpa a nova grade de escrita avançando sua época.
+     * <p>
+     * A época avança além da maior vaga usada; perto do limite do
+     * {@code int} a grade é zerada de verdade.
+     * </p>
+     */
+    private void trocarGrades() {
+        int[] grade = gradeAtual;
+        gradeAtual = gradeSeguinte;
+        gradeSeguinte = grade;
+        if (indiceAtual != null) {
+            IndiceEspacial indice = indiceAtual;
+            indiceAtual = indiceSeguinte;
+            indiceSeguinte = indice;
+            indiceSeguinte.limpar();
+        }
+        int epoca = epocaAtual;
+        epocaAtual = epocaSeguinte;
+
+        // No próximo passo cabem no máximo uma vaga nova por célula
+        long folga = (long) populacao.getLimite() + grade.length + 1;
+        if (epoca + 2 * folga > Integer.MAX_VALUE) {
+            Arrays.fill(gradeSeguinte, 0);
+            epocaSeguinte = 0;
+        } else {
+            epocaSeguinte = epoca + populacao.getLimite() + 1;
+        }
+    }
+
+    /**
+     * Cria as grades vazias e o terreno livre de um mundo.
+     *
+     * @param novaProfundidade Altura do mundo
+     * @param novaLargura      Largura do mundo
+     */
+    private void criarGrades(int novaProfundidade, int novaLargura) {
+        profundidade = novaProfundidade;
+        largura = novaLargura;
+        terreno = new Terreno(novaProfundidade, novaLargura);
+        gradeAtual = new int[novaProfundidade * novaLargura];
+        gradeSeguinte = new int[novaProfundidade * novaLargura];
+        if (parametros.getRaioPercepcaoMaximo() > 1) {
+            indiceAtual = new IndiceEspacial(novaProfundidade, novaLargura, Configuracao.BITS_LADO_BALDE_ESPACIAL);
+            indiceSeguinte = new IndiceEspacial(novaProfundidade, novaLargura,
+                    Configuracao.BITS_LADO_BALDE_ESPACIAL);
+        }
+    }
+
+    /**
+     * Carrega um mapa de obstáculos e recria as grades nas dimensões dele.
+     *
+     * @param caminhoArquivo Caminho do arquivo de mapa
+     */
+    private void carregarMapa(String caminhoArquivo) {
+        Obstaculo[][] mapa = new CarregadorMapa().carregarObstaculos(caminhoArquivo);
+        if (mapa == null) {
+            return;
+        }
+        criarGrades(mapa.length, mapa[0].length);
+        terreno = new Terreno(mapa);
+    }
+
+    // ========== GETTERS ==========
+
+    @Override
+    public int getPasso() {
+        return passo;
+    }
+
+    @Override
+    public int getProfundidade() {
+        return profundidade;
+    }
+
+    @Override
+    public int getLargura() {
+        return largura;
+    }
+
+    @Override
+    public int[] contarPopulacao(int[] contagem) {
+        int especies = RegistroEspecies.quantidade();
+        if (contagem == null || contagem.length < especies) {
+            contagem = new int[especies];
+        } else {
+            Arrays.fill(contagem, 0);
+        }
+        for (int vaga = populacao.proximaAtiva(0); vaga >= 0; vaga = populacao.proximaAtiva(vaga + 1)) {
+            contagem[populacao.getEspecie(vaga)]++;
+        }
+        return contagem;
+    }
+
+    @Override
+    public int contarVivos() {
+        return populacao.getQuantidadeVivos();
+    }
+
+    /**
+     * Retorna a população do mundo, sem cópia.
+     *
+     * @return Armazenamento dos animais
+     */
+    public PopulacaoCompacta getPopulacao() {
+        return populacao;
+    }
+
+    /**
+     * Retorna os parâmetros ecológicos do mundo.
+     *
+     * @return Parâmetros da simulação
+     */
+    public ParametrosSimulacao getParametros() {
+        return parametros;
+    }
+}
@@ -0,0 +1,394 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Executa as ações dos animais de um passo, em uma ou em várias threads.
+ * <p>
+ * O campo é dividido em faixas horizontais de {@link #alturaFaixa} linhas, e
+ * cada animal pertence à faixa da linha em que está. As faixas são
+ * processadas em duas fases alternadas (primeiro as pares, depois as
+ * ímpares). Com mais de uma thread as faixas de uma mesma fase rodam em
+ * paralelo em um {@link ForkJoinPool}; com uma (ou com campos que não
+ * admitem escrita concorrente) elas rodam em sequência na thread que chama,
+ * na mesma ordem de fases.
+ * </p>
+ *
+ * <p>
+ * <strong>Por que não há conflitos:</strong>
+ * </p>
+ * <p>
+ * Um animal só lê e escreve células a até {@link #alcance} linhas da sua
+ * (presa, filhotes, destino do movimento e, para os predadores, as presas
+ * dentro do raio de percepção). A altura da faixa é escolhida
+ * para que, entre duas faixas da mesma fase, sobre uma faixa de outra fase
+ * larga o bastante para que as regiões alcançadas não tenham células em
+ * comum nem compartilhem uma palavra de 64 bits dos mapas de ocupação do
+ * {@link Campo}. Com isso as únicas escritas disputadas são o contador de
+ * identificadores do campo (ver {@link Campo#iniciarEscritaConcorrente(long)})
+ * e o da lista de grama comida do {@link GradienteAlimento}, que só é
+ * reparado depois do passo.
+ * </p>
+ *
+ * <p>
+ * <strong>Determinismo:</strong>
+ * </p>
+ * <p>
+ * Cada animal sorteia com seu próprio fluxo ({@link Animal#getAleatorio()},
+ * instalado na thread com {@link Aleatoriedade#usarNestaThread}), e cada
+ * faixa percorre seus animais na ordem da lista. Ao final, sobreviventes e
+ * filhotes são reunidos na ordem das faixas. O resultado de um passo
+ * depende apenas do estado anterior, e não de quantas threads existem, de
+ * como as faixas foram distribuídas entre elas ou do armazenamento do
+ * campo: o caminho sequencial é o mesmo particionamento, percorrido por uma
+ * thread só.
+ * </p>
+ *
+ * @author Grupo 10
+ * @version 1.0
+ * @see Simulador
+ * @see Campo
+ * @see Aleatoriedade
+ */
+public class MotorParalelo {
+
+    // ========== ATRIBUTOS ESTÁTICOS ==========
+
+    /**
+     * Número de células por palavra dos mapas de bits.
+     */
+    private static final int BITS_POR_PALAVRA = 64;
+
+    /**
+     * Maior número de filhotes que um animal coloca em um passo: as 8
+     * vizinhas e a própria célula, já que cada filhote precisa de uma célula
+     * livre ({@link CampoInterativo#localizacaoAdjacenteLivre}).
+     */
+    private static final int FILHOTES_POR_PASSO = 9;
+
+    // ========== ATRIBUTOS ==========
+
+    /**
+     * Pool onde as faixas de cada fase são executadas; null com uma thread.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Distância máxima, em linhas, entre um animal e as células que ele lê
+     * ou escreve durante sua ação.
+     */
+    private final int alcance;
+
+    /**
+     * Número de linhas de cada faixa (a última pode ter mais).
+     */
+    private int alturaFaixa;
+
+    /**
+     * Número de faixas do campo atual.
+     */
+    private int quantidadeFaixas;
+
+    /**
+     * Animais de cada faixa no passo atual, na ordem da lista do simulador.
+     */
+    private final List<List<Ator>> atoresPorFaixa;
+
+    /**
+     * Filhotes nascidos em cada faixa no passo atual.
+     */
+    private final List<List<Ator>> nascidosPorFaixa;
+
+    /**
+     * Atores sem localização no campo, processados em sequência após as
+     * fases paralelas.
+     */
+    private final List<Ator> semFaixa;
+
+    // ========== CONSTRUTOR ==========
+
+    /**
+     * Cria um motor com um pool próprio, ou sem pool para uma thread.
+     *
+     * <p>
+     * O alcance é 1 (as vizinhas) ou o maior raio de percepção dos
+     * predadores, se maior; faixas mais altas deixam menos paralelismo em
+     * mapas baixos.
+     * </p>
+     *
+     * @param threads Número de threads (maior que zero); com 1 as faixas são
+     *                processadas na thread que chama
+     * @param alcance Distância máxima, em linhas, das leituras e escritas de
+     *                um animal (ver
+     *                {@link ParametrosSimulacao#getRaioPercepcaoMaximo()})
+     */
+    public MotorParalelo(int threads, int alcance) {
+        this.pool = threads > 1 ? new ForkJoinPool(threads) : null;
+        this.alcance = Math.max(1, alcance);
+        this.atoresPorFaixa = new ArrayList<List<Ator>>();
+        this.nascidosPorFaixa = new ArrayList<List<Ator>>();
+        this.semFaixa = new ArrayList<Ator>();
+    }
+
+    // ========== MÉTODOS DE CONFIGURAÇÃO ==========
+
+    /**
+     * Verifica se as faixas de um par de campos podem rodar em paralelo.
+     * <p>
+     * Só o {@link Campo} admite escrita concorrente; os demais
+     * armazenamentos alocam estruturas sob demanda durante a escrita e são
+     * processados em sequência, faixa a faixa.
+     * </p>
+     *
+     * @param campo           Campo atual
+     * @param campoAtualizado Campo do próximo estado
+     * @return true se os dois campos são {@link Campo}
+     */
+    public static boolean suporta(CampoSimulacao campo, CampoSimulacao campoAtualizado) {
+        return campo instanceof Campo && campoAtualizado instanceof Campo;
+    }
+
+    /**
+     * Encerra as threads do pool, se houver; o motor não deve mais ser usado
+     * depois disso.
+     */
+    public void fechar() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    // ========== MÉTODOS DE EXECUÇÃO ==========
+
+    /**
+     * Processa as ações de todos os animais de um passo.
+     * <p>
+     * Animais mortos são retirados, os vivos agem e, ao final, a lista
+     * recebe os filhotes, que também são copiados para {@code novosAnimais}.
+     * As fases rodam em paralelo só com pool e campos que admitem escrita
+     * concorrente ({@link #suporta}); o resultado é o mesmo nos dois casos.
+     * </p>
+     *
+     * @param animais         Lista de animais do simulador, reescrita
+     * @param campo           Campo atual (leitura)
+     * @param campoAtualizado Campo do próximo estado (escrita)
+     * @param novosAnimais    Lista que recebe os filhotes do passo
+     */
+    public void executarPasso(List<Ator> animais, CampoSimulacao campo, CampoSimulacao campoAtualizado,
+            List<Ator> novosAnimais) {
+        dimensionar(campo.getProfundidade(), campo.getLargura());
+        long colocacoes = distribuir(animais);
+
+        if (pool != null && suporta(campo, campoAtualizado)) {
+            executarFasesEmParalelo((Campo) campo, (Campo) campoAtualizado, colocacoes);
+        } else {
+            for (int faixa = 0; faixa < quantidadeFaixas; faixa += 2) {
+                processarFaixa(faixa, campo, campoAtualizado);
+            }
+            for (int faixa = 1; faixa < quantidadeFaixas; faixa += 2) {
+                processarFaixa(faixa, campo, campoAtualizado);
+            }
+        }
+
+        animais.clear();
+        for (Ator ator : semFaixa) {
+            if (ator.estaVivo()) {
+                Aleatoriedade.usarNestaThread(ator instanceof Animal ? ((Animal) ator).getAleatorio() : null);
+                ator.agir(campo, campoAtualizado, novosAnimais);
+                animais.add(ator);
+            }
+        }
+        Aleatoriedade.liberarNestaThread();
+        for (List<Ator> atores : atoresPorFaixa) {
+            animais.addAll(atores);
+        }
+        for (List<Ator> nascidos : nascidosPorFaixa) {
+            novosAnimais.addAll(nascidos);
+        }
+        animais.addAll(novosAnimais);
+    }
+
+    /**
+     * Ajusta a divisão em faixas às dimensões do campo.
+     * <p>
+     * A altura deixa, entre duas faixas da mesma fase, ao menos
+     * {@code 2 * alcance} linhas de folga mais as linhas necessárias para
+     * separar as regiões alcançadas por uma palavra inteira de bits.
+     * </p>
+     *
+     * @param profundidade Número de linhas do campo
+     * @param largura      Número de colunas do campo
+     */
+    private void dimensionar(int profundidade, int largura) {
+        int linhasPorPalavra = (BITS_POR_PALAVRA + largura - 1) / largura;
+        alturaFaixa = 2 * alcance + linhasPorPalavra;
+        quantidadeFaixas = Math.max(1, profundidade / alturaFaixa);
+        while (atoresPorFaixa.size() < quantidadeFaixas) {
+            atoresPorFaixa.add(new ArrayList<Ator>());
+            nascidosPorFaixa.add(new ArrayList<Ator>());
+        }
+        while (atoresPorFaixa.size() > quantidadeFaixas) {
+            atoresPorFaixa.remove(atoresPorFaixa.size() - 1);
+            nascidosPorFaixa.remove(nascidosPorFaixa.size() - 1);
+        }
+    }
+
+    /**
+     * Separa os animais vivos por faixa, mantendo a ordem da lista.
+     *
+     * @param animais Lista de animais do simulador
+     * @return Limite de colocações no campo atualizado durante as fases: o
+     *         próprio animal mais a ninhada, limitada a
+     *         {@link #FILHOTES_POR_PASSO}
+     */
+    private long distribuir(List<Ator> animais) {
+        for (int faixa = 0; faixa < quantidadeFaixas; faixa++) {
+            atoresPorFaixa.get(faixa).clear();
+            nascidosPorFaixa.get(faixa).clear();
+        }
+        semFaixa.clear();
+
+        long colocacoes = 0;
+        for (Ator ator : animais) {
+            if (!ator.estaVivo()) {
+                continue;
+            }
+            if (ator instanceof Animal && ((Animal) ator).getLocalizacao() != null) {
+                Animal animal = (Animal) ator;
+                int faixa = Math.min(animal.getLocalizacao().getLinha() / alturaFaixa, quantidadeFaixas - 1);
+                atoresPorFaixa.get(faixa).add(animal);
+                colocacoes += 1 + Math.min(animal.tamanhoMaximoNinhada(), FILHOTES_POR_PASSO);
+            } else {
+                semFaixa.add(ator);
+            }
+        }
+        return colocacoes;
+    }
+
+    /**
+     * Executa as duas fases no pool, com o campo atualizado e o gradiente
+     * de alimento em modo de escrita concorrente.
+     *
+     * @param campo           Campo atual
+     * @param campoAtualizado Campo do próximo estado
+     * @param colocacoes      Limite de colocações no campo atualizado
+     */
+    private void executarFasesEmParalelo(Campo campo, Campo campoAtualizado, long colocacoes) {
+        GradienteAlimento gradiente = campo.getGradienteAlimento();
+        campoAtualizado.iniciarEscritaConcorrente(colocacoes);
+        if (gradiente != null) {
+            int emFaixas = 0;
+            for (List<Ator> atores : atoresPorFaixa) {
+                emFaixas += atores.size();
+            }
+            gradiente.iniciarRegistroConcorrente(emFaixas);
+        }
+        try {
+            executarFase(0, campo, campoAtualizado);
+            executarFase(1, campo, campoAtualizado);
+        } finally {
+            campoAtualizado.encerrarEscritaConcorrente();
+            if (gradiente != null) {
+                gradiente.encerrarRegistroConcorrente();
+            }
+        }
+    }
+
+    /**
+     * Executa em paralelo todas as faixas de uma fase e espera o término.
+     *
+     * @param primeira        Primeira faixa da fase (0 ou 1)
+     * @param campo           Campo atual
+     * @param campoAtualizado Campo do próximo estado
+     */
+    private void executarFase(int primeira, Campo campo, Campo campoAtualizado) {
+        List<TarefaFaixa> tarefas = new ArrayList<TarefaFaixa>();
+        for (int faixa = primeira; faixa < quantidadeFaixas; faixa += 2) {
+            tarefas.add(new TarefaFaixa(faixa, campo, campoAtualizado));
+        }
+        if (tarefas.isEmpty()) {
+            return;
+        }
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tarefas);
+            }
+        });
+    }
+
+    /**
+     * Processa os animais de uma faixa, cada um com seu fluxo de sorteios.
+     * <p>
+     * Animais mortos antes de sua vez (comidos por um vizinho) são
+     * retirados; os que agiram permanecem na faixa e voltam à lista do
+     * simulador ao final do passo.
+     * </p>
+     *
+     * @param faixa           Índice da faixa
+     * @param campo           Campo atual
+     * @param campoAtualizado Campo do próximo estado
+     */
+    private void processarFaixa(int faixa, CampoSimulacao campo, CampoSimulacao campoAtualizado) {
+        List<Ator> atores = atoresPorFaixa.get(faixa);
+        List<Ator> nascidos = nascidosPorFaixa.get(faixa);
+        try {
+            int mantidos = 0;
+            for (int i = 0; i < atores.size(); i++) {
+                Ator ator = atores.get(i);
+                if (ator.estaVivo()) {
+                    Aleatoriedade.usarNestaThread(((Animal) ator).getAleatorio());
+                    ator.agir(campo, campoAtualizado, nascidos);
+                    atores.set(mantidos++, ator);
+                }
+            }
+            atores.subList(mantidos, atores.size()).clear();
+        } finally {
+            Aleatoriedade.liberarNestaThread();
+        }
+    }
+
+    // ========== CLASSES INTERNAS ==========
+
+    /**
+     * Tarefa do pool que processa uma faixa.
+     */
+    private class TarefaFaixa extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Índice da faixa.
+         */
+        private final int faixa;
+
+        /**
+         * Campo atual.
+         */
+        private final Campo campo;
+
+        /**
+         * Campo do próximo estado.
+         */
+        private final Campo campoAtualizado;
+
+        /**
+         * Cria a tarefa de uma faixa.
+         *
+         * @param faixa           Índice da faixa
+         * @param campo           Campo atual
+         * @param campoAtualizado Campo do próximo estado
+         */
+        TarefaFaixa(int faixa, Campo campo, Campo campoAtualizado) {
+            this.faixa = faixa;
+            this.campo = campo;
+            this.campoAtualizado = campoAtualizado;
+        }
+
+        @Override
+        protected void compute() {
+            processarFaixa(faixa, campo, campoAtualizado);
+        }
+    }
+}
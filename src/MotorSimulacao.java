@@ -0,0 +1,810 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Núcleo da simulação, sem interface gráfica.
+ * <p>
+ * Guarda o estado do mundo (campos, animais, clima, terreno) e executa os
+ * passos, sem depender de {@link Desenhavel} nem de Swing. É usado pelo
+ * {@link Simulador}, que acrescenta visualização e controles, e diretamente
+ * pelo {@link PrincipalLinhaDeComando}, que roda simulações em servidores
+ * sem tela tão rápido quanto o processador permite.
+ * </p>
+ *
+ * <p>
+ * <strong>Fluxo de um Passo de Simulação:</strong>
+ * </p>
+ * <ol>
+ * <li>Preparar listas e campos auxiliares</li>
+ * <li>Processar em bloco as mortes por velhice e as maturidades agendadas
+ * para o passo</li>
+ * <li>Processar ações de cada animal (caçar, mover, reproduzir)</li>
+ * <li>Atualizar clima e crescimento de vegetação</li>
+ * <li>Trocar campos (atual ↔ atualizado)</li>
+ * </ol>
+ *
+ * <p>
+ * <strong>Carregamento de Mapas:</strong>
+ * </p>
+ * <p>
+ * Suporta carregamento de mapas de obstáculos a partir de arquivos de texto,
+ * permitindo criação de cenários customizados com rios e pedras. O mapa vira
+ * um {@link Terreno} imutável, compartilhado pelos dois campos e nunca
+ * regravado durante os passos. Se o mapa tiver outro tamanho, o mundo
+ * assume as dimensões dele.
+ * </p>
+ *
+ * @author Grupo 10
+ * @version 1.0
+ * @see Simulador
+ * @see PrincipalLinhaDeComando
+ * @see CampoSimulacao
+ */
+public class MotorSimulacao implements MundoSimulado {
+
+    // ========== ATRIBUTOS ==========
+
+    /**
+     * Lista de todos os animais atualmente vivos na simulação.
+     * <p>
+     * Os que morrem durante um passo são retirados de uma vez no fim dele
+     * ({@link ListaAtores#removerMortos()}).
+     * </p>
+     */
+    private ListaAtores animais;
+
+    /**
+     * Lista temporária para armazenar animais nascidos durante um passo.
+     * É mesclada com {@link #animais} ao final de cada ciclo.
+     */
+    private List<Ator> novosAnimais;
+
+    /**
+     * Campo representando o estado atual da simulação (leitura).
+     */
+    private CampoSimulacao campo;
+
+    /**
+     * Campo sendo construído para o próximo estado (escrita).
+     * Implementa double buffering para evitar conflitos.
+     */
+    private CampoSimulacao campoAtualizado;
+
+    /**
+     * Contador do número de passos executados desde o início ou último reinício.
+     */
+    private int passo;
+
+    /**
+     * Animais agendados para morrer de velhice, pelo passo da morte.
+     * <p>
+     * Cada animal é agendado uma vez, ao entrar no mundo
+     * ({@link Animal#passosAteMorrerDeVelhice()}); os que morrem antes por
+     * outra causa são descartados ao expirar, ou antes disso se estavam
+     * além do horizonte da roda.
+     * </p>
+     */
+    private final RodaTemporal<Animal> mortesPorIdade;
+
+    /**
+     * Animais agendados para atingir a idade reprodutiva, pelo passo da
+     * maturidade.
+     */
+    private final RodaTemporal<Animal> maturidades;
+
+    /**
+     * Mortes por velhice no último passo.
+     */
+    private int mortesPorVelhice;
+
+    /**
+     * Sistema de clima que afeta o crescimento da vegetação.
+     */
+    private Clima clima;
+
+    /**
+     * Terreno (obstáculos fixos) carregado do mapa, compartilhado somente
+     * para leitura pelos dois campos. Null enquanto nenhum mapa foi lido.
+     */
+    private Terreno terreno;
+
+    /**
+     * Motor que processa os animais em faixas do campo, com as threads do
+     * passo escolhidas na construção (com uma, em sequência).
+     */
+    private final MotorParalelo motorParalelo;
+
+    /**
+     * Distâncias até a grama madura, compartilhadas pelos dois campos, ou
+     * null quando não há forragem ({@link ParametrosSimulacao#getRaioForragem()}
+     * 0).
+     */
+    private GradienteAlimento gradienteAlimento;
+
+    /**
+     * Semente dos sorteios de cada execução, ou null para sortear ao acaso.
+     */
+    private Long semente;
+
+    /**
+     * Parâmetros ecológicos do mundo (espécies, vegetação e clima).
+     */
+    private final ParametrosSimulacao parametros;
+
+    /**
+     * Armazenamento dos dois campos, escolhido na construção.
+     */
+    private final ArmazenamentoCampo armazenamento;
+
+    // ========== CONSTRUTORES ==========
+
+    /**
+     * Cria um mundo sem mapa, com a semente de {@link Configuracao#SEMENTE}.
+     *
+     * @param profundidade Altura do campo em células
+     * @param largura      Largura do campo em células
+     */
+    public MotorSimulacao(int profundidade, int largura) {
+        this(profundidade, largura, null, Configuracao.SEMENTE);
+    }
+
+    /**
+     * Cria um mundo com os parâmetros padrão
+     * ({@link ParametrosSimulacao#padrao()}).
+     *
+     * @param profundidade Altura do campo em células
+     * @param largura      Largura do campo em células
+     * @param arquivoMapa  Arquivo de mapa de obstáculos, ou null para terreno
+     *                     livre
+     * @param semente      Semente dos sorteios, ou null para sortear ao acaso
+     */
+    public MotorSimulacao(int profundidade, int largura, String arquivoMapa, Long semente) {
+        this(profundidade, largura, arquivoMapa, semente, ParametrosSimulacao.padrao());
+    }
+
+    /**
+     * Cria um mundo com as threads do passo de
+     * {@link Configuracao#THREADS_PASSO}.
+     *
+     * @param profundidade Altura do campo em células
+     * @param largura      Largura do campo em células
+     * @param arquivoMapa  Arquivo de mapa de obstáculos, ou null para terreno
+     *                     livre
+     * @param semente      Semente dos sorteios, ou null para sortear ao acaso
+     * @param parametros   Parâmetros ecológicos do mundo
+     */
+    public MotorSimulacao(int profundidade, int largura, String arquivoMapa, Long semente,
+            ParametrosSimulacao parametros) {
+        this(profundidade, largura, arquivoMapa, semente, parametros, Configuracao.THREADS_PASSO);
+    }
+
+    /**
+     * Cria um mundo, carrega o mapa (se houver) e popula o campo inicial.
+     * <p>
+     * Dimensões inválidas são trocadas pelas padrão; um mapa de outro tamanho
+     * define as dimensões do mundo. Nada disso é avisado aqui: quem cria o
+     * motor compara {@link #getProfundidade()} e {@link #getLargura()} com
+     * as dimensões pedidas.
+     * </p>
+     * <p>
+     * O número de threads do passo só afeta a velocidade: o resultado é o
+     * mesmo para qualquer valor ({@link MotorParalelo}).
+     * </p>
+     *
+     * @param profundidade Altura do campo em células
+     * @param largura      Largura do campo em células
+     * @param arquivoMapa  Arquivo de mapa de obstáculos, ou null para terreno
+     *                     livre
+     * @param semente      Semente dos sorteios, ou null para sortear ao acaso
+     * @param parametros   Parâmetros ecológicos do mundo
+     * @param threadsPasso Threads que processam os animais em cada passo
+     * @throws IllegalArgumentException se {@code threadsPasso} for menor que
+     *                                  1
+     */
+    public MotorSimulacao(int profundidade, int largura, String arquivoMapa, Long semente,
+            ParametrosSimulacao parametros, int threadsPasso) {
+        this(profundidade, largura, arquivoMapa, semente, parametros, threadsPasso, ArmazenamentoCampo.padrao());
+    }
+
+    /**
+     * Cria um mundo com os campos no armazenamento escolhido.
+     * <p>
+     * Como no construtor sem armazenamento, dimensões inválidas são trocadas
+     * pelas padrão e um mapa de outro tamanho define as dimensões do mundo.
+     * </p>
+     *
+     * @param profundidade  Altura do campo em células
+     * @param largura       Largura do campo em células
+     * @param arquivoMapa   Arquivo de mapa de obstáculos, ou null para
+     *                      terreno livre
+     * @param semente       Semente dos sorteios, ou null para sortear ao acaso
+     * @param parametros    Parâmetros ecológicos do mundo
+     * @param threadsPasso  Threads que processam os animais em cada passo
+     * @param armazenamento Armazenamento dos campos
+     * @throws IllegalArgumentException se {@code threadsPasso} for menor que
+     *                                  1
+     */
+    public MotorSimulacao(int profundidade, int largura, String arquivoMapa, Long semente,
+            ParametrosSimulacao parametros, int threadsPasso, ArmazenamentoCampo armazenamento) {
+        if (threadsPasso < 1) {
+            throw new IllegalArgumentException("Threads do passo devem ser ao menos 1: " + threadsPasso);
+        }
+        // Valida dimensões
+        if (largura <= 0 || profundidade <= 0) {
+            profundidade = Configuracao.PROFUNDIDADE_PADRAO;
+            largura = Configuracao.LARGURA_PADRAO;
+        }
+
+        this.semente = semente;
+        this.parametros = parametros;
+        this.armazenamento = armazenamento;
+        animais = new ListaAtores();
+        novosAnimais = new ArrayList<Ator>();
+        mortesPorIdade = new RodaTemporal<Animal>(Animal::estaVivo);
+        maturidades = new RodaTemporal<Animal>(Animal::estaVivo);
+
+        if (arquivoMapa != null) {
+            carregarMapa(arquivoMapa);
+        }
+        if (terreno != null) {
+            profundidade = terreno.getProfundidade();
+            largura = terreno.getLargura();
+        }
+        criarCampos(profundidade, largura);
+
+        this.clima = new Clima(parametros);
+        this.motorParalelo = new MotorParalelo(threadsPasso, parametros.getRaioPercepcaoMaximo());
+
+        reiniciar();
+    }
+
+    // ========== MÉTODOS DE CONTROLE ==========
+
+    /**
+     * Reinicia completamente a simulação para o estado inicial.
+     * <p>
+     * <strong>Operações realizadas:</strong>
+     * <ol>
+     * <li>Reseta contador de passos para 0</li>
+     * <li>Semeia o fluxo raiz dos sorteios com a semente do motor (ou ao
+     * acaso, sem semente)</li>
+     * <li>Limpa todas as listas de animais e as agendas de idade</li>
+     * <li>Limpa ambos os campos (atual e atualizado)</li>
+     * <li>Reinicia o sistema de clima</li>
+     * <li>Popula o campo com animais iniciais</li>
+     * <li>Recalcula o gradiente de alimento, se houver</li>
+     * </ol>
+     * </p>
+     */
+    public void reiniciar() {
+        passo = 0;
+
+        if (semente != null) {
+            Aleatoriedade.semear(semente);
+        } else {
+            Aleatoriedade.semearAoAcaso();
+        }
+
+        animais.clear();
+        novosAnimais.clear();
+        mortesPorIdade.limpar();
+        maturidades.limpar();
+        mortesPorVelhice = 0;
+
+        campo.limpar();
+        campoAtualizado.limpar();
+
+        if (clima != null) {
+            clima.reiniciar();
+        }
+
+        new Populador(parametros).popular(campo, animais);
+        agendarIdades(animais);
+
+        if (gradienteAlimento != null) {
+            gradienteAlimento.reconstruir(campo.getVegetacao());
+        }
+    }
+
+    /**
+     * Libera os recursos externos do mundo (o arquivo dos campos mapeados e
+     * as threads do passo paralelo, se houver). O motor não deve mais ser
+     * usado depois disso.
+     */
+    @Override
+    public void fechar() {
+        fecharCampoMapeado();
+        motorParalelo.fechar();
+    }
+
+    // ========== MÉTODOS DE SIMULAÇÃO ==========
+
+    /**
+     * Simula um único passo da simulação.
+     * <p>
+     * <strong>Sequência de operações:</strong>
+     * <ol>
+     * <li>Incrementa contador de passos</li>
+     * <li>Prepara listas auxiliares</li>
+     * <li>Mata os animais que chegaram à idade máxima e marca os que
+     * atingiram a idade reprodutiva</li>
+     * <li>Processa ações de todos os animais</li>
+     * <li>Atualiza clima e vegetação</li>
+     * <li>Troca campos (double buffering)</li>
+     * </ol>
+     * </p>
+     */
+    @Override
+    public void simularUmPasso() {
+        passo++;
+        prepararNovosAnimais();
+        processarIdades();
+        processarCicloDeVidaAnimais();
+        processarAmbienteEClima();
+        trocarCampos();
+    }
+
+    /**
+     * Limpa a lista de animais nascidos do passo anterior.
+     * <p>
+     * Preparação para receber novos nascimentos no passo atual.
+     * </p>
+     */
+    private void prepararNovosAnimais() {
+        novosAnimais.clear();
+    }
+
+    /**
+     * Processa os eventos de idade agendados para o passo atual.
+     * <p>
+     * Os animais que morrem de velhice morrem antes de qualquer animal agir
+     * (e não podem mais ser caçados neste passo); os que amadurecem já
+     * podem reproduzir no próprio turno, como quando a idade era comparada
+     * a cada turno.
+     * </p>
+     */
+    private void processarIdades() {
+        mortesPorVelhice = 0;
+        mortesPorIdade.expirar(passo, animal -> {
+            if (animal.estaVivo()) {
+                animal.morrer();
+                mortesPorVelhice++;
+            }
+        });
+        maturidades.expirar(passo, Animal::amadurecer);
+    }
+
+    /**
+     * Agenda a morte por velhice e a maturidade de animais que acabaram de
+     * entrar no mundo.
+     * <p>
+     * Um evento que cairia depois de {@link Integer#MAX_VALUE} passos não é
+     * agendado, pois o contador de passos nunca chega lá.
+     * </p>
+     *
+     * @param entrantes Atores da população inicial ou nascidos no passo
+     */
+    private void agendarIdades(List<Ator> entrantes) {
+        for (Ator ator : entrantes) {
+            if (ator instanceof Animal) {
+                Animal animal = (Animal) ator;
+                mortesPorIdade.agendarDepois(passo, animal.passosAteMorrerDeVelhice(), animal);
+                int ateMaturidade = animal.passosAteMaturidade();
+                if (ateMaturidade > 0) {
+                    maturidades.agendarDepois(passo, ateMaturidade, animal);
+                }
+            }
+        }
+    }
+
+    /**
+     * Processa o ciclo de vida de todos os animais.
+     * <p>
+     * <strong>Para cada animal:</strong>
+     * <ol>
+     * <li>Verifica se está vivo</li>
+     * <li>Se vivo: executa suas ações (caçar, mover, reproduzir)</li>
+     * <li>Se morto: é pulado</li>
+     * </ol>
+     * </p>
+     * <p>
+     * Os animais são percorridos pelo {@link MotorParalelo}, em faixas do
+     * campo e duas fases, com qualquer número de threads: a ordem não muda
+     * com as threads do passo, e o resultado também não. Ao
+     * final, retira da lista, em uma única passada, os animais que morreram
+     * depois de agir; os filhotes nascidos neste turno já estão nela.
+     * </p>
+     */
+    private void processarCicloDeVidaAnimais() {
+        motorParalelo.executarPasso(animais, campo, campoAtualizado, novosAnimais);
+        animais.removerMortos();
+        agendarIdades(novosAnimais);
+    }
+
+    /**
+     * Gerencia o ambiente: clima e crescimento de vegetação.
+     * <p>
+     * <strong>Processo:</strong>
+     * <ol>
+     * <li>Copia estado da vegetação do campo atual</li>
+     * <li>Se houver sistema de clima: atualiza estado climático</li>
+     * <li>Faz vegetação crescer uma vez</li>
+     * <li>Se estiver chovendo: cresce novamente (crescimento dobrado)</li>
+     * <li>Repara o gradiente de alimento em volta da grama comida e da que
+     * amadureceu</li>
+     * </ol>
+     * </p>
+     * <p>
+     * Com a {@link VegetacaoPreguicosa} compartilhada, cópia e crescimento
+     * custam O(1) por turno; com {@link VegetacaoCompacta} são laços sobre
+     * arrays de bytes ({@link System#arraycopy} e soma com saturação).
+     * </p>
+     */
+    private void processarAmbienteEClima() {
+        campoAtualizado.copiarGramaDe(campo);
+
+        if (clima == null) {
+            campoAtualizado.crescerGrama();
+        } else {
+            clima.atualizar();
+            campoAtualizado.crescerGrama();
+
+            if (clima.estaChuvoso()) {
+                campoAtualizado.crescerGrama();
+            }
+        }
+
+        if (gradienteAlimento != null) {
+            gradienteAlimento.atualizar(campoAtualizado.getVegetacao());
+        }
+    }
+
+    /**
+     * Realiza a troca de referências entre campos (double buffering).
+     * <p>
+     * O campo atualizado se torna o atual, e o antigo atual é limpo
+     * para servir como buffer de escrita no próximo passo.
+     * </p>
+     * <p>
+     * A limpeza apenas inicia uma nova época de ocupação no campo (ver
+     * {@link Campo#limpar()}), sem percorrer a grade.
+     * </p>
+     */
+    private void trocarCampos() {
+        CampoSimulacao temp = campo;
+        campo = campoAtualizado;
+        campoAtualizado = temp;
+        campoAtualizado.limpar();
+    }
+
+    // ========== MÉTODOS DE CARREGAMENTO DE MAPA ==========
+
+    /**
+     * Carrega um mapa de obstáculos de um arquivo de texto como terreno do
+     * mundo.
+     * <p>
+     * É chamado antes de criar os campos, que então têm as dimensões do
+     * mapa; assim os campos (e o arquivo do mundo mapeado) são criados uma
+     * única vez. Se o mapa não puder ser lido, o terreno continua livre.
+     * </p>
+     *
+     * @param caminhoArquivo Caminho do arquivo de mapa (ex: "mapa.txt")
+     */
+    private void carregarMapa(String caminhoArquivo) {
+        CarregadorMapa carregador = new CarregadorMapa();
+        Obstaculo[][] novoMapa = carregador.carregarObstaculos(caminhoArquivo);
+
+        if (novoMapa == null)
+            return;
+
+        this.terreno = new Terreno(novoMapa);
+    }
+
+    /**
+     * Cria os dois campos do double buffering para um mundo.
+     * <p>
+     * Os campos compartilham a mesma {@link TabelaLocalizacoes}, criada uma
+     * única vez por tamanho de mapa, para que posições iguais sejam sempre a
+     * mesma instância de {@link Localizacao} nos dois buffers.
+     * </p>
+     * <p>
+     * Com {@link VegetacaoPreguicosa} (padrão) os campos também compartilham
+     * a camada de vegetação: a grama é um estado único do mundo, comido no
+     * campo atual e crescido no campo atualizado. Com
+     * {@link Configuracao#VEGETACAO_COMPACTA} cada campo recebe sua própria
+     * {@link VegetacaoCompacta}, copiada de um buffer para o outro a cada
+     * turno.
+     * </p>
+     * <p>
+     * O {@link Terreno} do mapa carregado também é compartilhado; sem mapa,
+     * os campos usam terreno livre. As células intransitáveis são marcadas
+     * uma única vez na vegetação, onde a grama não cresce.
+     * </p>
+     * <p>
+     * Com {@link ArmazenamentoCampo#emBlocos()} os campos são
+     * {@link CampoEmBlocos} que compartilham terreno convertido em blocos e
+     * uma {@link VegetacaoEmBlocos}. Com
+     * {@link ArmazenamentoCampo#mapeado(Path)} são {@link CampoMapeado}
+     * sobre o mesmo arquivo, criado do zero (ou reaberto, com
+     * {@link ArmazenamentoCampo#retomado(Path)}); se ele não puder ser
+     * mapeado, por exemplo por estar em uso por outro mundo, a construção
+     * falha.
+     * </p>
+     * <p>
+     * Com raio de forragem, os dois campos recebem um mesmo
+     * {@link GradienteAlimento} sobre o terreno do mundo. Só quando alguma
+     * espécie percebe além das vizinhas cada campo recebe seu
+     * {@link IndiceEspacial}, que de outro modo custaria a manutenção dos
+     * baldes a cada colocação.
+     * </p>
+     *
+     * @param profundidade Altura do mundo
+     * @param largura      Largura do mundo
+     */
+    private void criarCampos(int profundidade, int largura) {
+        Terreno terrenoDoMundo = criarArmazenamento(profundidade, largura);
+
+        if (parametros.getRaioForragem() > 0) {
+            if (terrenoDoMundo == null) {
+                terrenoDoMundo = terreno != null ? terreno : ((CampoMapeado) campo).lerTerreno();
+            }
+            gradienteAlimento = new GradienteAlimento(terrenoDoMundo, parametros);
+        } else {
+            gradienteAlimento = null;
+        }
+        campo.usarGradienteAlimento(gradienteAlimento);
+        campoAtualizado.usarGradienteAlimento(gradienteAlimento);
+
+        if (parametros.getRaioPercepcaoMaximo() > 1) {
+            campo.usarIndiceEspacial(new IndiceEspacial(profundidade, largura,
+                    Configuracao.BITS_LADO_BALDE_ESPACIAL));
+            campoAtualizado.usarIndiceEspacial(new IndiceEspacial(profundidade, largura,
+                    Configuracao.BITS_LADO_BALDE_ESPACIAL));
+        }
+    }
+
+    /**
+     * Cria os dois campos no armazenamento escolhido na construção.
+     * <p>
+     * Os campos mapeados criam (ou truncam) o arquivo, sem montar um
+     * {@link Terreno} quando não há mapa, o que permite mundos com mais de
+     * {@link Integer#MAX_VALUE} células. Só quando o armazenamento pede
+     * ({@link ArmazenamentoCampo#retomaImagem()}) e o arquivo guarda a
+     * imagem de um mundo do mesmo tamanho, ele é reaberto com
+     * {@link CampoMapeado#abrir}: a vegetação continua de onde estava e o
+     * terreno é regravado com o mapa, se houver.
+     * </p>
+     *
+     * @param profundidade Altura do mundo
+     * @param largura      Largura do mundo
+     * @return Terreno compartilhado pelos campos em memória, ou null se os
+     *         campos são mapeados (o terreno fica no arquivo)
+     * @throws UncheckedIOException se o arquivo do mundo não puder ser
+     *                              mapeado ou estiver em uso
+     */
+    private Terreno criarArmazenamento(int profundidade, int largura) {
+        fecharCampoMapeado();
+        if (armazenamento.getTipo() == ArmazenamentoCampo.Tipo.MAPEADO) {
+            try {
+                Path arquivo = armazenamento.getArquivo();
+                CampoMapeado primeiro;
+                if (armazenamento.retomaImagem() && CampoMapeado.ehImagem(arquivo, profundidade, largura)) {
+                    primeiro = CampoMapeado.abrir(arquivo, parametros);
+                    if (terreno != null) {
+                        primeiro.gravarTerreno(terreno);
+                    }
+                } else if (terreno != null) {
+                    primeiro = new CampoMapeado(arquivo, terreno, parametros);
+                } else {
+                    primeiro = new CampoMapeado(arquivo, profundidade, largura, parametros);
+                }
+                campo = primeiro;
+                campoAtualizado = new CampoMapeado(primeiro);
+                return null;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Erro ao mapear arquivo do mundo: " + e.getMessage(), e);
+            }
+        }
+
+        Terreno terrenoDoMundo = terreno != null ? terreno : new Terreno(profundidade, largura);
+
+        if (armazenamento.getTipo() == ArmazenamentoCampo.Tipo.BLOCOS) {
+            CampoEmBlocos primeiro = new CampoEmBlocos(terrenoDoMundo,
+                    new VegetacaoEmBlocos(profundidade, largura, parametros));
+            campo = primeiro;
+            campoAtualizado = new CampoEmBlocos(primeiro);
+            return terrenoDoMundo;
+        }
+
+        TabelaLocalizacoes localizacoes = new TabelaLocalizacoes(profundidade, largura);
+        if (Configuracao.VEGETACAO_COMPACTA) {
+            campo = new Campo(localizacoes, criarVegetacaoCompacta(profundidade, largura, terrenoDoMundo),
+                    terrenoDoMundo);
+            campoAtualizado = new Campo(localizacoes, criarVegetacaoCompacta(profundidade, largura, terrenoDoMundo),
+                    terrenoDoMundo);
+        } else {
+            VegetacaoPreguicosa vegetacao = new VegetacaoPreguicosa(profundidade, largura, parametros);
+            campo = new Campo(localizacoes, vegetacao, terrenoDoMundo);
+            campoAtualizado = new Campo(localizacoes, vegetacao, terrenoDoMundo);
+        }
+        return terrenoDoMundo;
+    }
+
+    /**
+     * Fecha o arquivo dos campos mapeados atuais, se houver, antes de serem
+     * substituídos.
+     */
+    private void fecharCampoMapeado() {
+        if (campo instanceof CampoMapeado) {
+            try {
+                ((CampoMapeado) campo).fechar();
+            } catch (IOException e) {
+                System.err.println("Erro ao fechar arquivo do mundo: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Cria uma camada de vegetação compacta com o crescimento bloqueado nas
+     * células intransitáveis do terreno.
+     *
+     * @param profundidade Altura do mundo
+     * @param largura      Largura do mundo
+     * @param terreno      Terreno cujos obstáculos bloqueiam a grama
+     * @return Nova camada de vegetação
+     */
+    private VegetacaoCompacta criarVegetacaoCompacta(int profundidade, int largura, Terreno terreno) {
+        VegetacaoCompacta vegetacao = new VegetacaoCompacta(profundidade, largura, parametros);
+        MapaBits intransitaveis = terreno.getIntransitaveis();
+        for (int i = intransitaveis.proximoLigado(0); i >= 0; i = intransitaveis.proximoLigado(i + 1)) {
+            vegetacao.bloquearCrescimento(i);
+        }
+        return vegetacao;
+    }
+
+    // ========== GETTERS E SETTERS ==========
+
+    /**
+     * Retorna o número do passo atual da simulação.
+     *
+     * @return Contador de passos desde o início ou último reinício
+     */
+    @Override
+    public int getPasso() {
+        return passo;
+    }
+
+    /**
+     * Retorna quantos animais morreram de velhice no último passo.
+     *
+     * @return Mortes por velhice no passo atual
+     */
+    public int getMortesPorVelhice() {
+        return mortesPorVelhice;
+    }
+
+    /**
+     * Retorna os parâmetros ecológicos do mundo.
+     *
+     * @return Parâmetros da simulação
+     */
+    public ParametrosSimulacao getParametros() {
+        return parametros;
+    }
+
+    /**
+     * Conta os animais vivos de cada espécie.
+     *
+     * @param populacao Vetor a reaproveitar, indexado pelo ordinal da
+     *                  espécie ({@link RegistroEspecies}); pode ser null
+     * @return O vetor recebido, ou um maior se faltava espaço, com a
+     *         população de cada espécie
+     */
+    @Override
+    public int[] contarPopulacao(int[] populacao) {
+        int especies = RegistroEspecies.quantidade();
+        if (populacao == null || populacao.length < especies) {
+            populacao = new int[especies];
+        } else {
+            Arrays.fill(populacao, 0);
+        }
+        for (Ator ator : animais) {
+            if (ator.estaVivo()) {
+                int ordinal = RegistroEspecies.ordinalDoObjeto(ator);
+                if (ordinal >= populacao.length) {
+                    populacao = Arrays.copyOf(populacao, RegistroEspecies.quantidade());
+                }
+                populacao[ordinal]++;
+            }
+        }
+        return populacao;
+    }
+
+    /**
+     * Conta os animais vivos da lista.
+     *
+     * @return Número de animais vivos
+     */
+    @Override
+    public int contarVivos() {
+        int vivos = 0;
+        for (Ator ator : animais) {
+            if (ator.estaVivo()) {
+                vivos++;
+            }
+        }
+        return vivos;
+    }
+
+    /**
+     * Retorna a lista de animais da simulação, sem cópia.
+     * <p>
+     * Depois de cada passo contém apenas animais vivos: os mortos no passo
+     * já foram retirados.
+     * </p>
+     *
+     * @return Lista interna de atores
+     */
+    public List<Ator> getAnimais() {
+        return animais;
+    }
+
+    /**
+     * Retorna o campo atual da simulação.
+     *
+     * @return Campo em uso no passo atual
+     */
+    public CampoSimulacao getCampo() {
+        return campo;
+    }
+
+    @Override
+    public int getProfundidade() {
+        return campo.getProfundidade();
+    }
+
+    @Override
+    public int getLargura() {
+        return campo.getLargura();
+    }
+
+    /**
+     * Retorna o sistema de clima da simulação.
+     *
+     * @return Objeto controlador do clima
+     */
+    public Clima getClima() {
+        return clima;
+    }
+
+    /**
+     * Define um novo sistema de clima para a simulação.
+     *
+     * @param clima Novo objeto de clima a ser usado
+     */
+    public void setClima(Clima clima) {
+        this.clima = clima;
+    }
+
+    /**
+     * Retorna a semente usada a cada reinício.
+     *
+     * @return Semente, ou null se cada execução é sorteada ao acaso
+     */
+    public Long getSemente() {
+        return semente;
+    }
+
+    /**
+     * Define a semente usada a partir do próximo {@link #reiniciar()}.
+     *
+     * @param semente Nova semente, ou null para sortear ao acaso
+     */
+    public void setSemente(Long semente) {
+        this.semente = semente;
+    }
+}
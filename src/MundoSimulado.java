@@ -0,0 +1,69 @@
+/**
+ * Interface de um mundo que avança passo a passo sem interface gráfica.
+ * <p>
+ * Reúne o que a execução em lote ({@link PrincipalLinhaDeComando}) usa de
+ * um motor: avançar, consultar as dimensões, contar a população e liberar
+ * recursos. Os motores não imprimem nada; avisos como o redimensionamento
+ * pelo mapa ficam a cargo de quem os cria. Implementada
+ * pelo {@link MotorSimulacao} (um objeto por animal) e pelo
+ * {@link MotorCompacto} (animais em vetores primitivos).
+ * </p>
+ *
+ * @author Grupo 10
+ * @version 1.0
+ * @see MotorSimulacao
+ * @see MotorCompacto
+ */
+public interface MundoSimulado {
+
+    /**
+     * Simula um único passo.
+     */
+    void simularUmPasso();
+
+    /**
+     * Retorna o número do passo atual.
+     *
+     * @return Passos executados desde o início ou último reinício
+     */
+    int getPasso();
+
+    /**
+     * Retorna a altura do mundo, que é a do mapa carregado quando ele tem
+     * outro tamanho que o pedido.
+     *
+     * @return Número de linhas do mundo
+     */
+    int getProfundidade();
+
+    /**
+     * Retorna a largura do mundo, que é a do mapa carregado quando ele tem
+     * outro tamanho que o pedido.
+     *
+     * @return Número de colunas do mundo
+     */
+    int getLargura();
+
+    /**
+     * Conta os animais vivos de cada espécie.
+     *
+     * @param populacao Vetor a reaproveitar, indexado pelo ordinal da
+     *                  espécie ({@link RegistroEspecies}); pode ser null
+     * @return O vetor recebido, ou um maior se faltava espaço, com a
+     *         população de cada espécie
+     */
+    int[] contarPopulacao(int[] populacao);
+
+    /**
+     * Conta os animais vivos do mundo.
+     *
+     * @return Número de animais vivos
+     */
+    int contarVivos();
+
+    /**
+     * Libera os recursos externos do mundo. O mundo não deve mais ser usado
+     * depois disso.
+     */
+    void fechar();
+}
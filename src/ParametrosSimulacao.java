@@ -0,0 +1,684 @@
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Parâmetros ecológicos de um mundo, imutáveis.
+ * <p>
+ * Reúne as taxas que antes eram lidas diretamente de {@link Configuracao}:
+ * idades, reprodução, ninhadas, valores nutricionais, probabilidades da
+ * população inicial, vegetação e clima. Cada {@link MotorSimulacao} recebe
+ * a sua instância, de modo que mundos com parâmetros diferentes podem rodar
+ * lado a lado na mesma JVM (por exemplo, os pontos de uma varredura de
+ * parâmetros). As constantes de {@link Configuracao} continuam sendo os
+ * valores padrão.
+ * </p>
+ *
+ * <p>
+ * <strong>Parâmetros por espécie:</strong>
+ * </p>
+ * <p>
+ * Ficam em vetores indexados pelo ordinal da espécie
+ * ({@link RegistroEspecies}), lidos pelos animais a cada passo sem passar
+ * por métodos sobrescritos nas subclasses. Há chaves para cada espécie do
+ * catálogo, inclusive as descobertas por {@link FornecedorEspecies}; os
+ * padrões vêm da própria {@link Especie}.
+ * </p>
+ *
+ * <p>
+ * <strong>Arquivo de parâmetros:</strong>
+ * </p>
+ * <p>
+ * Formato {@link Properties} (UTF-8), apenas com os valores que diferem do
+ * padrão. Chaves de espécie usam o nome da classe em minúsculas como
+ * prefixo ({@link Especie#getNome()}):
+ * </p>
+ *
+ * <pre>
+ * valorAlimentar = 10
+ * valorAlimentarMaxHerbivoro = 20
+ * vegetacao.maxCrescimento = 10
+ * vegetacao.valorNutricional = 5
+ * vegetacao.raioForragem = 6
+ * clima.ciclosParaMudanca = 50
+ * clima.probabilidadeMudanca = 0.5
+ * urso.probabilidadePesca = 0.3
+ * raposa.idadeMaxima = 150
+ * raposa.idadeReprodutiva = 10
+ * raposa.probabilidadeReproducao = 0.09
+ * raposa.tamanhoMaximoNinhada = 3
+ * raposa.valorNutricional = 8
+ * raposa.probabilidadeCriacao = 0.02
+ * raposa.dieta = coelho, rato
+ * raposa.raioPercepcao = 4
+ * </pre>
+ *
+ * <p>
+ * <strong>Teia alimentar:</strong>
+ * </p>
+ * <p>
+ * A chave {@code <predador>.dieta} lista as presas do predador, separadas
+ * por vírgula. Cada presa ganha o seu {@code valorNutricional}, a menos que
+ * a entrada indique outro valor ({@code urso.dieta = raposa:12, cobra}).
+ * O resultado é uma matriz {@code [predador][presa]}, por ordinal,
+ * compartilhada por todos os predadores do mundo: consultar a dieta é um
+ * acesso a vetor, sem mapa por animal nem valores encaixotados. Só os
+ * predadores têm a chave; mudar a teia não exige novas subclasses.
+ * </p>
+ * <p>
+ * A chave {@code <predador>.raioPercepcao} diz até que distância o predador
+ * enxerga presas (1, o padrão, é só a vizinhança). A chave
+ * {@code vegetacao.raioForragem} faz o mesmo para os herbívoros e a grama
+ * madura (0, o padrão, desliga a forragem).
+ * </p>
+ *
+ * @author Grupo 10
+ * @version 1.0
+ * @see Configuracao
+ * @see MotorSimulacao
+ */
+public final class ParametrosSimulacao {
+
+    // ========== ATRIBUTOS ESTÁTICOS ==========
+
+    /**
+     * Parâmetros padrão, tirados de {@link Configuracao}.
+     */
+    private static final ParametrosSimulacao PADRAO = new ParametrosSimulacao(new Properties());
+
+    // ========== ATRIBUTOS ==========
+
+    /**
+     * Todos os valores efetivos, como texto, indexados pela chave.
+     */
+    private final Properties valores;
+
+    /**
+     * Alimento inicial dos animais e obtido com a pesca.
+     */
+    private final int valorAlimentar;
+
+    /**
+     * Limite de alimento dos herbívoros.
+     */
+    private final int valorAlimentarMaxHerbivoro;
+
+    /**
+     * Probabilidade de sucesso da pesca do urso.
+     */
+    private final double probabilidadePescaUrso;
+
+    /**
+     * Nível em que a grama fica madura.
+     */
+    private final int maxCrescimento;
+
+    /**
+     * Alimento obtido ao comer grama madura.
+     */
+    private final int valorNutricionalGrama;
+
+    /**
+     * Distância máxima até a grama madura que os herbívoros seguem; 0 se
+     * não há forragem.
+     */
+    private final int raioForragem;
+
+    /**
+     * Passos entre as verificações de mudança do clima.
+     */
+    private final int ciclosMudancaClima;
+
+    /**
+     * Probabilidade de o clima mudar em cada verificação.
+     */
+    private final double probabilidadeMudancaClima;
+
+    /**
+     * Idade máxima, por ordinal de espécie.
+     */
+    private final int[] idadeMaxima;
+
+    /**
+     * Idade mínima para reprodução, por ordinal de espécie.
+     */
+    private final int[] idadeReprodutiva;
+
+    /**
+     * Probabilidade de reprodução por passo, por ordinal de espécie.
+     */
+    private final double[] probabilidadeReproducao;
+
+    /**
+     * Tamanho máximo da ninhada, por ordinal de espécie.
+     */
+    private final int[] tamanhoMaximoNinhada;
+
+    /**
+     * Alimento obtido pelo predador que come a espécie, por ordinal.
+     */
+    private final int[] valorNutricional;
+
+    /**
+     * Probabilidade de criação por célula na população inicial, por ordinal.
+     */
+    private final double[] probabilidadeCriacao;
+
+    /**
+     * Alimento obtido pelo predador (primeiro índice) ao comer a presa
+     * (segundo índice), por ordinal; 0 se não é presa.
+     */
+    private final int[][] dieta;
+
+    /**
+     * Ordinais das presas de cada predador; vetor vazio para quem não caça.
+     */
+    private final int[][] presas;
+
+    /**
+     * Raio de percepção de cada predador; 1 para quem não caça.
+     */
+    private final int[] raioPercepcao;
+
+    /**
+     * Maior raio de percepção entre as espécies.
+     */
+    private final int raioPercepcaoMaximo;
+
+    // ========== CONSTRUTOR ==========
+
+    /**
+     * Cria os parâmetros a partir dos valores padrão sobrescritos pelos
+     * informados.
+     *
+     * @param definidos Valores que diferem do padrão
+     * @throws IllegalArgumentException se alguma chave for desconhecida ou
+     *                                  algum valor for inválido
+     */
+    private ParametrosSimulacao(Properties definidos) {
+        valores = valoresPadrao();
+        for (String chave : definidos.stringPropertyNames()) {
+            if (valores.getProperty(chave) == null) {
+                throw new IllegalArgumentException("Parâmetro desconhecido: " + chave);
+            }
+            valores.setProperty(chave, definidos.getProperty(chave).trim());
+        }
+
+        valorAlimentar = inteiro("valorAlimentar", 1, Integer.MAX_VALUE);
+        valorAlimentarMaxHerbivoro = inteiro("valorAlimentarMaxHerbivoro", 1, Integer.MAX_VALUE);
+        probabilidadePescaUrso = probabilidade("urso.probabilidadePesca");
+        // Os níveis da vegetação compacta cabem em um byte
+        maxCrescimento = inteiro("vegetacao.maxCrescimento", 1, Byte.MAX_VALUE);
+        valorNutricionalGrama = inteiro("vegetacao.valorNutricional", 0, Integer.MAX_VALUE);
+        // As distâncias do gradiente de alimento cabem em um byte
+        raioForragem = inteiro("vegetacao.raioForragem", 0, Byte.MAX_VALUE - 1);
+        ciclosMudancaClima = inteiro("clima.ciclosParaMudanca", 1, Integer.MAX_VALUE);
+        probabilidadeMudancaClima = probabilidade("clima.probabilidadeMudanca");
+
+        List<Especie> especies = RegistroEspecies.especies();
+        int tamanho = especies.size();
+        idadeMaxima = new int[tamanho];
+        idadeReprodutiva = new int[tamanho];
+        probabilidadeReproducao = new double[tamanho];
+        tamanhoMaximoNinhada = new int[tamanho];
+        valorNutricional = new int[tamanho];
+        probabilidadeCriacao = new double[tamanho];
+        dieta = new int[tamanho][tamanho];
+        presas = new int[tamanho][];
+        raioPercepcao = new int[tamanho];
+        for (int ordinal = 0; ordinal < tamanho; ordinal++) {
+            String prefixo = prefixo(especies.get(ordinal));
+            idadeMaxima[ordinal] = inteiro(prefixo + "idadeMaxima", 1, Integer.MAX_VALUE);
+            idadeReprodutiva[ordinal] = inteiro(prefixo + "idadeReprodutiva", 0, Integer.MAX_VALUE);
+            probabilidadeReproducao[ordinal] = probabilidade(prefixo + "probabilidadeReproducao");
+            tamanhoMaximoNinhada[ordinal] = inteiro(prefixo + "tamanhoMaximoNinhada", 1, Integer.MAX_VALUE);
+            valorNutricional[ordinal] = inteiro(prefixo + "valorNutricional", 0, Integer.MAX_VALUE);
+            probabilidadeCriacao[ordinal] = probabilidade(prefixo + "probabilidadeCriacao");
+        }
+        int maiorRaio = 1;
+        for (int ordinal = 0; ordinal < tamanho; ordinal++) {
+            Especie especie = especies.get(ordinal);
+            presas[ordinal] = lerDieta(prefixo(especie) + "dieta", dieta[ordinal]);
+            // As faixas do MotorParalelo crescem com o dobro do raio
+            raioPercepcao[ordinal] = especie.ehPredador()
+                    ? inteiro(prefixo(especie) + "raioPercepcao", 1, Short.MAX_VALUE)
+                    : 1;
+            maiorRaio = Math.max(maiorRaio, raioPercepcao[ordinal]);
+        }
+        raioPercepcaoMaximo = maiorRaio;
+    }
+
+    // ========== MÉTODOS DE CRIAÇÃO ==========
+
+    /**
+     * Retorna os parâmetros padrão, iguais às constantes de
+     * {@link Configuracao}.
+     *
+     * @return Parâmetros padrão (instância compartilhada)
+     */
+    public static ParametrosSimulacao padrao() {
+        return PADRAO;
+    }
+
+    /**
+     * Cria parâmetros a partir de propriedades; as chaves ausentes ficam com
+     * o valor padrão.
+     *
+     * @param propriedades Valores que diferem do padrão
+     * @return Novos parâmetros
+     * @throws IllegalArgumentException se alguma chave for desconhecida ou
+     *                                  algum valor for inválido
+     */
+    public static ParametrosSimulacao de(Properties propriedades) {
+        return new ParametrosSimulacao(propriedades);
+    }
+
+    /**
+     * Carrega parâmetros de um arquivo no formato {@link Properties}.
+     *
+     * @param arquivo Caminho do arquivo (UTF-8)
+     * @return Novos parâmetros
+     * @throws IOException              se o arquivo não puder ser lido
+     * @throws IllegalArgumentException se alguma chave for desconhecida ou
+     *                                  algum valor for inválido
+     */
+    public static ParametrosSimulacao carregar(Path arquivo) throws IOException {
+        Properties propriedades = new Properties();
+        try (Reader leitor = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8)) {
+            propriedades.load(leitor);
+        }
+        return new ParametrosSimulacao(propriedades);
+    }
+
+    /**
+     * Cria uma cópia destes parâmetros com um valor alterado.
+     * <p>
+     * Útil em varreduras, em que cada ponto difere da base em um parâmetro.
+     * </p>
+     *
+     * @param chave Chave do parâmetro (ver formato do arquivo)
+     * @param valor Novo valor
+     * @return Novos parâmetros
+     * @throws IllegalArgumentException se a chave for desconhecida ou o
+     *                                  valor for inválido
+     */
+    public ParametrosSimulacao com(String chave, Object valor) {
+        Properties propriedades = comoPropriedades();
+        if (propriedades.getProperty(chave) == null) {
+            throw new IllegalArgumentException("Parâmetro desconhecido: " + chave);
+        }
+        propriedades.setProperty(chave, String.valueOf(valor));
+        return new ParametrosSimulacao(propriedades);
+    }
+
+    /**
+     * Retorna todos os valores efetivos, no formato do arquivo.
+     *
+     * @return Cópia das propriedades, que pode ser alterada ou gravada
+     */
+    public Properties comoPropriedades() {
+        Properties copia = new Properties();
+        copia.putAll(valores);
+        return copia;
+    }
+
+    // ========== PARÂMETROS GLOBAIS ==========
+
+    /**
+     * Retorna o alimento inicial dos animais, também obtido com a pesca.
+     *
+     * @return Nível de alimento
+     */
+    public int getValorAlimentar() {
+        return valorAlimentar;
+    }
+
+    /**
+     * Retorna o limite de alimento que um herbívoro pode acumular.
+     *
+     * @return Nível máximo de alimento
+     */
+    public int getValorAlimentarMaxHerbivoro() {
+        return valorAlimentarMaxHerbivoro;
+    }
+
+    /**
+     * Retorna a probabilidade de sucesso da pesca do urso.
+     *
+     * @return Probabilidade entre 0.0 e 1.0
+     */
+    public double getProbabilidadePescaUrso() {
+        return probabilidadePescaUrso;
+    }
+
+    /**
+     * Retorna o nível em que a grama fica madura.
+     *
+     * @return Nível máximo de crescimento
+     */
+    public int getMaxCrescimento() {
+        return maxCrescimento;
+    }
+
+    /**
+     * Retorna o alimento obtido ao comer grama madura.
+     *
+     * @return Valor nutricional da grama
+     */
+    public int getValorNutricionalGrama() {
+        return valorNutricionalGrama;
+    }
+
+    /**
+     * Retorna até que distância os herbívoros seguem a grama madura.
+     *
+     * @return Raio em células (0: herbívoros se movem ao acaso)
+     */
+    public int getRaioForragem() {
+        return raioForragem;
+    }
+
+    /**
+     * Retorna o número de passos entre as verificações de mudança do clima.
+     *
+     * @return Ciclos para mudança
+     */
+    public int getCiclosMudancaClima() {
+        return ciclosMudancaClima;
+    }
+
+    /**
+     * Retorna a probabilidade de o clima mudar em cada verificação.
+     *
+     * @return Probabilidade entre 0.0 e 1.0
+     */
+    public double getProbabilidadeMudancaClima() {
+        return probabilidadeMudancaClima;
+    }
+
+    // ========== PARÂMETROS POR ESPÉCIE ==========
+
+    /**
+     * Retorna a idade máxima de uma espécie.
+     *
+     * @param especie Ordinal da espécie
+     * @return Idade máxima em passos
+     */
+    public int getIdadeMaxima(int especie) {
+        return idadeMaxima[especie];
+    }
+
+    /**
+     * Retorna a idade mínima para reprodução de uma espécie.
+     *
+     * @param especie Ordinal da espécie
+     * @return Idade reprodutiva em passos
+     */
+    public int getIdadeReprodutiva(int especie) {
+        return idadeReprodutiva[especie];
+    }
+
+    /**
+     * Retorna a probabilidade de reprodução por passo de uma espécie.
+     *
+     * @param especie Ordinal da espécie
+     * @return Probabilidade entre 0.0 e 1.0
+     */
+    public double getProbabilidadeReproducao(int especie) {
+        return probabilidadeReproducao[especie];
+    }
+
+    /**
+     * Retorna o tamanho máximo da ninhada de uma espécie.
+     *
+     * @param especie Ordinal da espécie
+     * @return Número máximo de filhotes
+     */
+    public int getTamanhoMaximoNinhada(int especie) {
+        return tamanhoMaximoNinhada[especie];
+    }
+
+    /**
+     * Retorna o alimento obtido pelo predador que come uma espécie.
+     *
+     * @param especie Ordinal da espécie
+     * @return Valor nutricional da presa
+     */
+    public int getValorNutricional(int especie) {
+        return valorNutricional[especie];
+    }
+
+    /**
+     * Retorna a probabilidade de criação de uma espécie em cada célula
+     * livre, na população inicial.
+     *
+     * @param especie Ordinal da espécie
+     * @return Probabilidade entre 0.0 e 1.0
+     */
+    public double getProbabilidadeCriacao(int especie) {
+        return probabilidadeCriacao[especie];
+    }
+
+    /**
+     * Retorna o alimento que um predador obtém ao comer uma presa.
+     *
+     * @param predador Ordinal do predador
+     * @param presa    Ordinal da presa
+     * @return Valor nutricional, ou 0 se a presa não faz parte da dieta
+     */
+    public int getValorPresa(int predador, int presa) {
+        int[] linha = dieta[predador];
+        return presa < linha.length ? linha[presa] : 0;
+    }
+
+    /**
+     * Retorna a linha da teia alimentar de um predador, sem cópia.
+     * <p>
+     * Vetor compartilhado por todos os animais da espécie; não deve ser
+     * alterado.
+     * </p>
+     *
+     * @param predador Ordinal do predador
+     * @return Valor nutricional de cada presa, indexado pelo ordinal
+     */
+    int[] dietaDe(int predador) {
+        return dieta[predador];
+    }
+
+    /**
+     * Retorna os ordinais das presas de um predador, sem cópia.
+     * <p>
+     * Vetor compartilhado por todos os animais da espécie; não deve ser
+     * alterado.
+     * </p>
+     *
+     * @param predador Ordinal do predador
+     * @return Ordinais das presas (vazio se a espécie não caça)
+     */
+    int[] presasDe(int predador) {
+        return presas[predador];
+    }
+
+    /**
+     * Retorna até que distância um predador enxerga presas.
+     *
+     * @param especie Ordinal da espécie
+     * @return Raio em células (1: só as vizinhas)
+     */
+    public int getRaioPercepcao(int especie) {
+        return raioPercepcao[especie];
+    }
+
+    /**
+     * Retorna o maior raio de percepção do mundo, que limita até onde um
+     * animal lê o campo durante a sua ação.
+     *
+     * @return Maior raio, em células (ao menos 1)
+     */
+    public int getRaioPercepcaoMaximo() {
+        return raioPercepcaoMaximo;
+    }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    /**
+     * Monta os valores padrão a partir de {@link Configuracao} e das
+     * espécies do {@link RegistroEspecies}.
+     *
+     * @return Propriedades com todas as chaves conhecidas
+     */
+    private static Properties valoresPadrao() {
+        Properties padrao = new Properties();
+        definir(padrao, "valorAlimentar", Configuracao.VALOR_ALIMENTAR);
+        definir(padrao, "valorAlimentarMaxHerbivoro", Configuracao.VALOR_ALIMENTAR_MAX_HERBIVORO);
+        definir(padrao, "urso.probabilidadePesca", Configuracao.PROB_PESCA_URSO);
+        definir(padrao, "vegetacao.maxCrescimento", Configuracao.MAX_CRESCIMENTO);
+        definir(padrao, "vegetacao.valorNutricional", Configuracao.VALOR_NUTRICIONAL);
+        definir(padrao, "vegetacao.raioForragem", Configuracao.RAIO_FORRAGEM);
+        definir(padrao, "clima.ciclosParaMudanca", Configuracao.CICLOS_MUDANCA_CLIMA);
+        definir(padrao, "clima.probabilidadeMudanca", Configuracao.PROBABILIDADE_MUDANCA_CLIMA);
+
+        for (Especie especie : RegistroEspecies.especies()) {
+            definirEspecie(padrao, especie);
+        }
+        return padrao;
+    }
+
+    /**
+     * Grava os valores padrão de uma espécie.
+     * <p>
+     * Só os predadores recebem as chaves da dieta e do raio de percepção.
+     * </p>
+     *
+     * @param padrao  Propriedades em montagem
+     * @param especie Espécie, com os seus padrões
+     */
+    private static void definirEspecie(Properties padrao, Especie especie) {
+        String prefixo = prefixo(especie);
+        definir(padrao, prefixo + "idadeMaxima", especie.getIdadeMaxima());
+        definir(padrao, prefixo + "idadeReprodutiva", especie.getIdadeReprodutiva());
+        definir(padrao, prefixo + "probabilidadeReproducao", especie.getProbabilidadeReproducao());
+        definir(padrao, prefixo + "tamanhoMaximoNinhada", especie.getTamanhoMaximoNinhada());
+        definir(padrao, prefixo + "valorNutricional", especie.getValorNutricional());
+        definir(padrao, prefixo + "probabilidadeCriacao", especie.getProbabilidadeCriacao());
+        if (especie.ehPredador()) {
+            definir(padrao, prefixo + "dieta", especie.getDieta());
+            definir(padrao, prefixo + "raioPercepcao", Configuracao.RAIO_PERCEPCAO);
+        }
+    }
+
+    /**
+     * Grava um valor como texto.
+     *
+     * @param propriedades Propriedades de destino
+     * @param chave        Chave do parâmetro
+     * @param valor        Valor
+     */
+    private static void definir(Properties propriedades, String chave, Object valor) {
+        propriedades.setProperty(chave, String.valueOf(valor));
+    }
+
+    /**
+     * Retorna o prefixo das chaves de uma espécie.
+     *
+     * @param especie Espécie
+     * @return Nome da espécie seguido de ponto (ex: "raposa.")
+     */
+    private static String prefixo(Especie especie) {
+        return especie.getNome() + ".";
+    }
+
+    /**
+     * Lê um parâmetro inteiro e confere o intervalo.
+     *
+     * @param chave  Chave do parâmetro
+     * @param minimo Menor valor aceito
+     * @param maximo Maior valor aceito
+     * @return Valor lido
+     * @throws IllegalArgumentException se o valor não for um inteiro no
+     *                                  intervalo
+     */
+    private int inteiro(String chave, int minimo, int maximo) {
+        String texto = valores.getProperty(chave);
+        int valor;
+        try {
+            valor = Integer.parseInt(texto);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor inválido para " + chave + ": " + texto);
+        }
+        if (valor < minimo || valor > maximo) {
+            throw new IllegalArgumentException("Valor fora do intervalo para " + chave + ": " + valor);
+        }
+        return valor;
+    }
+
+    /**
+     * Lê a dieta de um predador e preenche sua linha da teia alimentar.
+     *
+     * @param chave Chave da dieta ({@code <predador>.dieta})
+     * @param linha Linha do predador na matriz, a preencher
+     * @return Ordinais das presas, na ordem da lista (vazio sem a chave)
+     * @throws IllegalArgumentException se alguma presa for desconhecida,
+     *                                  repetida ou tiver valor inválido
+     */
+    private int[] lerDieta(String chave, int[] linha) {
+        String texto = valores.getProperty(chave);
+        if (texto == null || texto.trim().isEmpty()) {
+            return new int[0];
+        }
+        String[] entradas = texto.split(",");
+        int[] ordinais = new int[entradas.length];
+        for (int i = 0; i < entradas.length; i++) {
+            String[] partes = entradas[i].trim().split(":");
+            Especie especie = RegistroEspecies.especiePorNome(partes[0].trim());
+            if (especie == null || partes.length > 2) {
+                throw new IllegalArgumentException("Presa inválida em " + chave + ": " + entradas[i].trim());
+            }
+            int presa = RegistroEspecies.ordinalDe(especie.getClasse());
+            if (linha[presa] != 0) {
+                throw new IllegalArgumentException("Presa repetida em " + chave + ": " + partes[0].trim());
+            }
+            int valor = valorNutricional[presa];
+            if (partes.length == 2) {
+                try {
+                    valor = Integer.parseInt(partes[1].trim());
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Valor inválido em " + chave + ": " + entradas[i].trim());
+                }
+            }
+            // Zero marca "não é presa" na matriz
+            if (valor <= 0) {
+                throw new IllegalArgumentException("Valor fora do intervalo em " + chave + ": " + entradas[i].trim());
+            }
+            linha[presa] = valor;
+            ordinais[i] = presa;
+        }
+        return ordinais;
+    }
+
+    /**
+     * Lê uma probabilidade, entre 0 e 1.
+     *
+     * @param chave Chave do parâmetro
+     * @return Valor lido
+     * @throws IllegalArgumentException se o valor não for um número entre 0
+     *                                  e 1
+     */
+    private double probabilidade(String chave) {
+        String texto = valores.getProperty(chave);
+        double valor;
+        try {
+            valor = Double.parseDouble(texto);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor inválido para " + chave + ": " + texto);
+        }
+        if (!(valor >= 0 && valor <= 1)) {
+            throw new IllegalArgumentException("Valor fora do intervalo para " + chave + ": " + valor);
+        }
+        return valor;
+    }
+}
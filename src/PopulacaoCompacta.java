@@ -0,0 +1,501 @@
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Armazena os animais de um mundo como estrutura de vetores (um vetor
+ * primitivo por atributo), em vez de um objeto por animal.
+ * <p>
+ * Cada animal ocupa uma posição ({@code vaga}) nos vetores de espécie,
+ * idade, nível de alimento, célula e estado do gerador de sorteios; o
+ * estado de vida é um bit. Uma {@link Animal} custa algumas centenas de
+ * bytes no heap (cabeçalho, {@link java.util.SplittableRandom},
+ * {@link Localizacao}); aqui são 22 bytes por vaga, mais os bits de
+ * estado e as pilhas de vagas, percorridos
+ * em ordem pelo laço do passo.
+ * </p>
+ *
+ * <p>
+ * <strong>Reaproveitamento de vagas:</strong>
+ * </p>
+ * <p>
+ * Um animal que morre sai do bitmap dos vivos na hora, mas sua vaga só
+ * volta para a lista de livres em {@link #liberarMortos()}, no fim do
+ * passo: até lá, referências à vaga nas grades continuam apontando para o
+ * animal morto. Os nascidos no passo ficam marcados como novos até
+ * {@link #concluirNascimentos()}, para que não ajam nem sejam caçados no
+ * passo em que nasceram, mesmo ocupando uma vaga já percorrida.
+ * </p>
+ *
+ * <p>
+ * <strong>Sorteios:</strong>
+ * </p>
+ * <p>
+ * Cada vaga tem seu próprio fluxo SplitMix64 (o mesmo gerador do
+ * {@link java.util.SplittableRandom}), guardado em um {@code long}. Como no
+ * caminho com objetos, a série de cada animal não depende da ordem em que
+ * os demais agem.
+ * </p>
+ *
+ * @author Grupo 10
+ * @version 1.0
+ * @see MotorCompacto
+ */
+public class PopulacaoCompacta {
+
+    // ========== ATRIBUTOS ESTÁTICOS ==========
+
+    /**
+     * Capacidade inicial dos vetores, em vagas.
+     */
+    private static final int CAPACIDADE_INICIAL = 1024;
+
+    /**
+     * Incremento do estado SplitMix64 a cada sorteio.
+     */
+    private static final long GAMA = 0x9e3779b97f4a7c15L;
+
+    // ========== ATRIBUTOS ==========
+
+    /**
+     * Ordinal da espécie ({@link RegistroEspecies}) de cada vaga.
+     */
+    private short[] especie;
+
+    /**
+     * Idade de cada vaga, em passos.
+     */
+    private int[] idade;
+
+    /**
+     * Nível de alimento de cada vaga.
+     */
+    private int[] nivelAlimento;
+
+    /**
+     * Índice plano da célula de cada vaga.
+     */
+    private int[] celula;
+
+    /**
+     * Estado do gerador de sorteios de cada vaga.
+     */
+    private long[] sorteio;
+
+    /**
+     * Bitmap das vagas com animal vivo.
+     */
+    private long[] vivos;
+
+    /**
+     * Bitmap das vagas ocupadas por nascidos no passo atual.
+     */
+    private long[] novos;
+
+    /**
+     * Pilha das vagas livres para reaproveitar.
+     */
+    private int[] livres;
+
+    /**
+     * Número de vagas na pilha de livres.
+     */
+    private int quantidadeLivres;
+
+    /**
+     * Vagas que morreram no passo atual, devolvidas em
+     * {@link #liberarMortos()}.
+     */
+    private int[] mortos;
+
+    /**
+     * Número de vagas em {@link #mortos}.
+     */
+    private int quantidadeMortos;
+
+    /**
+     * Uma vaga além da maior já usada; as vagas a partir daqui nunca foram
+     * ocupadas.
+     */
+    private int limite;
+
+    /**
+     * Número de animais vivos.
+     */
+    private int quantidadeVivos;
+
+    // ========== CONSTRUTOR ==========
+
+    /**
+     * Cria uma população vazia.
+     */
+    public PopulacaoCompacta() {
+        especie = new short[CAPACIDADE_INICIAL];
+        idade = new int[CAPACIDADE_INICIAL];
+        nivelAlimento = new int[CAPACIDADE_INICIAL];
+        celula = new int[CAPACIDADE_INICIAL];
+        sorteio = new long[CAPACIDADE_INICIAL];
+        vivos = new long[CAPACIDADE_INICIAL >>> 6];
+        novos = new long[CAPACIDADE_INICIAL >>> 6];
+        livres = new int[CAPACIDADE_INICIAL];
+        mortos = new int[CAPACIDADE_INICIAL];
+    }
+
+    // ========== MÉTODOS DE CICLO DE VIDA ==========
+
+    /**
+     * Coloca um animal em uma vaga livre (ou em uma nova, se não houver).
+     *
+     * @param ordinal        Ordinal da espécie
+     * @param idadeInicial   Idade do animal
+     * @param alimento       Nível de alimento inicial
+     * @param indiceCelula   Índice plano da célula
+     * @param semente        Estado inicial do gerador de sorteios
+     * @param nascidoNoPasso Se o animal nasceu no passo em andamento
+     * @return Vaga ocupada
+     */
+    public int alocar(int ordinal, int idadeInicial, int alimento, int indiceCelula, long semente,
+            boolean nascidoNoPasso) {
+        int vaga;
+        if (quantidadeLivres > 0) {
+            vaga = livres[--quantidadeLivres];
+        } else {
+            vaga = limite++;
+            garantirCapacidade(limite);
+        }
+        especie[vaga] = (short) ordinal;
+        idade[vaga] = idadeInicial;
+        nivelAlimento[vaga] = alimento;
+        celula[vaga] = indiceCelula;
+        sorteio[vaga] = semente;
+        vivos[vaga >>> 6] |= 1L << vaga;
+        if (nascidoNoPasso) {
+            novos[vaga >>> 6] |= 1L << vaga;
+        }
+        quantidadeVivos++;
+        return vaga;
+    }
+
+    /**
+     * Marca o animal de uma vaga como morto.
+     * <p>
+     * A vaga continua reservada até {@link #liberarMortos()}. Sem efeito se
+     * o animal já estava morto.
+     * </p>
+     *
+     * @param vaga Vaga do animal
+     */
+    public void morrer(int vaga) {
+        long bit = 1L << vaga;
+        if ((vivos[vaga >>> 6] & bit) == 0) {
+            return;
+        }
+        vivos[vaga >>> 6] &= ~bit;
+        nivelAlimento[vaga] = 0;
+        quantidadeVivos--;
+        if (quantidadeMortos == mortos.length) {
+            mortos = Arrays.copyOf(mortos, mortos.length * 2);
+        }
+        mortos[quantidadeMortos++] = vaga;
+    }
+
+    /**
+     * Devolve à lista de livres as vagas dos animais mortos desde a última
+     * chamada.
+     * <p>
+     * Chamado no fim de cada passo, quando nenhuma grade aponta mais para
+     * essas vagas como ocupantes atuais.
+     * </p>
+     *
+     * @return Número de vagas liberadas
+     */
+    public int liberarMortos() {
+        int liberadas = quantidadeMortos;
+        if (quantidadeLivres + liberadas > livres.length) {
+            livres = Arrays.copyOf(livres, Math.max(quantidadeLivres + liberadas, livres.length * 2));
+        }
+        System.arraycopy(mortos, 0, livres, quantidadeLivres, liberadas);
+        quantidadeLivres += liberadas;
+        quantidadeMortos = 0;
+        return liberadas;
+    }
+
+    /**
+     * Retira a marca de nascido no passo de todas as vagas, que passam a agir
+     * e a poder ser caçadas a partir do próximo passo.
+     */
+    public void concluirNascimentos() {
+        Arrays.fill(novos, 0, (limite + 63) >>> 6, 0L);
+    }
+
+    /**
+     * Retira todos os animais.
+     */
+    public void limpar() {
+        Arrays.fill(vivos, 0L);
+        Arrays.fill(novos, 0L);
+        quantidadeLivres = 0;
+        quantidadeMortos = 0;
+        limite = 0;
+        quantidadeVivos = 0;
+    }
+
+    /**
+     * Embaralha as vagas ocupadas (Fisher-Yates), de modo que a ordem de ação
+     * não siga a ordem em que os animais foram colocados.
+     * <p>
+     * Deve ser chamado antes do primeiro passo, sem vagas livres nem mortas.
+     * </p>
+     *
+     * @param aleatorio Fluxo usado nos sorteios
+     */
+    public void embaralhar(SplittableRandom aleatorio) {
+        for (int i = limite - 1; i > 0; i--) {
+            trocar(i, aleatorio.nextInt(i + 1));
+        }
+    }
+
+    // ========== MÉTODOS DE PERCURSO ==========
+
+    /**
+     * Procura a próxima vaga com animal vivo que não nasceu neste passo.
+     *
+     * @param aPartirDe Primeira vaga a examinar
+     * @return Vaga encontrada, ou -1 se não houver
+     */
+    public int proximaAtiva(int aPartirDe) {
+        if (aPartirDe >= limite) {
+            return -1;
+        }
+        int palavra = aPartirDe >>> 6;
+        long bits = (vivos[palavra] & ~novos[palavra]) & (-1L << aPartirDe);
+        int palavras = (limite + 63) >>> 6;
+        while (bits == 0) {
+            if (++palavra >= palavras) {
+                return -1;
+            }
+            bits = vivos[palavra] & ~novos[palavra];
+        }
+        int vaga = (palavra << 6) + Long.numberOfTrailingZeros(bits);
+        return vaga < limite ? vaga : -1;
+    }
+
+    /**
+     * Verifica se uma vaga tem animal vivo que já existia no início do
+     * passo (candidato a presa).
+     *
+     * @param vaga Vaga a consultar
+     * @return true se vivo e não nascido neste passo
+     */
+    public boolean estaAtiva(int vaga) {
+        long bit = 1L << vaga;
+        return (vivos[vaga >>> 6] & bit) != 0 && (novos[vaga >>> 6] & bit) == 0;
+    }
+
+    /**
+     * Verifica se o animal de uma vaga está vivo.
+     *
+     * @param vaga Vaga a consultar
+     * @return true se vivo
+     */
+    public boolean estaVivo(int vaga) {
+        return (vivos[vaga >>> 6] & (1L << vaga)) != 0;
+    }
+
+    // ========== MÉTODOS DE ACESSO ==========
+
+    /**
+     * Retorna o ordinal da espécie de uma vaga.
+     *
+     * @param vaga Vaga
+     * @return Ordinal da espécie
+     */
+    public int getEspecie(int vaga) {
+        return especie[vaga];
+    }
+
+    /**
+     * Retorna a idade do animal de uma vaga.
+     *
+     * @param vaga Vaga
+     * @return Idade em passos
+     */
+    public int getIdade(int vaga) {
+        return idade[vaga];
+    }
+
+    /**
+     * Incrementa a idade do animal de uma vaga.
+     *
+     * @param vaga Vaga
+     * @return Nova idade
+     */
+    public int envelhecer(int vaga) {
+        return ++idade[vaga];
+    }
+
+    /**
+     * Retorna o nível de alimento do animal de uma vaga.
+     *
+     * @param vaga Vaga
+     * @return Nível de alimento
+     */
+    public int getNivelAlimento(int vaga) {
+        return nivelAlimento[vaga];
+    }
+
+    /**
+     * Define o nível de alimento do animal de uma vaga.
+     *
+     * @param vaga  Vaga
+     * @param nivel Novo nível de alimento
+     */
+    public void setNivelAlimento(int vaga, int nivel) {
+        nivelAlimento[vaga] = nivel;
+    }
+
+    /**
+     * Decrementa o nível de alimento do animal de uma vaga.
+     *
+     * @param vaga Vaga
+     * @return Novo nível de alimento
+     */
+    public int consumirAlimento(int vaga) {
+        return --nivelAlimento[vaga];
+    }
+
+    /**
+     * Retorna a célula do animal de uma vaga.
+     *
+     * @param vaga Vaga
+     * @return Índice plano da célula
+     */
+    public int getCelula(int vaga) {
+        return celula[vaga];
+    }
+
+    /**
+     * Define a célula do animal de uma vaga.
+     *
+     * @param vaga         Vaga
+     * @param indiceCelula Índice plano da nova célula
+     */
+    public void setCelula(int vaga, int indiceCelula) {
+        celula[vaga] = indiceCelula;
+    }
+
+    /**
+     * Retorna uma vaga além da maior já usada.
+     *
+     * @return Limite superior (exclusivo) das vagas
+     */
+    public int getLimite() {
+        return limite;
+    }
+
+    /**
+     * Retorna o número de animais vivos.
+     *
+     * @return Animais vivos, inclusive os nascidos no passo
+     */
+    public int getQuantidadeVivos() {
+        return quantidadeVivos;
+    }
+
+    /**
+     * Retorna o número de vagas que os vetores comportam sem crescer.
+     *
+     * @return Capacidade em vagas
+     */
+    public int getCapacidade() {
+        return idade.length;
+    }
+
+    // ========== MÉTODOS DE SORTEIO ==========
+
+    /**
+     * Sorteia 64 bits do fluxo de uma vaga (SplitMix64).
+     *
+     * @param vaga Vaga
+     * @return Valor sorteado
+     */
+    public long sortearLong(int vaga) {
+        long z = (sorteio[vaga] += GAMA);
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+
+    /**
+     * Sorteia um inteiro em {@code [0, limite)} com o fluxo de uma vaga.
+     * <p>
+     * Usa multiplicação em vez de resto; o viés, da ordem de
+     * {@code limite / 2^32}, é desprezível para os limites usados (vizinhas,
+     * ninhadas, idades).
+     * </p>
+     *
+     * @param vaga          Vaga
+     * @param limiteSorteio Limite exclusivo (maior que zero)
+     * @return Valor sorteado
+     */
+    public int sortearInt(int vaga, int limiteSorteio) {
+        return (int) (((sortearLong(vaga) >>> 32) * limiteSorteio) >>> 32);
+    }
+
+    /**
+     * Sorteia um valor em {@code [0, 1)} com o fluxo de uma vaga.
+     *
+     * @param vaga Vaga
+     * @return Valor sorteado
+     */
+    public double sortearDouble(int vaga) {
+        return (sortearLong(vaga) >>> 11) * 0x1.0p-53;
+    }
+
+    // ========== MÉTODOS AUXILIARES ==========
+
+    /**
+     * Aumenta os vetores, se preciso, para caber uma quantidade de vagas.
+     *
+     * @param capacidade Número de vagas a caber
+     */
+    private void garantirCapacidade(int capacidade) {
+        if (capacidade <= idade.length) {
+            return;
+        }
+        int nova = Math.max(capacidade, idade.length * 2);
+        especie = Arrays.copyOf(especie, nova);
+        idade = Arrays.copyOf(idade, nova);
+        nivelAlimento = Arrays.copyOf(nivelAlimento, nova);
+        celula = Arrays.copyOf(celula, nova);
+        sorteio = Arrays.copyOf(sorteio, nova);
+        vivos = Arrays.copyOf(vivos, (nova + 63) >>> 6);
+        novos = Arrays.copyOf(novos, (nova + 63) >>> 6);
+    }
+
+    /**
+     * Troca o conteúdo de duas vagas ocupadas.
+     *
+     * @param a Primeira vaga
+     * @param b Segunda vaga
+     */
+    private void trocar(int a, int b) {
+        if (a == b) {
+            return;
+        }
+        short e = especie[a];
+        especie[a] = especie[b];
+        especie[b] = e;
+        int i = idade[a];
+        idade[a] = idade[b];
+        idade[b] = i;
+        int n = nivelAlimento[a];
+        nivelAlimento[a] = nivelAlimento[b];
+        nivelAlimento[b] = n;
+        int c = celula[a];
+        celula[a] = celula[b];
+        celula[b] = c;
+        long s = sorteio[a];
+        sorteio[a] = sorteio[b];
+        sorteio[b] = s;
+    }
+}
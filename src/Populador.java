@@ -1,6 +1,5 @@
-import java.util.Collections;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * Classe responsável pela população inicial do campo de simulação.
@@ -27,7 +26,9 @@ import java.util.Random;
  * </p>
  * <p>
  * Cada espécie tem uma probabilidade independente definida em
- * {@link Configuracao}.
+ * {@link ParametrosSimulacao} (padrão na {@link Especie}). As espécies são
+ * testadas na ordem dos ordinais do {@link RegistroEspecies}, com as
+ * probabilidades em um vetor indexado pelo ordinal.
  * Como os testes são sequenciais, espécies testadas primeiro têm prioridade
  * em caso de múltiplos sucessos (situação rara devido a probabilidades baixas).
  * </p>
@@ -36,22 +37,37 @@ import java.util.Random;
  * <strong>Extensibilidade:</strong>
  * </p>
  * <p>
- * Para adicionar novas espécies à simulação:
- * <ol>
- * <li>Adicione a probabilidade em {@link Configuracao}</li>
- * <li>Adicione um teste {@code else if} no método {@link #popular}</li>
- * <li>Não é necessário modificar outras classes</li>
- * </ol>
+ * Novas espécies entram no catálogo do {@link RegistroEspecies}, por um
+ * {@link FornecedorEspecies}; o populador não precisa ser alterado.
  * </p>
  * 
  * @author Grupo 10
  * @version 1.0
- * @see Configuracao
+ * @see ParametrosSimulacao
  * @see Campo
  * @see Animal
  */
 public class Populador {
 
+    // ========== ATRIBUTOS ==========
+
+    /**
+     * Parâmetros do mundo: probabilidades de criação e parâmetros passados
+     * aos animais criados.
+     */
+    private final ParametrosSimulacao parametros;
+
+    // ========== CONSTRUTOR ==========
+
+    /**
+     * Cria um populador para um mundo.
+     *
+     * @param parametros Parâmetros do mundo
+     */
+    public Populador(ParametrosSimulacao parametros) {
+        this.parametros = parametros;
+    }
+
     // ========== MÉTODOS DE REGISTRO ==========
 
     /**
@@ -61,7 +77,7 @@ public class Populador {
      * garantindo que todas as referências sejam configuradas corretamente:
      * <ul>
      * <li>Adiciona à lista de animais (para processamento)</li>
-     * <li>Define a localização do animal</li>
+     * <li>Define a localização do animal (instância canônica do campo)</li>
      * <li>Coloca o animal no campo (para visualização)</li>
      * </ul>
      * </p>
@@ -72,10 +88,11 @@ public class Populador {
      * @param campo   Campo onde o animal será posicionado
      * @param animais Lista de atores onde o animal será adicionado
      */
-    private void registrarAnimal(Animal animal, int linha, int coluna, Campo campo, List<Ator> animais) {
+    private void registrarAnimal(Animal animal, int linha, int coluna, CampoSimulacao campo, List<Ator> animais) {
         animais.add(animal);
-        animal.definirLocalizacao(linha, coluna);
-        campo.colocar(animal, linha, coluna);
+        Localizacao localizacao = campo.getLocalizacao(linha, coluna);
+        animal.definirLocalizacao(localizacao);
+        campo.colocar(animal, localizacao);
     }
 
     // ========== MÉTODOS DE POPULAÇÃO ==========
@@ -96,6 +113,9 @@ public class Populador {
      * <p>
      * <strong>Ordem de Prioridade das Espécies:</strong>
      * </p>
+     * <p>
+     * A do catálogo: as nativas, nesta ordem, e depois as descobertas.
+     * </p>
      * <ol>
      * <li>Raposa (predador médio)</li>
      * <li>Coelho (herbívoro)</li>
@@ -117,8 +137,13 @@ public class Populador {
      * @param campo   Campo a ser populado com animais
      * @param animais Lista vazia que será preenchida com os animais criados
      */
-    public void popular(Campo campo, List<Ator> animais) {
-        Random aleatorio = new Random();
+    public void popular(CampoSimulacao campo, List<Ator> animais) {
+        SplittableRandom aleatorio = Aleatoriedade.dividir();
+        List<Especie> especies = RegistroEspecies.especies();
+        double[] probabilidades = new double[especies.size()];
+        for (int especie = 0; especie < probabilidades.length; especie++) {
+            probabilidades[especie] = parametros.getProbabilidadeCriacao(especie);
+        }
 
         // Percorre todas as células do campo
         for (int linha = 0; linha < campo.getProfundidade(); linha++) {
@@ -129,25 +154,18 @@ public class Populador {
                     continue;
                 }
 
-                // Testa criação de cada espécie baseado em probabilidades configuradas
-                if (aleatorio.nextDouble() <= Configuracao.PROBABILIDADE_CRIACAO_RAPOSA) {
-                    registrarAnimal(new Raposa(true), linha, coluna, campo, animais);
-                } else if (aleatorio.nextDouble() <= Configuracao.PROBABILIDADE_CRIACAO_COELHO) {
-                    registrarAnimal(new Coelho(true), linha, coluna, campo, animais);
-                } else if (aleatorio.nextDouble() <= Configuracao.PROBABILIDADE_CRIACAO_RATO) {
-                    registrarAnimal(new Rato(true), linha, coluna, campo, animais);
-                } else if (aleatorio.nextDouble() <= Configuracao.PROBABILIDADE_CRIACAO_COBRA) {
-                    registrarAnimal(new Cobra(true), linha, coluna, campo, animais);
-                } else if (aleatorio.nextDouble() <= Configuracao.PROBABILIDADE_CRIACAO_GAVIAO) {
-                    registrarAnimal(new Gaviao(true), linha, coluna, campo, animais);
-                } else if (aleatorio.nextDouble() <= Configuracao.PROBABILIDADE_CRIACAO_URSO) {
-                    registrarAnimal(new Urso(true), linha, coluna, campo, animais);
+                // Testa as espécies em ordem; a primeira sorteada ocupa a célula
+                for (int especie = 0; especie < probabilidades.length; especie++) {
+                    if (aleatorio.nextDouble() <= probabilidades[especie]) {
+                        registrarAnimal(especies.get(especie).criar(parametros, true), linha, coluna, campo,
+                                animais);
+                        break;
+                    }
                 }
-                // Novas espécies podem ser adicionadas aqui seguindo o mesmo padrão
             }
         }
 
         // Embaralha para garantir ordem de ação aleatória
-        Collections.shuffle(animais);
+        Aleatoriedade.embaralhar(animais, aleatorio);
     }
 }
\ No newline at end of file
@@ -1,6 +1,3 @@
-import java.util.Map;
-import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -17,7 +14,8 @@ import java.util.List;
  * </p>
  * <ul>
  * <li>Caçam ativamente outras espécies para sobreviver</li>
- * <li>Possuem um mapa de dieta configurável (presa → valor nutricional)</li>
+ * <li>Seguem a teia alimentar do mundo (presa → valor nutricional), lida de
+ * {@link ParametrosSimulacao}</li>
  * <li>Morrem de fome se não conseguirem se alimentar</li>
  * <li>Movem-se de forma direcionada ao caçar ou aleatória ao explorar</li>
  * </ul>
@@ -27,10 +25,11 @@ import java.util.List;
  * </p>
  * <ol>
  * <li>Verifica localizações adjacentes em busca de presas</li>
- * <li>Identifica presas válidas usando o mapa de dieta</li>
+ * <li>Identifica presas válidas usando a teia alimentar</li>
  * <li>Ataca e se alimenta, eliminando a presa</li>
  * <li>Move-se para a localização da presa</li>
- * <li>Se não encontra presa, move-se livremente</li>
+ * <li>Se não encontra presa, persegue a mais próxima dentro do raio de
+ * percepção ou, sem nenhuma à vista, move-se livremente</li>
  * </ol>
  * 
  * <p>
@@ -38,7 +37,7 @@ import java.util.List;
  * </p>
  * <p>
  * Cada tipo de presa fornece um valor nutricional específico, definido
- * no mapa de dieta. O predador acumula alimento e perde gradualmente
+ * na teia alimentar ({@code <predador>.dieta}). O predador acumula alimento e perde gradualmente
  * a cada turno (fome). Quando o alimento chega a zero, o predador morre.
  * </p>
  * 
@@ -55,36 +54,30 @@ public abstract class Predador extends Animal {
     // ========== ATRIBUTOS ==========
 
     /**
-     * Mapa que define a dieta do predador.
+     * Visitante que confirma se a presa sorteada ainda está viva (pode ter
+     * sido comida por outro predador neste turno).
      * <p>
-     * Estrutura:
-     * <ul>
-     * <li><strong>Chave:</strong> Classe da presa (ex: Coelho.class)</li>
-     * <li><strong>Valor:</strong> Valor nutricional obtido ao consumir</li>
-     * </ul>
-     * </p>
-     * <p>
-     * Cada subclasse configura sua dieta específica no construtor,
-     * permitindo diferentes estratégias alimentares entre predadores.
+     * Não captura estado, portanto é compartilhado por todos os predadores.
      * </p>
      */
-    protected Map<Class<?>, Integer> dieta;
+    private static final VisitanteVizinhanca PRESA_VIVA = (campo,
+            indice) -> ((Animal) campo.getObjetoNoIndice(indice)).estaVivo();
 
     // ========== CONSTRUTOR ==========
 
     /**
      * Cria uma nova instância de predador.
      * <p>
-     * Inicializa o mapa de dieta vazio. Subclasses devem popular
-     * este mapa com suas presas específicas no construtor.
+     * A dieta não é guardada no predador: é a linha da espécie na teia
+     * alimentar dos parâmetros, compartilhada por todos os animais dela.
      * </p>
      * 
+     * @param parametros     Parâmetros do mundo
      * @param idadeAleatoria Se true, a idade será aleatória entre 0 e idade máxima;
      *                       se false, a idade será zero (recém-nascido)
      */
-    public Predador(boolean idadeAleatoria) {
-        super(idadeAleatoria);
-        dieta = new HashMap<>();
+    public Predador(ParametrosSimulacao parametros, boolean idadeAleatoria) {
+        super(parametros, idadeAleatoria);
     }
 
     // ========== MÉTODOS DE AÇÃO ==========
@@ -101,8 +94,9 @@ public abstract class Predador extends Animal {
      * </ol>
      * </p>
      * <p>
-     * O predador pode morrer de fome ou velhice durante este processo,
-     * caso em que as etapas seguintes não são executadas.
+     * O predador pode morrer de fome durante este processo, caso em que as
+     * etapas seguintes não são executadas. A morte por velhice acontece
+     * antes, no início do passo ({@link MotorSimulacao}).
      * </p>
      * 
      * @param campoAtual      Campo no estado atual (leitura)
@@ -128,13 +122,14 @@ public abstract class Predador extends Animal {
      * <ol>
      * <li>Tenta localizar uma presa adjacente</li>
      * <li>Se encontrou: move-se para o local da presa (caça)</li>
-     * <li>Se não encontrou: move-se aleatoriamente (exploração)</li>
+     * <li>Se não encontrou: persegue a presa mais próxima dentro do raio de
+     * percepção da espécie ({@link #perseguir})</li>
+     * <li>Se não há presa à vista: move-se aleatoriamente (exploração)</li>
      * </ol>
      * </p>
      * <p>
-     * Este método implementa o comportamento de caça oportunista:
-     * o predador ataca quando há oportunidade, mas não persegue
-     * ativamente presas distantes.
+     * O predador só ataca presas vizinhas. Com o raio de percepção padrão
+     * (1) não há perseguição e o comportamento é o da caça oportunista.
      * </p>
      * 
      * @param campoAtual      Campo atual com posições de todos os animais
@@ -145,20 +140,57 @@ public abstract class Predador extends Animal {
 
         if (locPresa != null) {
             moverPara(locPresa, campoAtualizado);
-        } else {
+        } else if (!perseguir(campoAtual, campoAtualizado)) {
             tentarMoverLivremente(campoAtualizado);
         }
     }
 
+    /**
+     * Dá um passo em direção à presa viva mais próxima dentro do raio de
+     * percepção.
+     * <p>
+     * A presa é procurada no campo atual pelo índice espacial
+     * ({@link CampoInterativo#buscarMaisProximaDeEspecies}); o passo é a
+     * vizinha na direção dela, e só é dado se essa célula estiver livre no
+     * campo atualizado. Com raio 1 a busca nem é feita: as vizinhas já foram
+     * examinadas por {@link #cacar}. A direção é calculada sobre os índices
+     * planos, sem criar localizações.
+     * </p>
+     *
+     * @param campoAtual      Campo atual onde procurar presas
+     * @param campoAtualizado Campo de destino do movimento
+     * @return true se o predador se moveu
+     */
+    private boolean perseguir(CampoInterativo campoAtual, CampoInterativo campoAtualizado) {
+        int raio = getParametros().getRaioPercepcao(getEspecie());
+        if (raio <= 1) {
+            return false;
+        }
+        Localizacao aqui = getLocalizacao();
+        long alvo = campoAtual.buscarMaisProximaDeEspecies(aqui, raio, getParametros().presasDe(getEspecie()),
+                PRESA_VIVA);
+        if (alvo < 0) {
+            return false;
+        }
+        int largura = campoAtual.getLargura();
+        long indice = campoAtual.indiceDe(aqui);
+        long passo = indice + Long.signum(alvo / largura - indice / largura) * largura
+                + Long.signum(alvo % largura - indice % largura);
+        if (!campoAtualizado.estaLivre(passo)) {
+            return false;
+        }
+        moverPara(campoAtualizado.localizacaoDoIndice(passo), campoAtualizado);
+        return true;
+    }
+
     /**
      * Busca e consome uma presa em localizações adjacentes.
      * <p>
      * <strong>Algoritmo de caça:</strong>
      * <ol>
-     * <li>Itera sobre todas as localizações adjacentes</li>
-     * <li>Verifica se há um objeto na localização</li>
-     * <li>Verifica se o objeto é uma presa válida (está no mapa de dieta)</li>
-     * <li>Verifica se a presa está viva</li>
+     * <li>Pede ao campo uma vizinha sorteada entre as ocupadas por espécies
+     * da dieta (união das camadas de ocupação dessas espécies)</li>
+     * <li>Confirma que a presa sorteada está viva; se não, sorteia outra</li>
      * <li>Se todas as condições forem atendidas: consome a presa</li>
      * <li>Retorna a localização da presa encontrada</li>
      * </ol>
@@ -174,20 +206,13 @@ public abstract class Predador extends Animal {
      * @return Localização da presa consumida, ou null se nenhuma foi encontrada
      */
     private Localizacao cacar(CampoInterativo campo, Localizacao localizacao) {
-        Iterator<Localizacao> adjacentes = campo.localizacoesAdjacentes(localizacao);
-        while (adjacentes.hasNext()) {
-            Localizacao onde = adjacentes.next();
-            Object objeto = campo.getObjetoEm(onde);
-
-            if (objeto != null && dieta.containsKey(objeto.getClass())) {
-                Animal presa = (Animal) objeto;
-                if (presa.estaVivo()) {
-                    come(presa);
-                    return onde;
-                }
-            }
+        long onde = campo.sortearAdjacenteDeEspecies(localizacao, getParametros().presasDe(getEspecie()),
+                PRESA_VIVA);
+        if (onde < 0) {
+            return null;
         }
-        return null;
+        come((Animal) campo.getObjetoNoIndice(onde));
+        return campo.localizacaoDoIndice(onde);
     }
 
     /**
@@ -201,16 +226,16 @@ public abstract class Predador extends Animal {
      * </ul>
      * </p>
      * <p>
-     * O valor nutricional é obtido do mapa de dieta usando a classe da presa
-     * como chave. Diferentes presas fornecem diferentes quantidades de energia.
+     * O valor nutricional é lido da teia alimentar pelos ordinais do
+     * predador e da presa, sem mapa nem valores encaixotados. Diferentes
+     * presas fornecem diferentes quantidades de energia.
      * </p>
      * 
      * @param presa Animal que foi capturado e será consumido
      */
     private void come(Animal presa) {
         presa.morrer();
-        int calorias = dieta.get(presa.getClass());
-        setNivelAlimento(calorias);
+        setNivelAlimento(getParametros().getValorPresa(getEspecie(), presa.getEspecie()));
     }
 
     // ========== MÉTODOS ABSTRATOS ==========
@@ -228,7 +253,7 @@ public abstract class Predador extends Animal {
      * {@code
      * @Override
      * public Predador criarFilho() {
-     *     return new Raposa(false);
+     *     return new Raposa(getParametros(), false);
      * }
      * }
      * </pre>
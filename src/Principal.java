@@ -1,3 +1,6 @@
+import java.io.IOException;
+import java.nio.file.Paths;
+
 /**
  * Classe principal que serve como ponto de entrada da aplicação.
  * <p>
@@ -26,10 +29,21 @@
  * <li>Parâmetros de população em {@link Configuracao}</li>
  * </ul>
  * </p>
+ * <p>
+ * Os parâmetros ecológicos também podem vir de um arquivo, passado como
+ * primeiro argumento (ver {@link ParametrosSimulacao}):
+ * {@code java Principal parametros.properties}.
+ * </p>
+ * 
+ * <p>
+ * Para rodar sem interface gráfica (por exemplo, em servidores), use
+ * {@link PrincipalLinhaDeComando}.
+ * </p>
  * 
  * @author Grupo 10
  * @version 1.0
  * @see Simulador
+ * @see PrincipalLinhaDeComando
  * @see Configuracao
  */
 public class Principal {
@@ -43,11 +57,23 @@ public class Principal {
    * permaneça viável.
    * </p>
    * 
-   * @param args Argumentos de linha de comando (não utilizados atualmente)
+   * @param args Argumentos de linha de comando: opcionalmente, o arquivo de
+   *             parâmetros da simulação
    */
   public static void main(String[] args) {
+    ParametrosSimulacao parametros = ParametrosSimulacao.padrao();
+    if (args.length > 0) {
+      try {
+        parametros = ParametrosSimulacao.carregar(Paths.get(args[0]));
+      } catch (IOException | IllegalArgumentException e) {
+        System.err.println("Erro ao ler parâmetros de " + args[0] + ": " + e.getMessage());
+        System.exit(1);
+      }
+    }
+
     // Cria o simulador com dimensões padrão (definidas em Configuracao)
-    Simulador simulador = new Simulador();
+    Simulador simulador = new Simulador(Configuracao.PROFUNDIDADE_PADRAO, Configuracao.LARGURA_PADRAO,
+        parametros);
 
     // Executa a simulação por 500 passos (pode ser pausada/continuada pelo usuário)
     simulador.simular(500);
@@ -0,0 +1,384 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Ponto de entrada para rodar a simulação sem interface gráfica.
+ * <p>
+ * Usa o {@link MotorSimulacao} diretamente, sem {@link Desenhavel} nem
+ * pausas entre passos, de modo que a simulação avança tão rápido quanto o
+ * processador permite. Indicado para servidores sem tela e para rodadas
+ * longas ou repetidas.
+ * </p>
+ *
+ * <p>
+ * <strong>Uso:</strong>
+ * </p>
+ *
+ * <pre>
+ * java PrincipalLinhaDeComando [--mapa arquivo] [--tamanho PROFUNDIDADExLARGURA]
+ *                              [--passos N] [--semente S] [--saida arquivo.csv]
+ *                              [--mundos M] [--threads T] [--parametros arquivo]
+ *                              [--populacao objetos|compacta]
+ *                              [--campo plano|blocos|mapeado:arquivo|retomar:arquivo]
+ * </pre>
+ *
+ * <ul>
+ * <li><strong>--mapa:</strong> mapa de obstáculos; sem ele o terreno é livre.
+ * Um mapa de outro tamanho define as dimensões do mundo</li>
+ * <li><strong>--tamanho:</strong> dimensões do mundo (padrão de
+ * {@link Configuracao})</li>
+ * <li><strong>--passos:</strong> número de passos, maior que zero (padrão
+ * {@value #PASSOS_PADRAO})</li>
+ * <li><strong>--semente:</strong> semente dos sorteios (padrão
+ * {@link Configuracao#SEMENTE})</li>
+ * <li><strong>--saida:</strong> arquivo CSV com a população de cada espécie
+ * a cada passo (com {@code --mundos}, a média, o desvio padrão e os
+ * percentis 5, 50 e 95 de cada espécie a cada passo)</li>
+ * <li><strong>--mundos:</strong> executa um conjunto de M mundos
+ * independentes ({@link ExecutorConjunto}), com sementes S, S+1, ...
+ * (M maior que zero)</li>
+ * <li><strong>--threads:</strong> com {@code --mundos}, threads do conjunto
+ * (padrão: número de núcleos); sem ele, threads que processam os animais em
+ * cada passo do {@link MotorSimulacao} (padrão
+ * {@link Configuracao#THREADS_PASSO}). O resultado não depende delas. A
+ * população compacta roda sempre em uma thread e não aceita a opção</li>
+ * <li><strong>--parametros:</strong> arquivo com os parâmetros ecológicos
+ * que diferem do padrão ({@link ParametrosSimulacao#carregar})</li>
+ * <li><strong>--populacao:</strong> {@code objetos} usa o
+ * {@link MotorSimulacao}; {@code compacta}, o {@link MotorCompacto} (padrão
+ * de {@link Configuracao#POPULACAO_COMPACTA}). Não vale com
+ * {@code --mundos}</li>
+ * <li><strong>--campo:</strong> armazenamento dos campos do
+ * {@link MotorSimulacao} ({@link ArmazenamentoCampo#ler}): {@code plano},
+ * {@code blocos}, {@code mapeado:arquivo} (arquivo criado do zero) ou
+ * {@code retomar:arquivo} (reabre a imagem gravada no arquivo, se houver).
+ * Padrão de {@link ArmazenamentoCampo#padrao()}. Com {@code --mundos},
+ * cada mundo usa o arquivo com o seu número como sufixo. Não vale com a
+ * população compacta</li>
+ * </ul>
+ *
+ * <p>
+ * A execução para antes do número de passos se todos os animais morrerem.
+ * Ao final, imprime os passos executados e a taxa em passos por segundo.
+ * </p>
+ *
+ * @author Grupo 10
+ * @version 1.0
+ * @see MotorSimulacao
+ * @see Principal
+ */
+public class PrincipalLinhaDeComando {
+
+    // ========== ATRIBUTOS ESTÁTICOS ==========
+
+    /**
+     * Número de passos quando {@code --passos} não é informado.
+     */
+    public static final int PASSOS_PADRAO = 500;
+
+    /**
+     * Resumo das opções, impresso quando os argumentos são inválidos.
+     */
+    private static final String USO = "Uso: java PrincipalLinhaDeComando [--mapa arquivo]"
+            + " [--tamanho PROFUNDIDADExLARGURA] [--passos N] [--semente S] [--saida arquivo.csv]"
+            + " [--mundos M] [--threads T] [--parametros arquivo] [--populacao objetos|compacta]"
+            + " [--campo plano|blocos|mapeado:arquivo|retomar:arquivo]";
+
+    /**
+     * Percentis gravados na saída de um conjunto.
+     */
+    private static final double[] PERCENTIS = { 0.05, 0.50, 0.95 };
+
+    /**
+     * Classe de entrada, não instanciável.
+     */
+    private PrincipalLinhaDeComando() {
+    }
+
+    // ========== MÉTODOS ==========
+
+    /**
+     * Lê as opções, executa a simulação e imprime a taxa de passos.
+     *
+     * @param args Opções de linha de comando (ver documentação da classe)
+     */
+    public static void main(String[] args) {
+        String mapa = null;
+        int profundidade = Configuracao.PROFUNDIDADE_PADRAO;
+        int largura = Configuracao.LARGURA_PADRAO;
+        int passos = PASSOS_PADRAO;
+        Long semente = Configuracao.SEMENTE;
+        String saida = null;
+        int mundos = 0;
+        Integer threads = null;
+        String arquivoParametros = null;
+        boolean compacta = Configuracao.POPULACAO_COMPACTA;
+        ArmazenamentoCampo armazenamento = null;
+
+        try {
+            for (int i = 0; i < args.length; i += 2) {
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Valor ausente para " + args[i]);
+                }
+                String valor = args[i + 1];
+                switch (args[i]) {
+                    case "--mapa":
+                        mapa = valor;
+                        break;
+                    case "--tamanho":
+                        String[] partes = valor.toLowerCase().split("x");
+                        if (partes.length != 2) {
+                            throw new IllegalArgumentException("Tamanho inválido: " + valor);
+                        }
+                        profundidade = Integer.parseInt(partes[0]);
+                        largura = Integer.parseInt(partes[1]);
+                        if (profundidade <= 0 || largura <= 0) {
+                            throw new IllegalArgumentException("Tamanho inválido: " + valor);
+                        }
+                        break;
+                    case "--passos":
+                        passos = Integer.parseInt(valor);
+                        if (passos < 1) {
+                            throw new IllegalArgumentException("Passos inválidos: " + valor);
+                        }
+                        break;
+                    case "--semente":
+                        semente = Long.parseLong(valor);
+                        break;
+                    case "--saida":
+                        saida = valor;
+                        break;
+                    case "--mundos":
+                        mundos = Integer.parseInt(valor);
+                        if (mundos < 1) {
+                            throw new IllegalArgumentException("Mundos inválidos: " + valor);
+                        }
+                        break;
+                    case "--threads":
+                        threads = Integer.parseInt(valor);
+                        if (threads < 1) {
+                            throw new IllegalArgumentException("Threads inválidas: " + valor);
+                        }
+                        break;
+                    case "--parametros":
+                        arquivoParametros = valor;
+                        break;
+                    case "--populacao":
+                        if (!valor.equals("objetos") && !valor.equals("compacta")) {
+                            throw new IllegalArgumentException("População inválida: " + valor);
+                        }
+                        compacta = valor.equals("compacta");
+                        break;
+                    case "--campo":
+                        armazenamento = ArmazenamentoCampo.ler(valor);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Opção desconhecida: " + args[i]);
+                }
+            }
+            if (compacta && mundos > 0) {
+                throw new IllegalArgumentException("A população compacta não vale com --mundos");
+            }
+            if (compacta && threads != null) {
+                throw new IllegalArgumentException("--threads não vale com a população compacta");
+            }
+            if (armazenamento != null && compacta) {
+                throw new IllegalArgumentException("--campo não vale com a população compacta");
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USO);
+            System.exit(2);
+        }
+
+        ParametrosSimulacao parametros = ParametrosSimulacao.padrao();
+        if (arquivoParametros != null) {
+            try {
+                parametros = ParametrosSimulacao.carregar(Paths.get(arquivoParametros));
+            } catch (IOException e) {
+                System.err.println("Erro ao ler parâmetros: " + e.getMessage());
+                System.exit(1);
+            } catch (IllegalArgumentException e) {
+                System.err.println(arquivoParametros + ": " + e.getMessage());
+                System.exit(2);
+            }
+        }
+
+        if (mundos > 0) {
+            try {
+                ExecutorConjunto executor = new ExecutorConjunto(profundidade, largura, mapa,
+                        threads != null ? threads : Runtime.getRuntime().availableProcessors(), parametros,
+                        armazenamento != null ? armazenamento : ArmazenamentoCampo.padrao());
+                executarConjunto(executor, mundos, passos, semente != null ? semente : System.nanoTime(), saida);
+            } catch (IllegalStateException e) {
+                Throwable causa = e.getCause() != null ? e.getCause() : e;
+                System.err.println(e.getMessage() + ": " + causa.getMessage());
+                System.exit(1);
+            } catch (IOException e) {
+                System.err.println("Erro ao gravar saída: " + e.getMessage());
+                System.exit(1);
+            } catch (IllegalArgumentException e) {
+                System.err.println(e.getMessage());
+                System.exit(2);
+            }
+            return;
+        }
+
+        MundoSimulado motor = null;
+        try {
+            motor = compacta ? new MotorCompacto(profundidade, largura, mapa, semente, parametros)
+                    : new MotorSimulacao(profundidade, largura, mapa, semente, parametros,
+                            threads != null ? threads : Configuracao.THREADS_PASSO,
+                            armazenamento != null ? armazenamento : ArmazenamentoCampo.padrao());
+        } catch (UncheckedIOException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+        if (motor.getProfundidade() != profundidade || motor.getLargura() != largura) {
+            System.out.println("Redimensionando simulação para: " + motor.getProfundidade() + "x"
+                    + motor.getLargura());
+        }
+        try {
+            executar(motor, passos, saida);
+        } catch (IOException e) {
+            System.err.println("Erro ao gravar saída: " + e.getMessage());
+            System.exit(1);
+        } finally {
+            motor.fechar();
+        }
+    }
+
+    /**
+     * Executa os passos, gravando a população a cada passo se houver
+     * arquivo de saída, e imprime o resumo da execução.
+     *
+     * @param motor  Motor já populado
+     * @param passos Número máximo de passos
+     * @param saida  Arquivo CSV de saída, ou null
+     * @throws IOException se a saída não puder ser gravada
+     */
+    private static void executar(MundoSimulado motor, int passos, String saida) throws IOException {
+        List<Class<?>> especies = especiesDeAnimais();
+        int[] populacao = new int[RegistroEspecies.quantidade()];
+
+        BufferedWriter escritor = null;
+        if (saida != null) {
+            escritor = Files.newBufferedWriter(Paths.get(saida), StandardCharsets.UTF_8);
+            escritor.write("passo");
+            for (Class<?> especie : especies) {
+                escritor.write(',');
+                escritor.write(especie.getSimpleName());
+            }
+            escritor.newLine();
+        }
+
+        try {
+            long inicio = System.nanoTime();
+            int executados = 0;
+            while (executados < passos && motor.contarVivos() > 0) {
+                motor.simularUmPasso();
+                executados++;
+                if (escritor != null) {
+                    gravarPopulacao(escritor, motor, especies, populacao);
+                }
+            }
+            double segundos = (System.nanoTime() - inicio) / 1e9;
+
+            System.out.printf("%d passos em %.3f s (%.1f passos/s), %d animais no fim%n", executados, segundos,
+                    executados / Math.max(segundos, 1e-9), motor.contarVivos());
+        } finally {
+            if (escritor != null) {
+                escritor.close();
+            }
+        }
+    }
+
+    /**
+     * Executa um conjunto de mundos, grava as faixas de população se houver
+     * arquivo de saída e imprime o resumo da execução.
+     *
+     * @param executor    Executor do conjunto
+     * @param mundos      Número de mundos
+     * @param passos      Passos de cada mundo
+     * @param sementeBase Semente do primeiro mundo
+     * @param saida       Arquivo CSV de saída, ou null
+     * @throws IOException se a saída não puder ser gravada
+     */
+    private static void executarConjunto(ExecutorConjunto executor, int mundos, int passos, long sementeBase,
+            String saida) throws IOException {
+        long inicio = System.nanoTime();
+        ResultadoConjunto resultado = executor.executar(mundos, passos, sementeBase);
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+
+        System.out.printf("%d mundos de %d passos em %.3f s (%.1f passos/s), semente inicial %d%n", mundos, passos,
+                segundos, (double) mundos * passos / Math.max(segundos, 1e-9), sementeBase);
+        for (Class<?> especie : resultado.getEspecies()) {
+            System.out.printf("  %s no passo %d: média %.1f, desvio %.1f%n", especie.getSimpleName(), passos,
+                    resultado.media(especie, passos), resultado.desvioPadrao(especie, passos));
+        }
+
+        if (saida == null) {
+            return;
+        }
+        try (BufferedWriter escritor = Files.newBufferedWriter(Paths.get(saida), StandardCharsets.UTF_8)) {
+            escritor.write("passo,especie,media,desvio");
+            for (double percentil : PERCENTIS) {
+                escritor.write(",p" + Math.round(percentil * 100));
+            }
+            escritor.newLine();
+            for (int passo = 0; passo <= passos; passo++) {
+                for (Class<?> especie : resultado.getEspecies()) {
+                    StringBuilder linha = new StringBuilder();
+                    linha.append(passo).append(',').append(especie.getSimpleName());
+                    linha.append(',').append(String.format(Locale.ROOT, "%.3f", resultado.media(especie, passo)));
+                    linha.append(',').append(String.format(Locale.ROOT, "%.3f", resultado.desvioPadrao(especie, passo)));
+                    for (double percentil : PERCENTIS) {
+                        linha.append(',').append(resultado.percentil(especie, passo, percentil));
+                    }
+                    escritor.write(linha.toString());
+                    escritor.newLine();
+                }
+            }
+        }
+    }
+
+    /**
+     * Grava uma linha do CSV com a população de cada espécie no passo atual.
+     *
+     * @param escritor  Destino
+     * @param motor     Motor da simulação
+     * @param especies  Espécies das colunas, em ordem
+     * @param populacao Contadores por ordinal, reaproveitados entre passos
+     * @throws IOException se a linha não puder ser gravada
+     */
+    private static void gravarPopulacao(BufferedWriter escritor, MundoSimulado motor, List<Class<?>> especies,
+            int[] populacao) throws IOException {
+        populacao = motor.contarPopulacao(populacao);
+        escritor.write(Integer.toString(motor.getPasso()));
+        for (Class<?> especie : especies) {
+            escritor.write(',');
+            escritor.write(Integer.toString(populacao[RegistroEspecies.ordinalDe(especie)]));
+        }
+        escritor.newLine();
+    }
+
+    /**
+     * Lista as espécies de animais do catálogo, em ordem de ordinal.
+     *
+     * @return Classes de animais registradas
+     */
+    private static List<Class<?>> especiesDeAnimais() {
+        List<Class<?>> especies = new ArrayList<Class<?>>();
+        for (Especie especie : RegistroEspecies.especies()) {
+            especies.add(especie.getClasse());
+        }
+        return especies;
+    }
+}
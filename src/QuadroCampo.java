@@ -0,0 +1,268 @@
+import java.util.Arrays;
+
+/**
+ * Retrato compacto do campo em um passo, desenhado pela visualização.
+ * <p>
+ * Cada célula vira um código de um byte: grama nova, grama madura, um tipo
+ * de {@link Obstaculo} ou uma espécie ({@link RegistroEspecies}). Junto vão
+ * o número do passo, a população de cada espécie e o texto do clima. O
+ * quadro é preenchido pela thread da simulação com
+ * {@link #capturar(int, GradeVisualizavel, int[], String, boolean)} e,
+ * depois de publicado no {@link BufferTriplo}, só é lido pela thread da
+ * interface.
+ * </p>
+ *
+ * <p>
+ * <strong>Códigos das células:</strong>
+ * </p>
+ * <ul>
+ * <li>{@link #CODIGO_GRAMA_NOVA} e {@link #CODIGO_GRAMA_MADURA}: célula
+ * vazia</li>
+ * <li>{@link #codigoDoObstaculo(Obstaculo)}: um código por tipo de
+ * obstáculo</li>
+ * <li>{@link #codigoDaEspecie(int)}: um código por ordinal de espécie, até
+ * {@link #CODIGO_DESCONHECIDO}, que agrupa as excedentes</li>
+ * </ul>
+ *
+ * @author Grupo 10
+ * @version 1.0
+ * @see BufferTriplo
+ * @see VisualizacaoSimulador
+ */
+public class QuadroCampo {
+
+    // ========== ATRIBUTOS ESTÁTICOS ==========
+
+    /**
+     * Código de célula vazia com grama nova.
+     */
+    public static final int CODIGO_GRAMA_NOVA = 0;
+
+    /**
+     * Código de célula vazia com grama madura.
+     */
+    public static final int CODIGO_GRAMA_MADURA = 1;
+
+    /**
+     * Código das espécies cujo ordinal não cabe em um byte.
+     */
+    public static final int CODIGO_DESCONHECIDO = 255;
+
+    /**
+     * Número de códigos distintos.
+     */
+    public static final int QUANTIDADE_CODIGOS = 256;
+
+    /**
+     * Tipos de obstáculo, na ordem dos códigos.
+     */
+    private static final Obstaculo[] OBSTACULOS = Obstaculo.values();
+
+    /**
+     * Primeiro código de obstáculo.
+     */
+    private static final int PRIMEIRO_OBSTACULO = 2;
+
+    /**
+     * Primeiro código de espécie.
+     */
+    private static final int PRIMEIRA_ESPECIE = PRIMEIRO_OBSTACULO + OBSTACULOS.length;
+
+    /**
+     * Ordinal dos obstáculos, cujas células são codificadas pelo tipo.
+     */
+    private static final int ESPECIE_OBSTACULO = RegistroEspecies.ordinalDe(Obstaculo.class);
+
+    // ========== ATRIBUTOS ==========
+
+    /**
+     * Passo retratado.
+     */
+    private int passo;
+
+    /**
+     * Número de linhas do campo.
+     */
+    private int profundidade;
+
+    /**
+     * Número de colunas do campo.
+     */
+    private int largura;
+
+    /**
+     * Código de cada célula, linha a linha.
+     */
+    private byte[] celulas;
+
+    /**
+     * Número de células de cada espécie, indexado pelo ordinal.
+     */
+    private int[] populacao;
+
+    /**
+     * Texto do clima, ou null se não informado.
+     */
+    private String textoClima;
+
+    /**
+     * Se chovia no passo retratado.
+     */
+    private boolean chuvoso;
+
+    // ========== CONSTRUTOR ==========
+
+    /**
+     * Cria um quadro vazio, a ser preenchido por
+     * {@link #capturar(int, GradeVisualizavel, int[], String, boolean)}.
+     */
+    public QuadroCampo() {
+        this.celulas = new byte[0];
+        this.populacao = new int[0];
+    }
+
+    // ========== MÉTODOS DE CAPTURA ==========
+
+    /**
+     * Preenche o quadro com o estado atual da grade.
+     * <p>
+     * As populações vêm prontas do motor ({@link MundoSimulado#contarPopulacao}),
+     * de modo que a varredura só codifica as células. Os vetores são
+     * reaproveitados entre capturas e só crescem quando o campo ou o número
+     * de espécies aumenta.
+     * </p>
+     *
+     * @param passo      Passo atual
+     * @param grade      Campo a retratar
+     * @param populacao  População de cada espécie, indexada pelo ordinal
+     * @param textoClima Texto do clima, ou null
+     * @param chuvoso    Se está chovendo
+     */
+    public void capturar(int passo, GradeVisualizavel grade, int[] populacao, String textoClima,
+            boolean chuvoso) {
+        this.passo = passo;
+        this.profundidade = grade.getProfundidade();
+        this.largura = grade.getLargura();
+        this.textoClima = textoClima;
+        this.chuvoso = chuvoso;
+
+        int total = profundidade * largura;
+        if (celulas.length < total) {
+            celulas = new byte[total];
+        }
+        if (this.populacao.length < populacao.length) {
+            this.populacao = new int[populacao.length];
+        }
+        System.arraycopy(populacao, 0, this.populacao, 0, populacao.length);
+        Arrays.fill(this.populacao, populacao.length, this.populacao.length, 0);
+
+        int indice = 0;
+        for (int linha = 0; linha < profundidade; linha++) {
+            for (int coluna = 0; coluna < largura; coluna++) {
+                int especie = grade.getEspecieEm(linha, coluna);
+                int codigo;
+                if (especie == RegistroEspecies.NENHUMA) {
+                    codigo = grade.temGramaMadura(linha, coluna) ? CODIGO_GRAMA_MADURA : CODIGO_GRAMA_NOVA;
+                } else {
+                    if (especie == ESPECIE_OBSTACULO) {
+                        Object objeto = grade.getObjetoEm(linha, coluna);
+                        codigo = objeto instanceof Obstaculo ? codigoDoObstaculo((Obstaculo) objeto)
+                                : CODIGO_DESCONHECIDO;
+                    } else {
+                        codigo = codigoDaEspecie(especie);
+                    }
+                }
+                celulas[indice++] = (byte) codigo;
+            }
+        }
+    }
+
+    // ========== MÉTODOS DE CONSULTA ==========
+
+    /**
+     * Retorna o código de um tipo de obstáculo.
+     *
+     * @param obstaculo Tipo de obstáculo
+     * @return Código das células com esse obstáculo
+     */
+    public static int codigoDoObstaculo(Obstaculo obstaculo) {
+        return PRIMEIRO_OBSTACULO + obstaculo.ordinal();
+    }
+
+    /**
+     * Retorna o código de uma espécie.
+     *
+     * @param especie Ordinal da espécie
+     * @return Código das células com a espécie, ou
+     *         {@link #CODIGO_DESCONHECIDO} se o ordinal não couber
+     */
+    public static int codigoDaEspecie(int especie) {
+        return Math.min(PRIMEIRA_ESPECIE + especie, CODIGO_DESCONHECIDO);
+    }
+
+    /**
+     * Retorna o passo retratado.
+     *
+     * @return Número do passo
+     */
+    public int getPasso() {
+        return passo;
+    }
+
+    /**
+     * Retorna o número de linhas do campo retratado.
+     *
+     * @return Profundidade
+     */
+    public int getProfundidade() {
+        return profundidade;
+    }
+
+    /**
+     * Retorna o número de colunas do campo retratado.
+     *
+     * @return Largura
+     */
+    public int getLargura() {
+        return largura;
+    }
+
+    /**
+     * Retorna o código de uma célula, entre 0 e
+     * {@link #QUANTIDADE_CODIGOS} - 1.
+     *
+     * @param indice Índice da célula ({@code linha * largura + coluna})
+     * @return Código da célula
+     */
+    public int getCodigo(int indice) {
+        return celulas[indice] & 0xFF;
+    }
+
+    /**
+     * Retorna quantas células uma espécie ocupava.
+     *
+     * @param especie Ordinal da espécie
+     * @return População da espécie no passo retratado
+     */
+    public int getPopulacao(int especie) {
+        return especie >= 0 && especie < populacao.length ? populacao[especie] : 0;
+    }
+
+    /**
+     * Retorna o texto do clima.
+     *
+     * @return Texto do clima, ou null se não informado
+     */
+    public String getTextoClima() {
+        return textoClima;
+    }
+
+    /**
+     * Verifica se chovia no passo retratado.
+     *
+     * @return true se chovia
+     */
+    public boolean estaChuvoso() {
+        return chuvoso;
+    }
+}
@@ -10,7 +10,7 @@
  * <strong>Características da Raposa:</strong>
  * </p>
  * <ul>
- * <li><strong>Dieta:</strong> Coelhos e Ratos</li>
+ * <li><strong>Dieta padrão:</strong> Coelhos e Ratos ({@code raposa.dieta})</li>
  * <li><strong>Predadores Naturais:</strong> Ursos</li>
  * <li><strong>Comportamento:</strong> Caça ativa, reprodução e movimento
  * estratégico</li>
@@ -52,20 +52,17 @@
  * @see Predador
  * @see Coelho
  * @see Rato
- * @see Configuracao
+ * @see ParametrosSimulacao
  */
 public class Raposa extends Predador {
 
     // ========== CONSTRUTOR ==========
 
     /**
-     * Cria uma nova instância de raposa com dieta predefinida.
+     * Cria uma nova instância de raposa.
      * <p>
-     * A dieta é configurada automaticamente no construtor, incluindo:
-     * <ul>
-     * <li>Coelhos - presa principal com valor nutricional médio</li>
-     * <li>Ratos - presa alternativa com menor valor nutricional</li>
-     * </ul>
+     * As presas (por padrão coelhos e ratos) vêm da teia alimentar dos
+     * parâmetros, compartilhada por todas as raposas.
      * </p>
      * <p>
      * A idade inicial pode ser:
@@ -75,13 +72,12 @@ public class Raposa extends Predador {
      * </ul>
      * </p>
      * 
+     * @param parametros     Parâmetros do mundo
      * @param idadeAleatoria Se true, a idade será aleatória entre 0 e idade máxima;
      *                       se false, a idade será zero (recém-nascido)
      */
-    public Raposa(boolean idadeAleatoria) {
-        super(idadeAleatoria);
-        dieta.put(Coelho.class, Configuracao.VALOR_NUTRICIONAL_COELHO);
-        dieta.put(Rato.class, Configuracao.VALOR_NUTRICIONAL_RATO);
+    public Raposa(ParametrosSimulacao parametros, boolean idadeAleatoria) {
+        super(parametros, idadeAleatoria);
     }
 
     // ========== MÉTODOS DE REPRODUÇÃO ==========
@@ -92,7 +88,6 @@ public class Raposa extends Predador {
      * O filhote nasce com:
      * <ul>
      * <li>Idade zero (recém-nascido)</li>
-     * <li>Dieta já configurada automaticamente</li>
      * <li>Nível de alimento inicial padrão</li>
      * </ul>
      * </p>
@@ -101,71 +96,6 @@ public class Raposa extends Predador {
      */
     @Override
     public Predador criarFilho() {
-        return new Raposa(false);
-    }
-
-    // ========== MÉTODOS DE CONFIGURAÇÃO (da superclasse) ==========
-
-    /**
-     * Retorna a idade máxima que uma raposa pode atingir.
-     * <p>
-     * Quando esta idade é atingida, a raposa morre naturalmente.
-     * Raposas têm expectativa de vida moderada, equilibrando
-     * reprodução e longevidade.
-     * </p>
-     * 
-     * @return Idade máxima em passos de simulação
-     * @see Configuracao#IDADE_MAX_RAPOSA
-     */
-    @Override
-    protected int idadeMaxima() {
-        return Configuracao.IDADE_MAX_RAPOSA;
-    }
-
-    /**
-     * Retorna a idade em que a raposa atinge maturidade sexual.
-     * <p>
-     * Raposas precisam atingir esta idade antes de poderem se reproduzir,
-     * representando o período de desenvolvimento até a idade adulta.
-     * </p>
-     * 
-     * @return Idade reprodutiva em passos de simulação
-     * @see Configuracao#IDADE_REPROD_RAPOSA
-     */
-    @Override
-    protected int getIdadeReprodutiva() {
-        return Configuracao.IDADE_REPROD_RAPOSA;
-    }
-
-    /**
-     * Retorna a probabilidade de reprodução por passo.
-     * <p>
-     * Em cada turno, se as condições forem atendidas (idade adequada,
-     * parceiro próximo, saúde), esta probabilidade determina se ocorre reprodução.
-     * Raposas têm taxa reprodutiva moderada, típica de predadores de médio porte.
-     * </p>
-     * 
-     * @return Probabilidade entre 0.0 e 1.0
-     * @see Configuracao#PROB_REPROD_RAPOSA
-     */
-    @Override
-    protected double probabilidadeReproducao() {
-        return Configuracao.PROB_REPROD_RAPOSA;
-    }
-
-    /**
-     * Retorna o número máximo de filhotes em um único nascimento.
-     * <p>
-     * O número real de filhotes nascidos pode ser menor, dependendo
-     * do espaço disponível ao redor dos pais. Raposas têm ninhadas
-     * de tamanho moderado, equilibrando investimento parental e taxa reprodutiva.
-     * </p>
-     * 
-     * @return Tamanho máximo da ninhada
-     * @see Configuracao#MAX_NINHADA_RAPOSA
-     */
-    @Override
-    protected int tamanhoMaximoNinhada() {
-        return Configuracao.MAX_NINHADA_RAPOSA;
+        return new Raposa(getParametros(), false);
     }
-}
+}
\ No newline at end of file
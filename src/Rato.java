@@ -41,7 +41,7 @@
  * @author Grupo 10
  * @version 1.0
  * @see Herbivoro
- * @see Configuracao
+ * @see ParametrosSimulacao
  */
 public class Rato extends Herbivoro {
 
@@ -61,11 +61,12 @@ public class Rato extends Herbivoro {
      * </ul>
      * </p>
      * 
+     * @param parametros     Parâmetros do mundo
      * @param idadeAleatoria Se true, a idade será aleatória entre 0 e idade máxima;
      *                       se false, a idade será zero (recém-nascido)
      */
-    public Rato(boolean idadeAleatoria) {
-        super(idadeAleatoria);
+    public Rato(ParametrosSimulacao parametros, boolean idadeAleatoria) {
+        super(parametros, idadeAleatoria);
     }
 
     // ========== MÉTODOS DE REPRODUÇÃO ==========
@@ -85,69 +86,6 @@ public class Rato extends Herbivoro {
      */
     @Override
     public Herbivoro criarFilho() {
-        return new Rato(false);
-    }
-
-    // ========== MÉTODOS DE CONFIGURAÇÃO (da superclasse) ==========
-
-    /**
-     * Retorna a idade máxima que um rato pode atingir.
-     * <p>
-     * Ratos têm expectativa de vida relativamente curta,
-     * compensada por sua alta taxa reprodutiva.
-     * </p>
-     * 
-     * @return Idade máxima em passos de simulação
-     * @see Configuracao#IDADE_MAX_RATO
-     */
-    @Override
-    protected int idadeMaxima() {
-        return Configuracao.IDADE_MAX_RATO;
-    }
-
-    /**
-     * Retorna a idade em que o rato atinge maturidade sexual.
-     * <p>
-     * Ratos atingem maturidade rapidamente, permitindo
-     * rápida expansão populacional quando há recursos.
-     * </p>
-     * 
-     * @return Idade reprodutiva em passos de simulação
-     * @see Configuracao#IDADE_REPROD_RATO
-     */
-    @Override
-    protected int getIdadeReprodutiva() {
-        return Configuracao.IDADE_REPROD_RATO;
-    }
-
-    /**
-     * Retorna a probabilidade de reprodução por passo.
-     * <p>
-     * Ratos têm alta probabilidade de reprodução, característica
-     * típica de espécies r-estrategistas (reprodução rápida).
-     * </p>
-     * 
-     * @return Probabilidade entre 0.0 e 1.0
-     * @see Configuracao#PROB_REPROD_RATO
-     */
-    @Override
-    protected double probabilidadeReproducao() {
-        return Configuracao.PROB_REPROD_RATO;
-    }
-
-    /**
-     * Retorna o número máximo de filhotes em um único nascimento.
-     * <p>
-     * Ratos podem ter ninhadas grandes, permitindo recuperação
-     * rápida da população após eventos de predação intensa.
-     * O número real pode ser menor dependendo do espaço disponível.
-     * </p>
-     * 
-     * @return Tamanho máximo da ninhada
-     * @see Configuracao#MAX_NINHADA_RATO
-     */
-    @Override
-    protected int tamanhoMaximoNinhada() {
-        return Configuracao.MAX_NINHADA_RATO;
+        return new Rato(getParametros(), false);
     }
 }
\ No newline at end of file
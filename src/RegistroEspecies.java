@@ -0,0 +1,219 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * Registro central que atribui um ordinal denso (0, 1, 2, ...) a cada tipo
+ * de entidade que pode ocupar o campo.
+ * <p>
+ * Os ordinais permitem que estruturas de dados do campo guardem a espécie de
+ * cada célula como um simples {@code int}, substituindo comparações com
+ * {@code getClass()} e buscas em mapas por acessos diretos a arrays.
+ * </p>
+ *
+ * <p>
+ * <strong>Atribuição de Ordinais:</strong>
+ * </p>
+ * <ul>
+ * <li>As espécies do catálogo recebem os primeiros ordinais, ao carregar a
+ * classe: primeiro as {@link EspeciesNativas}, depois as descobertas por
+ * {@link ServiceLoader} ({@link FornecedorEspecies})</li>
+ * <li>Outras classes (ex: {@link Obstaculo}) recebem o ordinal na primeira
+ * vez que são consultadas</li>
+ * <li>Uma vez atribuído, o ordinal nunca muda durante a execução</li>
+ * <li>Consultas seguintes usam o cache de {@link ClassValue} (sem hash)</li>
+ * </ul>
+ *
+ * <p>
+ * <strong>Catálogo:</strong>
+ * </p>
+ * <p>
+ * A {@link Especie} de ordinal {@code i} está na posição {@code i} de
+ * {@link #especies()}. Quem precisa de um dado por espécie (probabilidade
+ * de criação, cor, dieta, contagem) monta um vetor indexado pelo ordinal a
+ * partir do catálogo, em vez de testar classes.
+ * </p>
+ *
+ * <p>
+ * <strong>Uso Típico:</strong>
+ * </p>
+ *
+ * <pre>
+ * int especie = RegistroEspecies.ordinalDe(animal.getClass());
+ * contagens[especie]++;
+ * </pre>
+ *
+ * @author Grupo 10
+ * @version 1.0
+ * @see Especie
+ * @see Campo
+ * @see EstatisticasCampo
+ */
+public final class RegistroEspecies {
+
+    // ========== CONSTANTES ==========
+
+    /**
+     * Valor retornado para células sem ocupante.
+     */
+    public static final int NENHUMA = -1;
+
+    // ========== ATRIBUTOS ESTÁTICOS ==========
+
+    /**
+     * Classes registradas, indexadas pelo ordinal.
+     */
+    private static final List<Class<?>> classes = new ArrayList<>();
+
+    /**
+     * Cache por classe do ordinal atribuído.
+     */
+    private static final ClassValue<Integer> ordinais = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> classe) {
+            return registrar(classe);
+        }
+    };
+
+    /**
+     * Espécies de animais, indexadas pelo ordinal.
+     */
+    private static final List<Especie> catalogo = carregarCatalogo();
+
+    // ========== CONSTRUTOR ==========
+
+    /**
+     * Classe utilitária: não deve ser instanciada.
+     */
+    private RegistroEspecies() {
+    }
+
+    // ========== MÉTODOS DE CONSULTA ==========
+
+    /**
+     * Retorna o ordinal associado a uma classe, registrando-a se necessário.
+     *
+     * @param classe Classe da entidade (ex: Raposa.class)
+     * @return Ordinal denso da classe (0 &lt;= ordinal &lt; {@link #quantidade()})
+     */
+    public static int ordinalDe(Class<?> classe) {
+        return ordinais.get(classe);
+    }
+
+    /**
+     * Retorna o ordinal da espécie de um objeto do campo.
+     * <p>
+     * Animais guardam o ordinal desde a construção ({@link Animal#getEspecie()}),
+     * então colocações e contagens não consultam a tabela por classe; só os
+     * demais objetos passam por {@link #ordinalDe(Class)}.
+     * </p>
+     *
+     * @param objeto Animal, ator ou obstáculo
+     * @return Ordinal da espécie do objeto
+     */
+    public static int ordinalDoObjeto(Object objeto) {
+        if (objeto instanceof Animal) {
+            return ((Animal) objeto).getEspecie();
+        }
+        return ordinalDe(objeto.getClass());
+    }
+
+    /**
+     * Retorna a classe registrada sob um ordinal.
+     *
+     * @param ordinal Ordinal obtido por {@link #ordinalDe(Class)}
+     * @return Classe correspondente
+     */
+    public static synchronized Class<?> classeDe(int ordinal) {
+        return classes.get(ordinal);
+    }
+
+    /**
+     * Retorna as espécies de animais, na ordem dos ordinais (0, 1, ...).
+     *
+     * @return Lista imutável das espécies
+     */
+    public static List<Especie> especies() {
+        return catalogo;
+    }
+
+    /**
+     * Retorna a espécie de um ordinal.
+     *
+     * @param ordinal Ordinal obtido por {@link #ordinalDe(Class)}
+     * @return Espécie correspondente, ou null se o ordinal não for de uma
+     *         espécie do catálogo (ex: obstáculos)
+     */
+    public static Especie especieDe(int ordinal) {
+        return ordinal >= 0 && ordinal < catalogo.size() ? catalogo.get(ordinal) : null;
+    }
+
+    /**
+     * Procura uma espécie pelo nome ({@link Especie#getNome()}).
+     *
+     * @param nome Nome em minúsculas (ex: "raposa")
+     * @return Espécie com esse nome, ou null se não houver
+     */
+    public static Especie especiePorNome(String nome) {
+        for (Especie especie : catalogo) {
+            if (especie.getNome().equals(nome)) {
+                return especie;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Retorna quantas classes já receberam ordinal.
+     * <p>
+     * Útil para dimensionar arrays indexados por espécie.
+     * </p>
+     *
+     * @return Número de espécies registradas
+     */
+    public static synchronized int quantidade() {
+        return classes.size();
+    }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    /**
+     * Reúne as espécies nativas e as dos fornecedores do classpath e
+     * registra suas classes, em ordem.
+     *
+     * @return Catálogo imutável
+     * @throws IllegalStateException se duas espécies usarem a mesma classe
+     *                               ou o mesmo nome
+     */
+    private static List<Especie> carregarCatalogo() {
+        List<Especie> especies = new ArrayList<Especie>(new EspeciesNativas().getEspecies());
+        for (FornecedorEspecies fornecedor : ServiceLoader.load(FornecedorEspecies.class)) {
+            especies.addAll(fornecedor.getEspecies());
+        }
+        List<String> nomes = new ArrayList<String>();
+        for (Especie especie : especies) {
+            if (classes.contains(especie.getClasse()) || nomes.contains(especie.getNome())) {
+                throw new IllegalStateException("Espécie repetida: " + especie.getNome());
+            }
+            classes.add(especie.getClasse());
+            nomes.add(especie.getNome());
+        }
+        return Collections.unmodifiableList(especies);
+    }
+
+    /**
+     * Atribui o próximo ordinal livre a uma classe.
+     *
+     * @param classe Classe a registrar
+     * @return Ordinal atribuído
+     */
+    private static synchronized int registrar(Class<?> classe) {
+        int indice = classes.indexOf(classe);
+        if (indice >= 0) {
+            return indice;
+        }
+        classes.add(classe);
+        return classes.size() - 1;
+    }
+}
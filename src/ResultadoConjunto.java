@@ -0,0 +1,412 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Estatísticas agregadas das populações de um conjunto de simulações.
+ * <p>
+ * Para cada espécie e cada passo guarda a soma, a soma dos quadrados e um
+ * histograma das populações observadas nos mundos do conjunto. Com isso
+ * calcula média, variância e percentis sem guardar as séries de cada mundo:
+ * a memória depende só do número de passos e de espécies, e não do número
+ * de mundos, do tamanho do campo nem das threads que o preenchem
+ * ({@link #registrarMundo(int[][], int)}).
+ * </p>
+ *
+ * <p>
+ * <strong>Histograma:</strong>
+ * </p>
+ * <p>
+ * Populações abaixo de {@code 2 * SUBDIVISOES} têm uma classe cada; acima
+ * disso, cada potência de dois é dividida em {@link #SUBDIVISOES} classes
+ * de mesma largura. O erro relativo de um percentil fica abaixo de
+ * {@code 1 / SUBDIVISOES}. O número de classes é fixo ({@link #CLASSES}),
+ * o bastante para qualquer população {@code int}, e não depende do mapa.
+ * </p>
+ *
+ * <p>
+ * <strong>Reprodutibilidade:</strong>
+ * </p>
+ * <p>
+ * Somas e histogramas são inteiros, de modo que juntar resultados parciais
+ * ({@link #mesclar(ResultadoConjunto)}) dá o mesmo valor em qualquer ordem.
+ * O resultado de um conjunto não depende de quantas threads o executaram.
+ * </p>
+ *
+ * @author Grupo 10
+ * @version 1.0
+ * @see ExecutorConjunto
+ */
+public class ResultadoConjunto {
+
+    // ========== ATRIBUTOS ESTÁTICOS ==========
+
+    /**
+     * Bits das subdivisões de cada potência de dois do histograma.
+     */
+    private static final int BITS_SUBDIVISAO = 4;
+
+    /**
+     * Classes do histograma por potência de dois.
+     */
+    private static final int SUBDIVISOES = 1 << BITS_SUBDIVISAO;
+
+    /**
+     * Número de classes do histograma de cada passo, suficiente para
+     * populações até {@link Integer#MAX_VALUE}.
+     */
+    private static final int CLASSES = classeDe(Integer.MAX_VALUE) + 1;
+
+    // ========== ATRIBUTOS ==========
+
+    /**
+     * Número de passos de cada série (o estado inicial é o passo 0).
+     */
+    private final int passos;
+
+    /**
+     * Número de mundos registrados.
+     */
+    private int mundos;
+
+    /**
+     * Acumuladores de cada espécie, indexados pelo ordinal
+     * ({@link RegistroEspecies}); null para espécies nunca vistas.
+     */
+    private final List<Acumulador> porEspecie;
+
+    // ========== CONSTRUTOR ==========
+
+    /**
+     * Cria um resultado vazio.
+     *
+     * @param passos Passos simulados em cada mundo
+     */
+    public ResultadoConjunto(int passos) {
+        this.passos = passos;
+        this.porEspecie = new ArrayList<Acumulador>();
+    }
+
+    // ========== MÉTODOS DE REGISTRO ==========
+
+    /**
+     * Registra a população de um mundo em um passo.
+     *
+     * @param passo     Passo (de 0 a {@link #getPassos()})
+     * @param populacao População de cada espécie, indexada pelo ordinal
+     */
+    void registrar(int passo, int[] populacao) {
+        for (int especie = 0; especie < populacao.length; especie++) {
+            Acumulador acumulador = acumuladorDe(especie, populacao[especie] > 0);
+            if (acumulador != null) {
+                acumulador.somar(passo, populacao[especie]);
+            }
+        }
+    }
+
+    /**
+     * Registra a série completa de um mundo e o conta como concluído.
+     * <p>
+     * Pode ser chamado por várias threads ao mesmo tempo, cada uma com seus
+     * mundos: como somas e histogramas são inteiros, a ordem de chegada não
+     * muda o resultado.
+     * </p>
+     *
+     * @param serie  População de cada espécie em cada passo, indexada por
+     *               passo e ordinal
+     * @param pontos Passos registrados (de 0 a {@code pontos - 1}); os
+     *               demais contam com população zero
+     */
+    synchronized void registrarMundo(int[][] serie, int pontos) {
+        for (int passo = 0; passo < pontos; passo++) {
+            registrar(passo, serie[passo]);
+        }
+        concluirMundo();
+    }
+
+    /**
+     * Conta mais um mundo registrado.
+     * <p>
+     * Chamado ao fim de cada mundo, depois de registrar todos os passos.
+     * </p>
+     */
+    void concluirMundo() {
+        mundos++;
+    }
+
+    /**
+     * Soma a este resultado os mundos de um resultado parcial.
+     *
+     * @param parcial Resultado com o mesmo número de passos
+     */
+    void mesclar(ResultadoConjunto parcial) {
+        mundos += parcial.mundos;
+        for (int especie = 0; especie < parcial.porEspecie.size(); especie++) {
+            Acumulador outro = parcial.porEspecie.get(especie);
+            if (outro != null) {
+                acumuladorDe(especie, true).somar(outro);
+            }
+        }
+    }
+
+    // ========== MÉTODOS DE CONSULTA ==========
+
+    /**
+     * Retorna o número de mundos registrados.
+     *
+     * @return Mundos do conjunto
+     */
+    public synchronized int getMundos() {
+        return mundos;
+    }
+
+    /**
+     * Retorna o número de passos de cada série.
+     *
+     * @return Passos simulados (as séries têm {@code passos + 1} pontos)
+     */
+    public int getPassos() {
+        return passos;
+    }
+
+    /**
+     * Lista as espécies que tiveram população em algum mundo, na ordem do
+     * catálogo ({@link RegistroEspecies#especies()}).
+     * <p>
+     * As espécies do catálogo têm os primeiros ordinais, fixados ao carregar
+     * o registro, então a ordem não depende das threads e é a mesma das
+     * colunas do CSV de uma execução única.
+     * </p>
+     *
+     * @return Classes das espécies observadas
+     */
+    public List<Class<?>> getEspecies() {
+        List<Class<?>> especies = new ArrayList<Class<?>>();
+        for (int especie = 0; especie < porEspecie.size(); especie++) {
+            if (porEspecie.get(especie) != null) {
+                especies.add(RegistroEspecies.classeDe(especie));
+            }
+        }
+        return especies;
+    }
+
+    /**
+     * Calcula a população média de uma espécie em um passo.
+     *
+     * @param especie Classe da espécie
+     * @param passo   Passo (de 0 a {@link #getPassos()})
+     * @return Média entre os mundos (0 se não houver mundos)
+     */
+    public double media(Class<?> especie, int passo) {
+        Acumulador acumulador = acumuladorDe(especie);
+        if (acumulador == null || mundos == 0) {
+            return 0;
+        }
+        return (double) acumulador.soma[passo] / mundos;
+    }
+
+    /**
+     * Calcula a variância amostral da população de uma espécie em um passo.
+     *
+     * @param especie Classe da espécie
+     * @param passo   Passo (de 0 a {@link #getPassos()})
+     * @return Variância entre os mundos (0 com menos de dois mundos)
+     */
+    public double variancia(Class<?> especie, int passo) {
+        Acumulador acumulador = acumuladorDe(especie);
+        if (acumulador == null || mundos < 2) {
+            return 0;
+        }
+        double soma = acumulador.soma[passo];
+        double desvios = acumulador.somaQuadrados[passo] - soma * soma / mundos;
+        return Math.max(0, desvios / (mundos - 1));
+    }
+
+    /**
+     * Calcula o desvio padrão amostral da população de uma espécie em um
+     * passo.
+     *
+     * @param especie Classe da espécie
+     * @param passo   Passo (de 0 a {@link #getPassos()})
+     * @return Desvio padrão entre os mundos
+     */
+    public double desvioPadrao(Class<?> especie, int passo) {
+        return Math.sqrt(variancia(especie, passo));
+    }
+
+    /**
+     * Estima um percentil da população de uma espécie em um passo.
+     * <p>
+     * Usa o critério do posto mais próximo sobre o histograma e devolve o
+     * centro da classe encontrada.
+     * </p>
+     *
+     * @param especie Classe da espécie
+     * @param passo   Passo (de 0 a {@link #getPassos()})
+     * @param fracao  Percentil como fração, entre 0 e 1 (ex: 0.95)
+     * @return População estimada no percentil (0 se não houver mundos)
+     */
+    public double percentil(Class<?> especie, int passo, double fracao) {
+        if (mundos == 0) {
+            return 0;
+        }
+        Acumulador acumulador = acumuladorDe(especie);
+        long posto = Math.max(1, (long) Math.ceil(fracao * mundos));
+        if (acumulador == null) {
+            return 0;
+        }
+
+        // Mundos sem a espécie no passo não aparecem no histograma
+        long acumulado = mundos - acumulador.observacoes(passo);
+        if (acumulado >= posto) {
+            return 0;
+        }
+        int base = passo * CLASSES;
+        for (int classe = 0; classe < CLASSES; classe++) {
+            acumulado += acumulador.histograma[base + classe];
+            if (acumulado >= posto) {
+                return centroDaClasse(classe);
+            }
+        }
+        return centroDaClasse(CLASSES - 1);
+    }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    /**
+     * Retorna o acumulador de uma espécie, criando-o se pedido.
+     *
+     * @param especie Ordinal da espécie
+     * @param criar   Se deve criar o acumulador quando ainda não existe
+     * @return Acumulador, ou null se não existe e não foi criado
+     */
+    private Acumulador acumuladorDe(int especie, boolean criar) {
+        while (porEspecie.size() <= especie) {
+            if (!criar) {
+                return null;
+            }
+            porEspecie.add(null);
+        }
+        Acumulador acumulador = porEspecie.get(especie);
+        if (acumulador == null && criar) {
+            acumulador = new Acumulador(passos + 1);
+            porEspecie.set(especie, acumulador);
+        }
+        return acumulador;
+    }
+
+    /**
+     * Retorna o acumulador de uma espécie já observada.
+     *
+     * @param especie Classe da espécie
+     * @return Acumulador, ou null se a espécie nunca teve população
+     */
+    private Acumulador acumuladorDe(Class<?> especie) {
+        return acumuladorDe(RegistroEspecies.ordinalDe(especie), false);
+    }
+
+    /**
+     * Calcula a classe do histograma de uma população.
+     *
+     * @param valor População (não negativa)
+     * @return Índice da classe
+     */
+    private static int classeDe(int valor) {
+        if (valor < 2 * SUBDIVISOES) {
+            return valor;
+        }
+        int deslocamento = 31 - Integer.numberOfLeadingZeros(valor) - BITS_SUBDIVISAO;
+        return deslocamento * SUBDIVISOES + (valor >>> deslocamento);
+    }
+
+    /**
+     * Calcula o valor central de uma classe do histograma.
+     *
+     * @param classe Índice da classe
+     * @return Centro do intervalo de populações da classe
+     */
+    private static double centroDaClasse(int classe) {
+        if (classe < 2 * SUBDIVISOES) {
+            return classe;
+        }
+        int deslocamento = classe / SUBDIVISOES - 1;
+        long inicio = (long) (classe % SUBDIVISOES + SUBDIVISOES) << deslocamento;
+        long fim = inicio + (1L << deslocamento) - 1;
+        return (inicio + fim) / 2.0;
+    }
+
+    // ========== CLASSES INTERNAS ==========
+
+    /**
+     * Somas e histogramas de uma espécie, para todos os passos.
+     */
+    private static class Acumulador {
+
+        /**
+         * Soma das populações em cada passo.
+         */
+        private final long[] soma;
+
+        /**
+         * Soma dos quadrados das populações em cada passo.
+         */
+        private final long[] somaQuadrados;
+
+        /**
+         * Histograma de cada passo, um após o outro.
+         */
+        private final int[] histograma;
+
+        /**
+         * Cria um acumulador zerado.
+         *
+         * @param pontos Pontos de cada série
+         */
+        Acumulador(int pontos) {
+            this.soma = new long[pontos];
+            this.somaQuadrados = new long[pontos];
+            this.histograma = new int[pontos * CLASSES];
+        }
+
+        /**
+         * Registra uma população em um passo.
+         *
+         * @param passo Passo
+         * @param valor População
+         */
+        void somar(int passo, int valor) {
+            soma[passo] += valor;
+            somaQuadrados[passo] += (long) valor * valor;
+            histograma[passo * CLASSES + classeDe(valor)]++;
+        }
+
+        /**
+         * Soma a este acumulador os valores de outro.
+         *
+         * @param outro Acumulador de mesmas dimensões
+         */
+        void somar(Acumulador outro) {
+            for (int i = 0; i < soma.length; i++) {
+                soma[i] += outro.soma[i];
+                somaQuadrados[i] += outro.somaQuadrados[i];
+            }
+            for (int i = 0; i < histograma.length; i++) {
+                histograma[i] += outro.histograma[i];
+            }
+        }
+
+        /**
+         * Conta os mundos registrados neste acumulador em um passo.
+         *
+         * @param passo Passo
+         * @return Número de observações no histograma do passo
+         */
+        long observacoes(int passo) {
+            long total = 0;
+            int base = passo * CLASSES;
+            for (int classe = 0; classe < CLASSES; classe++) {
+                total += histograma[base + classe];
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,299 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Roda de tempo: agenda itens para um passo futuro e entrega de uma vez
+ * todos os itens de um passo.
+ * <p>
+ * Cada passo cai em um balde ({@code passo & mascara}); agendar e expirar
+ * custam O(1) por item, sem fila de prioridade. A roda tem um número fixo
+ * de baldes: só passos até {@code baldes - 1} depois do último expirado
+ * (o horizonte) ficam nos baldes, de modo que cada balde guarda itens de um
+ * único passo.
+ * </p>
+ *
+ * <p>
+ * <strong>Itens Distantes:</strong>
+ * </p>
+ * <p>
+ * Um item além do horizonte vai para uma lista de transbordo, sem aumentar
+ * a roda (uma idade máxima enorme não aloca baldes). A cada meia volta a
+ * lista é percorrida e os itens que entraram no horizonte passam para os
+ * seus baldes, antes do passo deles chegar.
+ * </p>
+ *
+ * <p>
+ * <strong>Remoção preguiçosa:</strong>
+ * </p>
+ * <p>
+ * Não há cancelamento: um item que deixou de interessar (ex.: animal
+ * comido antes de morrer de velhice) continua no balde e é descartado por
+ * quem o recebe em {@link #expirar(int, Consumer)}. Na lista de transbordo,
+ * onde um item pode esperar muitas voltas, os itens recusados pelo filtro
+ * de pendentes são descartados a cada percurso.
+ * </p>
+ *
+ * @param <T> Tipo dos itens agendados
+ * @author Grupo 10
+ * @version 1.0
+ * @see MotorSimulacao
+ */
+public class RodaTemporal<T> {
+
+    // ========== ATRIBUTOS ESTÁTICOS ==========
+
+    /**
+     * Número de baldes (potência de dois): horizonte de 255 passos, acima
+     * das idades máximas padrão.
+     */
+    private static final int BALDES = 256;
+
+    /**
+     * Capacidade inicial da lista de transbordo.
+     */
+    private static final int CAPACIDADE_INICIAL = 16;
+
+    // ========== ATRIBUTOS ==========
+
+    /**
+     * Itens de cada balde; null para baldes nunca usados.
+     */
+    private final List<T>[] baldes;
+
+    /**
+     * Máscara que leva um passo ao seu balde.
+     */
+    private final int mascara;
+
+    /**
+     * Filtro dos itens da lista de transbordo que ainda interessam.
+     */
+    private final Predicate<? super T> pendente;
+
+    /**
+     * Itens agendados além do horizonte.
+     */
+    private Object[] distantes;
+
+    /**
+     * Passo de cada item de {@link #distantes}.
+     */
+    private int[] passosDistantes;
+
+    /**
+     * Número de itens na lista de transbordo.
+     */
+    private int quantidadeDistantes;
+
+    /**
+     * Último passo expirado; só se agenda para depois dele.
+     */
+    private int ultimoExpirado;
+
+    /**
+     * Número de itens agendados.
+     */
+    private int tamanho;
+
+    // ========== CONSTRUTOR ==========
+
+    /**
+     * Cria uma roda vazia, posicionada no passo 0, que guarda todos os itens
+     * até o passo deles.
+     */
+    public RodaTemporal() {
+        this(item -> true);
+    }
+
+    /**
+     * Cria uma roda vazia, posicionada no passo 0.
+     *
+     * @param pendente Diz se um item da lista de transbordo ainda interessa;
+     *                 os recusados são descartados sem serem entregues
+     */
+    public RodaTemporal(Predicate<? super T> pendente) {
+        this.baldes = novosBaldes(BALDES);
+        this.mascara = BALDES - 1;
+        this.pendente = pendente;
+        this.distantes = new Object[CAPACIDADE_INICIAL];
+        this.passosDistantes = new int[CAPACIDADE_INICIAL];
+    }
+
+    // ========== MÉTODOS ==========
+
+    /**
+     * Agenda um item para um passo futuro.
+     *
+     * @param passo Passo em que o item expira
+     * @param item  Item a agendar
+     * @throws IllegalArgumentException se o passo já expirou
+     */
+    public void agendar(int passo, T item) {
+        if (passo <= ultimoExpirado) {
+            throw new IllegalArgumentException("Passo " + passo + " já expirou (último: " + ultimoExpirado + ")");
+        }
+        if (passo - ultimoExpirado > mascara) {
+            transbordar(passo, item);
+        } else {
+            colocarNoBalde(passo, item);
+        }
+        tamanho++;
+    }
+
+    /**
+     * Agenda um item a uma distância do passo atual, ignorando o que cairia
+     * depois de {@link Integer#MAX_VALUE}: um passo que o contador não
+     * alcança nunca expira.
+     *
+     * @param passoAtual Passo de referência (o último expirado ou depois)
+     * @param distancia  Passos até o item expirar (pelo menos 1)
+     * @param item       Item a agendar
+     * @return true se o item foi agendado
+     */
+    public boolean agendarDepois(int passoAtual, int distancia, T item) {
+        if (distancia > Integer.MAX_VALUE - passoAtual) {
+            return false;
+        }
+        agendar(passoAtual + distancia, item);
+        return true;
+    }
+
+    /**
+     * Entrega e retira todos os itens agendados para um passo.
+     * <p>
+     * Os passos devem ser expirados em ordem, um a um; durante a entrega é
+     * possível agendar itens para passos seguintes.
+     * </p>
+     *
+     * @param passo Passo seguinte ao último expirado
+     * @param acao  Recebe cada item do passo
+     * @return Número de itens entregues
+     * @throws IllegalArgumentException se o passo não for o seguinte ao
+     *                                  último expirado
+     */
+    public int expirar(int passo, Consumer<? super T> acao) {
+        if (passo != ultimoExpirado + 1) {
+            throw new IllegalArgumentException("Esperado o passo " + (ultimoExpirado + 1) + ", recebido " + passo);
+        }
+        ultimoExpirado = passo;
+        if (quantidadeDistantes > 0 && (passo & (mascara >>> 1)) == 0) {
+            aproximarDistantes();
+        }
+        List<T> balde = baldes[passo & mascara];
+        if (balde == null || balde.isEmpty()) {
+            return 0;
+        }
+        int entregues = balde.size();
+        for (int i = 0; i < entregues; i++) {
+            acao.accept(balde.get(i));
+        }
+        balde.clear();
+        tamanho -= entregues;
+        return entregues;
+    }
+
+    /**
+     * Retira todos os itens e volta ao passo 0.
+     */
+    public void limpar() {
+        for (List<T> balde : baldes) {
+            if (balde != null) {
+                balde.clear();
+            }
+        }
+        Arrays.fill(distantes, 0, quantidadeDistantes, null);
+        quantidadeDistantes = 0;
+        ultimoExpirado = 0;
+        tamanho = 0;
+    }
+
+    /**
+     * Retorna o número de itens agendados.
+     * <p>
+     * Inclui os itens da lista de transbordo ainda não descartados pelo
+     * filtro de pendentes.
+     * </p>
+     *
+     * @return Itens ainda não expirados
+     */
+    public int getTamanho() {
+        return tamanho;
+    }
+
+    // ========== MÉTODOS AUXILIARES ==========
+
+    /**
+     * Acrescenta um item ao balde do seu passo.
+     *
+     * @param passo Passo dentro do horizonte
+     * @param item  Item a agendar
+     */
+    private void colocarNoBalde(int passo, T item) {
+        List<T> balde = baldes[passo & mascara];
+        if (balde == null) {
+            balde = new ArrayList<T>();
+            baldes[passo & mascara] = balde;
+        }
+        balde.add(item);
+    }
+
+    /**
+     * Acrescenta um item além do horizonte à lista de transbordo.
+     *
+     * @param passo Passo do item
+     * @param item  Item a agendar
+     */
+    private void transbordar(int passo, T item) {
+        if (quantidadeDistantes == distantes.length) {
+            distantes = Arrays.copyOf(distantes, quantidadeDistantes * 2);
+            passosDistantes = Arrays.copyOf(passosDistantes, quantidadeDistantes * 2);
+        }
+        distantes[quantidadeDistantes] = item;
+        passosDistantes[quantidadeDistantes] = passo;
+        quantidadeDistantes++;
+    }
+
+    /**
+     * Percorre a lista de transbordo, levando aos baldes os itens que
+     * entraram no horizonte e descartando os que deixaram de interessar.
+     * <p>
+     * Chamado a cada meia volta: um item que fica na lista está a mais de
+     * {@code mascara} passos, então ainda falta mais de meia volta para o
+     * seu passo no próximo percurso. Os itens passam para os baldes na
+     * ordem em que foram agendados.
+     * </p>
+     */
+    @SuppressWarnings("unchecked")
+    private void aproximarDistantes() {
+        int mantidos = 0;
+        for (int i = 0; i < quantidadeDistantes; i++) {
+            T item = (T) distantes[i];
+            int passo = passosDistantes[i];
+            if (!pendente.test(item)) {
+                tamanho--;
+            } else if (passo - ultimoExpirado > mascara) {
+                distantes[mantidos] = item;
+                passosDistantes[mantidos] = passo;
+                mantidos++;
+            } else {
+                colocarNoBalde(passo, item);
+            }
+        }
+        Arrays.fill(distantes, mantidos, quantidadeDistantes, null);
+        quantidadeDistantes = mantidos;
+    }
+
+    /**
+     * Cria um vetor de baldes vazio.
+     *
+     * @param quantidade Número de baldes
+     * @return Vetor de baldes null
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> List<T>[] novosBaldes(int quantidade) {
+        return (List<T>[]) new List<?>[quantidade];
+    }
+}
@@ -1,21 +1,21 @@
 import java.awt.Color;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 import java.awt.event.ActionListener;
 import java.awt.event.ActionEvent;
 
 /**
- * Classe principal que gerencia a simulação de um ecossistema completo.
+ * Classe principal que gerencia a simulação de um ecossistema completo com
+ * interface gráfica.
  * <p>
- * Esta classe coordena todos os aspectos da simulação, incluindo:
+ * O estado do mundo e os passos ficam no {@link MotorSimulacao}, que não
+ * depende de interface; esta classe liga o motor a uma {@link Desenhavel} e
+ * coordena a execução interativa, incluindo:
  * <ul>
- * <li>Gerenciamento do ciclo de vida de predadores e presas</li>
- * <li>Controle do sistema climático e seus efeitos</li>
- * <li>Crescimento e regeneração de vegetação</li>
- * <li>Obstáculos e terreno do ambiente</li>
+ * <li>Execução contínua dos passos do motor, no ritmo de um
+ * {@link AgendadorPassos}</li>
  * <li>Controles de pausar, continuar e reiniciar</li>
- * <li>Visualização em tempo real das estatísticas</li>
+ * <li>Visualização em tempo real das estatísticas e do clima</li>
  * </ul>
  * </p>
  * 
@@ -25,23 +25,21 @@ import java.awt.event.ActionEvent;
  * 
  * <pre>
  * Simulador (Controlador)
- *    ├── Campo (Modelo - estado atual)
- *    ├── Campo (Modelo - próximo estado)
+ *    ├── MotorSimulacao (Modelo)
+ *    │    ├── Campo (estado atual)
+ *    │    ├── Campo (próximo estado)
+ *    │    ├── Clima (Sistema ambiental)
+ *    │    └── Lista de Atores (Animais)
  *    ├── Desenhavel (View - interface gráfica)
- *    ├── EstatisticasCampo (Coleta de dados)
- *    ├── Clima (Sistema ambiental)
- *    └── Lista de Atores (Animais)
+ *    └── EstatisticasCampo (Coleta de dados)
  * </pre>
  * 
  * <p>
  * <strong>Fluxo de um Passo de Simulação:</strong>
  * </p>
  * <ol>
- * <li>Preparar listas e campos auxiliares</li>
- * <li>Aplicar obstáculos fixos no campo de destino</li>
- * <li>Processar ações de cada animal (caçar, mover, reproduzir)</li>
- * <li>Atualizar clima e crescimento de vegetação</li>
- * <li>Trocar campos (atual ↔ atualizado)</li>
+ * <li>Executar o passo no motor (animais, clima, vegetação, troca de
+ * campos)</li>
  * <li>Atualizar visualização</li>
  * </ol>
  * 
@@ -49,14 +47,14 @@ import java.awt.event.ActionEvent;
  * <strong>Carregamento de Mapas:</strong>
  * </p>
  * <p>
- * Suporta carregamento de mapas de obstáculos a partir de arquivos de texto,
- * permitindo criação de cenários customizados com rios e pedras.
+ * O motor é criado com o mapa "mapa.txt"; se o mapa tiver outras dimensões,
+ * a visualização é recriada com o tamanho dele.
  * </p>
  * 
  * @author David J. Barnes e Michael Kolling
  * @author Grupo 10
  * @version 2025-11-30 (traduzido e modificado)
- * @see Campo
+ * @see MotorSimulacao
  * @see Ator
  * @see Desenhavel
  * @see Clima
@@ -67,31 +65,9 @@ public class Simulador {
     // ========== ATRIBUTOS PRINCIPAIS ==========
 
     /**
-     * Lista de todos os animais atualmente vivos na simulação.
+     * Motor com o estado do mundo e a execução dos passos.
      */
-    private List<Ator> animais;
-
-    /**
-     * Lista temporária para armazenar animais nascidos durante um passo.
-     * É mesclada com {@link #animais} ao final de cada ciclo.
-     */
-    private List<Ator> novosAnimais;
-
-    /**
-     * Campo representando o estado atual da simulação (leitura).
-     */
-    private Campo campo;
-
-    /**
-     * Campo sendo construído para o próximo estado (escrita).
-     * Implementa double buffering para evitar conflitos.
-     */
-    private Campo campoAtualizado;
-
-    /**
-     * Contador do número de passos executados desde o início ou último reinício.
-     */
-    private int passo;
+    private MotorSimulacao motor;
 
     /**
      * Interface de visualização responsável por renderizar o estado da simulação.
@@ -99,25 +75,15 @@ public class Simulador {
     private Desenhavel visualizacao;
 
     /**
-     * Sistema de clima que afeta o crescimento da vegetação.
-     */
-    private Clima clima;
-
-    /**
-     * Flag indicando se a simulação está pausada.
-     */
-    private boolean pausada;
-
-    /**
-     * Flag indicando se há uma simulação em execução (pausada ou não).
+     * Controla pausa, ritmo e orçamento dos passos executados por
+     * {@link #simular(int)}.
      */
-    private boolean emExecucao;
+    private final AgendadorPassos agendador;
 
     /**
-     * Matriz de obstáculos fixos carregados do mapa.
-     * Mantida em memória para reaplicação a cada passo.
+     * Passo em que {@link #simular(int)} pausa, restaurado a cada reinício.
      */
-    private Obstaculo[][] mapaFixo;
+    private int limitePassos;
 
     /**
      * Objeto compartilhado entre Simulador e Visualização para coleta de
@@ -125,6 +91,11 @@ public class Simulador {
      */
     private EstatisticasCampo estatisticas;
 
+    /**
+     * Vetor reaproveitado na contagem da população de cada passo.
+     */
+    private int[] populacao;
+
     // ========== CONSTRUTORES ==========
 
     /**
@@ -149,7 +120,19 @@ public class Simulador {
      * @param largura      Largura do campo em células
      */
     public Simulador(int profundidade, int largura) {
-        this(profundidade, largura, new EstatisticasCampo());
+        this(profundidade, largura, ParametrosSimulacao.padrao());
+    }
+
+    /**
+     * Cria um simulador com dimensões e parâmetros ecológicos customizados.
+     * 
+     * @param profundidade Altura do campo em células
+     * @param largura      Largura do campo em células
+     * @param parametros   Parâmetros do mundo (por exemplo, lidos de arquivo
+     *                     com {@link ParametrosSimulacao#carregar})
+     */
+    public Simulador(int profundidade, int largura, ParametrosSimulacao parametros) {
+        this(profundidade, largura, new EstatisticasCampo(), parametros);
     }
 
     /**
@@ -162,11 +145,26 @@ public class Simulador {
      * @param profundidade              Altura do campo
      * @param largura                   Largura do campo
      * @param estatisticasCompartilhada Objeto de estatísticas a ser compartilhado
+     * @param parametros                Parâmetros do mundo
      */
-    private Simulador(int profundidade, int largura, EstatisticasCampo estatisticasCompartilhada) {
+    private Simulador(int profundidade, int largura, EstatisticasCampo estatisticasCompartilhada,
+            ParametrosSimulacao parametros) {
         this(profundidade, largura,
                 new VisualizacaoSimulador(profundidade, largura, estatisticasCompartilhada),
-                estatisticasCompartilhada);
+                estatisticasCompartilhada, parametros);
+    }
+
+    /**
+     * Cria um simulador com visualização e estatísticas prontas e os
+     * parâmetros padrão ({@link ParametrosSimulacao#padrao()}).
+     * 
+     * @param profundidade Altura do campo
+     * @param largura      Largura do campo
+     * @param visualizacao Interface de visualização já configurada
+     * @param estatisticas Objeto de estatísticas já configurado
+     */
+    public Simulador(int profundidade, int largura, Desenhavel visualizacao, EstatisticasCampo estatisticas) {
+        this(profundidade, largura, visualizacao, estatisticas, ParametrosSimulacao.padrao());
     }
 
     /**
@@ -174,11 +172,12 @@ public class Simulador {
      * <p>
      * Este é o construtor final da cadeia, responsável por:
      * <ul>
-     * <li>Validar dimensões do campo</li>
-     * <li>Inicializar estruturas de dados</li>
-     * <li>Configurar visualização e cores</li>
-     * <li>Carregar mapa de obstáculos</li>
-     * <li>Popular o campo inicial</li>
+     * <li>Validar as dimensões</li>
+     * <li>Criar o motor, que carrega o mapa de obstáculos e popula o campo
+     * inicial</li>
+     * <li>Avisar do redimensionamento e ajustar a visualização ao tamanho do
+     * mapa</li>
+     * <li>Configurar cores</li>
      * <li>Configurar controles da interface</li>
      * </ul>
      * </p>
@@ -187,8 +186,17 @@ public class Simulador {
      * @param largura      Largura do campo
      * @param visualizacao Interface de visualização já configurada
      * @param estatisticas Objeto de estatísticas já configurado
+     * @param parametros   Parâmetros do mundo
      */
-    public Simulador(int profundidade, int largura, Desenhavel visualizacao, EstatisticasCampo estatisticas) {
+    public Simulador(int profundidade, int largura, Desenhavel visualizacao, EstatisticasCampo estatisticas,
+            ParametrosSimulacao parametros) {
+        this.estatisticas = estatisticas;
+        this.visualizacao = visualizacao;
+        this.agendador = new AgendadorPassos();
+        agendador.setPassosPorSegundo(Configuracao.PASSOS_POR_SEGUNDO);
+        agendador.setAoPausar(() -> this.visualizacao.setTextoBotaoPausa("Continuar"));
+        agendador.setAoParar(() -> publicarEstado(true));
+
         // Valida dimensões
         if (largura <= 0 || profundidade <= 0) {
             System.out.println("As dimensões devem ser maiores que zero.");
@@ -197,23 +205,19 @@ public class Simulador {
             largura = Configuracao.LARGURA_PADRAO;
         }
 
-        this.estatisticas = estatisticas;
-        this.visualizacao = visualizacao;
+        motor = new MotorSimulacao(profundidade, largura, "mapa.txt", Configuracao.SEMENTE, parametros);
 
-        animais = new ArrayList<Ator>();
-        novosAnimais = new ArrayList<Ator>();
-        campo = new Campo(profundidade, largura);
-        campoAtualizado = new Campo(profundidade, largura);
+        CampoSimulacao campo = motor.getCampo();
+        if (campo.getProfundidade() != profundidade || campo.getLargura() != largura) {
+            System.out.println("Redimensionando simulação para: " + campo.getProfundidade() + "x"
+                    + campo.getLargura());
+            redimensionarVisualizacao(campo.getProfundidade(), campo.getLargura());
+        }
 
         definirCores();
 
-        this.clima = new Clima(50);
-        this.pausada = false;
-        this.emExecucao = false;
-
-        carregarMapa("mapa.txt");
-
-        reiniciar();
+        visualizacao.reiniciar();
+        publicarEstado(true);
 
         configurarInterface();
     }
@@ -223,14 +227,10 @@ public class Simulador {
     /**
      * Define o mapeamento de cores para cada tipo de entidade.
      * <p>
-     * Cores configuradas:
+     * Cada espécie do {@link RegistroEspecies} usa a cor da sua
+     * {@link Especie} (nativas: raposa azul, coelho laranja, rato magenta,
+     * cobra verde, gavião vermelho, urso preto). Obstáculos:
      * <ul>
-     * <li>Raposa → Azul</li>
-     * <li>Coelho → Laranja</li>
-     * <li>Rato → Magenta</li>
-     * <li>Cobra → Verde</li>
-     * <li>Gavião → Vermelho</li>
-     * <li>Urso → Preto</li>
      * <li>Rio → Ciano</li>
      * <li>Pedra → Cinza escuro</li>
      * </ul>
@@ -241,12 +241,9 @@ public class Simulador {
      * </p>
      */
     private void definirCores() {
-        this.visualizacao.definirCor(Raposa.class, Color.blue);
-        this.visualizacao.definirCor(Coelho.class, Color.orange);
-        this.visualizacao.definirCor(Rato.class, Color.MAGENTA);
-        this.visualizacao.definirCor(Cobra.class, Color.GREEN);
-        this.visualizacao.definirCor(Gaviao.class, Color.RED);
-        this.visualizacao.definirCor(Urso.class, Color.BLACK);
+        for (Especie especie : RegistroEspecies.especies()) {
+            this.visualizacao.definirCor(especie.getClasse(), especie.getCor());
+        }
 
         visualizacao.definirCor(Obstaculo.RIO, Color.CYAN);
         visualizacao.definirCor(Obstaculo.PEDRA, Color.DARK_GRAY);
@@ -267,19 +264,20 @@ public class Simulador {
      * </ul>
      * </p>
      * <p>
-     * Utiliza classes anônimas para implementar os ActionListeners.
+     * Utiliza classes anônimas para implementar os ActionListeners. As
+     * ações rodam na thread de eventos e só conversam com o
+     * {@link AgendadorPassos}, sem esperar a simulação (exceto o reinício,
+     * que espera o fim do passo em andamento).
      * </p>
      */
     private void configurarInterface() {
         visualizacao.setAcaoPausar(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
-                if (pausada) {
+                if (agendador.estaPausado()) {
                     continuar();
-                    visualizacao.setTextoBotaoPausa("Pausar");
                 } else {
                     pausar();
-                    visualizacao.setTextoBotaoPausa("Continuar");
                 }
             }
         });
@@ -287,16 +285,7 @@ public class Simulador {
         visualizacao.setAcaoReiniciar(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
-                pausar();
-
-                try {
-                    Thread.sleep(200);
-                } catch (InterruptedException ex) {
-                }
-
                 reiniciar();
-
-                visualizacao.setTextoBotaoPausa("Pausar");
             }
         });
     }
@@ -304,28 +293,38 @@ public class Simulador {
     // ========== MÉTODOS DE CONTROLE DE EXECUÇÃO ==========
 
     /**
-     * Pausa a simulação em execução.
+     * Pausa a simulação depois do passo em andamento.
      * <p>
      * A simulação pode ser retomada posteriormente com {@link #continuar()}.
-     * Se a simulação já estiver pausada ou não estiver em execução, não há efeito.
+     * Se a simulação já estiver pausada, não há efeito.
      * </p>
      */
-    private void pausar() {
-        if (emExecucao && !pausada) {
-            pausada = true;
-        }
+    public void pausar() {
+        agendador.pausar();
+        visualizacao.setTextoBotaoPausa("Continuar");
     }
 
     /**
      * Retoma uma simulação pausada.
      * <p>
-     * Se a simulação não estiver pausada, não há efeito.
+     * Se a simulação não estiver pausada, não há efeito. Se o limite de
+     * passos já foi atingido, a simulação segue sem limite.
      * </p>
      */
     public void continuar() {
-        if (pausada) {
-            pausada = false;
-        }
+        agendador.continuar();
+        visualizacao.setTextoBotaoPausa("Pausar");
+    }
+
+    /**
+     * Executa um único passo com a simulação pausada.
+     * <p>
+     * O passo é feito pela thread de {@link #simular(int)}; se a simulação
+     * não estiver pausada, não há efeito.
+     * </p>
+     */
+    public void avancarUmPasso() {
+        agendador.avancarUmPasso();
     }
 
     /**
@@ -334,7 +333,7 @@ public class Simulador {
      * @return true se pausada, false caso contrário
      */
     public boolean estaPausada() {
-        return pausada;
+        return agendador.estaPausado();
     }
 
     /**
@@ -343,7 +342,7 @@ public class Simulador {
      * @return true se em execução, false caso contrário
      */
     public boolean estaEmExecucao() {
-        return emExecucao;
+        return agendador.estaEmExecucao();
     }
 
     /**
@@ -351,295 +350,142 @@ public class Simulador {
      * <p>
      * <strong>Operações realizadas:</strong>
      * <ol>
-     * <li>Reseta contador de passos para 0</li>
-     * <li>Limpa todas as listas de animais</li>
-     * <li>Limpa ambos os campos (atual e atualizado)</li>
-     * <li>Reinicia o sistema de clima</li>
-     * <li>Remove estado de pausa</li>
-     * <li>Aplica obstáculos fixos do mapa</li>
-     * <li>Popula o campo com animais iniciais</li>
+     * <li>Pausa e espera o passo em andamento terminar
+     * ({@link AgendadorPassos#pausarEAguardar()})</li>
+     * <li>Reinicia o motor ({@link MotorSimulacao#reiniciar()}): passos,
+     * sorteios, campos, clima e população inicial</li>
      * <li>Atualiza visualização</li>
+     * <li>Restaura o limite de passos e remove o estado de pausa</li>
      * </ol>
      * </p>
+     * <p>
+     * Pode ser chamado de qualquer thread, inclusive durante
+     * {@link #simular(int)}.
+     * </p>
      */
     public void reiniciar() {
-        passo = 0;
-
-        animais.clear();
-        novosAnimais.clear();
-
-        campo.limpar();
-        campoAtualizado.limpar();
-
-        if (clima != null) {
-            clima.reiniciar();
-        }
-
-        pausada = false;
-        visualizacao.setTextoBotaoPausa("Pausar");
-
-        aplicarObstaculos(campo);
-        new Populador().popular(campo, animais);
+        agendador.pausarEAguardar();
+        motor.reiniciar();
 
         visualizacao.reiniciar();
-        visualizacao.mostrarStatus(passo, campo);
+        publicarEstado(true);
+
+        agendador.setOrcamento(limitePassos);
+        continuar();
     }
 
     /**
-     * Executa a simulação pelo número especificado de passos.
+     * Executa a simulação até o passo especificado.
      * <p>
      * <strong>Comportamento:</strong>
      * <ul>
-     * <li>Respeita comandos de pausa durante a execução</li>
-     * <li>Para automaticamente se a simulação se tornar inviável</li>
-     * <li>Para ao atingir o número de passos solicitado</li>
-     * <li>Aguarda 50ms entre cada passo para visualização</li>
+     * <li>Respeita comandos de pausa durante a execução; pausada, a thread
+     * fica parada até ser retomada</li>
+     * <li>Pausa automaticamente se a simulação se tornar inviável</li>
+     * <li>Pausa ao atingir o número de passos solicitado</li>
+     * <li>Executa no ritmo de {@link Configuracao#PASSOS_POR_SEGUNDO},
+     * ajustável por {@link #getAgendador()}</li>
      * </ul>
      * </p>
+     * <p>
+     * O método só retorna depois de {@link AgendadorPassos#encerrar()}.
+     * </p>
      * 
-     * @param numPassos Número de passos a executar
+     * @param numPassos Passo em que a simulação pausa
      */
     public void simular(int numPassos) {
-        emExecucao = true;
-
-        while (emExecucao) {
-
-            if (passo >= numPassos) {
-                if (!pausada) {
-                    pausar();
-                    visualizacao.setTextoBotaoPausa("Continuar");
-                }
-            }
-
-            if (!visualizacao.ehViavel(campo)) {
-                if (!pausada) {
-                    pausar();
-                    visualizacao.setTextoBotaoPausa("Continuar");
-                }
-            }
-
-            while (pausada) {
-                try {
-                    Thread.sleep(100);
-                } catch (InterruptedException e) {
-                    e.printStackTrace();
-                }
-            }
-
-            simularUmPasso();
-
-            try {
-                Thread.sleep(50);
-            } catch (Exception e) {
-            }
+        limitePassos = numPassos;
+        agendador.setOrcamento(Math.max(0, numPassos - motor.getPasso()));
+        if (motor.getPasso() >= numPassos) {
+            pausar();
         }
+        agendador.executar(() -> {
+            simularUmPasso();
+            return visualizacao.ehViavel(motor.getCampo());
+        });
     }
 
     // ========== MÉTODOS DE SIMULAÇÃO ==========
 
     /**
-     * Simula um único passo da simulação.
+     * Simula um único passo e atualiza a visualização.
      * <p>
-     * <strong>Sequência de operações:</strong>
-     * <ol>
-     * <li>Incrementa contador de passos</li>
-     * <li>Prepara listas auxiliares</li>
-     * <li>Aplica obstáculos no campo de destino</li>
-     * <li>Processa ações de todos os animais</li>
-     * <li>Atualiza clima e vegetação</li>
-     * <li>Troca campos (double buffering)</li>
-     * <li>Atualiza visualização</li>
-     * </ol>
+     * O passo em si (animais, clima, vegetação e troca de campos) é feito
+     * por {@link MotorSimulacao#simularUmPasso()}.
      * </p>
      */
     public void simularUmPasso() {
-        passo++;
-        prepararNovosAnimais();
-        prepararObstaculos();
-        processarCicloDeVidaAnimais();
-        processarAmbienteEClima();
-        trocarCampos();
-        visualizacao.mostrarStatus(passo, campo);
+        motor.simularUmPasso();
+        atualizarVisualizacao();
     }
 
     /**
-     * Limpa a lista de animais nascidos do passo anterior.
-     * <p>
-     * Preparação para receber novos nascimentos no passo atual.
-     * </p>
+     * Mostra na interface o clima e o estado do passo atual.
      */
-    private void prepararNovosAnimais() {
-        novosAnimais.clear();
-    }
-
-    /**
-     * Aplica obstáculos fixos no campo de destino.
-     * <p>
-     * Necessário porque o campo atualizado é limpo a cada ciclo.
-     * </p>
-     */
-    private void prepararObstaculos() {
-        aplicarObstaculos(campoAtualizado);
-    }
-
-    /**
-     * Processa o ciclo de vida de todos os animais.
-     * <p>
-     * <strong>Para cada animal:</strong>
-     * <ol>
-     * <li>Verifica se está vivo</li>
-     * <li>Se vivo: executa suas ações (caçar, mover, reproduzir)</li>
-     * <li>Se morto: remove da lista</li>
-     * </ol>
-     * </p>
-     * <p>
-     * Ao final, adiciona todos os filhotes nascidos neste turno à lista principal.
-     * </p>
-     */
-    private void processarCicloDeVidaAnimais() {
-        Iterator<Ator> iter = animais.iterator();
-        while (iter.hasNext()) {
-            Ator ator = iter.next();
-            if (ator.estaVivo()) {
-                ator.agir(campo, campoAtualizado, novosAnimais);
-            } else {
-                iter.remove();
-            }
-        }
-
-        animais.addAll(novosAnimais);
-    }
-
-    /**
-     * Gerencia o ambiente: clima e crescimento de vegetação.
-     * <p>
-     * <strong>Processo:</strong>
-     * <ol>
-     * <li>Copia estado da vegetação do campo atual</li>
-     * <li>Se houver sistema de clima: atualiza estado climático</li>
-     * <li>Faz vegetação crescer uma vez</li>
-     * <li>Se estiver chovendo: cresce novamente (crescimento dobrado)</li>
-     * <li>Atualiza interface com informações climáticas</li>
-     * </ol>
-     * </p>
-     */
-    private void processarAmbienteEClima() {
-        campoAtualizado.copiarGramaDe(campo);
-
-        if (clima == null) {
-            campoAtualizado.crescerGrama();
-            return;
-        }
-
-        clima.atualizar();
-        campoAtualizado.crescerGrama();
-
-        if (clima.estaChuvoso()) {
-            campoAtualizado.crescerGrama();
+    private void atualizarVisualizacao() {
+        Clima clima = motor.getClima();
+        if (clima != null) {
+            String textoClima = clima.estaChuvoso() ? "Clima: CHUVOSO (Crescimento Rápido)" : "Clima: NORMAL";
+            visualizacao.setInfoClima(textoClima, clima.estaChuvoso());
         }
-
-        String textoClima = clima.estaChuvoso() ? "Clima: CHUVOSO (Crescimento Rápido)" : "Clima: NORMAL";
-        visualizacao.setInfoClima(textoClima, clima.estaChuvoso());
-    }
-
-    /**
-     * Realiza a troca de referências entre campos (double buffering).
-     * <p>
-     * O campo atualizado se torna o atual, e o antigo atual é limpo
-     * para servir como buffer de escrita no próximo passo.
-     * </p>
-     */
-    private void trocarCampos() {
-        Campo temp = campo;
-        campo = campoAtualizado;
-        campoAtualizado = temp;
-        campoAtualizado.limpar();
+        publicarEstado(false);
     }
 
-    // ========== MÉTODOS DE CARREGAMENTO DE MAPA ==========
-
     /**
-     * Carrega um mapa de obstáculos de um arquivo de texto.
+     * Entrega à visualização o passo atual, com a população contada pelo
+     * motor.
      * <p>
-     * Se as dimensões do mapa forem diferentes das atuais,
-     * redimensiona toda a simulação automaticamente.
+     * Nos passos em andamento a visualização pode deixar de capturar o
+     * campo; quando a simulação para ({@link AgendadorPassos#setAoParar}),
+     * no início e nos reinícios o estado é sempre desenhado.
      * </p>
      * 
-     * @param caminhoArquivo Caminho do arquivo de mapa (ex: "mapa.txt")
+     * @param obrigatorio Se o estado deve ser desenhado mesmo que o
+     *                    anterior ainda não tenha sido
      */
-    private void carregarMapa(String caminhoArquivo) {
-        CarregadorMapa carregador = new CarregadorMapa();
-        Obstaculo[][] novoMapa = carregador.carregarObstaculos(caminhoArquivo);
-
-        if (novoMapa == null)
-            return;
-
-        this.mapaFixo = novoMapa;
-
-        int novaProfundidade = novoMapa.length;
-        int novaLargura = novoMapa[0].length;
-
-        boolean dimensoesMudaram = (novaProfundidade != campo.getProfundidade()) ||
-                (novaLargura != campo.getLargura());
-
-        if (dimensoesMudaram) {
-            redimensionarSimulacao(novaProfundidade, novaLargura);
-        }
+    private void publicarEstado(boolean obrigatorio) {
+        populacao = motor.contarPopulacao(populacao);
+        visualizacao.mostrarStatus(motor.getPasso(), motor.getCampo(), populacao, obrigatorio);
     }
 
     /**
-     * Redimensiona toda a simulação para novas dimensões.
+     * Recria a visualização com novas dimensões.
      * <p>
-     * <strong>Operações realizadas:</strong>
-     * <ol>
-     * <li>Recria ambos os campos com novo tamanho</li>
-     * <li>Fecha a visualização antiga</li>
-     * <li>Cria nova visualização com dimensões corretas</li>
-     * <li>Reaplica configurações (cores e controles)</li>
-     * </ol>
+     * Chamado quando o mapa carregado pelo motor tem tamanho diferente do
+     * pedido. Fecha a visualização antiga e cria uma nova; cores e controles
+     * são configurados em seguida pelo construtor.
      * </p>
      * 
      * @param novaProfundidade Nova altura do campo
      * @param novaLargura      Nova largura do campo
      */
-    private void redimensionarSimulacao(int novaProfundidade, int novaLargura) {
-        System.out.println("Redimensionando simulação para: " + novaProfundidade + "x" + novaLargura);
-
-        campo = new Campo(novaProfundidade, novaLargura);
-        campoAtualizado = new Campo(novaProfundidade, novaLargura);
-
+    private void redimensionarVisualizacao(int novaProfundidade, int novaLargura) {
         if (visualizacao != null) {
             visualizacao.fechar();
             visualizacao = new VisualizacaoSimulador(novaProfundidade, novaLargura, estatisticas);
-
-            definirCores();
-            configurarInterface();
         }
     }
 
+    // ========== GETTERS ==========
+
     /**
-     * Copia obstáculos fixos da matriz de mapa para o campo destino.
-     * <p>
-     * Percorre toda a matriz de obstáculos e coloca cada um na posição
-     * correspondente do campo, se houver obstáculo definido.
-     * </p>
+     * Retorna o agendador que controla pausa e ritmo de
+     * {@link #simular(int)}.
      * 
-     * @param destino Campo onde os obstáculos serão aplicados
+     * @return Agendador dos passos
      */
-    private void aplicarObstaculos(Campo destino) {
-        if (mapaFixo == null)
-            return;
-
-        for (int i = 0; i < destino.getProfundidade(); i++) {
-            for (int j = 0; j < destino.getLargura(); j++) {
-                if (mapaFixo[i][j] != null) {
-                    destino.colocar(mapaFixo[i][j], i, j);
-                }
-            }
-        }
+    public AgendadorPassos getAgendador() {
+        return agendador;
     }
 
-    // ========== GETTERS ==========
+    /**
+     * Retorna o motor da simulação.
+     * 
+     * @return Motor com o estado do mundo
+     */
+    public MotorSimulacao getMotor() {
+        return motor;
+    }
 
     /**
      * Retorna o número do passo atual da simulação.
@@ -647,7 +493,7 @@ public class Simulador {
      * @return Contador de passos desde o início ou último reinício
      */
     public int getPasso() {
-        return passo;
+        return motor.getPasso();
     }
 
     /**
@@ -659,7 +505,7 @@ public class Simulador {
      * @return Lista (cópia) de todos os atores vivos
      */
     public List<Ator> getAnimais() {
-        return new ArrayList<>(animais);
+        return new ArrayList<>(motor.getAnimais());
     }
 
     /**
@@ -667,8 +513,8 @@ public class Simulador {
      * 
      * @return Campo em uso no passo atual
      */
-    public Campo getCampo() {
-        return campo;
+    public CampoSimulacao getCampo() {
+        return motor.getCampo();
     }
 
     /**
@@ -677,7 +523,7 @@ public class Simulador {
      * @return Objeto controlador do clima
      */
     public Clima getClima() {
-        return clima;
+        return motor.getClima();
     }
 
     /**
@@ -686,6 +532,6 @@ public class Simulador {
      * @param clima Novo objeto de clima a ser usado
      */
     public void setClima(Clima clima) {
-        this.clima = clima;
+        motor.setClima(clima);
     }
 }
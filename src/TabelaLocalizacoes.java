@@ -0,0 +1,106 @@
+/**
+ * Tabela imutável com uma única instância canônica de {@link Localizacao}
+ * para cada célula de um mundo.
+ * <p>
+ * A tabela é criada uma vez para um tamanho de mapa e compartilhada pelos
+ * campos que representam esse mundo (os dois buffers do {@link Simulador}).
+ * Assim, posições iguais são sempre o mesmo objeto e nenhuma localização é
+ * criada durante a simulação.
+ * </p>
+ *
+ * <p>
+ * <strong>Características:</strong>
+ * </p>
+ * <ul>
+ * <li>Consulta O(1) por (linha, coluna) ou por índice plano, sem alocação</li>
+ * <li>Índice plano em ordem de linhas: {@code linha * largura + coluna}</li>
+ * <li>Instâncias canônicas permitem comparar posições por identidade</li>
+ * </ul>
+ *
+ * @author Grupo 10
+ * @version 1.0
+ * @see Localizacao
+ * @see Campo
+ */
+public class TabelaLocalizacoes {
+
+    // ========== ATRIBUTOS ==========
+
+    /**
+     * Número de linhas do mundo.
+     */
+    private final int profundidade;
+
+    /**
+     * Número de colunas do mundo.
+     */
+    private final int largura;
+
+    /**
+     * Localizações canônicas indexadas pelo índice plano da célula.
+     */
+    private final Localizacao[] localizacoes;
+
+    // ========== CONSTRUTOR ==========
+
+    /**
+     * Cria todas as localizações de um mundo com as dimensões informadas.
+     *
+     * @param profundidade Número de linhas
+     * @param largura      Número de colunas
+     */
+    public TabelaLocalizacoes(int profundidade, int largura) {
+        this.profundidade = profundidade;
+        this.largura = largura;
+        localizacoes = new Localizacao[profundidade * largura];
+        int indice = 0;
+        for (int linha = 0; linha < profundidade; linha++) {
+            for (int coluna = 0; coluna < largura; coluna++) {
+                localizacoes[indice++] = new Localizacao(linha, coluna);
+            }
+        }
+    }
+
+    // ========== MÉTODOS DE CONSULTA ==========
+
+    /**
+     * Retorna a localização canônica de uma célula.
+     *
+     * @param linha  Coordenada Y (índice da linha)
+     * @param coluna Coordenada X (índice da coluna)
+     * @return Instância canônica da posição
+     */
+    public Localizacao obter(int linha, int coluna) {
+        return localizacoes[linha * largura + coluna];
+    }
+
+    /**
+     * Retorna a localização canônica de uma célula pelo índice plano.
+     *
+     * @param indice Índice plano ({@code linha * largura + coluna})
+     * @return Instância canônica da posição
+     */
+    public Localizacao obter(int indice) {
+        return localizacoes[indice];
+    }
+
+    // ========== GETTERS ==========
+
+    /**
+     * Retorna o número de linhas do mundo.
+     *
+     * @return Profundidade em células
+     */
+    public int getProfundidade() {
+        return profundidade;
+    }
+
+    /**
+     * Retorna o número de colunas do mundo.
+     *
+     * @return Largura em células
+     */
+    public int getLargura() {
+        return largura;
+    }
+}
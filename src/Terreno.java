@@ -0,0 +1,202 @@
+/**
+ * Camada imutável de terreno de um mundo: onde há obstáculos e de que tipo.
+ * <p>
+ * O terreno é construído uma única vez a partir do mapa lido por
+ * {@link CarregadorMapa} e compartilhado, somente para leitura, pelos dois
+ * campos do double buffering. Assim os obstáculos não precisam ser gravados
+ * de novo na grade de ocupação a cada passo.
+ * </p>
+ *
+ * <p>
+ * <strong>Estrutura de Dados:</strong>
+ * </p>
+ * <ul>
+ * <li>Um {@link MapaBits} por tipo de {@link Obstaculo}</li>
+ * <li>{@link #intransitaveis}: união de todos os obstáculos (bloqueiam
+ * movimento)</li>
+ * <li>{@link #pescaveis}: união dos obstáculos em que se pode pescar</li>
+ * </ul>
+ * <p>
+ * As consultas mais frequentes (passagem livre e pesca) são um único teste
+ * de bit.
+ * </p>
+ *
+ * @author Grupo 10
+ * @version 1.0
+ * @see Campo
+ * @see Obstaculo
+ * @see CarregadorMapa
+ */
+public class Terreno {
+
+    // ========== ATRIBUTOS ESTÁTICOS ==========
+
+    /**
+     * Tipos de obstáculo, indexados pelo ordinal (cópia única de
+     * {@link Obstaculo#values()}).
+     */
+    private static final Obstaculo[] TIPOS = Obstaculo.values();
+
+    // ========== ATRIBUTOS ==========
+
+    /**
+     * Número de linhas do mundo.
+     */
+    private final int profundidade;
+
+    /**
+     * Número de colunas do mundo.
+     */
+    private final int largura;
+
+    /**
+     * Células de cada tipo de obstáculo, indexado por
+     * {@link Obstaculo#ordinal()}.
+     */
+    private final MapaBits[] porTipo;
+
+    /**
+     * Células ocupadas por qualquer obstáculo.
+     */
+    private final MapaBits intransitaveis;
+
+    /**
+     * Células com obstáculos em que se pode pescar (rios).
+     */
+    private final MapaBits pescaveis;
+
+    // ========== CONSTRUTORES ==========
+
+    /**
+     * Cria um terreno livre, sem obstáculos.
+     *
+     * @param profundidade Número de linhas do mundo
+     * @param largura      Número de colunas do mundo
+     */
+    public Terreno(int profundidade, int largura) {
+        this(profundidade, largura, null);
+    }
+
+    /**
+     * Cria o terreno a partir da matriz de obstáculos de um mapa.
+     * <p>
+     * As dimensões do mundo são as da matriz; posições {@code null} são
+     * terreno livre.
+     * </p>
+     *
+     * @param mapa Matriz de obstáculos (linhas x colunas)
+     */
+    public Terreno(Obstaculo[][] mapa) {
+        this(mapa.length, mapa[0].length, mapa);
+    }
+
+    /**
+     * Construtor interno comum.
+     *
+     * @param profundidade Número de linhas do mundo
+     * @param largura      Número de colunas do mundo
+     * @param mapa         Matriz de obstáculos, ou null para terreno livre
+     */
+    private Terreno(int profundidade, int largura, Obstaculo[][] mapa) {
+        this.profundidade = profundidade;
+        this.largura = largura;
+        int tamanho = profundidade * largura;
+
+        porTipo = new MapaBits[TIPOS.length];
+        for (int t = 0; t < TIPOS.length; t++) {
+            porTipo[t] = new MapaBits(tamanho);
+        }
+        intransitaveis = new MapaBits(tamanho);
+        pescaveis = new MapaBits(tamanho);
+
+        if (mapa == null) {
+            return;
+        }
+        for (int linha = 0; linha < profundidade; linha++) {
+            for (int coluna = 0; coluna < largura; coluna++) {
+                Obstaculo obstaculo = mapa[linha][coluna];
+                if (obstaculo != null) {
+                    int indice = linha * largura + coluna;
+                    porTipo[obstaculo.ordinal()].ligar(indice);
+                    intransitaveis.ligar(indice);
+                    if (obstaculo.podePescar()) {
+                        pescaveis.ligar(indice);
+                    }
+                }
+            }
+        }
+    }
+
+    // ========== MÉTODOS DE CONSULTA ==========
+
+    /**
+     * Verifica se uma célula pode ser ocupada por animais.
+     *
+     * @param indice Índice plano da célula
+     * @return true se não há obstáculo na célula
+     */
+    public boolean ehPassavel(int indice) {
+        return !intransitaveis.contem(indice);
+    }
+
+    /**
+     * Verifica se há um obstáculo pescável (rio) na célula.
+     *
+     * @param indice Índice plano da célula
+     * @return true se é possível pescar na célula
+     */
+    public boolean ehPescavel(int indice) {
+        return pescaveis.contem(indice);
+    }
+
+    /**
+     * Retorna o obstáculo de uma célula.
+     *
+     * @param indice Índice plano da célula
+     * @return Obstáculo na célula, ou null se o terreno é livre
+     */
+    public Obstaculo getObstaculo(int indice) {
+        if (!intransitaveis.contem(indice)) {
+            return null;
+        }
+        for (int t = 0; t < porTipo.length; t++) {
+            if (porTipo[t].contem(indice)) {
+                return TIPOS[t];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Retorna o conjunto de células intransitáveis.
+     * <p>
+     * Somente para leitura; usado para montar máscaras (ex: vegetação que não
+     * cresce sob obstáculos).
+     * </p>
+     *
+     * @return Bits das células com obstáculo
+     */
+    public MapaBits getIntransitaveis() {
+        return intransitaveis;
+    }
+
+    // ========== GETTERS ==========
+
+    /**
+     * Retorna o número de linhas do mundo.
+     *
+     * @return Profundidade em células
+     */
+    public int getProfundidade() {
+        return profundidade;
+    }
+
+    /**
+     * Retorna o número de colunas do mundo.
+     *
+     * @return Largura em células
+     */
+    public int getLargura() {
+        return largura;
+    }
+}
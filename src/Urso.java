@@ -1,4 +1,3 @@
-import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -12,7 +11,7 @@ import java.util.List;
  * <strong>Características do Urso:</strong>
  * </p>
  * <ul>
- * <li><strong>Dieta:</strong> Raposas, Cobras e Coelhos</li>
+ * <li><strong>Dieta padrão:</strong> Raposas, Cobras e Coelhos ({@code urso.dieta})</li>
  * <li><strong>Habilidade Especial:</strong> Pesca em rios adjacentes</li>
  * <li><strong>Comportamento:</strong> Caça ativa, reprodução e
  * envelhecimento</li>
@@ -24,8 +23,8 @@ import java.util.List;
  * <strong>Mecânica de Pesca:</strong>
  * </p>
  * <p>
- * Quando adjacente a um rio, o urso tem 30% de chance
- * ({@link Configuracao#PROB_PESCA_URSO})
+ * Quando adjacente a um rio, o urso tem (por padrão) 30% de chance
+ * ({@link ParametrosSimulacao#getProbabilidadePescaUrso()})
  * de pescar com sucesso, restaurando completamente seu nível de alimento.
  * Esta habilidade oferece uma fonte alternativa de sustento além da caça.
  * </p>
@@ -46,21 +45,25 @@ import java.util.List;
  * @version 2025.11.30
  * @see Predador
  * @see Obstaculo
- * @see Configuracao
+ * @see ParametrosSimulacao
  */
 public class Urso extends Predador {
 
+    // ========== ATRIBUTOS ESTÁTICOS ==========
+
+    /**
+     * Visitante de vizinhança que aceita o primeiro rio pescável.
+     * Sem estado, compartilhado por todos os ursos.
+     */
+    private static final VisitanteVizinhanca RIO_PESCAVEL = (campo, indice) -> campo.ehPescavel(indice);
+
     // ========== CONSTRUTOR ==========
 
     /**
-     * Cria uma nova instância de urso com dieta predefinida.
+     * Cria uma nova instância de urso.
      * <p>
-     * A dieta é configurada automaticamente no construtor, incluindo:
-     * <ul>
-     * <li>Raposas - valor nutricional alto</li>
-     * <li>Cobras - valor nutricional médio</li>
-     * <li>Coelhos - valor nutricional baixo</li>
-     * </ul>
+     * As presas (por padrão raposas, cobras e coelhos) vêm da teia
+     * alimentar dos parâmetros, compartilhada por todos os ursos.
      * </p>
      * <p>
      * A idade inicial pode ser:
@@ -70,15 +73,12 @@ public class Urso extends Predador {
      * </ul>
      * </p>
      * 
+     * @param parametros     Parâmetros do mundo
      * @param idadeAleatoria Se true, a idade será aleatória entre 0 e idade máxima;
      *                       se false, a idade será zero (recém-nascido)
      */
-    public Urso(boolean idadeAleatoria) {
-        super(idadeAleatoria);
-
-        dieta.put(Raposa.class, Configuracao.VALOR_NUTRICIONAL_RAPOSA);
-        dieta.put(Cobra.class, Configuracao.VALOR_NUTRICIONAL_COBRA);
-        dieta.put(Coelho.class, Configuracao.VALOR_NUTRICIONAL_COELHO);
+    public Urso(ParametrosSimulacao parametros, boolean idadeAleatoria) {
+        super(parametros, idadeAleatoria);
     }
 
     // ========== MÉTODOS DE AÇÃO ==========
@@ -115,10 +115,10 @@ public class Urso extends Predador {
      * <p>
      * <strong>Mecânica de pesca:</strong>
      * <ol>
-     * <li>Verifica todas as localizações adjacentes</li>
+     * <li>Visita as células adjacentes (sem alocação)</li>
      * <li>Identifica se há um obstáculo pescável (rio)</li>
      * <li>Realiza teste de probabilidade
-     * ({@link Configuracao#PROB_PESCA_URSO})</li>
+     * ({@link ParametrosSimulacao#getProbabilidadePescaUrso()})</li>
      * <li>Em caso de sucesso, restaura completamente o nível de alimento</li>
      * </ol>
      * </p>
@@ -131,16 +131,9 @@ public class Urso extends Predador {
      * @param campo Campo atual contendo a localização do urso e obstáculos
      */
     private void pescar(CampoInterativo campo) {
-        Iterator<Localizacao> adjacentes = campo.localizacoesAdjacentes(getLocalizacao());
-        while (adjacentes.hasNext()) {
-            Localizacao onde = adjacentes.next();
-            Object pescavel = campo.getObjetoEm(onde);
-
-            if (pescavel instanceof Obstaculo && ((Obstaculo) pescavel).podePescar()) {
-                if (getAleatorio().nextDouble() < Configuracao.PROB_PESCA_URSO) {
-                    setNivelAlimento(Configuracao.VALOR_ALIMENTAR);
-                }
-                return;
+        if (campo.visitarAdjacentes(getLocalizacao(), RIO_PESCAVEL) >= 0) {
+            if (getAleatorio().nextDouble() < getParametros().getProbabilidadePescaUrso()) {
+                setNivelAlimento(getParametros().getValorAlimentar());
             }
         }
     }
@@ -153,7 +146,6 @@ public class Urso extends Predador {
      * O filhote nasce com:
      * <ul>
      * <li>Idade zero (recém-nascido)</li>
-     * <li>Dieta já configurada automaticamente</li>
      * <li>Nível de alimento inicial padrão</li>
      * </ul>
      * </p>
@@ -162,66 +154,6 @@ public class Urso extends Predador {
      */
     @Override
     public Predador criarFilho() {
-        return new Urso(false);
-    }
-
-    // ========== MÉTODOS DE CONFIGURAÇÃO (da superclasse) ==========
-
-    /**
-     * Retorna a idade máxima que um urso pode atingir.
-     * <p>
-     * Quando esta idade é atingida, o urso morre naturalmente.
-     * </p>
-     * 
-     * @return Idade máxima em passos de simulação
-     * @see Configuracao#IDADE_MAX_URSO
-     */
-    @Override
-    protected int idadeMaxima() {
-        return Configuracao.IDADE_MAX_URSO;
-    }
-
-    /**
-     * Retorna a idade em que o urso atinge maturidade sexual.
-     * <p>
-     * Ursos só podem se reproduzir após atingir esta idade.
-     * </p>
-     * 
-     * @return Idade reprodutiva em passos de simulação
-     * @see Configuracao#IDADE_REPROD_URSO
-     */
-    @Override
-    protected int getIdadeReprodutiva() {
-        return Configuracao.IDADE_REPROD_URSO;
-    }
-
-    /**
-     * Retorna a probabilidade de reprodução por passo.
-     * <p>
-     * Em cada turno, se as condições forem atendidas (idade adequada,
-     * parceiro próximo), esta probabilidade determina se ocorre reprodução.
-     * </p>
-     * 
-     * @return Probabilidade entre 0.0 e 1.0
-     * @see Configuracao#PROB_REPROD_URSO
-     */
-    @Override
-    protected double probabilidadeReproducao() {
-        return Configuracao.PROB_REPROD_URSO;
-    }
-
-    /**
-     * Retorna o número máximo de filhotes em um único nascimento.
-     * <p>
-     * O número real de filhotes nascidos pode ser menor, dependendo
-     * do espaço disponível ao redor dos pais.
-     * </p>
-     * 
-     * @return Tamanho máximo da ninhada
-     * @see Configuracao#MAX_NINHADA_URSO
-     */
-    @Override
-    protected int tamanhoMaximoNinhada() {
-        return Configuracao.MAX_NINHADA_URSO;
+        return new Urso(getParametros(), false);
     }
 }
\ No newline at end of file
@@ -0,0 +1,171 @@
+import java.util.Arrays;
+
+/**
+ * Camada de vegetação com crescimento imediato armazenada em um único
+ * {@code byte[]}.
+ * <p>
+ * Cada célula guarda seu nível de crescimento em um byte, em ordem de linhas.
+ * Uma máscara paralela guarda o incremento de cada célula por turno: 1 para
+ * terreno livre e 0 para células sob obstáculos. O crescimento é um laço
+ * simples de soma com saturação sobre arrays primitivos, que o JIT consegue
+ * vetorizar.
+ * </p>
+ *
+ * <p>
+ * <strong>Quando usar:</strong>
+ * </p>
+ * <p>
+ * Prefira {@link VegetacaoPreguicosa} enquanto o nível de uma célula depender
+ * apenas do tempo desde que foi comida. Esta camada existe para regras em
+ * que o crescimento precisa ser aplicado a todas as células a cada turno
+ * (por exemplo, propagação de grama para vizinhas). Nesse caso cada campo do
+ * double buffering tem a sua camada, e a cópia entre eles é um
+ * {@link System#arraycopy}.
+ * </p>
+ *
+ * @author Grupo 10
+ * @version 1.0
+ * @see CamadaVegetacao
+ * @see Campo
+ */
+public class VegetacaoCompacta implements CamadaVegetacao {
+
+    // ========== ATRIBUTOS ==========
+
+    /**
+     * Número de colunas do mundo, usado para converter linhas em índices.
+     */
+    private final int largura;
+
+    /**
+     * Nível de crescimento de cada célula, indexado pelo índice plano.
+     */
+    private final byte[] niveis;
+
+    /**
+     * Incremento por turno de cada célula: 1 se a grama cresce, 0 se a célula
+     * está sob obstáculo.
+     */
+    private final byte[] incrementos;
+
+    /**
+     * Nível em que a grama fica madura.
+     */
+    private final int maxCrescimento;
+
+    /**
+     * Alimento obtido ao comer grama madura.
+     */
+    private final int valorNutricional;
+
+    // ========== CONSTRUTOR ==========
+
+    /**
+     * Cria a camada de um mundo com todas as células maduras e sem
+     * obstáculos.
+     *
+     * @param profundidade Número de linhas do mundo
+     * @param largura      Número de colunas do mundo
+     * @param parametros   Parâmetros de crescimento e valor nutricional
+     */
+    public VegetacaoCompacta(int profundidade, int largura, ParametrosSimulacao parametros) {
+        this.maxCrescimento = parametros.getMaxCrescimento();
+        this.valorNutricional = parametros.getValorNutricionalGrama();
+        this.largura = largura;
+        niveis = new byte[profundidade * largura];
+        incrementos = new byte[profundidade * largura];
+        Arrays.fill(niveis, (byte) maxCrescimento);
+        Arrays.fill(incrementos, (byte) 1);
+    }
+
+    /**
+     * Cria a camada de um mundo com todas as células maduras e sem
+     * obstáculos.
+     * <p>
+     * Usa os parâmetros padrão ({@link ParametrosSimulacao#padrao()}).
+     * </p>
+     *
+     * @param profundidade Número de linhas do mundo
+     * @param largura      Número de colunas do mundo
+     */
+    public VegetacaoCompacta(int profundidade, int largura) {
+        this(profundidade, largura, ParametrosSimulacao.padrao());
+    }
+
+    // ========== MÉTODOS DE CRESCIMENTO ==========
+
+    @Override
+    public void crescer() {
+        crescerLinhas(0, niveis.length / largura);
+    }
+
+    /**
+     * Avança um nível de crescimento em um intervalo de linhas.
+     * <p>
+     * Soma o incremento da máscara a cada célula e satura em
+     * {@link ParametrosSimulacao#getMaxCrescimento()}, sem desvios por célula.
+     * Intervalos disjuntos podem ser processados de forma independente.
+     * </p>
+     *
+     * @param linhaInicial Primeira linha do intervalo (inclusiva)
+     * @param linhaFinal   Última linha do intervalo (exclusiva)
+     */
+    public void crescerLinhas(int linhaInicial, int linhaFinal) {
+        final int maximo = maxCrescimento;
+        int fim = linhaFinal * largura;
+        for (int i = linhaInicial * largura; i < fim; i++) {
+            niveis[i] = (byte) Math.min(niveis[i] + incrementos[i], maximo);
+        }
+    }
+
+    @Override
+    public void bloquearCrescimento(int indice) {
+        incrementos[indice] = 0;
+    }
+
+    // ========== MÉTODOS DE CONSULTA ==========
+
+    @Override
+    public int getNivelCrescimento(int indice) {
+        return niveis[indice];
+    }
+
+    @Override
+    public boolean estaMadura(int indice) {
+        return niveis[indice] >= maxCrescimento;
+    }
+
+    // ========== MÉTODOS DE INTERAÇÃO ==========
+
+    @Override
+    public int comer(int indice) {
+        if (estaMadura(indice)) {
+            niveis[indice] = 0;
+            return valorNutricional;
+        }
+        return 0;
+    }
+
+    /**
+     * Copia os níveis de outra camada.
+     * <p>
+     * Entre duas camadas compactas, a cópia é um único
+     * {@link System#arraycopy} da camada inteira.
+     * </p>
+     *
+     * @param outra Camada fonte
+     */
+    @Override
+    public void copiarDe(CamadaVegetacao outra) {
+        if (outra == this) {
+            return;
+        }
+        if (outra instanceof VegetacaoCompacta) {
+            System.arraycopy(((VegetacaoCompacta) outra).niveis, 0, niveis, 0, niveis.length);
+            return;
+        }
+        for (int i = 0; i < niveis.length; i++) {
+            niveis[i] = (byte) outra.getNivelCrescimento(i);
+        }
+    }
+}
@@ -0,0 +1,269 @@
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+/**
+ * Camada de vegetação esparsa, dividida nos mesmos blocos de
+ * {@link CampoEmBlocos}.
+ * <p>
+ * Segue o modelo de {@link VegetacaoPreguicosa} (um crédito global de
+ * crescimento e, por célula, o crédito no momento em que foi comida), mas só
+ * guarda o array de um bloco enquanto alguma célula dele está abaixo do
+ * nível máximo. Um bloco sem array é uniformemente maduro, de modo que a
+ * memória acompanha a área pastada recentemente e não a área do mapa.
+ * </p>
+ *
+ * <p>
+ * <strong>Ciclo de um bloco:</strong>
+ * </p>
+ * <ol>
+ * <li>Começa sem array (todas as células maduras)</li>
+ * <li>Na primeira célula comida, recebe um array (reaproveitado, se
+ * possível)</li>
+ * <li>Quando a última célula comida volta a amadurecer, o array é liberado
+ * e o bloco volta a ser uniforme</li>
+ * </ol>
+ *
+ * @author Grupo 10
+ * @version 1.0
+ * @see CamadaVegetacao
+ * @see VegetacaoPreguicosa
+ * @see CampoEmBlocos
+ */
+public class VegetacaoEmBlocos implements CamadaVegetacao {
+
+    // ========== ATRIBUTOS ==========
+
+    /**
+     * Número de colunas do mundo, usado para converter índices planos.
+     */
+    private final int largura;
+
+    /**
+     * Número total de células do mundo.
+     */
+    private final int tamanho;
+
+    /**
+     * Número de blocos em cada linha de blocos.
+     */
+    private final int blocosPorLinha;
+
+    /**
+     * Total de níveis de crescimento acumulados desde a criação da camada.
+     */
+    private int creditoAtual;
+
+    /**
+     * Crédito no momento em que cada célula foi comida, por bloco. Null para
+     * blocos uniformemente maduros.
+     */
+    private final int[][] creditoAoComer;
+
+    /**
+     * Maior crédito registrado em cada bloco: quando o crédito atual o supera
+     * em {@link ParametrosSimulacao#getMaxCrescimento()}, o bloco inteiro está maduro.
+     */
+    private final int[] ultimoCreditoDoBloco;
+
+    /**
+     * Arrays de blocos liberados, reaproveitados por novos blocos pastados.
+     */
+    private final ArrayDeque<int[]> blocosLivres;
+
+    /**
+     * Nível em que a grama fica madura.
+     */
+    private final int maxCrescimento;
+
+    /**
+     * Alimento obtido ao comer grama madura.
+     */
+    private final int valorNutricional;
+
+    // ========== CONSTRUTOR ==========
+
+    /**
+     * Cria a camada de um mundo com todas as células maduras, sem alocar
+     * nenhum bloco.
+     *
+     * @param profundidade Número de linhas do mundo
+     * @param largura      Número de colunas do mundo
+     * @param parametros   Parâmetros de crescimento e valor nutricional
+     */
+    public VegetacaoEmBlocos(int profundidade, int largura, ParametrosSimulacao parametros) {
+        this.maxCrescimento = parametros.getMaxCrescimento();
+        this.valorNutricional = parametros.getValorNutricionalGrama();
+        this.largura = largura;
+        this.tamanho = profundidade * largura;
+        this.blocosPorLinha = CampoEmBlocos.blocosPara(largura);
+        int blocos = CampoEmBlocos.blocosPara(profundidade) * blocosPorLinha;
+        creditoAtual = 0;
+        creditoAoComer = new int[blocos][];
+        ultimoCreditoDoBloco = new int[blocos];
+        blocosLivres = new ArrayDeque<int[]>();
+    }
+
+    /**
+     * Cria a camada de um mundo com todas as células maduras, sem alocar
+     * nenhum bloco.
+     * <p>
+     * Usa os parâmetros padrão ({@link ParametrosSimulacao#padrao()}).
+     * </p>
+     *
+     * @param profundidade Número de linhas do mundo
+     * @param largura      Número de colunas do mundo
+     */
+    public VegetacaoEmBlocos(int profundidade, int largura) {
+        this(profundidade, largura, ParametrosSimulacao.padrao());
+    }
+
+    // ========== MÉTODOS DE CRESCIMENTO ==========
+
+    /**
+     * Avança um nível de crescimento em todo o mundo (O(1)).
+     */
+    @Override
+    public void crescer() {
+        creditoAtual++;
+    }
+
+    /**
+     * Não tem efeito neste modelo: células sob obstáculos nunca são comidas
+     * e permanecem maduras.
+     *
+     * @param indice Índice plano da célula
+     */
+    @Override
+    public void bloquearCrescimento(int indice) {
+    }
+
+    // ========== MÉTODOS DE CONSULTA ==========
+
+    @Override
+    public int getNivelCrescimento(int indice) {
+        int linha = indice / largura;
+        int coluna = indice - linha * largura;
+        int[] bloco = blocoPastado(CampoEmBlocos.blocoDe(linha, coluna, blocosPorLinha));
+        if (bloco == null) {
+            return maxCrescimento;
+        }
+        int nivel = creditoAtual - bloco[CampoEmBlocos.celulaDe(linha, coluna)];
+        return Math.min(nivel, maxCrescimento);
+    }
+
+    @Override
+    public boolean estaMadura(int indice) {
+        return getNivelCrescimento(indice) >= maxCrescimento;
+    }
+
+    // ========== MÉTODOS DE INTERAÇÃO ==========
+
+    @Override
+    public int comer(int indice) {
+        int linha = indice / largura;
+        int coluna = indice - linha * largura;
+        int numeroBloco = CampoEmBlocos.blocoDe(linha, coluna, blocosPorLinha);
+        int celula = CampoEmBlocos.celulaDe(linha, coluna);
+
+        int[] bloco = blocoPastado(numeroBloco);
+        if (bloco != null && creditoAtual - bloco[celula] < maxCrescimento) {
+            return 0;
+        }
+        if (bloco == null) {
+            bloco = alocar(numeroBloco);
+        }
+        bloco[celula] = creditoAtual;
+        ultimoCreditoDoBloco[numeroBloco] = creditoAtual;
+        return valorNutricional;
+    }
+
+    /**
+     * Copia o estado de outra camada de mesmo tamanho.
+     * <p>
+     * Só é necessário quando os campos não compartilham a mesma camada.
+     * </p>
+     *
+     * @param outra Camada fonte
+     */
+    @Override
+    public void copiarDe(CamadaVegetacao outra) {
+        if (outra == this) {
+            return;
+        }
+        if (outra instanceof VegetacaoEmBlocos) {
+            VegetacaoEmBlocos emBlocos = (VegetacaoEmBlocos) outra;
+            creditoAtual = emBlocos.creditoAtual;
+            for (int b = 0; b < creditoAoComer.length; b++) {
+                liberar(b);
+                int[] fonte = emBlocos.creditoAoComer[b];
+                if (fonte != null) {
+                    int[] copia = blocosLivres.isEmpty() ? new int[fonte.length] : blocosLivres.pop();
+                    System.arraycopy(fonte, 0, copia, 0, fonte.length);
+                    creditoAoComer[b] = copia;
+                    ultimoCreditoDoBloco[b] = emBlocos.ultimoCreditoDoBloco[b];
+                }
+            }
+            return;
+        }
+        for (int b = 0; b < creditoAoComer.length; b++) {
+            liberar(b);
+        }
+        for (int i = 0; i < tamanho; i++) {
+            int nivel = outra.getNivelCrescimento(i);
+            if (nivel < maxCrescimento) {
+                int linha = i / largura;
+                int coluna = i - linha * largura;
+                int numeroBloco = CampoEmBlocos.blocoDe(linha, coluna, blocosPorLinha);
+                if (creditoAoComer[numeroBloco] == null) {
+                    alocar(numeroBloco);
+                }
+                creditoAoComer[numeroBloco][CampoEmBlocos.celulaDe(linha, coluna)] = creditoAtual - nivel;
+                ultimoCreditoDoBloco[numeroBloco] = creditoAtual;
+            }
+        }
+    }
+
+    // ========== MÉTODOS AUXILIARES ==========
+
+    /**
+     * Retorna o array de um bloco, liberando-o antes se o bloco inteiro já
+     * voltou a amadurecer.
+     *
+     * @param numeroBloco Número do bloco
+     * @return Array do bloco, ou null se o bloco é uniformemente maduro
+     */
+    private int[] blocoPastado(int numeroBloco) {
+        int[] bloco = creditoAoComer[numeroBloco];
+        if (bloco != null && creditoAtual - ultimoCreditoDoBloco[numeroBloco] >= maxCrescimento) {
+            liberar(numeroBloco);
+            return null;
+        }
+        return bloco;
+    }
+
+    /**
+     * Dá a um bloco uniforme um array próprio, com todas as células maduras.
+     *
+     * @param numeroBloco Número do bloco
+     * @return Array alocado (ou reaproveitado) para o bloco
+     */
+    private int[] alocar(int numeroBloco) {
+        int[] bloco = blocosLivres.isEmpty() ? new int[CampoEmBlocos.CELULAS_POR_BLOCO] : blocosLivres.pop();
+        Arrays.fill(bloco, -maxCrescimento);
+        creditoAoComer[numeroBloco] = bloco;
+        return bloco;
+    }
+
+    /**
+     * Devolve o array de um bloco ao conjunto de reaproveitamento.
+     *
+     * @param numeroBloco Número do bloco
+     */
+    private void liberar(int numeroBloco) {
+        int[] bloco = creditoAoComer[numeroBloco];
+        if (bloco != null) {
+            creditoAoComer[numeroBloco] = null;
+            blocosLivres.push(bloco);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/**
+ * Camada de vegetação guardada fora do heap, em uma {@link MemoriaMapeada}.
+ * <p>
+ * Usa o mesmo modelo de {@link VegetacaoPreguicosa}: um crédito global de
+ * crescimento e, por célula, o crédito no momento em que a grama foi comida.
+ * O crédito global também é gravado no cabeçalho do arquivo, de modo que a
+ * imagem em disco sempre descreve um estado completo da vegetação.
+ * </p>
+ * <p>
+ * Cada célula guarda o crédito ao ser comida somado a
+ * {@link ParametrosSimulacao#getMaxCrescimento()}, para que uma região
+ * zerada (arquivo novo) já represente grama madura em todo o mundo, sem
+ * preenchimento.
+ * </p>
+ * <p>
+ * As posições são {@code long} e há versões de {@link #getNivelCrescimento},
+ * {@link #estaMadura} e {@link #comer} com índice {@code long}, para mundos
+ * com mais de {@link Integer#MAX_VALUE} células; as da interface
+ * {@link CamadaVegetacao} delegam a elas.
+ * </p>
+ *
+ * @author Grupo 10
+ * @version 1.0
+ * @see CamadaVegetacao
+ * @see VegetacaoPreguicosa
+ * @see CampoMapeado
+ */
+public class VegetacaoMapeada implements CamadaVegetacao {
+
+    // ========== ATRIBUTOS ==========
+
+    /**
+     * Memória onde a camada está gravada.
+     */
+    private final MemoriaMapeada memoria;
+
+    /**
+     * Posição do crédito global no cabeçalho.
+     */
+    private final long posicaoCredito;
+
+    /**
+     * Posição do valor da célula 0; a célula {@code i} fica em
+     * {@code inicio + 4 * i}.
+     */
+    private final long inicio;
+
+    /**
+     * Número de células.
+     */
+    private final long tamanho;
+
+    /**
+     * Cópia em memória do crédito global gravado em {@link #posicaoCredito}.
+     */
+    private int creditoAtual;
+
+    /**
+     * Nível em que a grama fica madura.
+     */
+    private final int maxCrescimento;
+
+    /**
+     * Alimento obtido ao comer grama madura.
+     */
+    private final int valorNutricional;
+
+    // ========== CONSTRUTOR ==========
+
+    /**
+     * Cria a camada sobre uma região da memória mapeada, continuando o
+     * estado gravado nela (uma região zerada é um mundo todo maduro).
+     *
+     * @param memoria        Memória mapeada do mundo
+     * @param posicaoCredito Posição do crédito global
+     * @param inicio         Posição do valor da primeira célula
+     * @param tamanho        Número de células
+     * @param parametros     Parâmetros de crescimento e valor nutricional
+     */
+    public VegetacaoMapeada(MemoriaMapeada memoria, long posicaoCredito, long inicio, long tamanho, ParametrosSimulacao parametros) {
+        this.maxCrescimento = parametros.getMaxCrescimento();
+        this.valorNutricional = parametros.getValorNutricionalGrama();
+        this.memoria = memoria;
+        this.posicaoCredito = posicaoCredito;
+        this.inicio = inicio;
+        this.tamanho = tamanho;
+        this.creditoAtual = memoria.lerInt(posicaoCredito);
+    }
+
+    /**
+     * Cria a camada sobre uma região da memória mapeada, continuando o
+     * estado gravado nela (uma região zerada é um mundo todo maduro).
+     * <p>
+     * Usa os parâmetros padrão ({@link ParametrosSimulacao#padrao()}).
+     * </p>
+     *
+     * @param memoria        Memória mapeada do mundo
+     * @param posicaoCredito Posição do crédito global
+     * @param inicio         Posição do valor da primeira célula
+     * @param tamanho        Número de células
+     */
+    public VegetacaoMapeada(MemoriaMapeada memoria, long posicaoCredito, long inicio, long tamanho) {
+        this(memoria, posicaoCredito, inicio, tamanho, ParametrosSimulacao.padrao());
+    }
+
+    // ========== MÉTODOS DE CRESCIMENTO ==========
+
+    @Override
+    public void crescer() {
+        creditoAtual++;
+        memoria.gravarInt(posicaoCredito, creditoAtual);
+    }
+
+    /**
+     * Não tem efeito neste modelo: células sob obstáculos nunca são comidas.
+     *
+     * @param indice Índice plano da célula
+     */
+    @Override
+    public void bloquearCrescimento(int indice) {
+    }
+
+    // ========== MÉTODOS DE CONSULTA ==========
+
+    @Override
+    public int getNivelCrescimento(int indice) {
+        return getNivelCrescimento((long) indice);
+    }
+
+    /**
+     * Retorna o nível de crescimento de uma célula dada por índice
+     * {@code long}.
+     *
+     * @param indice Índice plano da célula
+     * @return Nível entre 0 e o máximo de crescimento
+     */
+    public int getNivelCrescimento(long indice) {
+        return Math.min(nivelSemLimite(indice), maxCrescimento);
+    }
+
+    @Override
+    public boolean estaMadura(int indice) {
+        return estaMadura((long) indice);
+    }
+
+    /**
+     * Verifica se a grama de uma célula dada por índice {@code long} está
+     * madura.
+     *
+     * @param indice Índice plano da célula
+     * @return true se a grama pode ser comida
+     */
+    public boolean estaMadura(long indice) {
+        return nivelSemLimite(indice) >= maxCrescimento;
+    }
+
+    /**
+     * Calcula o crescimento acumulado desde que a célula foi comida.
+     *
+     * @param indice Índice plano da célula
+     * @return Níveis acumulados, sem o limite máximo
+     */
+    private int nivelSemLimite(long indice) {
+        int creditoAoComer = memoria.lerInt(inicio + 4L * indice) - maxCrescimento;
+        return creditoAtual - creditoAoComer;
+    }
+
+    // ========== MÉTODOS DE INTERAÇÃO ==========
+
+    @Override
+    public int comer(int indice) {
+        return comer((long) indice);
+    }
+
+    /**
+     * Come a grama de uma célula dada por índice {@code long}, se estiver
+     * madura.
+     *
+     * @param indice Índice plano da célula
+     * @return Valor nutricional obtido, ou 0 se a grama não estava madura
+     */
+    public int comer(long indice) {
+        if (estaMadura(indice)) {
+            memoria.gravarInt(inicio + 4L * indice, creditoAtual + maxCrescimento);
+            return valorNutricional;
+        }
+        return 0;
+    }
+
+    /**
+     * Copia o estado de outra camada de mesmo tamanho, a partir dos níveis
+     * de cada célula.
+     *
+     * @param outra Camada fonte
+     */
+    @Override
+    public void copiarDe(CamadaVegetacao outra) {
+        if (outra == this) {
+            return;
+        }
+        VegetacaoMapeada mapeada = outra instanceof VegetacaoMapeada ? (VegetacaoMapeada) outra : null;
+        for (long i = 0; i < tamanho; i++) {
+            int nivel = mapeada != null ? mapeada.getNivelCrescimento(i) : outra.getNivelCrescimento((int) i);
+            int creditoAoComer = creditoAtual - nivel;
+            memoria.gravarInt(inicio + 4L * i, creditoAoComer + maxCrescimento);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+import java.util.Arrays;
+
+/**
+ * Camada de vegetação (grama) de um mundo com crescimento calculado sob
+ * demanda.
+ * <p>
+ * Em vez de avançar o nível de cada célula a cada turno, a camada guarda um
+ * único contador global de crescimento acumulado e, por célula, o valor
+ * desse contador no momento em que a grama foi comida. O nível de uma
+ * célula é a diferença entre os dois, limitada a
+ * {@link ParametrosSimulacao#getMaxCrescimento()}.
+ * </p>
+ *
+ * <p>
+ * <strong>Ciclo de vida da vegetação:</strong>
+ * </p>
+ * <ol>
+ * <li>Inicia em estado maduro (totalmente crescida)</li>
+ * <li>Quando consumida, retorna ao nível 0 de crescimento</li>
+ * <li>Cada chamada a {@link #crescer()} avança um nível em todas as células
+ * (duas chamadas por turno em clima chuvoso)</li>
+ * <li>Apenas vegetação madura pode ser consumida</li>
+ * </ol>
+ *
+ * <p>
+ * <strong>Custo:</strong>
+ * </p>
+ * <ul>
+ * <li>{@link #crescer()}: O(1), independente do tamanho do mapa</li>
+ * <li>{@link #estaMadura(int)} e {@link #comer(int)}: O(1) por célula</li>
+ * </ul>
+ *
+ * <p>
+ * Células sob obstáculos nunca são comidas e por isso permanecem maduras,
+ * exatamente como no modelo em que o crescimento é pulado sob obstáculos.
+ * </p>
+ *
+ * @author Grupo 10
+ * @version 1.0
+ * @see CamadaVegetacao
+ * @see Campo
+ * @see ParametrosSimulacao
+ * @see Clima
+ */
+public class VegetacaoPreguicosa implements CamadaVegetacao {
+
+    // ========== ATRIBUTOS ==========
+
+    /**
+     * Total de níveis de crescimento acumulados desde a criação da camada.
+     * <p>
+     * Incrementado uma vez por chamada a {@link #crescer()}, de modo que o
+     * crescimento extra do clima chuvoso entra como crédito adicional.
+     * </p>
+     */
+    private int creditoAtual;
+
+    /**
+     * Valor de {@link #creditoAtual} no momento em que cada célula foi
+     * comida, indexado pelo índice plano da célula.
+     */
+    private final int[] creditoAoComer;
+
+    /**
+     * Nível em que a grama fica madura.
+     */
+    private final int maxCrescimento;
+
+    /**
+     * Alimento obtido ao comer grama madura.
+     */
+    private final int valorNutricional;
+
+    // ========== CONSTRUTOR ==========
+
+    /**
+     * Cria a camada de vegetação de um mundo, com todas as células maduras.
+     *
+     * @param profundidade Número de linhas do mundo
+     * @param largura      Número de colunas do mundo
+     * @param parametros   Parâmetros de crescimento e valor nutricional
+     */
+    public VegetacaoPreguicosa(int profundidade, int largura, ParametrosSimulacao parametros) {
+        this.maxCrescimento = parametros.getMaxCrescimento();
+        this.valorNutricional = parametros.getValorNutricionalGrama();
+        creditoAtual = 0;
+        creditoAoComer = new int[profundidade * largura];
+        Arrays.fill(creditoAoComer, -maxCrescimento);
+    }
+
+    /**
+     * Cria a camada de vegetação de um mundo, com todas as células maduras.
+     * <p>
+     * Usa os parâmetros padrão ({@link ParametrosSimulacao#padrao()}).
+     * </p>
+     *
+     * @param profundidade Número de linhas do mundo
+     * @param largura      Número de colunas do mundo
+     */
+    public VegetacaoPreguicosa(int profundidade, int largura) {
+        this(profundidade, largura, ParametrosSimulacao.padrao());
+    }
+
+    // ========== MÉTODOS DE CRESCIMENTO ==========
+
+    /**
+     * Avança um nível de crescimento em todo o mundo.
+     * <p>
+     * Apenas incrementa o crédito global; os níveis individuais são
+     * derivados dele quando consultados.
+     * </p>
+     */
+    @Override
+    public void crescer() {
+        creditoAtual++;
+    }
+
+    /**
+     * Não tem efeito neste modelo.
+     * <p>
+     * Células sob obstáculos nunca são comidas e, por isso, permanecem no
+     * nível máximo sem precisar de máscara.
+     * </p>
+     *
+     * @param indice Índice plano da célula
+     */
+    @Override
+    public void bloquearCrescimento(int indice) {
+    }
+
+    // ========== MÉTODOS DE CONSULTA ==========
+
+    /**
+     * Retorna o nível de crescimento atual de uma célula.
+     *
+     * @param indice Índice plano da célula
+     * @return Nível entre 0 e {@link ParametrosSimulacao#getMaxCrescimento()}
+     */
+    @Override
+    public int getNivelCrescimento(int indice) {
+        return Math.min(creditoAtual - creditoAoComer[indice], maxCrescimento);
+    }
+
+    /**
+     * Verifica se a grama de uma célula está madura.
+     *
+     * @param indice Índice plano da célula
+     * @return true se a célula atingiu o nível máximo de crescimento
+     */
+    @Override
+    public boolean estaMadura(int indice) {
+        return creditoAtual - creditoAoComer[indice] >= maxCrescimento;
+    }
+
+    // ========== MÉTODOS DE INTERAÇÃO ==========
+
+    /**
+     * Tenta consumir a grama de uma célula.
+     * <p>
+     * Se madura, a célula volta ao nível 0 registrando o crédito atual.
+     * </p>
+     *
+     * @param indice Índice plano da célula
+     * @return {@link ParametrosSimulacao#getValorNutricionalGrama()} se havia grama madura, 0
+     *         caso contrário
+     */
+    @Override
+    public int comer(int indice) {
+        if (estaMadura(indice)) {
+            creditoAoComer[indice] = creditoAtual;
+            return valorNutricional;
+        }
+        return 0;
+    }
+
+    /**
+     * Copia o estado de outra camada de mesmo tamanho.
+     * <p>
+     * Só é necessário quando os campos não compartilham a mesma camada. Uma
+     * camada de outro tipo é convertida a partir dos níveis de cada célula.
+     * </p>
+     *
+     * @param outra Camada fonte
+     */
+    @Override
+    public void copiarDe(CamadaVegetacao outra) {
+        if (outra == this) {
+            return;
+        }
+        if (outra instanceof VegetacaoPreguicosa) {
+            VegetacaoPreguicosa preguicosa = (VegetacaoPreguicosa) outra;
+            creditoAtual = preguicosa.creditoAtual;
+            System.arraycopy(preguicosa.creditoAoComer, 0, creditoAoComer, 0, creditoAoComer.length);
+            return;
+        }
+        for (int i = 0; i < creditoAoComer.length; i++) {
+            creditoAoComer[i] = creditoAtual - outra.getNivelCrescimento(i);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/**
+ * Interface funcional para percorrer as células vizinhas de uma posição sem
+ * criar objetos.
+ * <p>
+ * É usada por {@link CampoInterativo#visitarAdjacentes(Localizacao,
+ * VisitanteVizinhanca)}, que entrega ao visitante o índice plano de cada
+ * vizinha ({@code linha * largura + coluna}) em ordem aleatória uniforme. A
+ * visita termina assim que o visitante aceita uma célula.
+ * </p>
+ *
+ * <p>
+ * <strong>Uso sem alocação:</strong>
+ * </p>
+ * <p>
+ * Lambdas que não capturam variáveis e referências a métodos estáticos são
+ * instanciadas uma única vez pela JVM. Visitantes que dependem do estado de
+ * um ator (como a dieta de um predador) devem ser guardados em um campo do
+ * próprio ator, e não recriados a cada chamada.
+ * </p>
+ *
+ * <pre>
+ * VisitanteVizinhanca livre = (campo, indice) -&gt; campo.getObjetoNoIndice(indice) == null;
+ * long destino = campo.visitarAdjacentes(posicao, livre);
+ * </pre>
+ *
+ * @author Grupo 10
+ * @version 1.0
+ * @see CampoInterativo
+ * @see Campo
+ */
+@FunctionalInterface
+public interface VisitanteVizinhanca {
+
+    /**
+     * Avalia uma célula vizinha.
+     *
+     * @param campo  Campo que está sendo percorrido
+     * @param indice Índice plano da célula vizinha
+     * @return true para aceitar a célula e encerrar a visita, false para
+     *         continuar com a próxima vizinha
+     */
+    boolean visitar(CampoInterativo campo, long indice);
+}
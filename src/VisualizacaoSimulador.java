@@ -1,9 +1,13 @@
 import java.awt.*;
 import java.awt.event.ActionListener;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.util.ArrayList;
@@ -26,12 +30,27 @@ import java.util.List;
  * de simulação da apresentação visual, comunicando-se através da interface
  * {@link Desenhavel} e {@link GradeVisualizavel}.
  * </p>
+ * <p>
+ * <strong>Threads:</strong>
+ * </p>
+ * <p>
+ * Os métodos de {@link Desenhavel} são chamados pela thread da simulação e
+ * não tocam em componentes Swing.
+ * {@link #mostrarStatus(int, GradeVisualizavel, int[], boolean)} apenas
+ * captura um {@link QuadroCampo} e o publica em um {@link BufferTriplo}; um
+ * {@link javax.swing.Timer} na thread de eventos desenha o quadro mais
+ * recente {@link Configuracao#QUADROS_POR_SEGUNDO} vezes por segundo. Assim
+ * a simulação não espera o desenho, e o desenho não lê o campo enquanto ele
+ * muda. Enquanto o último quadro publicado não é desenhado, os passos
+ * seguintes não varrem o campo: seriam descartados de qualquer forma.
+ * </p>
  * 
  * @author Grupo 10
  * @version 1.0
  * @see Desenhavel
  * @see GradeVisualizavel
  * @see EstatisticasCampo
+ * @see QuadroCampo
  */
 public class VisualizacaoSimulador extends JFrame implements Desenhavel {
 
@@ -103,7 +122,13 @@ public class VisualizacaoSimulador extends JFrame implements Desenhavel {
      * </ul>
      * </p>
      */
-    private HashMap<Object, Color> mapaDeCores;
+    private Map<Object, Color> mapaDeCores;
+
+    /**
+     * Incrementada a cada {@link #definirCor(Object, Color)}, para que a
+     * paleta seja refeita na thread de eventos.
+     */
+    private volatile int versaoCores;
 
     /**
      * Gerenciador de estatísticas populacionais do campo.
@@ -119,6 +144,48 @@ public class VisualizacaoSimulador extends JFrame implements Desenhavel {
      */
     private Set<Class<?>> classesIgnoradasNaContagem;
 
+    // ========== TROCA DE QUADROS ==========
+
+    /**
+     * Quadros capturados pela simulação e desenhados pela thread de eventos.
+     */
+    private BufferTriplo<QuadroCampo> quadros;
+
+    /**
+     * Dispara o desenho do quadro mais recente na thread de eventos.
+     */
+    private javax.swing.Timer temporizador;
+
+    /**
+     * Texto do clima informado pela simulação, levado no próximo quadro.
+     */
+    private String textoClima;
+
+    /**
+     * Estado de chuva informado pela simulação, levado no próximo quadro.
+     */
+    private boolean chuvoso;
+
+    /**
+     * Cor (RGB) de cada código de célula; só a thread de eventos acessa.
+     */
+    private int[] paleta;
+
+    /**
+     * Valor de {@link #versaoCores} quando a paleta foi montada.
+     */
+    private int versaoPaleta;
+
+    /**
+     * Número de espécies registradas quando a paleta foi montada.
+     */
+    private int especiesNaPaleta;
+
+    /**
+     * Texto do clima exibido no rótulo, para só alterá-lo quando muda.
+     */
+    private String climaExibido;
+
     // ========== CONSTRUTOR ==========
 
     /**
@@ -140,12 +207,17 @@ public class VisualizacaoSimulador extends JFrame implements Desenhavel {
      */
     public VisualizacaoSimulador(int altura, int largura, EstatisticasCampo estatisticas) {
         this.estatisticas = estatisticas;
-        this.mapaDeCores = new HashMap<>();
+        this.mapaDeCores = new ConcurrentHashMap<>();
         this.classesIgnoradasNaContagem = new HashSet<>();
+        this.quadros = new BufferTriplo<QuadroCampo>(QuadroCampo::new);
 
         configurarJanela();
         criarComponentes(altura, largura);
         setVisible(true);
+
+        temporizador = new javax.swing.Timer(1000 / Math.max(1, Configuracao.QUADROS_POR_SEGUNDO),
+                e -> desenharUltimoQuadro());
+        temporizador.start();
     }
 
     // ========== MÉTODOS DE CONFIGURAÇÃO DA INTERFACE ==========
@@ -256,33 +328,61 @@ public class VisualizacaoSimulador extends JFrame implements Desenhavel {
     // ========== MÉTODOS DE RENDERIZAÇÃO ==========
 
     /**
-     * Percorre e desenha todos os elementos do campo de simulação.
+     * Desenha o quadro publicado mais recente, se houver um novo.
      * <p>
-     * Para cada célula do campo:
-     * <ol>
-     * <li>Verifica se contém um agente (objeto)</li>
-     * <li>Define cor do agente ou cor do terreno (grama)</li>
-     * <li>Desenha o pixel correspondente</li>
-     * </ol>
+     * Executado pelo {@link #temporizador} na thread de eventos. Atualiza
+     * passo, clima, legenda e campo a partir do quadro, sem consultar a
+     * simulação.
      * </p>
-     * 
-     * @param grade Interface de acesso aos dados do campo
      */
-    private void desenharCampo(GradeVisualizavel grade) {
-        for (int linha = 0; linha < grade.getProfundidade(); linha++) {
-            for (int coluna = 0; coluna < grade.getLargura(); coluna++) {
-                Object objeto = grade.getObjetoEm(linha, coluna);
-                Color corPixel;
+    private void desenharUltimoQuadro() {
+        QuadroCampo quadro = quadros.consumir();
+        if (quadro == null) {
+            return;
+        }
+        if (!isVisible())
+            setVisible(true);
 
-                if (objeto != null) {
-                    corPixel = determinarCorAgente(objeto);
-                } else {
-                    corPixel = grade.temGramaMadura(linha, coluna) ? COR_GRAMA_MADURA : COR_GRAMA_NOVA;
-                }
+        rotuloPasso.setText(PREFIXO_PASSO + quadro.getPasso());
+        if (quadro.getTextoClima() != null && !quadro.getTextoClima().equals(climaExibido)) {
+            aplicarClima(quadro.getTextoClima(), quadro.estaChuvoso());
+        }
 
-                visaoCampo.desenharMarca(coluna, linha, corPixel);
+        painelLegenda.atualizarDados(quadro, mapaDeCores);
+
+        atualizarPaleta();
+        visaoCampo.desenharQuadro(quadro, paleta);
+    }
+
+    /**
+     * Monta a paleta de códigos de célula, se as cores ou as espécies
+     * mudaram desde a última montagem.
+     */
+    private void atualizarPaleta() {
+        int versao = versaoCores;
+        int especies = RegistroEspecies.quantidade();
+        if (paleta != null && versao == versaoPaleta && especies == especiesNaPaleta) {
+            return;
+        }
+
+        int[] nova = new int[QuadroCampo.QUANTIDADE_CODIGOS];
+        Arrays.fill(nova, COR_DESCONHECIDA.getRGB());
+        nova[QuadroCampo.CODIGO_GRAMA_NOVA] = COR_GRAMA_NOVA.getRGB();
+        nova[QuadroCampo.CODIGO_GRAMA_MADURA] = COR_GRAMA_MADURA.getRGB();
+        for (Obstaculo obstaculo : Obstaculo.values()) {
+            nova[QuadroCampo.codigoDoObstaculo(obstaculo)] = determinarCorAgente(obstaculo, Obstaculo.class).getRGB();
+        }
+        for (int especie = 0; especie < especies; especie++) {
+            int codigo = QuadroCampo.codigoDaEspecie(especie);
+            Class<?> classe = RegistroEspecies.classeDe(especie);
+            if (codigo != QuadroCampo.CODIGO_DESCONHECIDO && classe != Obstaculo.class) {
+                nova[codigo] = determinarCorAgente(classe, classe).getRGB();
             }
         }
+
+        paleta = nova;
+        versaoPaleta = versao;
+        especiesNaPaleta = especies;
     }
 
     /**
@@ -297,15 +397,16 @@ public class VisualizacaoSimulador extends JFrame implements Desenhavel {
      * </p>
      * 
      * @param objeto Agente ou elemento do campo
+     * @param classe Classe do objeto
      * @return Cor associada ao objeto ou cor padrão para desconhecidos
      */
-    private Color determinarCorAgente(Object objeto) {
+    private Color determinarCorAgente(Object objeto, Class<?> classe) {
         Color cor = mapaDeCores.get(objeto);
         if (cor != null) {
             return cor;
         }
 
-        cor = mapaDeCores.get(objeto.getClass());
+        cor = mapaDeCores.get(classe);
         if (cor != null) {
             return cor;
         }
@@ -313,29 +414,61 @@ public class VisualizacaoSimulador extends JFrame implements Desenhavel {
         return COR_DESCONHECIDA;
     }
 
-    // ========== MÉTODOS DE GERENCIAMENTO DE DADOS ==========
-
     /**
-     * Coleta estatísticas populacionais do campo atual.
+     * Ajusta o visual do rótulo de clima (thread de eventos).
      * <p>
-     * Percorre todas as células e incrementa contadores para cada tipo de agente,
-     * ignorando classes marcadas em {@link #classesIgnoradasNaContagem}.
+     * <ul>
+     * <li>Chuvoso: fundo azul escuro, texto branco, ícone de informação</li>
+     * <li>Normal: fundo amarelo claro, texto preto, ícone de aviso</li>
+     * </ul>
      * </p>
      * 
-     * @param grade Interface de acesso aos dados do campo
+     * @param texto   Descrição textual do clima
+     * @param chuvoso true se está chovendo, false caso contrário
      */
-    private void coletarEstatisticas(GradeVisualizavel grade) {
-        for (int linha = 0; linha < grade.getProfundidade(); linha++) {
-            for (int coluna = 0; coluna < grade.getLargura(); coluna++) {
-                Object objeto = grade.getObjetoEm(linha, coluna);
+    private void aplicarClima(String texto, boolean chuvoso) {
+        climaExibido = texto;
+        rotuloClima.setText(texto);
+        if (chuvoso) {
+            rotuloClima.setBackground(new Color(70, 130, 180));
+            rotuloClima.setForeground(Color.WHITE);
+            rotuloClima.setIcon(UIManager.getIcon("OptionPane.informationIcon"));
+        } else {
+            rotuloClima.setBackground(new Color(255, 255, 224));
+            rotuloClima.setForeground(Color.BLACK);
+            rotuloClima.setIcon(UIManager.getIcon("OptionPane.warningIcon"));
+        }
+    }
 
-                if (objeto != null && !classesIgnoradasNaContagem.contains(objeto.getClass())) {
-                    estatisticas.incrementarContagem(objeto.getClass());
-                }
-            }
+    /**
+     * Executa uma alteração de componentes na thread de eventos.
+     * 
+     * @param acao Alteração a executar
+     */
+    private void naThreadDeEventos(Runnable acao) {
+        if (SwingUtilities.isEventDispatchThread()) {
+            acao.run();
+        } else {
+            SwingUtilities.invokeLater(acao);
         }
     }
 
+    // ========== MÉTODOS DE GERENCIAMENTO DE DADOS ==========
+
+    /**
+     * Atualiza as estatísticas populacionais a partir da contagem do motor.
+     * <p>
+     * Ignora classes marcadas em {@link #classesIgnoradasNaContagem}.
+     * </p>
+     * 
+     * @param populacao População de cada espécie, indexada pelo ordinal
+     */
+    private void coletarEstatisticas(int[] populacao) {
+        estatisticas.reiniciar();
+        estatisticas.contarHistograma(populacao, classesIgnoradasNaContagem);
+        estatisticas.contagemConcluida();
+    }
+
     /**
      * Adiciona uma classe para ser ignorada nas estatísticas populacionais.
      * <p>
@@ -345,43 +478,45 @@ public class VisualizacaoSimulador extends JFrame implements Desenhavel {
      * 
      * @param classe Classe do elemento a ser ignorado nas contagens
      */
-    public void adicionarClasseIgnorada(Class<?> classe) {
+    public synchronized void adicionarClasseIgnorada(Class<?> classe) {
         classesIgnoradasNaContagem.add(classe);
     }
 
     // ========== IMPLEMENTAÇÃO DA INTERFACE DESENHAVEL ==========
 
     /**
-     * Atualiza a visualização completa da simulação.
+     * Publica o estado do passo atual para ser desenhado.
      * <p>
-     * Processo de atualização:
+     * Processo de atualização (na thread da simulação):
      * <ol>
-     * <li>Atualiza número do passo</li>
-     * <li>Coleta estatísticas populacionais</li>
-     * <li>Atualiza legenda com novos dados</li>
-     * <li>Renderiza o campo visual</li>
+     * <li>Atualiza as estatísticas populacionais com a contagem do
+     * motor</li>
+     * <li>Se o quadro anterior já foi desenhado (ou {@code obrigatorio}),
+     * captura passo, clima, células e populações em um
+     * {@link QuadroCampo}</li>
+     * <li>Publica o quadro no {@link BufferTriplo}</li>
      * </ol>
+     * O desenho acontece depois, na thread de eventos. Os passos que chegam
+     * antes do desenho do quadro anterior não são capturados; o estado em
+     * que a simulação para chega com {@code obrigatorio} e sempre aparece.
      * </p>
      * 
-     * @param passo Número do passo atual da simulação
-     * @param grade Interface de acesso aos dados do campo
+     * @param passo       Número do passo atual da simulação
+     * @param grade       Interface de acesso aos dados do campo
+     * @param populacao   População de cada espécie, indexada pelo ordinal
+     * @param obrigatorio Se o quadro deve ser capturado mesmo que o
+     *                    anterior ainda não tenha sido desenhado
      */
     @Override
-    public void mostrarStatus(int passo, GradeVisualizavel grade) {
-        if (!isVisible())
-            setVisible(true);
-
-        rotuloPasso.setText(PREFIXO_PASSO + passo);
-
-        estatisticas.reiniciar();
-        coletarEstatisticas(grade);
-        estatisticas.contagemConcluida();
-
-        painelLegenda.atualizarDados(estatisticas, mapaDeCores);
-
-        visaoCampo.prepararPintura();
-        desenharCampo(grade);
-        visaoCampo.repaint();
+    public synchronized void mostrarStatus(int passo, GradeVisualizavel grade, int[] populacao,
+            boolean obrigatorio) {
+        coletarEstatisticas(populacao);
+        if (!obrigatorio && !quadros.ultimoFoiConsumido()) {
+            return;
+        }
+        QuadroCampo quadro = quadros.paraEscrita();
+        quadro.capturar(passo, grade, populacao, textoClima, chuvoso);
+        quadros.publicar();
     }
 
     /**
@@ -399,33 +534,24 @@ public class VisualizacaoSimulador extends JFrame implements Desenhavel {
      */
     public void definirCor(Object chave, Color cor) {
         mapaDeCores.put(chave, cor);
+        versaoCores++;
     }
 
     /**
      * Atualiza as informações climáticas na interface.
      * <p>
-     * Ajusta o visual do rótulo de clima baseado no estado:
-     * <ul>
-     * <li>Chuvoso: fundo azul escuro, texto branco, ícone de informação</li>
-     * <li>Normal: fundo amarelo claro, texto preto, ícone de aviso</li>
-     * </ul>
+     * O clima é guardado e levado no próximo quadro publicado por
+     * {@link #mostrarStatus(int, GradeVisualizavel, int[], boolean)}; o
+     * rótulo muda quando o quadro é desenhado (ver {@link #aplicarClima(String, boolean)}).
      * </p>
      * 
      * @param texto   Descrição textual do clima (ex: "Clima: CHUVA")
      * @param chuvoso true se está chovendo, false caso contrário
      */
     @Override
-    public void setInfoClima(String texto, boolean chuvoso) {
-        rotuloClima.setText(texto);
-        if (chuvoso) {
-            rotuloClima.setBackground(new Color(70, 130, 180));
-            rotuloClima.setForeground(Color.WHITE);
-            rotuloClima.setIcon(UIManager.getIcon("OptionPane.informationIcon"));
-        } else {
-            rotuloClima.setBackground(new Color(255, 255, 224));
-            rotuloClima.setForeground(Color.BLACK);
-            rotuloClima.setIcon(UIManager.getIcon("OptionPane.warningIcon"));
-        }
+    public synchronized void setInfoClima(String texto, boolean chuvoso) {
+        this.textoClima = texto;
+        this.chuvoso = chuvoso;
     }
 
     /**
@@ -477,42 +603,47 @@ public class VisualizacaoSimulador extends JFrame implements Desenhavel {
      */
     @Override
     public void setTextoBotaoPausa(String texto) {
-        botaoPausar.setText(texto);
+        naThreadDeEventos(() -> botaoPausar.setText(texto));
     }
 
     /**
      * Verifica se a simulação é viável com base nas estatísticas atuais.
      * <p>
-     * Delega a verificação para o objeto de estatísticas.
+     * Delega a verificação para o objeto de estatísticas, atualizado no
+     * último {@link #mostrarStatus(int, GradeVisualizavel, int[], boolean)}.
      * </p>
      * 
      * @param grade Interface de acesso aos dados do campo
      * @return true se a simulação pode continuar, false caso contrário
      */
     @Override
-    public boolean ehViavel(GradeVisualizavel grade) {
+    public synchronized boolean ehViavel(GradeVisualizavel grade) {
         return estatisticas.ehViavel(grade);
     }
 
     /**
      * Reinicia o estado visual da simulação.
      * <p>
-     * Limpa estatísticas e prepara a área de desenho para nova simulação.
+     * Limpa as estatísticas; a área de desenho é refeita pelo próximo
+     * quadro publicado.
      * </p>
      */
     @Override
-    public void reiniciar() {
+    public synchronized void reiniciar() {
         estatisticas.reiniciar();
-        visaoCampo.prepararPintura();
-        visaoCampo.repaint();
     }
 
     /**
      * Fecha a janela de visualização e libera recursos do sistema.
+     * <p>
+     * Para o {@link #temporizador}; quadros publicados depois disso não são
+     * desenhados.
+     * </p>
      */
     @Override
     public void fechar() {
-        dispose();
+        temporizador.stop();
+        naThreadDeEventos(this::dispose);
     }
 
     // ========== CLASSE INTERNA: PAINEL DE LEGENDA ==========
@@ -563,17 +694,17 @@ public class VisualizacaoSimulador extends JFrame implements Desenhavel {
          * (ignora objetos individuais como enums para a contagem).
          * </p>
          * 
-         * @param stats Objeto com estatísticas populacionais atualizadas
-         * @param cores Mapa de cores atualizado
+         * @param quadro Quadro com as populações do passo desenhado
+         * @param cores  Mapa de cores atualizado
          */
-        public void atualizarDados(EstatisticasCampo stats, Map<Object, Color> cores) {
+        public void atualizarDados(QuadroCampo quadro, Map<Object, Color> cores) {
             this.coresAtuais = new HashMap<>(cores);
             this.contagensAtuais.clear();
 
             for (Object chave : coresAtuais.keySet()) {
                 if (chave instanceof Class<?>) {
                     Class<?> classe = (Class<?>) chave;
-                    int count = stats.getContagem(classe);
+                    int count = quadro.getPopulacao(RegistroEspecies.ordinalDe(classe));
                     contagensAtuais.put(chave, count);
                 }
             }
@@ -668,11 +799,11 @@ public class VisualizacaoSimulador extends JFrame implements Desenhavel {
     /**
      * Componente Swing que renderiza o campo de simulação como imagem.
      * <p>
-     * Implementa double buffering para renderização suave:
-     * <ol>
-     * <li>Desenha em uma imagem off-screen ({@link #imagemCampo})</li>
-     * <li>Transfere a imagem completa para a tela de uma vez</li>
-     * </ol>
+     * O campo é mantido em uma imagem off-screen ({@link #imagemCampo}) com
+     * um pixel por célula, preenchida a partir dos códigos do
+     * {@link QuadroCampo} e de uma paleta. Na pintura a imagem é ampliada
+     * para o tamanho do componente e as linhas de separação entre células
+     * são desenhadas por cima.
      * </p>
      * <p>
      * Cada célula do campo lógico é representada por um retângulo colorido,
@@ -698,29 +829,19 @@ public class VisualizacaoSimulador extends JFrame implements Desenhavel {
         private int alturaGrade;
 
         /**
-         * Escala horizontal atual (pixels por célula).
-         */
-        private int escalaX;
-
-        /**
-         * Escala vertical atual (pixels por célula).
-         */
-        private int escalaY;
-
-        /**
-         * Tamanho atual do componente, usado para detectar redimensionamento.
+         * Imagem off-screen com um pixel por célula.
          */
-        private Dimension tamanho;
+        private BufferedImage imagemCampo;
 
         /**
-         * Contexto gráfico da imagem off-screen para double buffering.
+         * Pixels (RGB) de {@link #imagemCampo}, linha a linha.
          */
-        private Graphics gOffScreen;
+        private int[] pixels;
 
         /**
-         * Imagem off-screen onde o campo é desenhado antes de aparecer na tela.
+         * Se algum quadro já foi desenhado na imagem.
          */
-        private Image imagemCampo;
+        private boolean desenhado;
 
         /**
          * Constrói a visão do campo com dimensões especificadas.
@@ -731,7 +852,8 @@ public class VisualizacaoSimulador extends JFrame implements Desenhavel {
         public VisaoCampo(int altura, int largura) {
             alturaGrade = altura;
             larguraGrade = largura;
-            tamanho = new Dimension(0, 0);
+            imagemCampo = new BufferedImage(largura, altura, BufferedImage.TYPE_INT_RGB);
+            pixels = ((DataBufferInt) imagemCampo.getRaster().getDataBuffer()).getData();
             setBackground(Color.WHITE);
         }
 
@@ -746,50 +868,33 @@ public class VisualizacaoSimulador extends JFrame implements Desenhavel {
         }
 
         /**
-         * Prepara a renderização, ajustando escala e criando buffer se necessário.
+         * Copia as cores das células de um quadro para a imagem e agenda a
+         * pintura.
          * <p>
-         * Recalcula escala quando o tamanho do componente muda.
-         * Mantém escala mínima de {@link #FATOR_ESCALA_GRADE} para garantir
-         * visibilidade.
-         * </p>
-         */
-        public void prepararPintura() {
-            if (!tamanho.equals(getSize())) {
-                tamanho = getSize();
-                imagemCampo = createImage(tamanho.width, tamanho.height);
-                gOffScreen = imagemCampo.getGraphics();
-
-                escalaX = tamanho.width / larguraGrade;
-                if (escalaX < 1)
-                    escalaX = FATOR_ESCALA_GRADE;
-                escalaY = tamanho.height / alturaGrade;
-                if (escalaY < 1)
-                    escalaY = FATOR_ESCALA_GRADE;
-            }
-        }
-
-        /**
-         * Desenha um retângulo colorido representando uma célula do campo.
-         * <p>
-         * O desenho é feito na imagem off-screen para depois ser
-         * transferido para a tela via {@link #paintComponent(Graphics)}.
+         * Quadros de outro tamanho (de um campo anterior) são ignorados.
          * </p>
          * 
-         * @param x   Coordenada X (coluna) no campo lógico
-         * @param y   Coordenada Y (linha) no campo lógico
-         * @param cor Cor do retângulo a ser desenhado
+         * @param quadro Quadro a desenhar
+         * @param paleta Cor RGB de cada código de célula
          */
-        public void desenharMarca(int x, int y, Color cor) {
-            if (gOffScreen != null) {
-                gOffScreen.setColor(cor);
-                gOffScreen.fillRect(x * escalaX, y * escalaY, escalaX - 1, escalaY - 1);
+        public void desenharQuadro(QuadroCampo quadro, int[] paleta) {
+            if (quadro.getLargura() != larguraGrade || quadro.getProfundidade() != alturaGrade) {
+                return;
             }
+            for (int i = 0; i < pixels.length; i++) {
+                pixels[i] = paleta[quadro.getCodigo(i)];
+            }
+            desenhado = true;
+            repaint();
         }
 
         /**
-         * Renderiza o componente transferindo a imagem off-screen para a tela.
+         * Renderiza o componente ampliando a imagem off-screen.
          * <p>
-         * Implementa double buffering para evitar flickering durante animações.
+         * A escala é recalculada a partir do tamanho atual, com mínimo de
+         * {@link #FATOR_ESCALA_GRADE} quando o componente é menor que o campo.
+         * A última linha e a última coluna de pixels de cada célula recebem a
+         * cor de fundo, separando as células.
          * </p>
          * 
          * @param g Contexto gráfico da tela
@@ -797,9 +902,32 @@ public class VisualizacaoSimulador extends JFrame implements Desenhavel {
         @Override
         public void paintComponent(Graphics g) {
             super.paintComponent(g);
-            if (imagemCampo != null) {
-                g.drawImage(imagemCampo, 0, 0, null);
+            if (!desenhado) {
+                return;
+            }
+
+            int escalaX = getWidth() / larguraGrade;
+            if (escalaX < 1)
+                escalaX = FATOR_ESCALA_GRADE;
+            int escalaY = getHeight() / alturaGrade;
+            if (escalaY < 1)
+                escalaY = FATOR_ESCALA_GRADE;
+
+            int larguraPixels = larguraGrade * escalaX;
+            int alturaPixels = alturaGrade * escalaY;
+            g.drawImage(imagemCampo, 0, 0, larguraPixels, alturaPixels, null);
+
+            g.setColor(getBackground());
+            if (escalaX > 1) {
+                for (int coluna = 1; coluna <= larguraGrade; coluna++) {
+                    g.fillRect(coluna * escalaX - 1, 0, 1, alturaPixels);
+                }
+            }
+            if (escalaY > 1) {
+                for (int linha = 1; linha <= alturaGrade; linha++) {
+                    g.fillRect(0, linha * escalaY - 1, larguraPixels, 1);
+                }
             }
         }
     }
-}
\ No newline at end of file
+}
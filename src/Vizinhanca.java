@@ -0,0 +1,189 @@
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.SplittableRandom;
+
+/**
+ * Operações de vizinhança de Moore comuns aos campos que não mantêm tabelas
+ * próprias por célula ({@link CampoEmBlocos}, {@link CampoMapeado}).
+ * <p>
+ * Trabalha só com coordenadas e com {@link CampoInterativo#estaLivre(long)},
+ * de modo que serve a qualquer forma de armazenamento. O {@link Campo}
+ * tem versões próprias que usam seus mapas de bits e localizações
+ * canônicas.
+ * </p>
+ *
+ * @author Grupo 10
+ * @version 1.0
+ * @see CampoInterativo
+ * @see VisitanteVizinhanca
+ */
+public final class Vizinhanca {
+
+    // ========== ATRIBUTOS ESTÁTICOS ==========
+
+    /**
+     * Deslocamento de linha de cada uma das 8 direções.
+     */
+    private static final int[] DESLOC_LINHA = { -1, -1, -1, 0, 0, 1, 1, 1 };
+
+    /**
+     * Deslocamento de coluna de cada uma das 8 direções.
+     */
+    private static final int[] DESLOC_COLUNA = { -1, 0, 1, -1, 1, -1, 0, 1 };
+
+    /**
+     * Classe utilitária, não instanciável.
+     */
+    private Vizinhanca() {
+    }
+
+    // ========== MÉTODOS ==========
+
+    /**
+     * Sorteia uma célula adjacente livre, com a mesma probabilidade para cada
+     * vizinha livre.
+     *
+     * @param campo        Campo consultado
+     * @param linha        Linha da célula central
+     * @param coluna       Coluna da célula central
+     * @param profundidade Número de linhas do campo
+     * @param largura      Número de colunas do campo
+     * @param aleatorio    Gerador usado no sorteio
+     * @return Índice plano da vizinha sorteada, ou -1 se nenhuma está livre
+     */
+    public static long sortearLivre(CampoInterativo campo, int linha, int coluna, int profundidade, int largura,
+            SplittableRandom aleatorio) {
+        int livres = 0;
+        for (int d = 0; d < 8; d++) {
+            int proxLinha = linha + DESLOC_LINHA[d];
+            int proxColuna = coluna + DESLOC_COLUNA[d];
+            if (proxLinha >= 0 && proxLinha < profundidade && proxColuna >= 0 && proxColuna < largura
+                    && campo.estaLivre((long) proxLinha * largura + proxColuna)) {
+                livres |= 1 << d;
+            }
+        }
+        if (livres == 0) {
+            return -1;
+        }
+        int pular = aleatorio.nextInt(Integer.bitCount(livres));
+        for (int i = 0; i < pular; i++) {
+            livres &= livres - 1;
+        }
+        int d = Integer.numberOfTrailingZeros(livres);
+        return (long) (linha + DESLOC_LINHA[d]) * largura + coluna + DESLOC_COLUNA[d];
+    }
+
+    /**
+     * Sorteia uma célula adjacente ocupada por uma das espécies informadas,
+     * com a mesma probabilidade para cada candidata aceita pelo visitante.
+     *
+     * @param campo        Campo consultado
+     * @param linha        Linha da célula central
+     * @param coluna       Coluna da célula central
+     * @param profundidade Número de linhas do campo
+     * @param largura      Número de colunas do campo
+     * @param aleatorio    Gerador usado no sorteio
+     * @param especies     Ordinais das espécies procuradas
+     * @param aceitar      Confirmação de cada candidata
+     * @return Índice plano da vizinha escolhida, ou -1 se nenhuma foi aceita
+     */
+    public static long sortearDeEspecies(CampoSimulacao campo, int linha, int coluna, int profundidade,
+            int largura, SplittableRandom aleatorio, int[] especies, VisitanteVizinhanca aceitar) {
+        int candidatos = 0;
+        for (int d = 0; d < 8; d++) {
+            int proxLinha = linha + DESLOC_LINHA[d];
+            int proxColuna = coluna + DESLOC_COLUNA[d];
+            if (proxLinha >= 0 && proxLinha < profundidade && proxColuna >= 0 && proxColuna < largura) {
+                int especie = campo.getEspecieEm(proxLinha, proxColuna);
+                for (int procurada : especies) {
+                    if (especie == procurada) {
+                        candidatos |= 1 << d;
+                        break;
+                    }
+                }
+            }
+        }
+        while (candidatos != 0) {
+            int pular = aleatorio.nextInt(Integer.bitCount(candidatos));
+            int sorteio = candidatos;
+            for (int i = 0; i < pular; i++) {
+                sorteio &= sorteio - 1;
+            }
+            int d = Integer.numberOfTrailingZeros(sorteio);
+            long vizinha = (long) (linha + DESLOC_LINHA[d]) * largura + coluna + DESLOC_COLUNA[d];
+            if (aceitar.visitar(campo, vizinha)) {
+                return vizinha;
+            }
+            candidatos &= ~(1 << d);
+        }
+        return -1;
+    }
+
+    /**
+     * Percorre as células adjacentes em ordem aleatória uniforme (sorteio
+     * incremental de Fisher-Yates, 3 bits por direção em um {@code int}) até
+     * o visitante aceitar uma delas.
+     *
+     * @param campo        Campo entregue ao visitante
+     * @param linha        Linha da célula central
+     * @param coluna       Coluna da célula central
+     * @param profundidade Número de linhas do campo
+     * @param largura      Número de colunas do campo
+     * @param aleatorio    Gerador usado no sorteio
+     * @param visitante    Critério de aceitação
+     * @return Índice plano da primeira vizinha aceita, ou -1 se nenhuma
+     */
+    public static long visitar(CampoInterativo campo, int linha, int coluna, int profundidade, int largura,
+            SplittableRandom aleatorio, VisitanteVizinhanca visitante) {
+        int pendentes = 0;
+        int restantes = 0;
+        for (int d = 0; d < 8; d++) {
+            int proxLinha = linha + DESLOC_LINHA[d];
+            int proxColuna = coluna + DESLOC_COLUNA[d];
+            if (proxLinha >= 0 && proxLinha < profundidade && proxColuna >= 0 && proxColuna < largura) {
+                pendentes |= d << (3 * restantes);
+                restantes++;
+            }
+        }
+
+        while (restantes > 0) {
+            int sorteada = 3 * aleatorio.nextInt(restantes);
+            int ultima = 3 * (restantes - 1);
+            int direcao = (pendentes >>> sorteada) & 7;
+            int direcaoUltima = (pendentes >>> ultima) & 7;
+            pendentes = (pendentes & ~(7 << sorteada)) | (direcaoUltima << sorteada);
+            restantes--;
+
+            long vizinha = (long) (linha + DESLOC_LINHA[direcao]) * largura + coluna + DESLOC_COLUNA[direcao];
+            if (visitante.visitar(campo, vizinha)) {
+                return vizinha;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Cria uma lista embaralhada das localizações adjacentes, com novas
+     * instâncias de {@link Localizacao}.
+     *
+     * @param linha        Linha da célula central
+     * @param coluna       Coluna da célula central
+     * @param profundidade Número de linhas do campo
+     * @param largura      Número de colunas do campo
+     * @param aleatorio    Gerador usado no embaralhamento
+     * @return Iterator sobre as adjacentes válidas
+     */
+    public static Iterator<Localizacao> embaralhadas(int linha, int coluna, int profundidade, int largura,
+            SplittableRandom aleatorio) {
+        LinkedList<Localizacao> locais = new LinkedList<Localizacao>();
+        for (int d = 0; d < 8; d++) {
+            int proxLinha = linha + DESLOC_LINHA[d];
+            int proxColuna = coluna + DESLOC_COLUNA[d];
+            if (proxLinha >= 0 && proxLinha < profundidade && proxColuna >= 0 && proxColuna < largura) {
+                locais.add(new Localizacao(proxLinha, proxColuna));
+            }
+        }
+        Aleatoriedade.embaralhar(locais, aleatorio);
+        return locais.iterator();
+    }
+}